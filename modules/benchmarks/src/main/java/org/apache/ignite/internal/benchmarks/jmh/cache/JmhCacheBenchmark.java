@@ -31,6 +31,9 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 @SuppressWarnings("unchecked")
 public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
+    /** Number of keys updated by contended benchmarks, so that threads compete for entry locks. */
+    private static final int HOT_CNT = 8;
+
     /** {@inheritDoc} */
     @Override public void setup() throws Exception {
         super.setup();
@@ -69,6 +72,30 @@ public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
         return cache.get(key);
     }
 
+    /**
+     * Test PUT operation on a few hot keys.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public void putContended() throws Exception {
+        int key = ThreadLocalRandom.current().nextInt(HOT_CNT);
+
+        cache.put(key, new IntValue(key));
+    }
+
+    /**
+     * Test GET operation on a few hot keys.
+     *
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public Object getContended() throws Exception {
+        int key = ThreadLocalRandom.current().nextInt(HOT_CNT);
+
+        return cache.get(key);
+    }
+
     /**
      * Run benchmarks.
      *
@@ -80,6 +107,13 @@ public class JmhCacheBenchmark extends JmhCacheAbstractBenchmark {
         run("get", CacheAtomicityMode.ATOMIC);
         run("put", CacheAtomicityMode.TRANSACTIONAL);
         run("get", CacheAtomicityMode.TRANSACTIONAL);
+
+        // Uncontended and contended entry locks on a data node.
+        for (String benchmark : new String[] {"put", "get", "putContended", "getContended"}) {
+            run(benchmark, 1, false, CacheAtomicityMode.ATOMIC, CacheWriteSynchronizationMode.PRIMARY_SYNC);
+            run(benchmark, 16, false, CacheAtomicityMode.ATOMIC, CacheWriteSynchronizationMode.PRIMARY_SYNC);
+            run(benchmark, 16, false, CacheAtomicityMode.TRANSACTIONAL, CacheWriteSynchronizationMode.PRIMARY_SYNC);
+        }
     }
 
     /**
@@ -45,6 +45,8 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_OPTIMISTIC_READS;
+
 /**
  *
  */
@@ -244,6 +246,12 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
      */
     public static void main(String[] args) throws Exception {
         run(8);
+
+        // Get scalability with locked and optimistic reads of inner pages.
+        for (int threads = 1; threads <= Math.max(64, CPUS); threads *= 2) {
+            run(threads, "get", false);
+            run(threads, "get", true);
+        }
     }
 
     /**
@@ -253,13 +261,27 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
      * @throws Exception If failed.
      */
     private static void run(int threads) throws Exception {
+        run(threads, null, false);
+    }
+
+    /**
+     * Run benchmark.
+     *
+     * @param threads Amount of threads.
+     * @param mtd Benchmark method name or {@code null} for all methods.
+     * @param optimisticReads Optimistic reads flag.
+     * @throws Exception If failed.
+     */
+    private static void run(int threads, String mtd, boolean optimisticReads) throws Exception {
+        String name = BPlusTreeBenchmark.class.getSimpleName();
+
         JmhIdeBenchmarkRunner.create()
             .forks(1)
             .threads(threads)
             .warmupIterations(10)
             .measurementIterations(10)
-            .benchmarks(BPlusTreeBenchmark.class.getSimpleName())
-            .jvmArguments("-Xms4g", "-Xmx4g")
+            .benchmarks(mtd == null ? name : name + '.' + mtd)
+            .jvmArguments("-Xms4g", "-Xmx4g", "-D" + IGNITE_PAGE_OPTIMISTIC_READS + '=' + optimisticReads)
             .run();
     }
 
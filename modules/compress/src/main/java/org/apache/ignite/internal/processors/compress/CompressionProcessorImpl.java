@@ -27,10 +27,7 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.GridKernalContext;
-import org.apache.ignite.internal.pagemem.PageUtils;
-import org.apache.ignite.internal.processors.cache.persistence.tree.io.CompactablePageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
-import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.xerial.snappy.Snappy;
 
@@ -42,9 +39,6 @@ import static org.apache.ignite.internal.util.GridUnsafe.NATIVE_BYTE_ORDER;
  * Compression processor.
  */
 public class CompressionProcessorImpl extends CompressionProcessor {
-    /** Max page size. */
-    private final ThreadLocalByteBuffer compactBuf = new ThreadLocalByteBuffer(MAX_PAGE_SIZE);
-
     /** A bit more than max page size. */
     private final ThreadLocalByteBuffer compressBuf = new ThreadLocalByteBuffer(MAX_PAGE_SIZE + 1024);
 
@@ -142,42 +136,6 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         }
     }
 
-    /**
-     * @param page Page buffer.
-     * @param pageSize Page size.
-     * @return Compacted page buffer.
-     */
-    private ByteBuffer doCompactPage(ByteBuffer page, int pageSize) throws IgniteCheckedException {
-        PageIO io = PageIO.getPageIO(page);
-
-        ByteBuffer compactPage = compactBuf.get();
-
-        if (io instanceof CompactablePageIO) {
-            // Drop the garbage from the page.
-            ((CompactablePageIO)io).compactPage(page, compactPage, pageSize);
-        }
-        else {
-            // Direct buffer is required as output of this method.
-            if (page.isDirect())
-                return page;
-
-            PageUtils.putBytes(GridUnsafe.bufferAddress(compactPage), 0, page.array());
-
-            compactPage.limit(pageSize);
-        }
-
-        return compactPage;
-    }
-
-    /**
-     * @param page Page.
-     * @param compactSize Compacted page size.
-     * @return The given page.
-     */
-    private static ByteBuffer setCompactionInfo(ByteBuffer page, int compactSize) {
-        return setCompressionInfo(page, SKIP_GARBAGE, compactSize, compactSize);
-    }
-
     /**
      * @param page Page.
      * @param compression Compression algorithm.
@@ -186,14 +144,7 @@ public class CompressionProcessorImpl extends CompressionProcessor {
      * @return The given page.
      */
     private static ByteBuffer setCompressionInfo(ByteBuffer page, DiskPageCompression compression, int compressedSize, int compactedSize) {
-        assert compressedSize >= 0 && compressedSize <= Short.MAX_VALUE : compressedSize;
-        assert compactedSize >= 0 && compactedSize <= Short.MAX_VALUE : compactedSize;
-
-        PageIO.setCompressionType(page, getCompressionType(compression));
-        PageIO.setCompressedSize(page, (short)compressedSize);
-        PageIO.setCompactedSize(page, (short)compactedSize);
-
-        return page;
+        return setCompressionInfo(page, getCompressionType(compression), compressedSize, compactedSize);
     }
 
     /**
@@ -373,16 +324,7 @@ public class CompressionProcessorImpl extends CompressionProcessor {
             assert page.limit() == compactSize;
         }
 
-        PageIO io = PageIO.getPageIO(page);
-
-        if (io instanceof CompactablePageIO)
-            ((CompactablePageIO)io).restorePage(page, pageSize);
-        else {
-            assert compactSize == pageSize
-                : "Wrong compacted page size [compactSize=" + compactSize + ", pageSize=" + pageSize + ']';
-        }
-
-        setCompressionInfo(page, DiskPageCompression.DISABLED, 0, 0);
+        restorePage(page, pageSize, compactSize);
     }
 
     /** */
@@ -29,6 +29,7 @@ import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.CheckpointWriteOrder;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.internal.client.GridClient;
 import org.apache.ignite.internal.marshaller.optimized.OptimizedMarshaller;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntry;
@@ -530,6 +531,15 @@ public final class IgniteSystemProperties {
      */
     public static final String IGNITE_SQL_MERGE_TABLE_PREFETCH_SIZE = "IGNITE_SQL_MERGE_TABLE_PREFETCH_SIZE";
 
+    /**
+     * Maximum number of SQL result pages received from a remote map node segment but not yet consumed by
+     * the reducer. The next page is requested as soon as the number of such pages drops below this limit,
+     * so map nodes keep producing pages while the reducer merges previous ones.
+     * <p>
+     * Default is {@code 1}: the next page is requested when the reducer starts to consume the previous one.
+     */
+    public static final String IGNITE_SQL_REDUCE_PAGE_CREDITS = "IGNITE_SQL_REDUCE_PAGE_CREDITS";
+
     /** Disable fallback to H2 SQL parser if the internal SQL parser fails to parse the statement. */
     public static final String IGNITE_SQL_PARSER_DISABLE_H2_FALLBACK = "IGNITE_SQL_PARSER_DISABLE_H2_FALLBACK";
 
@@ -736,6 +746,16 @@ public final class IgniteSystemProperties {
      */
     public static final String IGNITE_MAX_INDEX_PAYLOAD_SIZE = "IGNITE_MAX_INDEX_PAYLOAD_SIZE";
 
+    /**
+     * System property to specify maximum payload size in bytes of separator keys in inner pages of newly
+     * created {@code H2TreeIndex}. Separator keys are truncated on column boundaries to fit this size, which
+     * increases fanout of inner pages. Indexes created this way can not be read by versions which do not
+     * support truncated separator keys.
+     * <p>
+     * Defaults to {@code -1}, meaning that inner pages store the same payload as leaf pages.
+     */
+    public static final String IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE = "IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE";
+
     /**
      * Time interval for calculating rebalance rate statistics, in milliseconds. Defaults to 60000.
      */
@@ -790,6 +810,14 @@ public final class IgniteSystemProperties {
     /** Ignite page memory concurrency level. */
     public static final String IGNITE_OFFHEAP_LOCK_CONCURRENCY_LEVEL = "IGNITE_OFFHEAP_LOCK_CONCURRENCY_LEVEL";
 
+    /**
+     * Enables optimistic page reads: B+Tree lookups read inner pages without taking the page read lock and validate
+     * the read afterwards. Every page write unlock then additionally bumps a striped version.
+     * <p>
+     * Default is {@code false}.
+     */
+    public static final String IGNITE_PAGE_OPTIMISTIC_READS = "IGNITE_PAGE_OPTIMISTIC_READS";
+
     /**
      * When set to {@code true}, Ignite switches to compatibility mode with versions that don't
      * support service security permissions. In this case security permissions will be ignored
@@ -978,6 +1006,12 @@ public final class IgniteSystemProperties {
      */
     public static final String IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT = "IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT";
 
+    /**
+     * Maximum number of WAL segments which are copied to the archive concurrently when WAL archiver falls behind
+     * the writers. Segments are still marked as archived in order. Default value is 4.
+     */
+    public static final String IGNITE_WAL_ARCHIVER_THREAD_CNT = "IGNITE_WAL_ARCHIVER_THREAD_CNT";
+
     /**
      * Whenever read load balancing is enabled, that means 'get' requests will be distributed between primary and backup
      * nodes if it is possible and {@link CacheConfiguration#readFromBackup} is {@code true}.
@@ -1030,6 +1064,15 @@ public final class IgniteSystemProperties {
     public static final String IGNITE_NIO_RECOVERY_DESCRIPTOR_RESERVATION_TIMEOUT =
             "IGNITE_NIO_RECOVERY_DESCRIPTOR_RESERVATION_TIMEOUT";
 
+    /**
+     * Maximum total size in bytes of idle direct buffers retained by a NIO server for reuse. Sessions of the
+     * communication SPI take their read and write buffers from the pool only while there is data to process,
+     * so idle connections do not hold buffers.
+     * <p>
+     * Default is {@code 32 MB}.
+     */
+    public static final String IGNITE_NIO_BUFFER_POOL_SIZE = "IGNITE_NIO_BUFFER_POOL_SIZE";
+
     /**
      * When set to {@code true}, Ignite will skip partitions sizes check on partition validation after rebalance has finished.
      * Partitions sizes may differs on nodes when Expiry Policy is in use and it is ok due to lazy entry eviction mechanics.
@@ -1247,6 +1290,36 @@ public final class IgniteSystemProperties {
      */
     public static final String CHECKPOINT_PARALLEL_SORT_THRESHOLD = "CHECKPOINT_PARALLEL_SORT_THRESHOLD";
 
+    /**
+     * Ratio of dirty pages in a segment of persistent data region, starting from which a checkpoint is started
+     * ahead of {@link DataStorageConfiguration#getCheckpointFrequency()}. With this property set, checkpoints follow
+     * the write rate: they become smaller and more frequent under write-heavy load, which smooths the I/O burst
+     * of every checkpoint and bounds the amount of work needed for recovery.
+     * <p>
+     * Should be less than the ratio at which updates are blocked until the checkpoint begins (2/3 of the segment,
+     * 3/4 with write throttling enabled). Default is {@code 0}, which means that the trigger is disabled.
+     */
+    public static final String IGNITE_CHECKPOINT_DIRTY_PAGES_TRIGGER_RATIO =
+        "IGNITE_CHECKPOINT_DIRTY_PAGES_TRIGGER_RATIO";
+
+    /**
+     * Maximum number of pages of the same partition which a checkpoint thread writes to the page store with a single
+     * batch write. File I/O implementations which support batch writes, like the asynchronous one, submit all pages
+     * of the batch to the device at once.
+     * <p>
+     * Default is {@code 16}. Values less than {@code 2} disable batching, pages are written one by one.
+     */
+    public static final String IGNITE_CHECKPOINT_WRITE_BATCH_SIZE = "IGNITE_CHECKPOINT_WRITE_BATCH_SIZE";
+
+    /**
+     * Minimum time in milliseconds since a page was loaded from disk, after which an access to the page moves it to
+     * the hot segment. Used by {@link PageReplacementMode#SEGMENTED_LRU} page replacement mode only.
+     * <p>
+     * Default is {@code 1000}.
+     */
+    public static final String IGNITE_PAGE_REPLACEMENT_COLD_PAGE_PROMOTION_DELAY =
+        "IGNITE_PAGE_REPLACEMENT_COLD_PAGE_PROMOTION_DELAY";
+
     /**
      * Keep static cache configuration even if stored cache data differs from the static config. When this property
      * is set, static cache configuration will override persisted configuration. DDL operations are not allowed
@@ -1411,6 +1484,34 @@ public final class IgniteSystemProperties {
      */
     public static final String IGNITE_INDEX_COST_FUNCTION = "IGNITE_INDEX_COST_FUNCTION";
 
+    /**
+     * Number of local primary rows sampled to collect SQL column statistics (distinct values count, nulls fraction,
+     * histogram). The statistics are collected in background when a table size changes significantly and are used
+     * by the {@code LAST} index cost function to estimate selectivity of equality and range conditions.
+     * <p>
+     * Default is {@code 0}, i.e. column statistics are not collected.
+     */
+    public static final String IGNITE_SQL_COLUMN_STATISTICS_SAMPLE_SIZE = "IGNITE_SQL_COLUMN_STATISTICS_SAMPLE_SIZE";
+
+    /**
+     * Enables batched execution of simple map queries: single table aggregations (COUNT, SUM, MIN, MAX, AVG
+     * with optional GROUP BY) filtered by comparisons of numeric columns with constants. Such queries are evaluated
+     * over column batches of primitive values bypassing H2 row-by-row execution.
+     * <p>
+     * Default is {@code false}.
+     */
+    public static final String IGNITE_SQL_MAP_VECTORIZED_EXECUTION = "IGNITE_SQL_MAP_VECTORIZED_EXECUTION";
+
+    /**
+     * Number of threads which execute a single map query over the local partitions in parallel. The reserved
+     * partitions are split into small groups which are picked up by the threads as they become free, the partial
+     * results are merged on the node before being sent to the reducer. Applies to non-lazy single table scans
+     * without aggregates, sorting or limits over caches with a single index segment.
+     * <p>
+     * Default is {@code 0}: map queries are executed by a single thread.
+     */
+    public static final String IGNITE_SQL_MAP_PARALLELISM = "IGNITE_SQL_MAP_PARALLELISM";
+
     /**
      * Enables setting attribute value of {@link
      * TcpCommunicationSpi#ATTR_HOST_NAMES ATTR_HOST_NAMES} when value {@link
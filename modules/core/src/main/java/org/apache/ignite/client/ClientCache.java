@@ -21,9 +21,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Future;
 import javax.cache.expiry.ExpiryPolicy;
 
 import org.apache.ignite.cache.CachePeekMode;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.ContinuousQueryWithTransformer;
 import org.apache.ignite.cache.query.FieldsQueryCursor;
 import org.apache.ignite.cache.query.Query;
 import org.apache.ignite.cache.query.QueryCursor;
@@ -43,6 +46,15 @@ public interface ClientCache<K, V> {
      */
     public V get(K key) throws ClientException;
 
+    /**
+     * Gets an entry from the cache asynchronously.
+     *
+     * @param key Key.
+     * @return Future for the element, or null, if it does not exist.
+     * @throws NullPointerException if the key is null.
+     */
+    public Future<V> getAsync(K key) throws ClientException;
+
     /**
      * Associates the specified value with the specified key in the cache.
      * <p>
@@ -55,6 +67,16 @@ public interface ClientCache<K, V> {
      */
     public void put(K key, V val) throws ClientException;
 
+    /**
+     * Associates the specified value with the specified key in the cache asynchronously.
+     *
+     * @param key Key with which the specified value is to be associated.
+     * @param val Value to be associated with the specified key.
+     * @return Future for the operation.
+     * @throws NullPointerException if key is null or if value is null.
+     */
+    public Future<Void> putAsync(K key, V val) throws ClientException;
+
     /**
      * Determines if the {@link ClientCache} contains an entry for the specified key.
      * <p>
@@ -67,6 +89,14 @@ public interface ClientCache<K, V> {
      */
     public boolean containsKey(K key) throws ClientException;
 
+    /**
+     * Determines if the {@link ClientCache} contains an entry for the specified key asynchronously.
+     *
+     * @param key Key whose presence in this cache is to be tested.
+     * @return Future for the check result.
+     */
+    public Future<Boolean> containsKeyAsync(K key) throws ClientException;
+
     /**
      * @return The name of the cache.
      */
@@ -98,6 +128,14 @@ public interface ClientCache<K, V> {
      */
     public Map<K, V> getAll(Set<? extends K> keys) throws ClientException;
 
+    /**
+     * Gets a collection of entries from the {@link ClientCache} asynchronously.
+     *
+     * @param keys The keys whose associated values are to be returned.
+     * @return Future for the map of entries that were found for the given keys.
+     */
+    public Future<Map<K, V>> getAllAsync(Set<? extends K> keys) throws ClientException;
+
     /**
      * Copies all of the entries from the specified map to the {@link ClientCache}.
      * <p>
@@ -117,6 +155,14 @@ public interface ClientCache<K, V> {
      */
     public void putAll(Map<? extends K, ? extends V> map) throws ClientException;
 
+    /**
+     * Copies all of the entries from the specified map to the {@link ClientCache} asynchronously.
+     *
+     * @param map Mappings to be stored in this cache.
+     * @return Future for the operation.
+     */
+    public Future<Void> putAllAsync(Map<? extends K, ? extends V> map) throws ClientException;
+
     /**
      * Atomically replaces the entry for a key only if currently mapped to a given value.
      * <p>
@@ -176,6 +222,14 @@ public interface ClientCache<K, V> {
      */
     public boolean remove(K key) throws ClientException;
 
+    /**
+     * Removes the mapping for a key from this cache if it is present asynchronously.
+     *
+     * @param key Key whose mapping is to be removed from the cache.
+     * @return Future for the operation result, <tt>false</tt> if there was no matching key.
+     */
+    public Future<Boolean> removeAsync(K key) throws ClientException;
+
     /**
      * Atomically removes the mapping for a key only if currently mapped to the given value.
      * <p>
@@ -358,7 +412,14 @@ public interface ClientCache<K, V> {
     public <K1, V1> ClientCache<K1, V1> withExpiryPolicy(ExpiryPolicy expiryPlc);
 
     /**
-     * Queries cache. Supports {@link ScanQuery} and {@link SqlFieldsQuery}.
+     * Queries cache. Supports {@link ScanQuery}, {@link SqlFieldsQuery}, {@link ContinuousQuery} and
+     * {@link ContinuousQueryWithTransformer}.
+     * <p>
+     * Remote filter and transformer of a continuous query are serialized and sent to the server, so their classes
+     * must be available on server nodes. Events are delivered to the local listener in batches, see
+     * {@link ContinuousQuery#setPageSize(int)} and {@link ContinuousQuery#setTimeInterval(long)}; the listener is
+     * called in the common fork-join pool. Closing the returned cursor stops the continuous query. Continuous query is
+     * stopped if the connection to the server is lost.
      *
      * @param qry Query.
      * @return Cursor.
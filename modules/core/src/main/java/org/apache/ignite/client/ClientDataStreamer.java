@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import java.util.Map;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.stream.StreamReceiver;
+
+/**
+ * Thin client data streamer. Loads entries into a cache in batches, like {@link IgniteDataStreamer} does for thick
+ * clients.
+ * <p>
+ * Entries are buffered on the client per partition (if partition awareness is enabled) and each full buffer is sent
+ * to the primary node of its partition, which applies it with a data streamer. Batches are sent asynchronously,
+ * up to {@link #perNodeParallelOperations()} batches are in flight at once.
+ * <p>
+ * Data streamer is not transactional and does not guarantee any order of updates of the same key. Errors of
+ * asynchronously sent batches are thrown by the subsequent {@link #addData}, {@link #flush()} or {@link #close()}
+ * call.
+ */
+public interface ClientDataStreamer<K, V> extends AutoCloseable {
+    /** Default size of a batch. */
+    public static final int DFLT_PER_PARTITION_BUFFER_SIZE = 512;
+
+    /** Default maximum number of batches in flight. */
+    public static final int DFLT_PARALLEL_OPS = 16;
+
+    /**
+     * @return Name of the cache to load data to.
+     */
+    public String cacheName();
+
+    /**
+     * Gets flag enabling overwriting existing values in cache. See {@link IgniteDataStreamer#allowOverwrite()}.
+     *
+     * @return {@code True} if existing values are overwritten.
+     */
+    public boolean allowOverwrite();
+
+    /**
+     * Sets flag enabling overwriting existing values in cache. See {@link IgniteDataStreamer#allowOverwrite(boolean)}.
+     *
+     * @param allowOverwrite Flag value.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamer<K, V> allowOverwrite(boolean allowOverwrite);
+
+    /**
+     * @return Flag indicating that write-through behavior should be disabled for data streaming.
+     */
+    public boolean skipStore();
+
+    /**
+     * @param skipStore Flag indicating that write-through behavior should be disabled for data streaming.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamer<K, V> skipStore(boolean skipStore);
+
+    /**
+     * @return Maximum number of entries sent in a single batch.
+     */
+    public int perPartitionBufferSize();
+
+    /**
+     * @param bufSize Maximum number of entries sent in a single batch.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamer<K, V> perPartitionBufferSize(int bufSize);
+
+    /**
+     * @return Maximum number of batches in flight.
+     */
+    public int perNodeParallelOperations();
+
+    /**
+     * @param parallelOps Maximum number of batches in flight.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamer<K, V> perNodeParallelOperations(int parallelOps);
+
+    /**
+     * Sets custom stream receiver. The receiver is serialized and sent with every batch, so its class must be
+     * available on server nodes. See {@link IgniteDataStreamer#receiver(StreamReceiver)}.
+     *
+     * @param rcvr Stream receiver.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamer<K, V> receiver(StreamReceiver<K, V> rcvr);
+
+    /**
+     * Adds data for streaming.
+     *
+     * @param key Key.
+     * @param val Value or {@code null} to remove the key.
+     * @throws ClientException If failed to send a batch.
+     */
+    public void addData(K key, V val) throws ClientException;
+
+    /**
+     * Adds data for streaming.
+     *
+     * @param entries Entries, entries with {@code null} values remove the keys.
+     * @throws ClientException If failed to send a batch.
+     */
+    public void addData(Map<K, V> entries) throws ClientException;
+
+    /**
+     * Adds key for removal.
+     *
+     * @param key Key.
+     * @throws ClientException If failed to send a batch.
+     */
+    public void removeData(K key) throws ClientException;
+
+    /**
+     * Sends all buffered data and waits until all batches are applied.
+     *
+     * @throws ClientException If failed to apply any batch.
+     */
+    public void flush() throws ClientException;
+
+    /**
+     * Flushes the data and closes the streamer.
+     *
+     * @throws ClientException If failed to apply any batch.
+     */
+    @Override public void close() throws ClientException;
+}
@@ -112,6 +112,15 @@ public interface IgniteClient extends AutoCloseable {
      */
     public ClientCompute compute(ClientClusterGroup grp);
 
+    /**
+     * Creates new data streamer to load data into the given cache. See {@link ClientDataStreamer}.
+     *
+     * @param cacheName Cache name.
+     * @return New data streamer instance.
+     * @throws ClientFeatureNotSupportedByServerException If the server does not support data streaming.
+     */
+    public <K, V> ClientDataStreamer<K, V> dataStreamer(String cacheName) throws ClientException;
+
     /**
      * Gets client cluster facade.
      *
@@ -18,8 +18,10 @@ package org.apache.ignite.configuration;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import javax.cache.configuration.Factory;
 import javax.net.ssl.SSLContext;
+import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.client.SslMode;
 import org.apache.ignite.client.SslProtocol;
 import org.apache.ignite.internal.client.thin.TcpIgniteClient;
@@ -114,6 +116,12 @@ public final class ClientConfiguration implements Serializable {
     /** Reconnect throttling retries. See {@code reconnectThrottlingPeriod}. */
     private int reconnectThrottlingRetries = 3;
 
+    /** Logger. */
+    private transient IgniteLogger log;
+
+    /** Executor for async operation continuations and continuous query listeners. */
+    private transient Executor asyncContinuationExecutor;
+
     /**
      * @return Host addresses.
      */
@@ -492,6 +500,52 @@ public final class ClientConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets logger.
+     *
+     * @return Logger or {@code null} if the client does not log.
+     */
+    public IgniteLogger getLogger() {
+        return log;
+    }
+
+    /**
+     * Sets logger. If not provided, the client does not log.
+     *
+     * @param log Logger.
+     * @return {@code this} for chaining.
+     */
+    public ClientConfiguration setLogger(IgniteLogger log) {
+        this.log = log;
+
+        return this;
+    }
+
+    /**
+     * Gets executor for async operation continuations and continuous query listeners.
+     *
+     * @return Executor or {@code null} if the client uses its own thread pool.
+     */
+    public Executor getAsyncContinuationExecutor() {
+        return asyncContinuationExecutor;
+    }
+
+    /**
+     * Sets executor which completes futures of async cache operations and notifies continuous query
+     * listeners. Continuations are never executed in the thread which receives server responses, since
+     * they may deserialize objects of unknown types or perform other client operations.
+     * <p>
+     * If not provided, the client uses its own thread pool, which is stopped when the client is closed.
+     *
+     * @param asyncContinuationExecutor Executor.
+     * @return {@code this} for chaining.
+     */
+    public ClientConfiguration setAsyncContinuationExecutor(Executor asyncContinuationExecutor) {
+        this.asyncContinuationExecutor = asyncContinuationExecutor;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(ClientConfiguration.class, this);
@@ -93,6 +93,9 @@ public final class DataRegionConfiguration implements Serializable {
     /** An algorithm for memory pages eviction. */
     private DataPageEvictionMode pageEvictionMode = DataPageEvictionMode.DISABLED;
 
+    /** An algorithm for memory pages replacement, used for persistent data regions. */
+    private PageReplacementMode pageReplacementMode = PageReplacementMode.RANDOM_LRU;
+
     /**
      * A threshold for memory pages eviction initiation. For instance, if the threshold is 0.9 it means that the page
      * memory will start the eviction only after 90% data region is occupied.
@@ -255,6 +258,28 @@ public final class DataRegionConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets memory pages replacement mode. Replacement takes place when persistence is enabled, the data region is
+     * full and a page that is not in memory is requested, see {@link PageReplacementMode}.
+     *
+     * @return Memory pages replacement algorithm. {@link PageReplacementMode#RANDOM_LRU} used by default.
+     */
+    public PageReplacementMode getPageReplacementMode() {
+        return pageReplacementMode;
+    }
+
+    /**
+     * Sets memory pages replacement mode.
+     *
+     * @param replacementMode Replacement mode.
+     * @return {@code this} for chaining.
+     */
+    public DataRegionConfiguration setPageReplacementMode(PageReplacementMode replacementMode) {
+        pageReplacementMode = replacementMode;
+
+        return this;
+    }
+
     /**
      * Gets a threshold for memory pages eviction initiation. For instance, if the threshold is 0.9 it means that the
      * page memory will start the eviction only after 90% of the data region is occupied.
@@ -1078,6 +1078,9 @@ public class DataStorageConfiguration implements Serializable {
 
     /**
      * Sets compression algorithm for WAL page snapshot records.
+     * <p>
+     * {@link DiskPageCompression#SKIP_GARBAGE} is available without ignite-compress module, other algorithms
+     * require it to be in classpath.
      *
      * @param walPageCompression Page compression algorithm.
      * @return {@code this} for chaining.
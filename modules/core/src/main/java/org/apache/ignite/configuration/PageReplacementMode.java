@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration;
+
+import org.apache.ignite.IgniteSystemProperties;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines an algorithm of picking a page to replace (rotate with disk) when a persistent data region is full and a
+ * page that is not in memory is requested. A mode is set for a specific {@link DataRegionConfiguration} and
+ * affects only data regions with persistence enabled.
+ */
+public enum PageReplacementMode {
+    /**
+     * Random-LRU algorithm.
+     * <p>
+     * Every page in memory keeps the timestamp of its last access. When it's required to replace a page, the
+     * algorithm samples 5 random pages of a memory segment and replaces the one with the oldest timestamp.
+     */
+    RANDOM_LRU,
+
+    /**
+     * Segmented Random-LRU algorithm: scan-resistant version of Random-LRU.
+     * <p>
+     * A page loaded from disk is placed in a cold segment and gets to the hot segment only if it is accessed again
+     * after a promotion delay (see {@link IgniteSystemProperties#IGNITE_PAGE_REPLACEMENT_COLD_PAGE_PROMOTION_DELAY}),
+     * so bursts of accesses right after the load (e.g. by a scan query) do not promote the page. When it's required
+     * to replace a page, cold pages of a random sample are replaced before hot ones. This way a large scan or a
+     * rebalancing, which touches every page once, evicts mostly pages it loaded itself instead of flushing the
+     * working set of the region.
+     */
+    SEGMENTED_LRU;
+
+    /** Enumerated values. */
+    private static final PageReplacementMode[] VALS = values();
+
+    /**
+     * Efficiently gets enumerated value from its ordinal.
+     *
+     * @param ord Ordinal value.
+     * @return Enumerated value or {@code null} if ordinal out of range.
+     */
+    @Nullable public static PageReplacementMode fromOrdinal(int ord) {
+        return ord >= 0 && ord < VALS.length ? VALS[ord] : null;
+    }
+}
@@ -471,6 +471,9 @@ public abstract class BinaryFieldAccessor {
         /** Target field. */
         private final Field field;
 
+        /** Field offset, the field is accessed through Unsafe rather than reflection. */
+        private final long offset;
+
         /** Dynamic accessor flag. */
         private final boolean dynamic;
 
@@ -486,6 +489,8 @@ public abstract class BinaryFieldAccessor {
 
             this.field = field;
             this.dynamic = dynamic;
+
+            offset = GridUnsafe.objectFieldOffset(field);
         }
 
         /** {@inheritDoc} */
@@ -495,14 +500,7 @@ public abstract class BinaryFieldAccessor {
 
             writer.writeFieldIdNoSchemaUpdate(id);
 
-            Object val;
-
-            try {
-                val = field.get(obj);
-            }
-            catch (IllegalAccessException e) {
-                throw new BinaryObjectException("Failed to get value for field: " + field, e);
-            }
+            Object val = GridUnsafe.getObjectField(obj, offset);
 
             switch (mode(val)) {
                 case BYTE:
@@ -701,13 +699,15 @@ public abstract class BinaryFieldAccessor {
         @Override public void read0(Object obj, BinaryReaderExImpl reader) throws BinaryObjectException {
             Object val = dynamic ? reader.readField(id) : readFixedType(reader);
 
-            try {
-                if (val != null || !field.getType().isPrimitive())
-                    field.set(obj, val);
-            }
-            catch (IllegalAccessException e) {
-                throw new BinaryObjectException("Failed to set value for field: " + field, e);
+            // Unsafe store does not check the type unlike reflection, while serialized type may differ from the field
+            // type, e.g. for dynamically typed fields or after the class has changed.
+            if (val != null && !field.getType().isInstance(val)) {
+                throw new BinaryObjectException("Failed to set value for field, value type does not match field " +
+                    "type [field=" + field + ", valType=" + val.getClass().getName() + ']');
             }
+
+            // Primitive fields have their own accessors, so the field always holds a reference.
+            GridUnsafe.putObjectField(obj, offset, val);
         }
 
         /**
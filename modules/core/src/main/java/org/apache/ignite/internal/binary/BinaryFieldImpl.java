@@ -55,6 +55,10 @@ public class BinaryFieldImpl implements BinaryFieldEx {
     /** Pre-calculated field ID. */
     private final int fieldId;
 
+    /** Field order in the schema of the last accessed object. */
+    @GridToStringExclude
+    private volatile SchemaOrder lastOrder;
+
     /**
      * Constructor.
      *
@@ -311,6 +315,12 @@ public class BinaryFieldImpl implements BinaryFieldEx {
         if (schemaId == 0)
             return BinarySchema.ORDER_NOT_FOUND;
 
+        // Objects of a type usually share a single schema, so remember the order for the last one.
+        SchemaOrder lastOrder0 = lastOrder;
+
+        if (lastOrder0 != null && lastOrder0.schemaId == schemaId)
+            return lastOrder0.order;
+
         BinarySchema schema = schemas.schema(schemaId);
 
         if (schema == null) {
@@ -321,11 +331,35 @@ public class BinaryFieldImpl implements BinaryFieldEx {
 
         assert schema != null;
 
-        return schema.order(fieldId);
+        int order = schema.order(fieldId);
+
+        lastOrder = new SchemaOrder(schemaId, order);
+
+        return order;
     }
 
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(BinaryFieldImpl.class, this);
     }
+
+    /**
+     * Field order in a schema.
+     */
+    private static class SchemaOrder {
+        /** Schema ID. */
+        private final int schemaId;
+
+        /** Field order or {@link BinarySchema#ORDER_NOT_FOUND}. */
+        private final int order;
+
+        /**
+         * @param schemaId Schema ID.
+         * @param order Field order.
+         */
+        private SchemaOrder(int schemaId, int order) {
+            this.schemaId = schemaId;
+            this.order = order;
+        }
+    }
 }
@@ -196,6 +196,30 @@ public class ClientCacheAffinityContext {
         return mapping.affinityNode(binary, cacheId, key);
     }
 
+    /**
+     * Calculates partition for given cache and key.
+     *
+     * @param cacheId Cache ID.
+     * @param key Key.
+     * @return Partition or {@code -1} if partition can't be determined for given cache and key.
+     */
+    public int affinityPartition(int cacheId, Object key) {
+        TopologyNodes top = lastTop.get();
+
+        if (top == null)
+            return -1;
+
+        ClientCacheAffinityMapping mapping = affinityMapping;
+
+        if (mapping == null)
+            return -1;
+
+        if (top.topVer.compareTo(mapping.topologyVersion()) > 0)
+            return -1;
+
+        return mapping.affinityPartition(binary, cacheId, key);
+    }
+
     /**
      * Holder for list of nodes for topology version.
      */
@@ -79,10 +79,24 @@ public class ClientCacheAffinityMapping {
      * @return Affinity node id or {@code null} if affinity node can't be determined for given cache and key.
      */
     public UUID affinityNode(IgniteBinary binary, int cacheId, Object key) {
+        int part = affinityPartition(binary, cacheId, key);
+
+        return part < 0 ? null : cacheAffinity.get(cacheId).partMapping[part];
+    }
+
+    /**
+     * Calculates partition for given cache and key.
+     *
+     * @param binary Binary data processor (needed to extract affinity field from the key).
+     * @param cacheId Cache ID.
+     * @param key Key.
+     * @return Partition or {@code -1} if partition can't be determined for given cache and key.
+     */
+    public int affinityPartition(IgniteBinary binary, int cacheId, Object key) {
         CacheAffinityInfo affinityInfo = cacheAffinity.get(cacheId);
 
         if (affinityInfo == null || affinityInfo == NOT_APPLICABLE_CACHE_AFFINITY_INFO)
-            return null;
+            return -1;
 
         Object binaryKey = binary.toBinary(key);
 
@@ -94,12 +108,12 @@ public class ClientCacheAffinityMapping {
             if (fieldId != null) {
                 if (binaryKey instanceof BinaryObjectExImpl)
                     binaryKey = ((BinaryObjectExImpl)binaryKey).field(fieldId);
-                else // Can't get field value, affinity node can't be determined in this case.
-                    return null;
+                else // Can't get field value, partition can't be determined in this case.
+                    return -1;
             }
         }
 
-        return affinityInfo.nodeForKey(binaryKey);
+        return affinityInfo.partitionForKey(binaryKey);
     }
 
     /**
@@ -253,16 +267,14 @@ public class ClientCacheAffinityMapping {
         }
 
         /**
-         * Calculates node for given key.
+         * Calculates partition for given key.
          *
          * @param key Key.
          */
-        private UUID nodeForKey(Object key) {
+        private int partitionForKey(Object key) {
             assert partMapping != null;
 
-            int part = RendezvousAffinityFunction.calculatePartition(key, affinityMask, partMapping.length);
-
-            return partMapping[part];
+            return RendezvousAffinityFunction.calculatePartition(key, affinityMask, partMapping.length);
         }
     }
 }
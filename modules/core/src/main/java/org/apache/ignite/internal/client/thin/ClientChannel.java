@@ -22,6 +22,7 @@ import java.util.function.Function;
 import org.apache.ignite.client.ClientAuthorizationException;
 import org.apache.ignite.client.ClientConnectionException;
 import org.apache.ignite.client.ClientException;
+import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 
 /**
@@ -46,6 +47,23 @@ interface ClientChannel extends AutoCloseable {
         Function<PayloadInputChannel, T> payloadReader
     ) throws ClientException, ClientAuthorizationException, ClientServerError, ClientConnectionException;
 
+    /**
+     * Send request and handle response asynchronously for client operation. Requests sent this way are pipelined:
+     * the channel does not wait for the response before sending the next request.
+     *
+     * @param op Operation.
+     * @param payloadWriter Payload writer to stream or {@code null} if request has no payload.
+     * @param payloadReader Payload reader from stream.
+     * @return Future for the operation payload or {@code null} if response has no payload.
+     * @throws ClientException Thrown by {@code payloadWriter}.
+     * @throws ClientConnectionException In case of IO errors on request send.
+     */
+    public <T> IgniteInternalFuture<T> serviceAsync(
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> payloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientException, ClientConnectionException;
+
     /**
      * @return Protocol context.
      */
@@ -18,6 +18,7 @@ package org.apache.ignite.internal.client.thin;
 
 import java.net.InetSocketAddress;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import javax.cache.configuration.Factory;
 import javax.net.ssl.SSLContext;
 import org.apache.ignite.client.SslMode;
@@ -91,10 +92,13 @@ final class ClientChannelConfiguration {
     /** User attributes. */
     private Map<String, String> userAttrs;
 
+    /** Executor for async operation continuations. */
+    private final Executor asyncContinuationExecutor;
+
     /**
      * Constructor.
      */
-    ClientChannelConfiguration(ClientConfiguration cfg, InetSocketAddress addr) {
+    ClientChannelConfiguration(ClientConfiguration cfg, InetSocketAddress addr, Executor asyncContinuationExecutor) {
         this.sslMode = cfg.getSslMode();
         this.tcpNoDelay = cfg.isTcpNoDelay();
         this.timeout = cfg.getTimeout();
@@ -116,6 +120,7 @@ final class ClientChannelConfiguration {
         this.reconnectThrottlingRetries = cfg.getReconnectThrottlingRetries();
         this.addr = addr;
         this.userAttrs = cfg.getUserAttributes();
+        this.asyncContinuationExecutor = asyncContinuationExecutor;
     }
 
     /**
@@ -264,4 +269,11 @@ final class ClientChannelConfiguration {
     public Map<String, String> getUserAttributes() {
         return userAttrs;
     }
+
+    /**
+     * @return Executor for async operation continuations.
+     */
+    public Executor getAsyncContinuationExecutor() {
+        return asyncContinuationExecutor;
+    }
 }
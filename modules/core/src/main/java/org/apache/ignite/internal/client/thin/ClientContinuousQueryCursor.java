@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.client.thin;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.client.thin.ClientOperation.RESOURCE_CLOSE;
+
+/**
+ * Cursor of a continuous query. Iterates over the results of the initial query, if any; closing the cursor stops
+ * the continuous query.
+ */
+class ClientContinuousQueryCursor<T> implements QueryCursor<T> {
+    /** Client channel. */
+    private final ClientChannel ch;
+
+    /** Query ID. */
+    private final long qryId;
+
+    /** Registry. */
+    private final ClientContinuousQueryRegistry registry;
+
+    /** Initial query cursor. */
+    private volatile QueryCursor<T> initCur;
+
+    /** Closed flag. */
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Constructor.
+     *
+     * @param ch Client channel.
+     * @param qryId Query ID.
+     * @param registry Registry.
+     */
+    ClientContinuousQueryCursor(ClientChannel ch, long qryId, ClientContinuousQueryRegistry registry) {
+        this.ch = ch;
+        this.qryId = qryId;
+        this.registry = registry;
+    }
+
+    /**
+     * Registers consumer of the query event notifications.
+     *
+     * @param consumer Consumer of notification payloads.
+     * @return {@code False} if channel was closed concurrently.
+     */
+    boolean register(Consumer<byte[]> consumer) {
+        return registry.register(ch, qryId, consumer);
+    }
+
+    /**
+     * @param initCur Initial query cursor.
+     */
+    void initialQueryCursor(@Nullable QueryCursor<T> initCur) {
+        this.initCur = initCur;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<T> getAll() {
+        return initCur == null ? Collections.emptyList() : initCur.getAll();
+    }
+
+    /** {@inheritDoc} */
+    @Override public Iterator<T> iterator() {
+        return initCur == null ? Collections.emptyIterator() : initCur.iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        if (!closed.compareAndSet(false, true))
+            return;
+
+        try {
+            if (initCur != null)
+                initCur.close();
+        }
+        finally {
+            try {
+                if (!ch.closed())
+                    ch.service(RESOURCE_CLOSE, req -> req.out().writeLong(qryId), null);
+            }
+            finally {
+                // Notifications sent before the query was closed on the server are already received at this point.
+                registry.unregister(ch, qryId);
+            }
+        }
+    }
+}
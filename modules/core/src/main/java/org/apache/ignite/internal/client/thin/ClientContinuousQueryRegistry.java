@@ -0,0 +1,288 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.client.thin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.internal.client.thin.ClientOperation.QUERY_CONTINUOUS_EVENT_NOTIFICATION;
+
+/**
+ * Routes continuous query event notifications to the queries started by the client.
+ * <p>
+ * Notifications are delivered in order, but not in the channel receiver thread, since listeners may deserialize
+ * objects of unknown types (which requires binary metadata requests) or perform other client operations.
+ * <p>
+ * Notifications of a query may outrun its registration, since the response with the query ID is handled by the
+ * caller thread. So notifications of unknown queries are kept while a query is being started on the channel
+ * (see {@link #onQueryStarting(ClientChannel)}) and are dropped otherwise, e.g. if the query is already closed.
+ */
+class ClientContinuousQueryRegistry implements NotificationListener {
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Executor delivering notifications to the listeners. */
+    private final Executor executor;
+
+    /** Active queries by channel. */
+    private final Map<ClientChannel, ChannelQueries> qrys = new ConcurrentHashMap<>();
+
+    /** Guard lock for active queries. */
+    private final ReadWriteLock guard = new ReentrantReadWriteLock();
+
+    /**
+     * Constructor.
+     *
+     * @param ch Channel.
+     * @param log Logger.
+     */
+    ClientContinuousQueryRegistry(ReliableChannel ch, IgniteLogger log) {
+        this.log = log;
+
+        executor = ch.asyncContinuationExecutor();
+
+        ch.addNotificationListener(this);
+
+        ch.addChannelCloseListener(clientCh -> {
+            guard.writeLock().lock();
+
+            try {
+                qrys.remove(clientCh);
+            }
+            finally {
+                guard.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Called before the request to start a query is sent to the channel. Must be followed by
+     * {@link #onQueryStarted(ClientChannel)} when the query is registered or failed to start.
+     *
+     * @param ch Client channel.
+     */
+    void onQueryStarting(ClientChannel ch) {
+        guard.readLock().lock();
+
+        try {
+            if (ch.closed())
+                return;
+
+            ChannelQueries chQrys = qrys.computeIfAbsent(ch, c -> new ChannelQueries());
+
+            synchronized (chQrys) {
+                chQrys.starting++;
+            }
+        }
+        finally {
+            guard.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param ch Client channel.
+     */
+    void onQueryStarted(ClientChannel ch) {
+        ChannelQueries chQrys = qrys.get(ch);
+
+        if (chQrys == null)
+            return;
+
+        synchronized (chQrys) {
+            if (chQrys.starting > 0 && --chQrys.starting == 0) {
+                // Kept notifications do not belong to any started query.
+                chQrys.hnds.values().removeIf(hnd -> !hnd.registered());
+            }
+        }
+    }
+
+    /**
+     * Registers consumer of event notifications of the query. Notifications received before registration are
+     * delivered to the consumer right after registration.
+     *
+     * @param ch Client channel.
+     * @param qryId Query ID.
+     * @param consumer Consumer of notification payloads.
+     * @return {@code False} if channel was closed concurrently.
+     */
+    boolean register(ClientChannel ch, long qryId, Consumer<byte[]> consumer) {
+        guard.readLock().lock();
+
+        try {
+            if (ch.closed())
+                return false;
+
+            ChannelQueries chQrys = qrys.computeIfAbsent(ch, c -> new ChannelQueries());
+
+            synchronized (chQrys) {
+                chQrys.hnds.computeIfAbsent(qryId, id -> new ContinuousQueryHandler()).consumer(consumer);
+            }
+
+            return true;
+        }
+        finally {
+            guard.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param ch Client channel.
+     * @param qryId Query ID.
+     */
+    void unregister(ClientChannel ch, long qryId) {
+        ChannelQueries chQrys = qrys.get(ch);
+
+        if (chQrys != null) {
+            synchronized (chQrys) {
+                chQrys.hnds.remove(qryId);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void acceptNotification(
+        ClientChannel ch,
+        ClientOperation op,
+        long rsrcId,
+        byte[] payload,
+        Exception err
+    ) {
+        if (op != QUERY_CONTINUOUS_EVENT_NOTIFICATION || payload == null)
+            return;
+
+        ChannelQueries chQrys = qrys.get(ch);
+
+        if (chQrys == null)
+            return;
+
+        ContinuousQueryHandler hnd;
+
+        synchronized (chQrys) {
+            hnd = chQrys.hnds.get(rsrcId);
+
+            if (hnd == null && chQrys.starting > 0) {
+                hnd = new ContinuousQueryHandler();
+
+                chQrys.hnds.put(rsrcId, hnd);
+            }
+        }
+
+        if (hnd != null)
+            hnd.onNotification(payload);
+    }
+
+    /**
+     * Queries of a channel.
+     */
+    private static class ChannelQueries {
+        /** Query handlers by query ID. Guarded by this. */
+        private final Map<Long, ContinuousQueryHandler> hnds = new HashMap<>();
+
+        /** Number of queries being started. Guarded by this. */
+        private int starting;
+    }
+
+    /**
+     * Delivers notifications of a single query in order.
+     */
+    private class ContinuousQueryHandler {
+        /** Notification payloads to deliver. */
+        private final Queue<byte[]> queue = new ConcurrentLinkedQueue<>();
+
+        /** Delivery in progress flag. */
+        private final AtomicBoolean delivering = new AtomicBoolean();
+
+        /** Consumer, {@code null} until the query is registered. */
+        private volatile Consumer<byte[]> consumer;
+
+        /**
+         * @param consumer Consumer.
+         */
+        private void consumer(Consumer<byte[]> consumer) {
+            this.consumer = consumer;
+
+            scheduleDelivery();
+        }
+
+        /**
+         * @return {@code True} if the query is registered.
+         */
+        private boolean registered() {
+            return consumer != null;
+        }
+
+        /**
+         * @param payload Notification payload.
+         */
+        private void onNotification(byte[] payload) {
+            queue.add(payload);
+
+            scheduleDelivery();
+        }
+
+        /**
+         * Starts delivery if there is a consumer and no delivery is in progress.
+         */
+        private void scheduleDelivery() {
+            if (consumer != null && !queue.isEmpty() && delivering.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::deliver);
+                }
+                catch (RejectedExecutionException e) {
+                    delivering.set(false);
+
+                    U.warn(log, "Failed to deliver continuous query events, executor rejected the task.", e);
+                }
+            }
+        }
+
+        /**
+         * Delivers queued notifications.
+         */
+        private void deliver() {
+            try {
+                byte[] payload;
+
+                while ((payload = queue.poll()) != null) {
+                    try {
+                        consumer.accept(payload);
+                    }
+                    catch (RuntimeException e) {
+                        // Listener failure must not stop delivery of the next batches.
+                        U.warn(log, "Continuous query listener failed to process events.", e);
+                    }
+                }
+            }
+            finally {
+                delivering.set(false);
+            }
+
+            // Notification may have been queued after the loop exited but before the flag was reset.
+            scheduleDelivery();
+        }
+    }
+}
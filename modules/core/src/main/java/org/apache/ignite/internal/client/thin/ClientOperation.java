@@ -54,6 +54,8 @@ enum ClientOperation {
     /** Query sql cursor get page. */QUERY_SQL_CURSOR_GET_PAGE(2003),
     /** Query sql fields. */QUERY_SQL_FIELDS(2004),
     /** Query sql fields cursor get page. */QUERY_SQL_FIELDS_CURSOR_GET_PAGE(2005),
+    /** Continuous query. */QUERY_CONTINUOUS(2006),
+    /** Continuous query event notification. */QUERY_CONTINUOUS_EVENT_NOTIFICATION(2007, true),
     /** Get binary type. */GET_BINARY_TYPE(3002),
     /** Register binary type name. */REGISTER_BINARY_TYPE_NAME(3001),
     /** Put binary type. */PUT_BINARY_TYPE(3003),
@@ -61,7 +63,9 @@ enum ClientOperation {
     /** Start new transaction. */TX_START(4000),
     /** End the transaction (commit or rollback). */TX_END(4001),
     /** Execute compute task. */COMPUTE_TASK_EXECUTE(6000),
-    /** Finished compute task notification. */COMPUTE_TASK_FINISHED(6001, true);
+    /** Finished compute task notification. */COMPUTE_TASK_FINISHED(6001, true),
+
+    /** Load data with data streamer. */DATA_STREAMER_LOAD(8000);
 
     /** Code. */
     private final int code;
@@ -28,7 +28,13 @@ public enum ProtocolBitmaskFeature {
     USER_ATTRIBUTES(0),
 
     /** Compute tasks (execute by task name). */
-    EXECUTE_TASK_BY_NAME(1);
+    EXECUTE_TASK_BY_NAME(1),
+
+    /** Continuous queries. */
+    CONTINUOUS_QUERY(5),
+
+    /** Data streamer. */
+    DATA_STREAMER(6);
 
     /** */
     private static final EnumSet<ProtocolBitmaskFeature> ALL_FEATURES_AS_ENUM_SET =
@@ -25,10 +25,12 @@ import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -41,6 +43,7 @@ import org.apache.ignite.client.ClientConnectionException;
 import org.apache.ignite.client.ClientException;
 import org.apache.ignite.configuration.ClientConfiguration;
 import org.apache.ignite.configuration.ClientConnectorConfiguration;
+import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.util.HostAndPortRange;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -56,6 +59,9 @@ final class ReliableChannel implements AutoCloseable, NotificationListener {
     /** Async runner thread name. */
     static final String ASYNC_RUNNER_THREAD_NAME = "thin-client-channel-async-init";
 
+    /** Async continuation thread name prefix. */
+    static final String ASYNC_CONTINUATION_THREAD_PREFIX = "thin-client-async-continuation-";
+
     /** Channel factory. */
     private final Function<ClientChannelConfiguration, ClientChannel> chFactory;
 
@@ -89,6 +95,12 @@ final class ReliableChannel implements AutoCloseable, NotificationListener {
         }
     );
 
+    /** Executor for async operation continuations and continuous query listeners. */
+    private final Executor asyncContinuationExecutor;
+
+    /** Thread pool of the client, {@code null} if the executor is provided by the configuration. */
+    private final ExecutorService asyncContinuationPool;
+
     /** Channels reinit was scheduled. */
     private final AtomicBoolean scheduledChannelsReinit = new AtomicBoolean();
 
@@ -117,12 +129,36 @@ final class ReliableChannel implements AutoCloseable, NotificationListener {
 
         this.chFactory = chFactory;
 
+        if (clientCfg.getAsyncContinuationExecutor() != null) {
+            asyncContinuationExecutor = clientCfg.getAsyncContinuationExecutor();
+            asyncContinuationPool = null;
+        }
+        else {
+            AtomicInteger threadCnt = new AtomicInteger();
+
+            asyncContinuationPool = Executors.newCachedThreadPool(
+                new ThreadFactory() {
+                    @Override public Thread newThread(@NotNull Runnable r) {
+                        Thread t = new Thread(r, ASYNC_CONTINUATION_THREAD_PREFIX + threadCnt.getAndIncrement());
+
+                        t.setDaemon(true);
+
+                        return t;
+                    }
+                }
+            );
+
+            asyncContinuationExecutor = asyncContinuationPool;
+        }
+
         List<InetSocketAddress> addrs = parseAddresses(clientCfg.getAddresses());
 
         channels = new ClientChannelHolder[addrs.size()];
 
-        for (int i = 0; i < channels.length; i++)
-            channels[i] = new ClientChannelHolder(new ClientChannelConfiguration(clientCfg, addrs.get(i)));
+        for (int i = 0; i < channels.length; i++) {
+            channels[i] = new ClientChannelHolder(
+                new ClientChannelConfiguration(clientCfg, addrs.get(i), asyncContinuationExecutor));
+        }
 
         curChIdx = new Random().nextInt(channels.length); // We already verified there is at least one address.
 
@@ -156,6 +192,16 @@ final class ReliableChannel implements AutoCloseable, NotificationListener {
 
         for (ClientChannelHolder hld : channels)
             hld.closeChannel();
+
+        if (asyncContinuationPool != null)
+            asyncContinuationPool.shutdown();
+    }
+
+    /**
+     * @return Executor for async operation continuations and continuous query listeners.
+     */
+    Executor asyncContinuationExecutor() {
+        return asyncContinuationExecutor;
     }
 
     /**
@@ -195,6 +241,121 @@ final class ReliableChannel implements AutoCloseable, NotificationListener {
         throw failure;
     }
 
+    /**
+     * Send request and handle response asynchronously.
+     * <p>
+     * Connection errors on request send are failed over to the next channel as in {@link #service}. Connection
+     * errors after the request is sent are reported through the future, since the request may already be
+     * processed by the server.
+     *
+     * @throws ClientException Thrown by {@code payloadWriter}.
+     * @throws ClientAuthenticationException When user name or password is invalid.
+     * @throws ClientProtocolError When failed to handshake with server.
+     */
+    public <T> IgniteInternalFuture<T> serviceAsync(
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> payloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientException, ClientError {
+        ClientConnectionException failure = null;
+
+        for (int i = 0; i < channels.length; i++) {
+            ClientChannel ch = null;
+
+            try {
+                ch = channel();
+
+                return serviceAsync(ch, op, payloadWriter, payloadReader);
+            }
+            catch (ClientConnectionException e) {
+                if (failure == null)
+                    failure = e;
+                else
+                    failure.addSuppressed(e);
+
+                onChannelFailure(ch);
+            }
+        }
+
+        throw failure;
+    }
+
+    /**
+     * Send request and handle response without payload asynchronously.
+     */
+    public IgniteInternalFuture<Void> requestAsync(ClientOperation op, Consumer<PayloadOutputChannel> payloadWriter)
+        throws ClientException, ClientError {
+        return serviceAsync(op, payloadWriter, null);
+    }
+
+    /**
+     * Send request to affinity node and handle response asynchronously.
+     */
+    public <T> IgniteInternalFuture<T> affinityServiceAsync(
+        int cacheId,
+        Object key,
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> payloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientException, ClientError {
+        if (affinityAwarenessEnabled && !nodeChannels.isEmpty() && affinityInfoIsUpToDate(cacheId)) {
+            UUID affinityNodeId = affinityCtx.affinityNode(cacheId, key);
+
+            if (affinityNodeId != null) {
+                ClientChannelHolder hld = nodeChannels.get(affinityNodeId);
+
+                if (hld != null) {
+                    ClientChannel ch = null;
+
+                    try {
+                        ch = hld.getOrCreateChannel();
+
+                        return serviceAsync(ch, op, payloadWriter, payloadReader);
+                    }
+                    catch (ClientConnectionException ignore) {
+                        onChannelFailure(hld, ch);
+                    }
+                }
+            }
+        }
+
+        // Can't determine affinity node or request to affinity node failed - proceed with standart failover service.
+        return serviceAsync(op, payloadWriter, payloadReader);
+    }
+
+    /**
+     * Calculates partition for given cache and key.
+     *
+     * @param cacheId Cache ID.
+     * @param key Key.
+     * @return Partition or {@code -1} if partition awareness is disabled or partition can't be determined.
+     */
+    public int affinityPartition(int cacheId, Object key) {
+        if (affinityAwarenessEnabled && !nodeChannels.isEmpty() && affinityInfoIsUpToDate(cacheId))
+            return affinityCtx.affinityPartition(cacheId, key);
+
+        return -1;
+    }
+
+    /**
+     * Sends request to the given channel and closes the channel if the response is failed by a connection error.
+     */
+    private <T> IgniteInternalFuture<T> serviceAsync(
+        ClientChannel ch,
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> payloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientException, ClientError {
+        IgniteInternalFuture<T> fut = ch.serviceAsync(op, payloadWriter, payloadReader);
+
+        fut.listen(f -> {
+            if (f.error() instanceof ClientConnectionException)
+                onChannelFailure(ch);
+        });
+
+        return fut;
+    }
+
     /**
      * Send request without payload and handle response.
      */
@@ -17,17 +17,27 @@
 package org.apache.ignite.internal.client.thin;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.cache.Cache;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryUpdatedListener;
+import javax.cache.event.EventType;
 import javax.cache.expiry.ExpiryPolicy;
 
 import org.apache.ignite.cache.CachePeekMode;
+import org.apache.ignite.cache.query.AbstractContinuousQuery;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.ContinuousQueryWithTransformer;
 import org.apache.ignite.cache.query.FieldsQueryCursor;
 import org.apache.ignite.cache.query.Query;
 import org.apache.ignite.cache.query.QueryCursor;
@@ -37,10 +47,14 @@ import org.apache.ignite.cache.query.SqlQuery;
 import org.apache.ignite.client.ClientCache;
 import org.apache.ignite.client.ClientCacheConfiguration;
 import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.ClientFeatureNotSupportedByServerException;
+import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.binary.GridBinaryMarshaller;
+import org.apache.ignite.internal.binary.streams.BinaryHeapInputStream;
 import org.apache.ignite.internal.binary.streams.BinaryInputStream;
 import org.apache.ignite.internal.binary.streams.BinaryOutputStream;
 import org.apache.ignite.internal.client.thin.TcpClientTransactions.TcpClientTransaction;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
 
 import static java.util.AbstractMap.SimpleEntry;
 import static org.apache.ignite.internal.client.thin.ProtocolVersionFeature.EXPIRY_POLICY;
@@ -90,6 +104,11 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
      */
     private final TcpClientTransactions transactions;
 
+    /**
+     * Continuous queries registry.
+     */
+    private final ClientContinuousQueryRegistry cqRegistry;
+
     /**
      * Serializer/deserializer.
      */
@@ -108,20 +127,22 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
     /**
      * Constructor.
      */
-    TcpClientCache(String name, ReliableChannel ch, ClientBinaryMarshaller marsh, TcpClientTransactions transactions) {
-        this(name, ch, marsh, transactions, false, null);
+    TcpClientCache(String name, ReliableChannel ch, ClientBinaryMarshaller marsh, TcpClientTransactions transactions,
+        ClientContinuousQueryRegistry cqRegistry) {
+        this(name, ch, marsh, transactions, cqRegistry, false, null);
     }
 
     /**
      * Constructor.
      */
     TcpClientCache(String name, ReliableChannel ch, ClientBinaryMarshaller marsh, TcpClientTransactions transactions,
-                   boolean keepBinary, ExpiryPolicy expiryPlc) {
+                   ClientContinuousQueryRegistry cqRegistry, boolean keepBinary, ExpiryPolicy expiryPlc) {
         this.name = name;
         this.cacheId = ClientUtils.cacheId(name);
         this.ch = ch;
         this.marsh = marsh;
         this.transactions = transactions;
+        this.cqRegistry = cqRegistry;
 
         serDes = new ClientUtils(marsh);
 
@@ -142,6 +163,19 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
         );
     }
 
+    /** {@inheritDoc} */
+    @Override public Future<V> getAsync(K key) throws ClientException {
+        if (key == null)
+            throw new NullPointerException("key");
+
+        return cacheSingleKeyOperationAsync(
+            key,
+            ClientOperation.CACHE_GET,
+            null,
+            this::readObject
+        );
+    }
+
     /** {@inheritDoc} */
     @Override public void put(K key, V val) throws ClientException {
         if (key == null)
@@ -158,6 +192,22 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
         );
     }
 
+    /** {@inheritDoc} */
+    @Override public Future<Void> putAsync(K key, V val) throws ClientException {
+        if (key == null)
+            throw new NullPointerException("key");
+
+        if (val == null)
+            throw new NullPointerException("val");
+
+        return cacheSingleKeyOperationAsync(
+            key,
+            ClientOperation.CACHE_PUT,
+            req -> writeObject(req, val),
+            null
+        );
+    }
+
     /** {@inheritDoc} */
     @Override public boolean containsKey(K key) throws ClientException {
         if (key == null)
@@ -171,6 +221,19 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
         );
     }
 
+    /** {@inheritDoc} */
+    @Override public Future<Boolean> containsKeyAsync(K key) throws ClientException {
+        if (key == null)
+            throw new NullPointerException("key");
+
+        return cacheSingleKeyOperationAsync(
+            key,
+            ClientOperation.CACHE_CONTAINS_KEY,
+            null,
+            res -> res.in().readBoolean()
+        );
+    }
+
     /** {@inheritDoc} */
     @Override public String getName() {
         return name;
@@ -212,17 +275,19 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
         if (keys.isEmpty())
             return new HashMap<>();
 
-        return ch.service(
-            ClientOperation.CACHE_GET_ALL,
-            req -> {
-                writeCacheInfo(req);
-                ClientUtils.collection(keys, req.out(), serDes::writeObject);
-            },
-            res -> ClientUtils.collection(
-                res.in(),
-                in -> new SimpleEntry<K, V>(readObject(in), readObject(in))
-            )
-        ).stream().collect(Collectors.toMap(SimpleEntry::getKey, SimpleEntry::getValue));
+        return ch.service(ClientOperation.CACHE_GET_ALL, req -> writeKeys(req, keys), this::readEntries);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Future<Map<K, V>> getAllAsync(Set<? extends K> keys) throws ClientException {
+        if (keys == null)
+            throw new NullPointerException("keys");
+
+        if (keys.isEmpty())
+            return finishedFuture(new HashMap<>());
+
+        return clientFuture(ch.serviceAsync(ClientOperation.CACHE_GET_ALL, req -> writeKeys(req, keys),
+            this::readEntries));
     }
 
     /** {@inheritDoc} */
@@ -233,19 +298,18 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
         if (map.isEmpty())
             return;
 
-        ch.request(
-            ClientOperation.CACHE_PUT_ALL,
-            req -> {
-                writeCacheInfo(req);
-                ClientUtils.collection(
-                    map.entrySet(),
-                    req.out(),
-                    (out, e) -> {
-                        serDes.writeObject(out, e.getKey());
-                        serDes.writeObject(out, e.getValue());
-                    });
-            }
-        );
+        ch.request(ClientOperation.CACHE_PUT_ALL, req -> writeEntries(req, map));
+    }
+
+    /** {@inheritDoc} */
+    @Override public Future<Void> putAllAsync(Map<? extends K, ? extends V> map) throws ClientException {
+        if (map == null)
+            throw new NullPointerException("map");
+
+        if (map.isEmpty())
+            return finishedFuture(null);
+
+        return clientFuture(ch.requestAsync(ClientOperation.CACHE_PUT_ALL, req -> writeEntries(req, map)));
     }
 
     /** {@inheritDoc} */
@@ -299,6 +363,19 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
         );
     }
 
+    /** {@inheritDoc} */
+    @Override public Future<Boolean> removeAsync(K key) throws ClientException {
+        if (key == null)
+            throw new NullPointerException("key");
+
+        return cacheSingleKeyOperationAsync(
+            key,
+            ClientOperation.CACHE_REMOVE_KEY,
+            null,
+            res -> res.in().readBoolean()
+        );
+    }
+
     /** {@inheritDoc} */
     @Override public boolean remove(K key, V oldVal) throws ClientException {
         if (key == null)
@@ -410,7 +487,7 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
      */
     @Override public <K1, V1> ClientCache<K1, V1> withKeepBinary() {
         return keepBinary ? (ClientCache<K1, V1>) this :
-                new TcpClientCache<>(name, ch, marsh, transactions, true, expiryPlc);
+                new TcpClientCache<>(name, ch, marsh, transactions, cqRegistry, true, expiryPlc);
     }
 
     /**
@@ -424,7 +501,7 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
      * {@inheritDoc}
      */
     @Override public <K1, V1> ClientCache<K1, V1> withExpiryPolicy(ExpiryPolicy expiryPlc) {
-        return new TcpClientCache<>(name, ch, marsh, transactions, keepBinary, expiryPlc);
+        return new TcpClientCache<>(name, ch, marsh, transactions, cqRegistry, keepBinary, expiryPlc);
     }
 
     /**
@@ -443,6 +520,8 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
             res = (QueryCursor<R>)sqlQuery((SqlQuery)qry);
         else if (qry instanceof SqlFieldsQuery)
             res = (QueryCursor<R>)query((SqlFieldsQuery)qry);
+        else if (qry instanceof AbstractContinuousQuery)
+            res = (QueryCursor<R>)continuousQuery((AbstractContinuousQuery<K, V>)qry);
         else
             throw new IllegalArgumentException(
                 String.format("Query of type [%s] is not supported", qry.getClass().getSimpleName())
@@ -500,6 +579,171 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
         ));
     }
 
+    /** Handle continuous query. */
+    @SuppressWarnings("unchecked")
+    private QueryCursor<Cache.Entry<K, V>> continuousQuery(AbstractContinuousQuery<K, V> qry) {
+        Factory<?> filterFactory = qry.getRemoteFilterFactory();
+
+        Factory<?> transformerFactory = null;
+
+        Cache<K, V> src = ClientCacheEntryEvent.source(name);
+
+        Consumer<byte[]> evtConsumer;
+
+        if (qry instanceof ContinuousQuery) {
+            ContinuousQuery<K, V> qry0 = (ContinuousQuery<K, V>)qry;
+
+            CacheEntryUpdatedListener<K, V> lsnr = qry0.getLocalListener();
+
+            if (lsnr == null)
+                throw new IllegalArgumentException("Mandatory local listener is not set for the query: " + qry);
+
+            if (filterFactory == null && qry0.getRemoteFilter() != null)
+                filterFactory = FactoryBuilder.factoryOf(qry0.getRemoteFilter());
+
+            evtConsumer = payload -> lsnr.onUpdated(readEvents(src, payload));
+        }
+        else if (qry instanceof ContinuousQueryWithTransformer) {
+            ContinuousQueryWithTransformer<K, V, Object> qry0 = (ContinuousQueryWithTransformer<K, V, Object>)qry;
+
+            ContinuousQueryWithTransformer.EventListener<Object> lsnr = qry0.getLocalListener();
+
+            if (lsnr == null)
+                throw new IllegalArgumentException("Mandatory local listener is not set for the query: " + qry);
+
+            if (qry0.getRemoteTransformerFactory() == null)
+                throw new IllegalArgumentException("Mandatory RemoteTransformerFactory is not set for the query: " + qry);
+
+            transformerFactory = qry0.getRemoteTransformerFactory();
+
+            evtConsumer = payload -> lsnr.onUpdated(readTransformedEvents(payload));
+        }
+        else {
+            throw new IllegalArgumentException(
+                String.format("Query of type [%s] is not supported", qry.getClass().getSimpleName())
+            );
+        }
+
+        Factory<?> filterFactory0 = filterFactory;
+        Factory<?> transformerFactory0 = transformerFactory;
+
+        // Channels the query is being started on, the request is sent again to another channel on failure.
+        List<ClientChannel> startChs = new ArrayList<>();
+
+        Consumer<PayloadOutputChannel> qryWriter = payloadCh -> {
+            if (!payloadCh.clientChannel().protocolCtx().isFeatureSupported(ProtocolBitmaskFeature.CONTINUOUS_QUERY)) {
+                throw new ClientFeatureNotSupportedByServerException("Continuous queries for thin client not " +
+                    "supported by server node (" + payloadCh.clientChannel().serverNodeId() + ')');
+            }
+
+            cqRegistry.onQueryStarting(payloadCh.clientChannel());
+
+            startChs.add(payloadCh.clientChannel());
+
+            writeCacheInfo(payloadCh);
+
+            BinaryOutputStream out = payloadCh.out();
+
+            out.writeInt(qry.getPageSize());
+            out.writeLong(qry.getTimeInterval());
+            out.writeBoolean(qry.isIncludeExpired());
+
+            if (filterFactory0 == null)
+                out.writeByte(GridBinaryMarshaller.NULL);
+            else {
+                serDes.writeObject(out, filterFactory0);
+                out.writeByte((byte)1); // Java platform
+            }
+
+            serDes.writeObject(out, transformerFactory0);
+        };
+
+        while (true) {
+            ClientContinuousQueryCursor<Cache.Entry<K, V>> cur;
+
+            try {
+                cur = ch.service(
+                    ClientOperation.QUERY_CONTINUOUS,
+                    qryWriter,
+                    res -> new ClientContinuousQueryCursor<>(res.clientChannel(), res.in().readLong(), cqRegistry)
+                );
+
+                if (!cur.register(evtConsumer))
+                    continue; // Channel is closed concurrently, the query is stopped on the server, start a new one.
+            }
+            finally {
+                for (ClientChannel startCh : startChs)
+                    cqRegistry.onQueryStarted(startCh);
+
+                startChs.clear();
+            }
+
+            if (qry.getInitialQuery() != null) {
+                try {
+                    cur.initialQueryCursor(query(qry.getInitialQuery()));
+                }
+                catch (RuntimeException e) {
+                    cur.close();
+
+                    throw e;
+                }
+            }
+
+            return cur;
+        }
+    }
+
+    /**
+     * Reads continuous query events.
+     *
+     * @param src Event source.
+     * @param payload Notification payload.
+     */
+    private List<CacheEntryEvent<? extends K, ? extends V>> readEvents(Cache<K, V> src, byte[] payload) {
+        BinaryInputStream in = new BinaryHeapInputStream(payload);
+
+        int cnt = in.readInt();
+
+        boolean transformed = in.readBoolean();
+
+        assert !transformed;
+
+        List<CacheEntryEvent<? extends K, ? extends V>> evts = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            K key = readObject(in);
+            V oldVal = readObject(in);
+            V val = readObject(in);
+            EventType evtType = EventType.values()[in.readByte()];
+
+            evts.add(new ClientCacheEntryEvent<>(src, evtType, key, oldVal, val));
+        }
+
+        return evts;
+    }
+
+    /**
+     * Reads transformed continuous query events.
+     *
+     * @param payload Notification payload.
+     */
+    private List<Object> readTransformedEvents(byte[] payload) {
+        BinaryInputStream in = new BinaryHeapInputStream(payload);
+
+        int cnt = in.readInt();
+
+        boolean transformed = in.readBoolean();
+
+        assert transformed;
+
+        List<Object> evts = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++)
+            evts.add(readObject(in));
+
+        return evts;
+    }
+
     /** Handle SQL query. */
     private QueryCursor<Cache.Entry<K, V>> sqlQuery(SqlQuery qry) {
         Consumer<PayloadOutputChannel> qryWriter = payloadCh -> {
@@ -536,18 +780,96 @@ class TcpClientCache<K, V> implements ClientCache<K, V> {
         Consumer<PayloadOutputChannel> additionalPayloadWriter,
         Function<PayloadInputChannel, T> payloadReader
     ) throws ClientException {
-        Consumer<PayloadOutputChannel> payloadWriter = req -> {
+        Consumer<PayloadOutputChannel> payloadWriter = singleKeyPayloadWriter(key, additionalPayloadWriter);
+
+        // Transactional operation cannot be executed on affinity node, it should be executed on node started
+        // the transaction.
+        return transactions.tx() == null ? ch.affinityService(cacheId, key, op, payloadWriter, payloadReader) :
+                ch.service(op, payloadWriter, payloadReader);
+    }
+
+    /**
+     * Execute cache operation with a single key asynchronously.
+     */
+    private <T> Future<T> cacheSingleKeyOperationAsync(
+        K key,
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> additionalPayloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientException {
+        Consumer<PayloadOutputChannel> payloadWriter = singleKeyPayloadWriter(key, additionalPayloadWriter);
+
+        // Transactional operation cannot be executed on affinity node, it should be executed on node started
+        // the transaction.
+        return clientFuture(transactions.tx() == null ?
+            ch.affinityServiceAsync(cacheId, key, op, payloadWriter, payloadReader) :
+            ch.serviceAsync(op, payloadWriter, payloadReader));
+    }
+
+    /**
+     * @return Payload writer of cache operation with a single key.
+     */
+    private Consumer<PayloadOutputChannel> singleKeyPayloadWriter(
+        K key,
+        Consumer<PayloadOutputChannel> additionalPayloadWriter
+    ) {
+        return req -> {
             writeCacheInfo(req);
             writeObject(req, key);
 
             if (additionalPayloadWriter != null)
                 additionalPayloadWriter.accept(req);
         };
+    }
 
-        // Transactional operation cannot be executed on affinity node, it should be executed on node started
-        // the transaction.
-        return transactions.tx() == null ? ch.affinityService(cacheId, key, op, payloadWriter, payloadReader) :
-                ch.service(op, payloadWriter, payloadReader);
+    /**
+     * Write cache info and keys.
+     */
+    private void writeKeys(PayloadOutputChannel req, Set<? extends K> keys) {
+        writeCacheInfo(req);
+        ClientUtils.collection(keys, req.out(), serDes::writeObject);
+    }
+
+    /**
+     * Write cache info and entries.
+     */
+    private void writeEntries(PayloadOutputChannel req, Map<? extends K, ? extends V> map) {
+        writeCacheInfo(req);
+        ClientUtils.collection(
+            map.entrySet(),
+            req.out(),
+            (out, e) -> {
+                serDes.writeObject(out, e.getKey());
+                serDes.writeObject(out, e.getValue());
+            });
+    }
+
+    /**
+     * Read entries.
+     */
+    private Map<K, V> readEntries(PayloadInputChannel res) {
+        return ClientUtils.collection(
+            res.in(),
+            in -> new SimpleEntry<K, V>(readObject(in), readObject(in))
+        ).stream().collect(Collectors.toMap(SimpleEntry::getKey, SimpleEntry::getValue));
+    }
+
+    /**
+     * @return Completed future with the given result.
+     */
+    private static <T> Future<T> finishedFuture(T res) {
+        GridFutureAdapter<T> fut = new GridFutureAdapter<>();
+
+        fut.onDone(res);
+
+        return new ClientFutureImpl<>(fut);
+    }
+
+    /**
+     * Wraps internal future of a channel operation.
+     */
+    private static <T> Future<T> clientFuture(IgniteInternalFuture<T> fut) {
+        return new ClientFutureImpl<>((GridFutureAdapter<T>)fut);
     }
 
     /**
@@ -38,6 +38,8 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -65,6 +67,7 @@ import org.apache.ignite.client.SslMode;
 import org.apache.ignite.client.SslProtocol;
 import org.apache.ignite.configuration.ClientConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.binary.BinaryCachingMetadataHandler;
 import org.apache.ignite.internal.binary.BinaryContext;
 import org.apache.ignite.internal.binary.BinaryPrimitives;
@@ -163,11 +166,16 @@ class TcpClientChannel implements ClientChannel {
     /** Receiver thread (processes incoming messages). */
     private Thread receiverThread;
 
+    /** Executor for async operation continuations. */
+    private final Executor asyncContinuationExecutor;
+
     /** Constructor. */
     TcpClientChannel(ClientChannelConfiguration cfg)
         throws ClientConnectionException, ClientAuthenticationException, ClientProtocolError {
         validateConfiguration(cfg);
 
+        asyncContinuationExecutor = cfg.getAsyncContinuationExecutor();
+
         try {
             sock = createSocket(cfg);
 
@@ -222,6 +230,48 @@ class TcpClientChannel implements ClientChannel {
         return receive(id, payloadReader);
     }
 
+    /** {@inheritDoc} */
+    @Override public <T> IgniteInternalFuture<T> serviceAsync(
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> payloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientConnectionException, ClientException {
+        long id = send(op, payloadWriter);
+
+        ClientRequestFuture pendingReq = pendingReqs.get(id);
+
+        assert pendingReq != null : "Pending request future not found for request " + id;
+
+        GridFutureAdapter<T> fut = new GridFutureAdapter<>();
+
+        // Response is already received when the listener is notified, so receive() does not block.
+        Runnable onRes = () -> {
+            try {
+                fut.onDone(receive(id, payloadReader));
+            }
+            catch (Throwable e) {
+                fut.onDone(e);
+            }
+        };
+
+        // Payload reader may send requests itself (e.g. to get binary metadata) and wait for responses,
+        // so it must not run in the receiver thread.
+        pendingReq.listen(f -> {
+            if (payloadReader == null || f.error() != null)
+                onRes.run();
+            else {
+                try {
+                    asyncContinuationExecutor.execute(onRes);
+                }
+                catch (RejectedExecutionException e) {
+                    fut.onDone(new ClientException("Async operation continuation was rejected.", e));
+                }
+            }
+        });
+
+        return fut;
+    }
+
     /**
      * @param op Operation.
      * @param payloadWriter Payload writer to stream or {@code null} if request has no payload.
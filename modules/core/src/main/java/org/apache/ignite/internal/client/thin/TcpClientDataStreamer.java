@@ -0,0 +1,376 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.client.ClientDataStreamer;
+import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.ClientFeatureNotSupportedByServerException;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.binary.streams.BinaryOutputStream;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.stream.StreamReceiver;
+
+/**
+ * Implementation of {@link ClientDataStreamer} over TCP protocol.
+ * <p>
+ * Entries are collected into per-partition buffers, a full buffer is sent as a single request to the primary node
+ * of its partition. If partition can't be determined (partition awareness is disabled or affinity is not known yet)
+ * entries are collected into a common buffer, which is sent to any node.
+ */
+class TcpClientDataStreamer<K, V> implements ClientDataStreamer<K, V> {
+    /** "Allow overwrite" flag mask. */
+    private static final byte ALLOW_OVERWRITE_FLAG_MASK = 0x01;
+
+    /** "Skip store" flag mask. */
+    private static final byte SKIP_STORE_FLAG_MASK = 0x02;
+
+    /** Cache name. */
+    private final String cacheName;
+
+    /** Cache ID. */
+    private final int cacheId;
+
+    /** Channel. */
+    private final ReliableChannel ch;
+
+    /** Serializer/deserializer. */
+    private final ClientUtils serDes;
+
+    /** Buffers by partition, {@code -1} is the buffer for entries with unknown partition. Guarded by itself. */
+    private final Map<Integer, List<Map.Entry<K, V>>> bufs = new HashMap<>();
+
+    /** Mutex for {@link #inFlight}. */
+    private final Object inFlightMux = new Object();
+
+    /** Number of sent batches waiting for response. Guarded by {@link #inFlightMux}. */
+    private int inFlight;
+
+    /** First error of a batch. */
+    private final AtomicReference<Throwable> err = new AtomicReference<>();
+
+    /** Allow overwrite flag. */
+    private volatile boolean allowOverwrite;
+
+    /** Skip store flag. */
+    private volatile boolean skipStore;
+
+    /** Batch size. */
+    private volatile int bufSize = DFLT_PER_PARTITION_BUFFER_SIZE;
+
+    /** Maximum number of batches in flight. */
+    private volatile int parallelOps = DFLT_PARALLEL_OPS;
+
+    /** Stream receiver. */
+    private volatile StreamReceiver<K, V> rcvr;
+
+    /** Closed flag. */
+    private volatile boolean closed;
+
+    /**
+     * Constructor.
+     */
+    TcpClientDataStreamer(String cacheName, ReliableChannel ch, ClientBinaryMarshaller marsh) {
+        if (!ch.clientChannel().protocolCtx().isFeatureSupported(ProtocolBitmaskFeature.DATA_STREAMER)) {
+            throw new ClientFeatureNotSupportedByServerException("Data streamer for thin client not supported by " +
+                "server node (" + ch.clientChannel().serverNodeId() + ')');
+        }
+
+        this.cacheName = cacheName;
+        this.ch = ch;
+
+        cacheId = ClientUtils.cacheId(cacheName);
+        serDes = new ClientUtils(marsh);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String cacheName() {
+        return cacheName;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean allowOverwrite() {
+        return allowOverwrite;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClientDataStreamer<K, V> allowOverwrite(boolean allowOverwrite) {
+        this.allowOverwrite = allowOverwrite;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean skipStore() {
+        return skipStore;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClientDataStreamer<K, V> skipStore(boolean skipStore) {
+        this.skipStore = skipStore;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int perPartitionBufferSize() {
+        return bufSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClientDataStreamer<K, V> perPartitionBufferSize(int bufSize) {
+        A.ensure(bufSize > 0, "bufSize > 0");
+
+        this.bufSize = bufSize;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int perNodeParallelOperations() {
+        return parallelOps;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClientDataStreamer<K, V> perNodeParallelOperations(int parallelOps) {
+        A.ensure(parallelOps > 0, "parallelOps > 0");
+
+        synchronized (inFlightMux) {
+            this.parallelOps = parallelOps;
+
+            inFlightMux.notifyAll();
+        }
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClientDataStreamer<K, V> receiver(StreamReceiver<K, V> rcvr) {
+        A.notNull(rcvr, "rcvr");
+
+        this.rcvr = rcvr;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void addData(K key, V val) throws ClientException {
+        A.notNull(key, "key");
+
+        checkState();
+
+        add(key, val);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void addData(Map<K, V> entries) throws ClientException {
+        A.notNull(entries, "entries");
+
+        checkState();
+
+        for (Map.Entry<K, V> e : entries.entrySet())
+            add(e.getKey(), e.getValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void removeData(K key) throws ClientException {
+        addData(key, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void flush() throws ClientException {
+        if (closed)
+            throw new IllegalStateException("Data streamer has been closed.");
+
+        doFlush();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws ClientException {
+        if (closed)
+            return;
+
+        try {
+            doFlush();
+        }
+        finally {
+            closed = true;
+        }
+    }
+
+    /**
+     * Adds entry to the buffer of its partition and sends the buffer if it's full.
+     *
+     * @param key Key.
+     * @param val Value or {@code null} to remove the key.
+     */
+    private void add(K key, V val) {
+        // Calculated outside of the buffers lock, since it may request affinity from the server.
+        int part = ch.affinityPartition(cacheId, key);
+
+        List<Map.Entry<K, V>> batch = null;
+
+        synchronized (bufs) {
+            List<Map.Entry<K, V>> buf = bufs.computeIfAbsent(part, p -> new ArrayList<>());
+
+            buf.add(new SimpleEntry<>(key, val));
+
+            if (buf.size() >= bufSize)
+                batch = bufs.remove(part);
+        }
+
+        if (batch != null)
+            send(batch);
+    }
+
+    /**
+     * Sends all buffers and waits for responses.
+     */
+    private void doFlush() {
+        List<List<Map.Entry<K, V>>> batches;
+
+        synchronized (bufs) {
+            batches = new ArrayList<>(bufs.values());
+
+            bufs.clear();
+        }
+
+        for (List<Map.Entry<K, V>> batch : batches)
+            send(batch);
+
+        synchronized (inFlightMux) {
+            while (inFlight > 0) {
+                try {
+                    inFlightMux.wait();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new ClientException("Data streamer flush was interrupted.", e);
+                }
+            }
+        }
+
+        checkError();
+    }
+
+    /**
+     * Sends batch to the primary node of the partition of its first key. Blocks while the maximum number of
+     * batches is in flight.
+     *
+     * @param batch Batch.
+     */
+    private void send(List<Map.Entry<K, V>> batch) {
+        synchronized (inFlightMux) {
+            while (inFlight >= parallelOps) {
+                try {
+                    inFlightMux.wait();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new ClientException("Data streamer was interrupted while waiting for batch responses.", e);
+                }
+            }
+
+            inFlight++;
+        }
+
+        try {
+            IgniteInternalFuture<Object> fut = ch.affinityServiceAsync(
+                cacheId,
+                batch.get(0).getKey(),
+                ClientOperation.DATA_STREAMER_LOAD,
+                req -> writeBatch(req.out(), batch),
+                null
+            );
+
+            fut.listen(f -> onBatchDone(f.error()));
+        }
+        catch (ClientException e) {
+            onBatchDone(e);
+
+            throw e;
+        }
+    }
+
+    /**
+     * @param e Batch error or {@code null} if batch is applied.
+     */
+    private void onBatchDone(Throwable e) {
+        if (e != null)
+            err.compareAndSet(null, e);
+
+        synchronized (inFlightMux) {
+            inFlight--;
+
+            inFlightMux.notifyAll();
+        }
+    }
+
+    /**
+     * Writes batch request.
+     *
+     * @param out Output stream.
+     * @param batch Batch.
+     */
+    private void writeBatch(BinaryOutputStream out, List<Map.Entry<K, V>> batch) {
+        out.writeInt(cacheId);
+
+        byte flags = 0;
+
+        if (allowOverwrite)
+            flags |= ALLOW_OVERWRITE_FLAG_MASK;
+
+        if (skipStore)
+            flags |= SKIP_STORE_FLAG_MASK;
+
+        out.writeByte(flags);
+
+        serDes.writeObject(out, rcvr);
+
+        ClientUtils.collection(batch, out, (o, e) -> {
+            serDes.writeObject(o, e.getKey());
+            serDes.writeObject(o, e.getValue());
+        });
+    }
+
+    /**
+     * Checks that streamer is not closed and there are no batch errors.
+     */
+    private void checkState() {
+        if (closed)
+            throw new IllegalStateException("Data streamer has been closed.");
+
+        checkError();
+    }
+
+    /**
+     * Throws the first batch error if any.
+     */
+    private void checkError() {
+        Throwable e = err.get();
+
+        if (e != null)
+            throw e instanceof ClientException ? (ClientException)e : new ClientException(e);
+    }
+}
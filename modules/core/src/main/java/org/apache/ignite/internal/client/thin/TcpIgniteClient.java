@@ -27,6 +27,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.ignite.IgniteBinary;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.binary.BinaryObjectException;
 import org.apache.ignite.binary.BinaryType;
 import org.apache.ignite.cache.query.FieldsQueryCursor;
@@ -36,6 +37,7 @@ import org.apache.ignite.client.ClientCacheConfiguration;
 import org.apache.ignite.client.ClientCluster;
 import org.apache.ignite.client.ClientClusterGroup;
 import org.apache.ignite.client.ClientCompute;
+import org.apache.ignite.client.ClientDataStreamer;
 import org.apache.ignite.client.ClientException;
 import org.apache.ignite.client.ClientTransactions;
 import org.apache.ignite.client.IgniteClient;
@@ -54,6 +56,7 @@ import org.apache.ignite.internal.binary.streams.BinaryInputStream;
 import org.apache.ignite.internal.binary.streams.BinaryOutputStream;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgnitePredicate;
+import org.apache.ignite.logger.NullLogger;
 import org.apache.ignite.marshaller.MarshallerContext;
 import org.apache.ignite.marshaller.MarshallerUtils;
 import org.apache.ignite.marshaller.jdk.JdkMarshaller;
@@ -74,6 +77,9 @@ public class TcpIgniteClient implements IgniteClient {
     /** Compute facade. */
     private final ClientComputeImpl compute;
 
+    /** Continuous queries registry. */
+    private final ClientContinuousQueryRegistry cqRegistry;
+
     /** Cluster facade. */
     private final ClientClusterImpl cluster;
 
@@ -118,6 +124,10 @@ public class TcpIgniteClient implements IgniteClient {
         cluster = new ClientClusterImpl();
 
         compute = new ClientComputeImpl(ch, marsh, cluster);
+
+        IgniteLogger log = cfg.getLogger() != null ? cfg.getLogger() : new NullLogger();
+
+        cqRegistry = new ClientContinuousQueryRegistry(ch, log);
     }
 
     /** {@inheritDoc} */
@@ -131,7 +141,7 @@ public class TcpIgniteClient implements IgniteClient {
 
         ch.request(ClientOperation.CACHE_GET_OR_CREATE_WITH_NAME, req -> writeString(name, req.out()));
 
-        return new TcpClientCache<>(name, ch, marsh, transactions);
+        return new TcpClientCache<>(name, ch, marsh, transactions, cqRegistry);
     }
 
     /** {@inheritDoc} */
@@ -142,14 +152,14 @@ public class TcpIgniteClient implements IgniteClient {
         ch.request(ClientOperation.CACHE_GET_OR_CREATE_WITH_CONFIGURATION,
             req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()));
 
-        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions);
+        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, cqRegistry);
     }
 
     /** {@inheritDoc} */
     @Override public <K, V> ClientCache<K, V> cache(String name) {
         ensureCacheName(name);
 
-        return new TcpClientCache<>(name, ch, marsh, transactions);
+        return new TcpClientCache<>(name, ch, marsh, transactions, cqRegistry);
     }
 
     /** {@inheritDoc} */
@@ -170,7 +180,7 @@ public class TcpIgniteClient implements IgniteClient {
 
         ch.request(ClientOperation.CACHE_CREATE_WITH_NAME, req -> writeString(name, req.out()));
 
-        return new TcpClientCache<>(name, ch, marsh, transactions);
+        return new TcpClientCache<>(name, ch, marsh, transactions, cqRegistry);
     }
 
     /** {@inheritDoc} */
@@ -180,7 +190,7 @@ public class TcpIgniteClient implements IgniteClient {
         ch.request(ClientOperation.CACHE_CREATE_WITH_CONFIGURATION,
             req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()));
 
-        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions);
+        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, cqRegistry);
     }
 
     /** {@inheritDoc} */
@@ -226,6 +236,13 @@ public class TcpIgniteClient implements IgniteClient {
         return compute.withClusterGroup((ClientClusterGroupImpl)grp);
     }
 
+    /** {@inheritDoc} */
+    @Override public <K, V> ClientDataStreamer<K, V> dataStreamer(String cacheName) throws ClientException {
+        ensureCacheName(cacheName);
+
+        return new TcpClientDataStreamer<>(cacheName, ch, marsh);
+    }
+
     /** {@inheritDoc} */
     @Override public ClientCluster cluster() {
         return cluster;
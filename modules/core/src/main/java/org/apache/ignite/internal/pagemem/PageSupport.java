@@ -84,6 +84,36 @@ public interface PageSupport {
      */
     public void readUnlock(int grpId, long pageId, long page);
 
+    /**
+     * Starts an optimistic read of the page. The page can be read by the address returned by
+     * {@link #pageAddress(int, long, long)} without locking, but its content may be inconsistent until the read is
+     * validated with {@link #validateOptimisticRead(int, long, long, long)}.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @return Stamp to validate the read with or {@code 0L} if the page is write locked, the page tag does not
+     *      match or optimistic reads are not supported.
+     */
+    public long tryOptimisticRead(int grpId, long pageId, long page);
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param stamp Stamp returned by {@link #tryOptimisticRead(int, long, long)}.
+     * @return {@code True} if the page was not modified since the optimistic read was started.
+     */
+    public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp);
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @return Address of the page content, the same as returned by {@link #readLock(int, long, long)}.
+     */
+    public long pageAddress(int grpId, long pageId, long page);
+
     /**
      *
      * @param grpId Cache group ID.
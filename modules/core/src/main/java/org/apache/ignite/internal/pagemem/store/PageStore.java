@@ -76,6 +76,25 @@ public interface PageStore {
      */
     public void write(long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes a batch of pages. Implementations may submit all page writes to the device at once.
+     * Default implementation writes pages one by one.
+     *
+     * @param pageIds Page IDs.
+     * @param pageBufs Page buffers to write, one for each page ID.
+     * @param tag Partition file version, 1-based incrementing counter. For outdated pages {@code tag} has lower value,
+     * and write does nothing.
+     * @param calculateCrc if {@code False} crc calculation will be forcibly skipped.
+     * @throws IgniteCheckedException If page writing failed (IO error occurred).
+     */
+    public default void write(long[] pageIds, ByteBuffer[] pageBufs, int tag, boolean calculateCrc)
+        throws IgniteCheckedException {
+        assert pageIds.length == pageBufs.length : "pageIds=" + pageIds.length + ", pageBufs=" + pageBufs.length;
+
+        for (int i = 0; i < pageIds.length; i++)
+            write(pageIds[i], pageBufs[i], tag, calculateCrc);
+    }
+
     /**
      * Gets page offset within the store file.
      *
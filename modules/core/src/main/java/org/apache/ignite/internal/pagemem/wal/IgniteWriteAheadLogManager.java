@@ -174,6 +174,11 @@ public interface IgniteWriteAheadLogManager extends GridCacheSharedManager, Igni
      */
     public long lastArchivedSegment();
 
+    /**
+     * @return Number of complete WAL segments which are not archived yet.
+     */
+    public long walArchiverLag();
+
     /**
      * @return Last compacted segment index.
      */
@@ -225,7 +225,10 @@ public abstract class WALRecord {
         TRACKING_PAGE_REPAIR_DELTA(61, PHYSICAL),
 
         /** Atomic out-of-order update. */
-        OUT_OF_ORDER_UPDATE(62, LOGICAL);
+        OUT_OF_ORDER_UPDATE(62, LOGICAL),
+
+        /** Patch of existing record in data page. */
+        DATA_PAGE_PATCH_RECORD(63, PHYSICAL);
 
         /** Index for serialization. Should be consistent throughout all versions. */
         private final int idx;
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record.delta;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.AbstractDataPageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPagePayload;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridIntList;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Patch of existing record in data page: only the changed byte ranges of the row payload are logged.
+ */
+public class DataPagePatchRecord extends PageDeltaRecord {
+    /** Serialized size of a single chunk header: offset and length. */
+    public static final int CHUNK_HEADER_SIZE = 4;
+
+    /** Unchanged bytes gap which is cheaper to include into the chunk than to start a new one. */
+    private static final int MIN_GAP = CHUNK_HEADER_SIZE;
+
+    /** */
+    private int itemId;
+
+    /** Chunk offsets within the row payload. */
+    private int[] offs;
+
+    /** Chunk lengths. */
+    private int[] lens;
+
+    /** Concatenated chunks data. */
+    @GridToStringExclude
+    private byte[] data;
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param itemId Item ID.
+     * @param offs Chunk offsets within the row payload.
+     * @param lens Chunk lengths.
+     * @param data Concatenated chunks data.
+     */
+    public DataPagePatchRecord(int grpId, long pageId, int itemId, int[] offs, int[] lens, byte[] data) {
+        super(grpId, pageId);
+
+        assert offs.length == lens.length;
+
+        this.itemId = itemId;
+        this.offs = offs;
+        this.lens = lens;
+        this.data = data;
+    }
+
+    /**
+     * Creates a patch turning the old row payload into the new one.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param itemId Item ID.
+     * @param oldPayload Old row payload.
+     * @param addr Address of the new row payload of the same size.
+     * @return Patch record or {@code null} if it is not smaller than the full payload.
+     */
+    @Nullable public static DataPagePatchRecord create(int grpId, long pageId, int itemId, byte[] oldPayload,
+        long addr) {
+        int len = oldPayload.length;
+
+        GridIntList offs = new GridIntList();
+        GridIntList lens = new GridIntList();
+
+        int dataLen = 0;
+
+        for (int i = 0; i < len; ) {
+            if (oldPayload[i] == PageUtils.getByte(addr, i)) {
+                i++;
+
+                continue;
+            }
+
+            int start = i;
+            int end = ++i;
+
+            // Extend the chunk over the short runs of unchanged bytes.
+            while (i < len && i - end < MIN_GAP) {
+                if (oldPayload[i] != PageUtils.getByte(addr, i))
+                    end = i + 1;
+
+                i++;
+            }
+
+            offs.add(start);
+            lens.add(end - start);
+
+            dataLen += end - start;
+
+            if (dataLen + offs.size() * CHUNK_HEADER_SIZE >= len)
+                return null;
+        }
+
+        byte[] data = new byte[dataLen];
+
+        for (int i = 0, pos = 0; i < offs.size(); i++) {
+            PageUtils.getBytes(addr, offs.get(i), data, pos, lens.get(i));
+
+            pos += lens.get(i);
+        }
+
+        return new DataPagePatchRecord(grpId, pageId, itemId, offs.array(), lens.array(), data);
+    }
+
+    /**
+     * @return Item ID.
+     */
+    public int itemId() {
+        return itemId;
+    }
+
+    /**
+     * @return Chunk offsets within the row payload.
+     */
+    public int[] offsets() {
+        return offs;
+    }
+
+    /**
+     * @return Chunk lengths.
+     */
+    public int[] lengths() {
+        return lens;
+    }
+
+    /**
+     * @return Concatenated chunks data.
+     */
+    public byte[] data() {
+        return data;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void applyDelta(PageMemory pageMem, long pageAddr) throws IgniteCheckedException {
+        AbstractDataPageIO io = PageIO.getPageIO(pageAddr);
+
+        DataPagePayload payload = io.readPayload(pageAddr, itemId, pageMem.realPageSize(groupId()));
+
+        assert payload.nextLink() == 0 : "Patch of fragmented row [pageId=" + pageId() + ", itemId=" + itemId + ']';
+
+        long addr = pageAddr + payload.offset();
+
+        for (int i = 0, pos = 0; i < offs.length; i++) {
+            PageUtils.putBytes(addr, offs[i], data, pos, lens[i]);
+
+            pos += lens[i];
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordType type() {
+        return RecordType.DATA_PAGE_PATCH_RECORD;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(DataPagePatchRecord.class, this, "chunks", offs.length, "super", super.toString());
+    }
+}
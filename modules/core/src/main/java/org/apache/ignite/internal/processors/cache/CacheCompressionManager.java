@@ -41,6 +41,13 @@ public class CacheCompressionManager extends GridCacheManagerAdapter {
         diskPageCompression = DiskPageCompression.DISABLED;
     }
 
+    /**
+     * @return {@code True} if pages are compressed before they are written to the page store.
+     */
+    public boolean pageCompressionEnabled() {
+        return diskPageCompression != DiskPageCompression.DISABLED;
+    }
+
     /**
      * @param page Page buffer.
      * @param store Page store.
@@ -24,7 +24,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -143,6 +146,39 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     /** Entry lock time awaiting. */
     private static final long ENTRY_LOCK_TIMEOUT = getLong(ENTRY_LOCK_TIMEOUT_ENV, 1000);
 
+    /** Number of attempts to acquire a busy entry lock before parking. */
+    private static final int LOCK_SPINS = 64;
+
+    /** Updater for {@link #lockOwner}. */
+    private static final AtomicReferenceFieldUpdater<GridCacheMapEntry, Thread> LOCK_OWNER_UPD =
+        AtomicReferenceFieldUpdater.newUpdater(GridCacheMapEntry.class, Thread.class, "lockOwner");
+
+    /** Updater for {@link #lockWaiters}. */
+    private static final AtomicIntegerFieldUpdater<GridCacheMapEntry> LOCK_WAITERS_UPD =
+        AtomicIntegerFieldUpdater.newUpdater(GridCacheMapEntry.class, "lockWaiters");
+
+    /** Monitors to park threads waiting for entry locks, shared by all the entries. */
+    private static final ReentrantLock[] LOCK_MONITORS;
+
+    /** Conditions of {@link #LOCK_MONITORS} signalled on entry unlock. */
+    private static final Condition[] LOCK_CONDITIONS;
+
+    /** */
+    private static final int LOCK_MONITORS_MASK;
+
+    static {
+        int cnt = U.ceilPow2(Runtime.getRuntime().availableProcessors() * 4);
+
+        LOCK_MONITORS = new ReentrantLock[cnt];
+        LOCK_CONDITIONS = new Condition[cnt];
+        LOCK_MONITORS_MASK = cnt - 1;
+
+        for (int i = 0; i < cnt; i++) {
+            LOCK_MONITORS[i] = new ReentrantLock();
+            LOCK_CONDITIONS[i] = LOCK_MONITORS[i].newCondition();
+        }
+    }
+
     /** */
     private static final byte IS_DELETED_MASK = 0x01;
 
@@ -173,12 +209,14 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      *         <li>8 : {@link #val}</li>
      *         <li>8 : {@link #ver}</li>
      *         <li>8 : {@link #extras}</li>
-     *         <li>8 : {@link #lock}</li>
+     *         <li>8 : {@link #lockOwner}</li>
      *         <li>8 : {@link #listenerLock}</li>
      *         <li>8 : {@link GridMetadataAwareAdapter#data}</li>
      *     </ul></li>
      *     <li>Primitive fields:<ul>
      *         <li>4 : {@link #hash}</li>
+     *         <li>4 : {@link #lockHolds}</li>
+     *         <li>4 : {@link #lockWaiters}</li>
      *         <li>1 : {@link #flags}</li>
      *     </ul></li>
      *     <li>Extras:<ul>
@@ -201,7 +239,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      *     </ul></li>
      * </ul>
      */
-    private static final int SIZE_OVERHEAD = 8 * 8 /* references */ + 5 /* primitives */ + 16 /* extras */
+    private static final int SIZE_OVERHEAD = 8 * 8 /* references */ + 13 /* primitives */ + 16 /* extras */
         + 16 /* version */ + 20 /* key */ + 16 /* value */;
 
     /** Static logger to avoid re-creation. Made static for test purpose. */
@@ -234,9 +272,20 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     @GridToStringInclude
     private GridCacheEntryExtras extras;
 
-    /** */
+    /**
+     * Thread holding the entry lock or {@code null} if the entry is not locked. The lock state is kept
+     * in the entry itself, threads waiting for the lock are parked on {@link #LOCK_MONITORS}.
+     */
     @GridToStringExclude
-    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Thread lockOwner;
+
+    /** Entry lock hold count, accessed by the lock owner only. */
+    @GridToStringExclude
+    private int lockHolds;
+
+    /** Number of threads parked waiting for the entry lock. */
+    @GridToStringExclude
+    private volatile int lockWaiters;
 
     /** Read Lock for continuous query listener */
     @GridToStringExclude
@@ -281,7 +330,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @param val Value to store.
      */
     protected void value(@Nullable CacheObject val) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         this.val = val;
     }
@@ -357,7 +406,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public boolean isNew() throws GridCacheEntryRemovedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         checkObsolete();
 
@@ -607,7 +656,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return Value bytes and flag indicating whether value is byte array.
      */
     protected IgniteBiTuple<byte[], Byte> valueBytes0() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         assert val != null;
 
@@ -2855,7 +2904,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return {@code True} if entry is obsolete, {@code false} if entry is still used by other threads or nodes.
      */
     protected final boolean markObsolete0(GridCacheVersion ver, boolean clear, GridCacheObsoleteEntryExtras extras) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (evictionDisabled()) {
             assert !obsolete() : this;
@@ -2962,7 +3011,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     protected final void update(@Nullable CacheObject val, long expireTime, long ttl, GridCacheVersion ver, boolean addTracked) {
         assert ver != null;
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert ttl != CU.TTL_ZERO && ttl != CU.TTL_NOT_CHANGED && ttl >= 0 : ttl;
 
         boolean trackNear = addTracked && isNear() && cctx.config().isEagerTtl();
@@ -3024,7 +3073,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     private void updateTtl(long ttl) throws IgniteCheckedException, GridCacheEntryRemovedException {
         assert ttl >= 0 || ttl == CU.TTL_ZERO : ttl;
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         long expireTime;
 
@@ -3051,7 +3100,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws GridCacheEntryRemovedException If entry is obsolete.
      */
     protected void checkObsolete() throws GridCacheEntryRemovedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (obsoleteVersionExtras() != null)
             throw new GridCacheEntryRemovedException();
@@ -3220,7 +3269,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws IgniteCheckedException In case of failure.
      */
     private boolean checkExpired() throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         long expireTime = expireTimeExtras();
 
@@ -3270,7 +3319,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return {@code True} if this entry has value.
      */
     protected final boolean hasValueUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         return val != null;
     }
@@ -3693,7 +3742,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     private void addReaderIfNeed(@Nullable ReaderArguments readerArgs) {
         if (readerArgs != null) {
             assert this instanceof GridDhtCacheEntry : this;
-            assert lock.isHeldByCurrentThread();
+            assert lockedByCurrentThread();
 
             try {
                 ((GridDhtCacheEntry)this).addReader(readerArgs.reader(),
@@ -4013,7 +4062,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public long expireTimeUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         return expireTimeExtras();
     }
@@ -4304,7 +4353,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         long expireTime,
         GridCacheVersion ver,
         @Nullable IgnitePredicate<CacheDataRow> pred) throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert localPartition() == null || localPartition().state() != RENTING : localPartition();
 
         UpdateClosure c = new UpdateClosure(this, val, ver, expireTime, pred);
@@ -4468,7 +4517,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws IgniteCheckedException If failed.
      */
     protected void removeValue() throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         // Removals are possible from RENTING partition on clearing/evicting.
         cctx.offheap().remove(cctx, key, partition(), localPartition());
@@ -4583,7 +4632,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     private void ensureFreeSpace() throws IgniteCheckedException {
         // Deadlock alert: evicting data page causes removing (and locking) all entries on the page one by one.
-        assert !lock.isHeldByCurrentThread();
+        assert !lockedByCurrentThread();
 
         cctx.shared().database().ensureFreeSpace(cctx.dataRegion());
     }
@@ -4814,7 +4863,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     @SuppressWarnings("SimplifiableIfStatement")
     protected final boolean deletedUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (!cctx.deferredDelete())
             return false;
@@ -4826,7 +4875,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @param deleted {@code True} if deleted.
      */
     protected final void deletedUnlocked(boolean deleted) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert cctx.deferredDelete();
 
         if (deleted) {
@@ -4961,7 +5010,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         CacheObject val,
         boolean inThreadChain
     ) {
-        assert !lock.isHeldByCurrentThread();
+        assert !lockedByCurrentThread();
 
         if (prevOwners != null && owners == null) {
             cctx.mvcc().callback().onOwnerChanged(this, null);
@@ -5098,24 +5147,137 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public void lockEntry() {
-        lock.lock();
+        if (!tryAcquireLock())
+            awaitLock(false, 0L);
     }
 
     /** {@inheritDoc} */
     @Override public boolean tryLockEntry(long timeout) {
-        try {
-            return lock.tryLock(timeout, TimeUnit.MILLISECONDS);
-        }
-        catch (InterruptedException ignite) {
-            Thread.currentThread().interrupt();
-
+        if (Thread.currentThread().isInterrupted())
             return false;
-        }
+
+        return tryAcquireLock() || awaitLock(true, TimeUnit.MILLISECONDS.toNanos(timeout));
     }
 
     /** {@inheritDoc} */
     @Override public void unlockEntry() {
-        lock.unlock();
+        if (lockOwner != Thread.currentThread())
+            throw new IllegalMonitorStateException();
+
+        if (--lockHolds > 0)
+            return;
+
+        lockOwner = null;
+
+        // Waiter registers itself before it checks the owner, so either it sees the lock released or we see it.
+        if (lockWaiters > 0) {
+            int idx = lockMonitorIndex();
+
+            LOCK_MONITORS[idx].lock();
+
+            try {
+                LOCK_CONDITIONS[idx].signalAll();
+            }
+            finally {
+                LOCK_MONITORS[idx].unlock();
+            }
+        }
+    }
+
+    /**
+     * Acquires the entry lock if it is free or held by the current thread.
+     *
+     * @return {@code True} if the lock is acquired.
+     */
+    private boolean tryAcquireLock() {
+        Thread t = Thread.currentThread();
+
+        Thread owner = lockOwner;
+
+        if (owner == t) {
+            lockHolds++;
+
+            return true;
+        }
+
+        if (owner == null && LOCK_OWNER_UPD.compareAndSet(this, null, t)) {
+            lockHolds = 1;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Spins for a while and then parks until the entry lock is released by another thread.
+     *
+     * @param timed Whether to wait no longer than the given timeout.
+     * @param nanos Timeout in nanoseconds.
+     * @return {@code True} if the lock is acquired, {@code false} on timeout or interruption.
+     */
+    private boolean awaitLock(boolean timed, long nanos) {
+        Thread t = Thread.currentThread();
+
+        long deadline = timed ? System.nanoTime() + nanos : 0L;
+
+        for (int i = 0; i < LOCK_SPINS; i++) {
+            if (lockOwner == null && LOCK_OWNER_UPD.compareAndSet(this, null, t)) {
+                lockHolds = 1;
+
+                return true;
+            }
+        }
+
+        int idx = lockMonitorIndex();
+
+        ReentrantLock mon = LOCK_MONITORS[idx];
+        Condition cond = LOCK_CONDITIONS[idx];
+
+        mon.lock();
+
+        try {
+            LOCK_WAITERS_UPD.incrementAndGet(this);
+
+            try {
+                while (lockOwner != null || !LOCK_OWNER_UPD.compareAndSet(this, null, t)) {
+                    if (!timed)
+                        cond.awaitUninterruptibly();
+                    else {
+                        long left = deadline - System.nanoTime();
+
+                        if (left <= 0L)
+                            return false;
+
+                        try {
+                            cond.awaitNanos(left);
+                        }
+                        catch (InterruptedException ignored) {
+                            t.interrupt();
+
+                            return false;
+                        }
+                    }
+                }
+            }
+            finally {
+                LOCK_WAITERS_UPD.decrementAndGet(this);
+            }
+        }
+        finally {
+            mon.unlock();
+        }
+
+        lockHolds = 1;
+
+        return true;
+    }
+
+    /**
+     * @return Index of the monitor to park threads waiting for the lock of this entry.
+     */
+    private int lockMonitorIndex() {
+        return U.hash(hash) & LOCK_MONITORS_MASK;
     }
 
     /**
@@ -5140,7 +5302,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public boolean lockedByCurrentThread() {
-        return lock.isHeldByCurrentThread();
+        return lockOwner == Thread.currentThread();
     }
 
     /** {@inheritDoc} */
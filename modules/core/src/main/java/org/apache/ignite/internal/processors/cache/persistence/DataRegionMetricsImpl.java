@@ -63,6 +63,9 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
     /** */
     private final LongAdderMetric readPages;
 
+    /** Number of page acquisitions served without reading a page from the disk. */
+    private final LongAdderMetric hitPages;
+
     /** */
     private final LongAdderMetric writtenPages;
 
@@ -163,6 +166,13 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         readPages = mreg.longAdderMetric("PagesRead",
             "Number of pages read from last restart.");
 
+        hitPages = mreg.longAdderMetric("PagesHit",
+            "Number of page acquisitions served from memory without reading from disk since last restart.");
+
+        mreg.register("PagesHitRatio",
+            this::getPagesHitRatio,
+            "Ratio of page acquisitions served from memory without reading from disk since last restart.");
+
         writtenPages = mreg.longAdderMetric("PagesWritten",
             "Number of pages written from last restart.");
 
@@ -380,6 +390,28 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
             readPages.increment();
     }
 
+    /**
+     * Updates page hits.
+     */
+    public void onPageHit() {
+        if (metricsEnabled)
+            hitPages.increment();
+    }
+
+    /**
+     * @return Ratio of page acquisitions served from memory to all page acquisitions, {@code 1} if there were no
+     *      acquisitions or metrics are disabled.
+     */
+    public double getPagesHitRatio() {
+        if (!metricsEnabled)
+            return 1;
+
+        long hits = hitPages.value();
+        long total = hits + readPages.value();
+
+        return total == 0 ? 1 : (double)hits / total;
+    }
+
     /**
      * Updates page written.
      */
@@ -550,6 +582,7 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         largeEntriesPages.reset();
         dirtyPages.reset();
         readPages.reset();
+        hitPages.reset();
         writtenPages.reset();
         replacedPages.reset();
         offHeapSize.reset();
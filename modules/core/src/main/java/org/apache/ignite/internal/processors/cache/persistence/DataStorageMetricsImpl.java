@@ -190,6 +190,10 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
             this::getWalArchiveSegments,
             "Current number of WAL segments in the WAL archive.");
 
+        mreg.register("WalArchiverLag",
+            this::getWalArchiverLag,
+            "Number of complete WAL segments which are not archived yet.");
+
         mreg.register("WalTotalSize",
             this::getWalTotalSize,
             "Total size in bytes for storage wal files.");
@@ -219,6 +223,16 @@ public class DataStorageMetricsImpl implements DataStorageMetricsMXBean {
         return wal.walArchiveSegments();
     }
 
+    /**
+     * @return Number of complete WAL segments which are not archived yet.
+     */
+    public long getWalArchiverLag() {
+        if (!metricsEnabled)
+            return 0;
+
+        return wal.walArchiverLag();
+    }
+
     /** {@inheritDoc} */
     @Override public float getWalFsyncTimeAverage() {
         if (!metricsEnabled)
@@ -47,12 +47,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ForkJoinTask;
-import java.util.concurrent.ForkJoinWorkerThread;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
@@ -134,6 +129,8 @@ import org.apache.ignite.internal.processors.cache.mvcc.txlog.TxState;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntry;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntryType;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointHistory;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPageWriteBatch;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesSorter;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointProgressImpl;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.PartitionDestroyQueue;
@@ -199,6 +196,7 @@ import static java.nio.file.StandardOpenOption.READ;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_READ_LOCK_TIMEOUT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_WRITE_BATCH_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_JVM_PAUSE_DETECTOR_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_WAL_REBALANCE_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_RECOVERY_SEMAPHORE_PERMITS;
@@ -279,6 +277,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     private final int parallelSortThreshold = IgniteSystemProperties.getInteger(
         IgniteSystemProperties.CHECKPOINT_PARALLEL_SORT_THRESHOLD, 512 * 1024);
 
+    /** Maximum number of pages of the same partition written by a checkpoint thread with a single batch write. */
+    private final int cpWriteBatchSize = getInteger(IGNITE_CHECKPOINT_WRITE_BATCH_SIZE, 16);
+
     /** Checkpoint lock hold count. */
     private static final ThreadLocal<Integer> CHECKPOINT_LOCK_HOLD_COUNT = ThreadLocal.withInitial(() -> 0);
 
@@ -321,6 +322,10 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** This number of threads will be created and used for parallel sorting. */
     private static final int PARALLEL_SORT_THREADS = Math.min(Runtime.getRuntime().availableProcessors(), 8);
 
+    /** Collects and sorts checkpoint pages before write. */
+    private final CheckpointPagesSorter cpPagesSorter =
+        new CheckpointPagesSorter(parallelSortThreshold, PARALLEL_SORT_THREADS);
+
     /** Checkpoint thread. Needs to be volatile because it is created in exchange worker. */
     private volatile Checkpointer checkpointer;
 
@@ -374,6 +379,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
     private ThreadLocal<ByteBuffer> threadBuf;
 
+    /** Thread local with buffers of the checkpoint page write batches. */
+    private ThreadLocal<ByteBuffer[]> threadBatchBufs;
+
     /** Map from a cacheId to a future indicating that there is an in-progress index rebuild for the given cache. */
     private final ConcurrentMap<Integer, GridFutureAdapter<Void>> idxRebuildFuts = new ConcurrentHashMap<>();
 
@@ -598,6 +606,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             }
         };
 
+        threadBatchBufs = ThreadLocal.withInitial(
+            () -> CheckpointPageWriteBatch.allocateBuffers(cpWriteBatchSize, pageSize()));
+
         snapshotMgr = cctx.snapshot();
 
         final GridKernalContext kernalCtx = cctx.kernalContext();
@@ -1258,7 +1269,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                 @Override public CheckpointProgress apply() {
                     return getCheckpointer().currentProgress();
                 }
-            }
+            },
+            plcCfg.getPageReplacementMode()
         );
 
         memMetrics.pageMemory(pageMem);
@@ -1455,6 +1467,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                 Thread.currentThread().interrupt();
             }
         }
+
+        cpPagesSorter.stop();
     }
 
     /** {@inheritDoc} */
@@ -4613,98 +4627,20 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
      * Reorders list of checkpoint pages and splits them into appropriate number of sublists according to
      * {@link DataStorageConfiguration#getCheckpointThreads()} and
      * {@link DataStorageConfiguration#getCheckpointWriteOrder()}.
+     * <p>
+     * Pages of different regions are collected and sorted concurrently on {@link #asyncRunner} if it is configured.
      *
      * @param cpPages Checkpoint pages with overall count and user pages info.
      */
     private GridConcurrentMultiPairQueue<PageMemoryEx, FullPageId> splitAndSortCpPagesIfNeeded(
         CheckpointPagesInfoHolder cpPages
     ) throws IgniteCheckedException {
-        Set<T2<PageMemoryEx, FullPageId[]>> cpPagesPerRegion = new HashSet<>();
-
-        int realPagesArrSize = 0;
-
-        int totalPagesCnt = cpPages.pagesNum();
-
-        for (Map.Entry<PageMemoryEx, GridMultiCollectionWrapper<FullPageId>> regPages : cpPages.cpPages()) {
-            FullPageId[] pages = new FullPageId[regPages.getValue().size()];
-
-            int pagePos = 0;
-
-            for (int i = 0; i < regPages.getValue().collectionsSize(); i++) {
-                for (FullPageId page : regPages.getValue().innerCollection(i)) {
-                    if (realPagesArrSize++ == totalPagesCnt)
-                        throw new AssertionError("Incorrect estimated dirty pages number: " + totalPagesCnt);
-
-                    pages[pagePos++] = page;
-                }
-            }
-
-            // Some pages may have been already replaced.
-            if (pagePos != pages.length)
-                cpPagesPerRegion.add(new T2<>(regPages.getKey(), Arrays.copyOf(pages, pagePos)));
-            else
-                cpPagesPerRegion.add(new T2<>(regPages.getKey(), pages));
-        }
-
-        if (persistenceCfg.getCheckpointWriteOrder() == CheckpointWriteOrder.SEQUENTIAL) {
-            Comparator<FullPageId> cmp = Comparator.comparingInt(FullPageId::groupId)
-                .thenComparingLong(FullPageId::effectivePageId);
-
-            ForkJoinPool pool = null;
-
-            for (T2<PageMemoryEx, FullPageId[]> pagesPerReg : cpPagesPerRegion) {
-                if (pagesPerReg.getValue().length >= parallelSortThreshold)
-                    pool = parallelSortInIsolatedPool(pagesPerReg.get2(), cmp, pool);
-                else
-                    Arrays.sort(pagesPerReg.get2(), cmp);
-            }
-
-            if (pool != null)
-                pool.shutdown();
-        }
-
-        return new GridConcurrentMultiPairQueue<>(cpPagesPerRegion);
-    }
-
-    /**
-     * Performs parallel sort in isolated fork join pool.
-     *
-     * @param pagesArr Pages array.
-     * @param cmp Cmp.
-     *
-     * @return ForkJoinPool instance, check {@link ForkJoinTask#fork()} realization.
-     */
-    private static ForkJoinPool parallelSortInIsolatedPool(
-        FullPageId[] pagesArr,
-        Comparator<FullPageId> cmp,
-        ForkJoinPool pool
-    ) throws IgniteCheckedException {
-        ForkJoinPool.ForkJoinWorkerThreadFactory factory = new ForkJoinPool.ForkJoinWorkerThreadFactory() {
-            @Override public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
-                ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
-
-                worker.setName("checkpoint-pages-sorter-" + worker.getPoolIndex());
-
-                return worker;
-            }
-        };
-
-        ForkJoinPool execPool = pool == null ?
-            new ForkJoinPool(PARALLEL_SORT_THREADS + 1, factory, null, false) : pool;
-
-        Future<?> sortTask = execPool.submit(() -> Arrays.parallelSort(pagesArr, cmp));
-
-        try {
-            sortTask.get();
-        }
-        catch (InterruptedException e) {
-            throw new IgniteInterruptedCheckedException(e);
-        }
-        catch (ExecutionException e) {
-            throw new IgniteCheckedException("Failed to perform pages array parallel sort", e.getCause());
-        }
-
-        return execPool;
+        return cpPagesSorter.collect(
+            cpPages.cpPages(),
+            cpPages.pagesNum(),
+            persistenceCfg.getCheckpointWriteOrder() == CheckpointWriteOrder.SEQUENTIAL,
+            asyncRunner
+        );
     }
 
     /** Pages write task */
@@ -4790,7 +4726,13 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
             CheckpointMetricsTracker tracker = persStoreMetrics.metricsEnabled() ? this.tracker : null;
 
-            PageStoreWriter pageStoreWriter = createPageStoreWriter(pagesToRetry);
+            CheckpointPageWriteBatch batch = cpWriteBatchSize > 1 ? new CheckpointPageWriteBatch(
+                storeMgr,
+                threadBatchBufs.get(),
+                (store, cnt) -> updStores.computeIfAbsent(store, k -> new LongAdder()).add(cnt)
+            ) : null;
+
+            PageStoreWriter pageStoreWriter = createPageStoreWriter(pagesToRetry, batch);
 
             ByteBuffer tmpWriteBuf = threadBuf.get();
 
@@ -4799,36 +4741,46 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
                 new GridConcurrentMultiPairQueue.Result<>();
 
-            while (writePageIds.next(res)) {
-                if (checkpointer.shutdownNow)
-                    break;
+            try {
+                while (writePageIds.next(res)) {
+                    if (checkpointer.shutdownNow)
+                        break;
 
-                beforePageWrite.run();
+                    beforePageWrite.run();
 
-                FullPageId fullId = res.getValue();
+                    FullPageId fullId = res.getValue();
 
-                PageMemoryEx pageMem = res.getKey();
+                    PageMemoryEx pageMem = res.getKey();
 
-                snapshotMgr.beforePageWrite(fullId);
+                    snapshotMgr.beforePageWrite(fullId);
 
-                tmpWriteBuf.rewind();
+                    tmpWriteBuf.rewind();
 
-                pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
+                    pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
 
-                if (throttlingEnabled) {
-                    while (pageMem.shouldThrottle()) {
-                        FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
+                    if (throttlingEnabled) {
+                        while (pageMem.shouldThrottle()) {
+                            FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
 
-                        if (cpPageId.equals(FullPageId.NULL_PAGE))
-                            break;
+                            if (cpPageId.equals(FullPageId.NULL_PAGE))
+                                break;
 
-                        snapshotMgr.beforePageWrite(cpPageId);
+                            snapshotMgr.beforePageWrite(cpPageId);
 
-                        tmpWriteBuf.rewind();
+                            tmpWriteBuf.rewind();
 
-                        pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker);
+                            pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker);
+                        }
                     }
                 }
+
+                if (batch != null)
+                    batch.flush();
+            }
+            finally {
+                // Pages are still pinned by the batch if the checkpoint failed.
+                if (batch != null)
+                    batch.clear();
             }
 
             return pagesToRetry.isEmpty() ?
@@ -4840,21 +4792,63 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
          * Factory method for create {@link PageStoreWriter}.
          *
          * @param pagesToRetry List pages for retry.
+         * @param batch Page write batch or {@code null} if pages are written one by one.
          * @return Checkpoint page write context.
          */
-        private PageStoreWriter createPageStoreWriter(Map<PageMemoryEx, List<FullPageId>> pagesToRetry) {
+        private PageStoreWriter createPageStoreWriter(
+            Map<PageMemoryEx, List<FullPageId>> pagesToRetry,
+            @Nullable CheckpointPageWriteBatch batch
+        ) {
             return new PageStoreWriter() {
                 /** {@inheritDoc} */
                 @Override public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag) throws IgniteCheckedException {
+                    if (!beforeWrite(fullPageId, buf, tag))
+                        return;
+
+                    PageStore store = storeMgr.writeInternal(fullPageId.groupId(), fullPageId.pageId(), buf, tag, true);
+
+                    updStores.computeIfAbsent(store, k -> new LongAdder()).increment();
+                }
+
+                /** {@inheritDoc} */
+                @Override public boolean writePage(
+                    FullPageId fullPageId,
+                    ByteBuffer buf,
+                    int tag,
+                    PageMemoryEx pageMem,
+                    long absPtr
+                ) throws IgniteCheckedException {
+                    if (batch == null) {
+                        writePage(fullPageId, buf, tag);
+
+                        return false;
+                    }
+
+                    if (!beforeWrite(fullPageId, buf, tag))
+                        return false;
+
+                    batch.add(fullPageId.groupId(), fullPageId.pageId(), buf, tag, pageMem, absPtr);
+
+                    return true;
+                }
+
+                /**
+                 * @param fullPageId Page ID.
+                 * @param buf Page content.
+                 * @param tag Partition generation.
+                 * @return {@code False} if the page must be written by the next attempt.
+                 * @throws IgniteCheckedException If failed.
+                 */
+                private boolean beforeWrite(FullPageId fullPageId, ByteBuffer buf, int tag)
+                    throws IgniteCheckedException {
                     if (tag == PageMemoryImpl.TRY_AGAIN_TAG) {
                         PageMemoryEx pageMem = getPageMemoryForCacheGroup(fullPageId.groupId());
 
                         pagesToRetry.computeIfAbsent(pageMem, k -> new ArrayList<>()).add(fullPageId);
 
-                        return;
+                        return false;
                     }
 
-                    int groupId = fullPageId.groupId();
                     long pageId = fullPageId.pageId();
 
                     assert getType(buf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
@@ -4869,9 +4863,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
                     getCheckpointer().currentProgress().updateWrittenPages(1);
 
-                    PageStore store = storeMgr.writeInternal(groupId, pageId, buf, tag, true);
-
-                    updStores.computeIfAbsent(store, k -> new LongAdder()).increment();
+                    return true;
                 }
             };
         }
@@ -37,4 +37,24 @@ public interface PageStoreWriter {
      * @throws IgniteCheckedException If write page failed.
      */
     void writePage(FullPageId fullPageId, ByteBuffer buf, int tag) throws IgniteCheckedException;
+
+    /**
+     * Callback for write page of the checkpoint which may postpone the write. The page stays pinned until it is
+     * written, so it is not replaced and read again from the page store before that.
+     *
+     * @param fullPageId Page ID.
+     * @param buf Temporary buffer with the page content.
+     * @param tag Partition generation.
+     * @param pageMem Page memory the page belongs to.
+     * @param absPtr Absolute pointer of the pinned page.
+     * @return {@code True} if the write is postponed, the writer releases the page with
+     *      {@link PageMemoryEx#releaseCheckpointPage(long)} once the page is written.
+     * @throws IgniteCheckedException If write page failed.
+     */
+    default boolean writePage(FullPageId fullPageId, ByteBuffer buf, int tag, PageMemoryEx pageMem, long absPtr)
+        throws IgniteCheckedException {
+        writePage(fullPageId, buf, tag);
+
+        return false;
+    }
 }
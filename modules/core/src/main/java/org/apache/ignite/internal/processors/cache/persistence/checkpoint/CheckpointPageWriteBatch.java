@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+
+/**
+ * Checkpoint pages of a single partition which are written to the page store with a single batch write.
+ * <p>
+ * Checkpoint pages are sorted, so consecutive pages mostly belong to the same partition. Content of every added
+ * page is copied to the buffer of the batch, so the buffer the page was copied to from the page memory can be
+ * reused for the next page. The batch is written when it is full, when a page of another partition is added
+ * and when the checkpoint thread has no more pages to write.
+ * <p>
+ * Pages of the batch stay pinned in the page memory until the batch is written. A page is clean after it was copied
+ * for the checkpoint, so otherwise it might be replaced and read again from the page store before the write.
+ * <p>
+ * Not thread safe, every checkpoint thread uses its own batch.
+ */
+public class CheckpointPageWriteBatch {
+    /** Page store manager. */
+    private final FilePageStoreManager storeMgr;
+
+    /** Callback which is notified about the number of pages written to the page store. */
+    private final ObjIntConsumer<PageStore> onWritten;
+
+    /** Page IDs. */
+    private final long[] pageIds;
+
+    /** Page buffers. */
+    private final ByteBuffer[] bufs;
+
+    /** Page memories of the pinned pages. */
+    private final PageMemoryEx[] pageMems;
+
+    /** Absolute pointers of the pinned pages. */
+    private final long[] absPtrs;
+
+    /** Number of pages in the batch. */
+    private int cnt;
+
+    /** Cache group ID of the pages in the batch. */
+    private int grpId;
+
+    /** Partition ID of the pages in the batch. */
+    private int partId;
+
+    /** Partition tag of the pages in the batch. */
+    private int tag;
+
+    /**
+     * @param storeMgr Page store manager.
+     * @param bufs Page buffers, the number of buffers is the batch size.
+     * @param onWritten Callback which is notified about the number of pages written to the page store.
+     */
+    public CheckpointPageWriteBatch(FilePageStoreManager storeMgr, ByteBuffer[] bufs,
+        ObjIntConsumer<PageStore> onWritten) {
+        assert bufs.length > 1 : bufs.length;
+
+        this.storeMgr = storeMgr;
+        this.bufs = bufs;
+        this.onWritten = onWritten;
+
+        pageIds = new long[bufs.length];
+        pageMems = new PageMemoryEx[bufs.length];
+        absPtrs = new long[bufs.length];
+    }
+
+    /**
+     * @param batchSize Batch size.
+     * @param pageSize Page size.
+     * @return Page buffers for the batch.
+     */
+    public static ByteBuffer[] allocateBuffers(int batchSize, int pageSize) {
+        ByteBuffer[] bufs = new ByteBuffer[batchSize];
+
+        for (int i = 0; i < batchSize; i++)
+            bufs[i] = ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder());
+
+        return bufs;
+    }
+
+    /**
+     * Adds a page to the batch. The batch is written first if it is full or the page belongs to another partition.
+     * The batch releases the page once it is written, the page is not added if the method fails.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param buf Page content, it is copied to the batch.
+     * @param tag Partition tag.
+     * @param pageMem Page memory of the page.
+     * @param absPtr Absolute pointer of the pinned page.
+     * @throws IgniteCheckedException If failed to write the batch.
+     */
+    public void add(int grpId, long pageId, ByteBuffer buf, int tag, PageMemoryEx pageMem, long absPtr)
+        throws IgniteCheckedException {
+        int partId = PageIdUtils.partId(pageId);
+
+        if (cnt == bufs.length || cnt > 0 && (grpId != this.grpId || partId != this.partId || tag != this.tag))
+            flush();
+
+        if (cnt == 0) {
+            this.grpId = grpId;
+            this.partId = partId;
+            this.tag = tag;
+        }
+
+        ByteBuffer dst = bufs[cnt];
+
+        assert buf.position() == 0 && buf.remaining() == dst.capacity() : buf;
+
+        dst.clear();
+        dst.put(buf);
+        dst.flip();
+
+        buf.rewind();
+
+        pageIds[cnt] = pageId;
+        pageMems[cnt] = pageMem;
+        absPtrs[cnt] = absPtr;
+
+        cnt++;
+    }
+
+    /**
+     * Writes the pages of the batch to the page store and releases them.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void flush() throws IgniteCheckedException {
+        if (cnt == 0)
+            return;
+
+        int cnt0 = cnt;
+
+        // The batch is cleared even if the write fails, the checkpoint fails anyway then.
+        cnt = 0;
+
+        try {
+            PageStore store = cnt0 == bufs.length ?
+                storeMgr.writeInternal(grpId, pageIds, bufs, tag, true) :
+                storeMgr.writeInternal(grpId, Arrays.copyOf(pageIds, cnt0), Arrays.copyOf(bufs, cnt0), tag, true);
+
+            onWritten.accept(store, cnt0);
+        }
+        finally {
+            release(cnt0);
+        }
+    }
+
+    /**
+     * Releases the pages of the batch without writing them. Used when the checkpoint fails.
+     */
+    public void clear() {
+        int cnt0 = cnt;
+
+        cnt = 0;
+
+        release(cnt0);
+    }
+
+    /**
+     * @param cnt Number of pages to release.
+     */
+    private void release(int cnt) {
+        for (int i = 0; i < cnt; i++) {
+            pageMems[i].releaseCheckpointPage(absPtrs[i]);
+
+            pageMems[i] = null;
+        }
+    }
+}
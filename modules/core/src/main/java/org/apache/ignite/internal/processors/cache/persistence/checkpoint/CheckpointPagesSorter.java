@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.util.GridConcurrentMultiPairQueue;
+import org.apache.ignite.internal.util.GridMultiCollectionWrapper;
+import org.apache.ignite.internal.util.future.CountDownFuture;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects checkpoint pages of every data region into arrays and optionally sorts them.
+ * <p>
+ * Regions are independent of each other, so collection and sorting of every region is done as a separate task.
+ * Tasks are shared between the calling thread and the checkpoint runner pool (if any), so a large region
+ * does not delay collection of the remaining ones. Regions with at least {@code parallelSortThreshold} pages
+ * are sorted with {@link Arrays#parallelSort(Object[], Comparator)} in an isolated fork join pool which is
+ * created on demand and reused between checkpoints.
+ */
+public class CheckpointPagesSorter {
+    /** Order in which pages are written to page stores for {@code SEQUENTIAL} write order. */
+    private static final Comparator<FullPageId> SEQUENTIAL_CP_PAGE_COMPARATOR =
+        Comparator.comparingInt(FullPageId::groupId).thenComparingLong(FullPageId::effectivePageId);
+
+    /** Starting from this number of pages in a region, pages array will be sorted in parallel. */
+    private final int parallelSortThreshold;
+
+    /** Number of threads used for parallel sorting. */
+    private final int parallelSortThreads;
+
+    /** Isolated pool for parallel sorting, lazily initialized. */
+    private volatile ForkJoinPool sortPool;
+
+    /**
+     * @param parallelSortThreshold Starting from this number of pages in a region, pages will be sorted in parallel.
+     * @param parallelSortThreads Number of threads used for parallel sorting.
+     */
+    public CheckpointPagesSorter(int parallelSortThreshold, int parallelSortThreads) {
+        this.parallelSortThreshold = parallelSortThreshold;
+        this.parallelSortThreads = parallelSortThreads;
+    }
+
+    /**
+     * Collects pages of every region to the arrays and sorts them if needed.
+     *
+     * @param cpPages Checkpoint pages per page memory.
+     * @param totalPagesCnt Estimated total number of pages.
+     * @param sort Whether pages should be sorted in {@code SEQUENTIAL} order.
+     * @param exec Executor to collect and sort regions concurrently, {@code null} to do it in the calling thread.
+     * @return Concurrent queue of pages to write.
+     * @throws IgniteCheckedException If failed.
+     */
+    public GridConcurrentMultiPairQueue<PageMemoryEx, FullPageId> collect(
+        Collection<Map.Entry<PageMemoryEx, GridMultiCollectionWrapper<FullPageId>>> cpPages,
+        int totalPagesCnt,
+        boolean sort,
+        @Nullable Executor exec
+    ) throws IgniteCheckedException {
+        List<Map.Entry<PageMemoryEx, GridMultiCollectionWrapper<FullPageId>>> regions = new ArrayList<>(cpPages);
+
+        T2<PageMemoryEx, FullPageId[]>[] res = new T2[regions.size()];
+
+        AtomicInteger nextRegion = new AtomicInteger();
+
+        AtomicInteger collectedCnt = new AtomicInteger();
+
+        int tasksCnt = exec == null ? 1 : Math.min(regions.size(), Runtime.getRuntime().availableProcessors());
+
+        CountDownFuture doneFut = new CountDownFuture(Math.max(tasksCnt, 1));
+
+        Runnable task = () -> {
+            try {
+                int idx;
+
+                while ((idx = nextRegion.getAndIncrement()) < regions.size()) {
+                    Map.Entry<PageMemoryEx, GridMultiCollectionWrapper<FullPageId>> reg = regions.get(idx);
+
+                    FullPageId[] pages = collectRegion(reg.getValue(), collectedCnt, totalPagesCnt);
+
+                    if (sort)
+                        sortRegion(pages);
+
+                    res[idx] = new T2<>(reg.getKey(), pages);
+                }
+
+                doneFut.onDone();
+            }
+            catch (Throwable e) {
+                doneFut.onDone(e);
+            }
+        };
+
+        // Calling thread always participates, so it is enough to submit one less task to the executor.
+        for (int i = 1; i < tasksCnt; i++) {
+            try {
+                exec.execute(task);
+            }
+            catch (RejectedExecutionException ignore) {
+                // Calling thread will process remaining regions.
+                doneFut.onDone();
+            }
+        }
+
+        task.run();
+
+        doneFut.get();
+
+        return new GridConcurrentMultiPairQueue<>(Arrays.asList(res));
+    }
+
+    /**
+     * @param regPages Region pages.
+     * @param collectedCnt Counter of pages collected across all regions.
+     * @param totalPagesCnt Estimated total number of pages.
+     * @return Array of region pages.
+     */
+    private static FullPageId[] collectRegion(
+        GridMultiCollectionWrapper<FullPageId> regPages,
+        AtomicInteger collectedCnt,
+        int totalPagesCnt
+    ) {
+        FullPageId[] pages = new FullPageId[regPages.size()];
+
+        int pagePos = 0;
+
+        for (int i = 0; i < regPages.collectionsSize(); i++) {
+            for (FullPageId page : regPages.innerCollection(i)) {
+                if (pagePos == pages.length)
+                    throw new AssertionError("Incorrect estimated dirty pages number: " + totalPagesCnt);
+
+                pages[pagePos++] = page;
+            }
+        }
+
+        if (collectedCnt.addAndGet(pagePos) > totalPagesCnt)
+            throw new AssertionError("Incorrect estimated dirty pages number: " + totalPagesCnt);
+
+        // Some pages may have been already replaced.
+        return pagePos != pages.length ? Arrays.copyOf(pages, pagePos) : pages;
+    }
+
+    /**
+     * @param pages Pages to sort.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void sortRegion(FullPageId[] pages) throws IgniteCheckedException {
+        if (pages.length < parallelSortThreshold) {
+            Arrays.sort(pages, SEQUENTIAL_CP_PAGE_COMPARATOR);
+
+            return;
+        }
+
+        Future<?> sortTask = sortPool().submit(() -> Arrays.parallelSort(pages, SEQUENTIAL_CP_PAGE_COMPARATOR));
+
+        try {
+            sortTask.get();
+        }
+        catch (InterruptedException e) {
+            throw new IgniteInterruptedCheckedException(e);
+        }
+        catch (ExecutionException e) {
+            throw new IgniteCheckedException("Failed to perform pages array parallel sort", e.getCause());
+        }
+    }
+
+    /**
+     * @return Isolated fork join pool for parallel sorting.
+     */
+    private ForkJoinPool sortPool() {
+        ForkJoinPool pool = sortPool;
+
+        if (pool == null) {
+            synchronized (this) {
+                pool = sortPool;
+
+                if (pool == null) {
+                    ForkJoinPool.ForkJoinWorkerThreadFactory factory = new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                        @Override public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+
+                            worker.setName("checkpoint-pages-sorter-" + worker.getPoolIndex());
+
+                            return worker;
+                        }
+                    };
+
+                    sortPool = pool = new ForkJoinPool(parallelSortThreads + 1, factory, null, false);
+                }
+            }
+        }
+
+        return pool;
+    }
+
+    /**
+     * Stops parallel sort pool if it was started.
+     */
+    public synchronized void stop() {
+        if (sortPool != null) {
+            sortPool.shutdownNow();
+
+            sortPool = null;
+        }
+    }
+}
@@ -186,6 +186,64 @@ public class AsyncFileIO extends AbstractFileIO {
         }
     }
 
+    /**
+     * Submits all writes to the channel before waiting for any of them, so the writes are performed concurrently.
+     * Partially completed writes are finished one by one.
+     *
+     * {@inheritDoc}
+     */
+    @Override public long writeFully(ByteBuffer[] srcBufs, long[] positions) throws IOException {
+        assert srcBufs.length == positions.length : "srcBufs=" + srcBufs.length + ", positions=" + positions.length;
+
+        ChannelOpFuture[] futs = new ChannelOpFuture[srcBufs.length];
+
+        for (int i = 0; i < srcBufs.length; i++) {
+            ChannelOpFuture fut = new ChannelOpFuture();
+
+            asyncFuts.add(fut);
+
+            futs[i] = fut;
+
+            try {
+                ch.write(srcBufs[i], positions[i], null, fut);
+            }
+            catch (RuntimeException e) {
+                // Complete the future, so that neither this method nor close() waits for it forever.
+                fut.failed(e, null);
+            }
+        }
+
+        long written = 0;
+
+        IOException err = null;
+
+        for (int i = 0; i < futs.length; i++) {
+            try {
+                int len = futs[i].getUninterruptibly();
+
+                written += len;
+
+                // Write the rest of the buffer, if it was written partially.
+                if (err == null && srcBufs[i].hasRemaining())
+                    written += writeFully(srcBufs[i], positions[i] + len);
+            }
+            catch (IgniteCheckedException | IOException e) {
+                if (err == null)
+                    err = e instanceof IOException ? (IOException)e : new IOException(e);
+                else
+                    err.addSuppressed(e);
+            }
+            finally {
+                asyncFuts.remove(futs[i]);
+            }
+        }
+
+        if (err != null)
+            throw err;
+
+        return written;
+    }
+
     /** {@inheritDoc} */
     @Override public int write(byte[] buf, int off, int len) throws IOException {
         ChannelOpFuture fut = holder.get();
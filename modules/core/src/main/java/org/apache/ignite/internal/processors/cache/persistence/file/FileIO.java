@@ -173,6 +173,29 @@ public interface FileIO extends AutoCloseable {
      */
     public int writeFully(ByteBuffer srcBuf, long position) throws IOException;
 
+    /**
+     * Writes a batch of buffers, each one to its own file position. Implementations may submit all writes
+     * at once and wait for their completion together, which keeps the device queue busy instead of
+     * waiting for every write in turn. Default implementation writes buffers one by one.
+     *
+     * @param srcBufs Source buffers.
+     * @param positions File positions, one for each source buffer.
+     *
+     * @return Total number of written bytes.
+     *
+     * @throws IOException If some I/O error occurs.
+     */
+    public default long writeFully(ByteBuffer[] srcBufs, long[] positions) throws IOException {
+        assert srcBufs.length == positions.length : "srcBufs=" + srcBufs.length + ", positions=" + positions.length;
+
+        long written = 0;
+
+        for (int i = 0; i < srcBufs.length; i++)
+            written += writeFully(srcBufs[i], positions[i]);
+
+        return written;
+    }
+
     /**
      * Writes {@code length} bytes from the {@code buffer}
      * starting at offset {@code off} to this file.
@@ -615,33 +615,83 @@ public class FilePageStore implements PageStore {
                     if (tag < this.tag)
                         return;
 
-                    long off = pageOffset(pageId);
+                    long off = prepareWrite(pageId, pageBuf, calculateCrc);
 
-                    assert (off >= 0 && off <= allocated.get()) || recover :
-                        "off=" + U.hexLong(off) + ", allocated=" + U.hexLong(allocated.get()) +
-                            ", pageId=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath();
+                    fileIO.writeFully(pageBuf, off);
+
+                    PageIO.setCrc(pageBuf, 0);
+
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+
+                    return;
+                }
+                finally {
+                    lock.readLock().unlock();
+                }
+            }
+            catch (IOException e) {
+                if (e instanceof ClosedChannelException) {
+                    try {
+                        if (e instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
 
-                    assert pageBuf.position() == 0;
-                    assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
-                        + " should be same with " + ByteOrder.nativeOrder();
-                    assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
-                    assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+                        reinit(fileIO);
 
-                    if (calculateCrc && !skipCrc) {
-                        assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+                        pageBuf.position(0);
+
+                        PageIO.setCrc(pageBuf, 0);
 
-                        PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+                        continue;
                     }
+                    catch (IOException e0) {
+                        e0.addSuppressed(e);
 
-                    // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
-                    assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcCrc32(pageBuf, pageSize) == 0 :
-                        "CRC hasn't been calculated, crc=0";
+                        e = e0;
+                    }
+                }
 
-                    assert pageBuf.position() == 0 : pageBuf.position();
+                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
+                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+            }
+        }
+    }
 
-                    fileIO.writeFully(pageBuf, off);
+    /**
+     * Submits all pages to the file I/O with a single batch write.
+     *
+     * {@inheritDoc}
+     */
+    @Override public void write(long[] pageIds, ByteBuffer[] pageBufs, int tag, boolean calculateCrc)
+        throws IgniteCheckedException {
+        assert pageIds.length == pageBufs.length : "pageIds=" + pageIds.length + ", pageBufs=" + pageBufs.length;
 
-                    PageIO.setCrc(pageBuf, 0);
+        init();
+
+        boolean interrupted = false;
+
+        long[] offs = new long[pageIds.length];
+
+        while (true) {
+            FileIO fileIO = this.fileIO;
+
+            try {
+                lock.readLock().lock();
+
+                try {
+                    if (tag < this.tag)
+                        return;
+
+                    for (int i = 0; i < pageIds.length; i++)
+                        offs[i] = prepareWrite(pageIds[i], pageBufs[i], calculateCrc);
+
+                    fileIO.writeFully(pageBufs, offs);
+
+                    for (ByteBuffer pageBuf : pageBufs)
+                        PageIO.setCrc(pageBuf, 0);
 
                     if (interrupted)
                         Thread.currentThread().interrupt();
@@ -663,9 +713,11 @@ public class FilePageStore implements PageStore {
 
                         reinit(fileIO);
 
-                        pageBuf.position(0);
+                        for (ByteBuffer pageBuf : pageBufs) {
+                            pageBuf.position(0);
 
-                        PageIO.setCrc(pageBuf, 0);
+                            PageIO.setCrc(pageBuf, 0);
+                        }
 
                         continue;
                     }
@@ -676,12 +728,48 @@ public class FilePageStore implements PageStore {
                     }
                 }
 
-                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
-                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+                throw new StorageException("Failed to write pages [file=" + getFileAbsolutePath()
+                    + ", firstPageId=" + pageIds[0] + ", pages=" + pageIds.length + ", tag=" + tag + "]", e);
             }
         }
     }
 
+    /**
+     * Checks the page and calculates its CRC before the write.
+     *
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer.
+     * @param calculateCrc if {@code False} crc calculation will be forcibly skipped.
+     * @return Page offset in the file.
+     */
+    private long prepareWrite(long pageId, ByteBuffer pageBuf, boolean calculateCrc) {
+        long off = pageOffset(pageId);
+
+        assert (off >= 0 && off <= allocated.get()) || recover :
+            "off=" + U.hexLong(off) + ", allocated=" + U.hexLong(allocated.get()) +
+                ", pageId=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath();
+
+        assert pageBuf.position() == 0;
+        assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
+            + " should be same with " + ByteOrder.nativeOrder();
+        assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
+        assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+
+        if (calculateCrc && !skipCrc) {
+            assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+
+            PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+        }
+
+        // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+        assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcCrc32(pageBuf, pageSize) == 0 :
+            "CRC hasn't been calculated, crc=0";
+
+        assert pageBuf.position() == 0 : pageBuf.position();
+
+        return off;
+    }
+
     /**
      * @param pageBuf Page buffer.
      * @param pageSize Page size.
@@ -615,6 +615,47 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         return store;
     }
 
+    /**
+     * Writes a batch of pages of the same partition with a single batch write to the page store.
+     * Pages of the caches with disk page compression are written one by one.
+     *
+     * @param grpId Cache group ID to write.
+     * @param pageIds Page IDs of the same partition.
+     * @param pageBufs Page buffers, one for each page ID.
+     * @param tag Partition tag (growing 1-based partition file version). Used to validate page is not outdated
+     * @param calculateCrc if {@code False} crc calculation will be forcibly skipped.
+     * @return PageStore to which the pages have been written.
+     * @throws IgniteCheckedException If IO error occurred.
+     */
+    public PageStore writeInternal(int grpId, long[] pageIds, ByteBuffer[] pageBufs, int tag, boolean calculateCrc)
+        throws IgniteCheckedException {
+        assert pageIds.length == pageBufs.length : "pageIds=" + pageIds.length + ", pageBufs=" + pageBufs.length;
+
+        GridCacheContext cctx0 = cctx.cacheContext(grpId);
+
+        if (cctx0 != null && cctx0.compress().pageCompressionEnabled()) {
+            PageStore store = null;
+
+            for (int i = 0; i < pageIds.length; i++)
+                store = writeInternal(grpId, pageIds[i], pageBufs[i], tag, calculateCrc);
+
+            return store;
+        }
+
+        PageStore store = getStore(grpId, PageIdUtils.partId(pageIds[0]));
+
+        try {
+            store.write(pageIds, pageBufs, tag, calculateCrc);
+        }
+        catch (StorageException e) {
+            cctx.kernalContext().failure().process(new FailureContext(FailureType.CRITICAL_ERROR, e));
+
+            throw e;
+        }
+
+        return store;
+    }
+
     /**
      *
      */
@@ -30,6 +30,7 @@ import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertFragmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.DataPagePatchRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageRemoveRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageUpdateRecord;
 import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
@@ -113,25 +114,44 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
             int rowSize = row.size();
 
+            boolean walDelta = needWalDeltaRecord(pageId, page, walPlc);
+
+            byte[] oldPayload = null;
+
+            if (walDelta) {
+                DataPagePayload data = io.readPayload(pageAddr, itemId, pageSize());
+
+                // Keep the old payload to log only the changed bytes of the row.
+                if (data.nextLink() == 0 && data.payloadSize() == rowSize)
+                    oldPayload = PageUtils.getBytes(pageAddr, data.offset(), rowSize);
+            }
+
             boolean updated = io.updateRow(pageAddr, itemId, pageSize(), null, row, rowSize);
 
             evictionTracker.touchPage(pageId);
 
-            if (updated && needWalDeltaRecord(pageId, page, walPlc)) {
-                // TODO This record must contain only a reference to a logical WAL record with the actual data.
-                byte[] payload = new byte[rowSize];
-
+            if (updated && walDelta) {
                 DataPagePayload data = io.readPayload(pageAddr, itemId, pageSize());
 
                 assert data.payloadSize() == rowSize;
 
-                PageUtils.getBytes(pageAddr, data.offset(), payload, 0, rowSize);
+                DataPagePatchRecord patch = oldPayload != null ?
+                    DataPagePatchRecord.create(cacheId, pageId, itemId, oldPayload, pageAddr + data.offset()) : null;
 
-                wal.log(new DataPageUpdateRecord(
-                    cacheId,
-                    pageId,
-                    itemId,
-                    payload));
+                if (patch != null)
+                    wal.log(patch);
+                else {
+                    // TODO This record must contain only a reference to a logical WAL record with the actual data.
+                    byte[] payload = new byte[rowSize];
+
+                    PageUtils.getBytes(pageAddr, data.offset(), payload, 0, rowSize);
+
+                    wal.log(new DataPageUpdateRecord(
+                        cacheId,
+                        pageId,
+                        itemId,
+                        payload));
+                }
             }
 
             return updated;
@@ -29,6 +29,9 @@ class PageHeader {
     /** Dirty flag. */
     private static final long DIRTY_FLAG = 0x0100000000000000L;
 
+    /** Cold page flag, shares the byte of page marker in the timestamp word. Cleared by any timestamp update. */
+    private static final long COLD_FLAG = 0x0000000000000002L;
+
     /** Page relative pointer. Does not change once a page is allocated. */
     private static final int RELATIVE_PTR_OFFSET = 8;
 
@@ -175,6 +178,28 @@ class PageHeader {
         GridUnsafe.putLongVolatile(null, absPtr, tstamp | 0x01);
     }
 
+    /**
+     * Volatile write for timestamp of a cold page (loaded, but not yet promoted to hot segment of page replacement)
+     * to page in {@code absAddr} address.
+     *
+     * @param absPtr Absolute page address.
+     * @param tstamp Timestamp.
+     */
+    public static void writeColdTimestamp(final long absPtr, long tstamp) {
+        tstamp &= 0xFFFFFFFFFFFFFF00L;
+
+        GridUnsafe.putLongVolatile(null, absPtr, tstamp | COLD_FLAG | 0x01);
+    }
+
+    /**
+     * @param absPtr Absolute page address.
+     * @return {@code True} if the page was written with {@link #writeColdTimestamp(long, long)} and was not touched
+     *      with {@link #writeTimestamp(long, long)} since then.
+     */
+    public static boolean isCold(final long absPtr) {
+        return (GridUnsafe.getLong(absPtr) & COLD_FLAG) != 0;
+    }
+
     /**
      * Read for timestamp from page in {@code absAddr} address.
      *
@@ -153,6 +153,14 @@ public interface PageMemoryEx extends PageMemory {
          CheckpointMetricsTracker tracker
      ) throws IgniteCheckedException;
 
+    /**
+     * Releases the checkpoint page which was kept pinned until its postponed write.
+     *
+     * @param absPtr Absolute pointer of the page.
+     * @see PageStoreWriter#writePage(FullPageId, ByteBuffer, int, PageMemoryEx, long)
+     */
+    public void releaseCheckpointPage(long absPtr);
+
     /**
      * Marks partition as invalid / outdated.
      *
@@ -41,6 +41,7 @@ import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.events.EventType;
 import org.apache.ignite.events.PageReplacementStartEvent;
 import org.apache.ignite.failure.FailureContext;
@@ -158,6 +159,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** Number of random pages that will be picked for eviction. */
     public static final int RANDOM_PAGES_EVICT_NUM = 5;
 
+    /** Shift of hot pages timestamps, which makes any hot page less preferable for replacement than a cold one. */
+    private static final long HOT_PAGE_TS_SHIFT = Long.MAX_VALUE / 2;
+
     /** Try again tag. */
     public static final int TRY_AGAIN_TAG = -1;
 
@@ -180,6 +184,14 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** Checkpoint lock state provider. */
     private final CheckpointLockStateChecker stateChecker;
 
+    /** Ratio of dirty pages in a segment starting from which checkpoint is triggered, {@code 0} if disabled. */
+    private final double cpTriggerDirtyPagesRatio =
+        IgniteSystemProperties.getDouble(IgniteSystemProperties.IGNITE_CHECKPOINT_DIRTY_PAGES_TRIGGER_RATIO, 0);
+
+    /** Minimum time since a cold page was loaded, after which an access to the page makes it hot. */
+    private final long coldPagePromotionDelay = IgniteSystemProperties.getLong(
+        IgniteSystemProperties.IGNITE_PAGE_REPLACEMENT_COLD_PAGE_PROMOTION_DELAY, 1_000L);
+
     /** Use new implementation of loaded pages table:  'Robin Hood hashing: backward shift deletion'. */
     private final boolean useBackwardShiftMap
         = IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP, true);
@@ -187,6 +199,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** */
     private final ExecutorService asyncRunner;
 
+    /** Page replacement mode. */
+    private final PageReplacementMode replacementMode;
+
     /** Page store manager. */
     private IgnitePageStoreManager storeMgr;
 
@@ -286,6 +301,36 @@ public class PageMemoryImpl implements PageMemoryEx {
         DataRegionMetricsImpl memMetrics,
         @Nullable ThrottlingPolicy throttlingPlc,
         IgniteOutClosure<CheckpointProgress> cpProgressProvider
+    ) {
+        this(directMemoryProvider, sizes, ctx, pageSize, flushDirtyPage, changeTracker, stateChecker, memMetrics,
+            throttlingPlc, cpProgressProvider, null);
+    }
+
+    /**
+     * @param directMemoryProvider Memory allocator to use.
+     * @param sizes segments sizes, last is checkpoint pool size.
+     * @param ctx Cache shared context.
+     * @param pageSize Page size.
+     * @param flushDirtyPage write callback invoked when a dirty page is removed for replacement.
+     * @param changeTracker Callback invoked to track changes in pages.
+     * @param stateChecker Checkpoint lock state provider. Used to ensure lock is held by thread, which modify pages.
+     * @param memMetrics Memory metrics to track dirty pages count and page replace rate.
+     * @param throttlingPlc Write throttle enabled and its type. Null equal to none.
+     * @param cpProgressProvider checkpoint progress, base for throttling. Null disables throttling.
+     * @param replacementMode Page replacement mode. Null equal to {@link PageReplacementMode#RANDOM_LRU}.
+     */
+    public PageMemoryImpl(
+        DirectMemoryProvider directMemoryProvider,
+        long[] sizes,
+        GridCacheSharedContext<?, ?> ctx,
+        int pageSize,
+        PageStoreWriter flushDirtyPage,
+        @Nullable GridInClosure3X<Long, FullPageId, PageMemoryEx> changeTracker,
+        CheckpointLockStateChecker stateChecker,
+        DataRegionMetricsImpl memMetrics,
+        @Nullable ThrottlingPolicy throttlingPlc,
+        IgniteOutClosure<CheckpointProgress> cpProgressProvider,
+        @Nullable PageReplacementMode replacementMode
     ) {
         assert ctx != null;
         assert pageSize > 0;
@@ -304,6 +349,7 @@ public class PageMemoryImpl implements PageMemoryEx {
         this.stateChecker = stateChecker;
         this.throttlingPlc = throttlingPlc != null ? throttlingPlc : ThrottlingPolicy.CHECKPOINT_BUFFER_ONLY;
         this.cpProgressProvider = cpProgressProvider;
+        this.replacementMode = replacementMode != null ? replacementMode : PageReplacementMode.RANDOM_LRU;
 
         storeMgr = ctx.pageStore();
         walMgr = ctx.wal();
@@ -457,6 +503,28 @@ public class PageMemoryImpl implements PageMemoryEx {
         readUnlockPage(page);
     }
 
+    /** {@inheritDoc} */
+    @Override public long tryOptimisticRead(int grpId, long pageId, long page) {
+        assert started;
+
+        long stamp = rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, PageIdUtils.tag(pageId));
+
+        if (stamp != 0L)
+            touchPage(page);
+
+        return stamp;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        return rwLock.validate(page + PAGE_LOCK_OFFSET, stamp);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long pageAddress(int grpId, long pageId, long page) {
+        return page + PAGE_OVERHEAD;
+    }
+
     /** {@inheritDoc} */
     @Override public long writeLock(int grpId, long pageId, long page) {
         assert started;
@@ -734,6 +802,8 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
+                memMetrics.onPageHit();
+
                 return absPtr;
             }
         }
@@ -775,7 +845,11 @@ public class PageMemoryImpl implements PageMemoryEx {
                 absPtr = seg.absolute(relPtr);
 
                 PageHeader.fullPageId(absPtr, fullId);
-                PageHeader.writeTimestamp(absPtr, U.currentTimeMillis());
+
+                if (replacementMode == PageReplacementMode.SEGMENTED_LRU && !restore)
+                    PageHeader.writeColdTimestamp(absPtr, U.currentTimeMillis());
+                else
+                    PageHeader.writeTimestamp(absPtr, U.currentTimeMillis());
 
                 assert !PageHeader.isAcquired(absPtr) :
                     "Pin counter must be 0 for a new page [relPtr=" + U.hexLong(relPtr) +
@@ -837,9 +911,12 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 rwLock.init(absPtr + PAGE_LOCK_OFFSET, PageIdUtils.tag(pageId));
             }
-            else
+            else {
                 absPtr = seg.absolute(relPtr);
 
+                memMetrics.onPageHit();
+            }
+
             seg.acquirePage(absPtr);
 
             if (!readPageFromStore)
@@ -1281,6 +1358,9 @@ public class PageMemoryImpl implements PageMemoryEx {
         // No need to write if exception occurred.
         boolean canWrite = false;
 
+        // Whether the writer keeps the page pinned until the postponed write.
+        boolean pinnedByWriter = false;
+
         boolean locked = rwLock.tryWriteLock(absPtr + PAGE_LOCK_OFFSET, OffheapReadWriteLock.TAG_LOCK_ALWAYS);
 
         if (!locked) {
@@ -1348,7 +1428,7 @@ public class PageMemoryImpl implements PageMemoryEx {
             if (canWrite) {
                 buf.rewind();
 
-                pageStoreWriter.writePage(fullId, buf, tag);
+                pinnedByWriter = pageStoreWriter.writePage(fullId, buf, tag, this, absPtr);
 
                 memMetrics.onPageWritten();
 
@@ -1357,10 +1437,16 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
             // Must release the page only after write unlock.
-            PageHeader.releasePage(absPtr);
+            if (!pinnedByWriter)
+                PageHeader.releasePage(absPtr);
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public void releaseCheckpointPage(long absPtr) {
+        PageHeader.releasePage(absPtr);
+    }
+
     /**
      * @param absPtr Absolute ptr.
      * @param buf Tmp buffer.
@@ -1579,7 +1665,7 @@ public class PageMemoryImpl implements PageMemoryEx {
             return 0;
 
         if (touch)
-            PageHeader.writeTimestamp(absPtr, U.currentTimeMillis());
+            touchPage(absPtr);
 
         assert PageIO.getCrc(absPtr + PAGE_OVERHEAD) == 0; //TODO GG-11480
 
@@ -1593,6 +1679,23 @@ public class PageMemoryImpl implements PageMemoryEx {
         return readLock(page, pageId, true);
     }
 
+    /**
+     * Updates access timestamp of a locked page. In {@link PageReplacementMode#SEGMENTED_LRU} mode a cold page is
+     * promoted to the hot segment only if it was loaded at least {@link #coldPagePromotionDelay} ago, so that
+     * repeated accesses of a single scan do not protect the page from replacement.
+     *
+     * @param absPtr Absolute pointer.
+     */
+    private void touchPage(long absPtr) {
+        long now = U.currentTimeMillis();
+
+        if (replacementMode == PageReplacementMode.SEGMENTED_LRU && PageHeader.isCold(absPtr) &&
+            now - PageHeader.readTimestamp(absPtr) < coldPagePromotionDelay)
+            return;
+
+        PageHeader.writeTimestamp(absPtr, now);
+    }
+
     /**
      * @param absPtr Absolute pointer to unlock.
      */
@@ -1640,7 +1743,7 @@ public class PageMemoryImpl implements PageMemoryEx {
      * @return Pointer to the page write buffer.
      */
     private long postWriteLockPage(long absPtr, FullPageId fullId) {
-        PageHeader.writeTimestamp(absPtr, U.currentTimeMillis());
+        touchPage(absPtr);
 
         // Create a buffer copy if the page is scheduled for a checkpoint.
         if (isInCheckpoint(fullId) && PageHeader.tempBufferPointer(absPtr) == INVALID_REL_PTR) {
@@ -1857,6 +1960,8 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                     if (dirtyPagesCnt >= seg.maxDirtyPages)
                         safeToUpdate.set(false);
+                    else if (dirtyPagesCnt == seg.cpTriggerDirtyPages)
+                        ctx.database().wakeupForCheckpoint("dirty pages trigger ratio reached");
 
                     memMetrics.incrementDirtyPages();
                 }
@@ -2004,6 +2109,9 @@ public class PageMemoryImpl implements PageMemoryEx {
         /** */
         private final long maxDirtyPages;
 
+        /** Number of dirty pages starting from which checkpoint is triggered, {@code 0} if disabled. */
+        private final long cpTriggerDirtyPages;
+
         /** Initial partition generation. */
         private static final int INIT_PART_GENERATION = 1;
 
@@ -2045,6 +2153,10 @@ public class PageMemoryImpl implements PageMemoryEx {
             maxDirtyPages = throttlingPlc != ThrottlingPolicy.DISABLED
                 ? pool.pages() * 3L / 4
                 : Math.min(pool.pages() * 2L / 3, cpPoolPages);
+
+            cpTriggerDirtyPages = cpTriggerDirtyPagesRatio > 0
+                ? Math.max(1, (long)(pool.pages() * cpTriggerDirtyPagesRatio))
+                : 0;
         }
 
         /**
@@ -2338,7 +2450,7 @@ public class PageMemoryImpl implements PageMemoryEx {
                         continue;
                     }
 
-                    final long pageTs = PageHeader.readTimestamp(absPageAddr);
+                    final long pageTs = replacementTimestamp(absPageAddr);
 
                     final boolean storMeta = isStoreMetadataPage(absPageAddr);
 
@@ -2396,6 +2508,20 @@ public class PageMemoryImpl implements PageMemoryEx {
             }
         }
 
+        /**
+         * @param absPageAddr Absolute page address.
+         * @return Page timestamp to compare replacement candidates by, the least one is replaced first.
+         */
+        private long replacementTimestamp(long absPageAddr) {
+            long ts = PageHeader.readTimestamp(absPageAddr);
+
+            // Any cold page is replaced before a hot one, cold pages are replaced in order of loading.
+            if (replacementMode == PageReplacementMode.SEGMENTED_LRU && !PageHeader.isCold(absPageAddr))
+                ts += HOT_PAGE_TS_SHIFT;
+
+            return ts;
+        }
+
         /**
          * @param absPageAddr Absolute page address
          * @return {@code True} if page is related to partition metadata, which is loaded in saveStoreMetadata().
@@ -108,6 +108,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     /** Destroy msg. */
     public static final String CONC_DESTROY_MSG = "Tree is being concurrently destroyed: ";
 
+    /** Result of {@link #compareInPage(BPlusIO, long, int, Object)} if the row can't be compared by page content. */
+    protected static final int CMP_UNKNOWN = Integer.MIN_VALUE;
+
     /** */
     private static volatile boolean interrupted;
 
@@ -1427,7 +1430,11 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                 g.pageId = pageId;
                 g.fwdId = fwdId;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                // Inner pages are the most contended ones, try to pass them without locking.
+                Result res = lvl != 0 ? searchOptimistic(pageId, page, g, lvl) : null;
+
+                if (res == null)
+                    res = read(pageId, page, search, g, lvl, RETRY);
 
                 switch (res) {
                     case GO_DOWN:
@@ -1466,6 +1473,84 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Does the same as {@link Search} for an inner page, but reads the page without locking it. The read is
+     * validated before the result is used, nothing but the operation arguments is modified. Rows are compared with
+     * {@link #compareInPage(BPlusIO, long, int, Object)}, so nothing outside of the page is dereferenced before the
+     * read is validated. Uncommon cases, like an exact match, a row which can't be compared by the page content only
+     * or going right down from a page having a forward page, are left to the locking search.
+     *
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param g Get.
+     * @param lvl Level.
+     * @return {@link Result#GO_DOWN} or {@code null} if the page must be read under the read lock.
+     * @throws IgniteCheckedException If failed.
+     */
+    private Result searchOptimistic(long pageId, long page, Get g, int lvl) throws IgniteCheckedException {
+        assert lvl > 0 : lvl;
+
+        long stamp = pageMem.tryOptimisticRead(grpId, pageId, page);
+
+        if (stamp == 0L)
+            return null;
+
+        long pageAddr = pageMem.pageAddress(grpId, pageId, page);
+
+        long childId;
+        long childFwdId;
+
+        try {
+            if (PageIO.getPageId(pageAddr) != pageId)
+                return null;
+
+            BPlusIO<L> io = io(pageAddr);
+
+            // Check the triangle invariant, on failure the locking search will return retry.
+            if (io.isLeaf() || io.getForward(pageAddr) != g.fwdId)
+                return null;
+
+            int cnt = io.getCount(pageAddr);
+
+            // Do not read beyond the page if it is being modified.
+            if (cnt < 0 || cnt > io.getMaxCount(pageAddr, pageSize()))
+                return null;
+
+            int idx = g.findLast ? -cnt - 1 : findInsertionPointInPage(io, pageAddr, cnt, g.row, g.shift);
+
+            // Exact match or the row can't be compared without following a link from the unvalidated page.
+            if (idx >= 0 || idx == CMP_UNKNOWN)
+                return null;
+
+            idx = fix(idx);
+
+            if (idx < cnt)
+                childFwdId = inner(io).getRight(pageAddr, idx);
+            else if (g.fwdId == 0L)
+                childFwdId = 0L;
+            else
+                return null; // Need to ask the forward page.
+
+            childId = inner(io).getLeft(pageAddr, idx);
+        }
+        catch (IgniteCheckedException | RuntimeException | AssertionError e) {
+            // Garbage read from a concurrently modified page is expected to fail.
+            if (pageMem.validateOptimisticRead(grpId, pageId, page, stamp))
+                throw e;
+
+            return null;
+        }
+
+        if (!pageMem.validateOptimisticRead(grpId, pageId, page, stamp))
+            return null;
+
+        g.pageId(childId);
+        g.fwdId(childFwdId);
+        g.backId(0L);
+
+        return GO_DOWN;
+    }
+
     /**
      * @param instance Instance name.
      * @param type Tree type.
@@ -5317,6 +5402,49 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         return -(low + 1);  // Not found.
     }
 
+    /**
+     * Same as {@link #findInsertionPoint(int, BPlusIO, long, int, int, Object, int)}, but compares rows with
+     * {@link #compareInPage(BPlusIO, long, int, Object)}.
+     *
+     * @param io IO.
+     * @param buf Buffer.
+     * @param cnt Row count.
+     * @param row Lookup row.
+     * @param shift Shift if equal.
+     * @return Insertion point as in {@link Arrays#binarySearch(Object[], Object, Comparator)} or
+     *      {@link #CMP_UNKNOWN} if some row can't be compared by the page content only.
+     * @throws IgniteCheckedException If failed.
+     */
+    private int findInsertionPointInPage(BPlusIO<L> io, long buf, int cnt, L row, int shift)
+        throws IgniteCheckedException {
+        assert row != null;
+
+        int low = 0;
+        int high = cnt - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+
+            int cmp = compareInPage(io, buf, mid, row);
+
+            if (cmp == CMP_UNKNOWN)
+                return CMP_UNKNOWN;
+
+            if (cmp == 0)
+                cmp = -shift; // We need to fix the case when search row matches multiple data rows.
+
+            //noinspection Duplicates
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid; // Found.
+        }
+
+        return -(low + 1);  // Not found.
+    }
+
     /**
      * @param pageAddr Page address.
      * @return IO.
@@ -5383,6 +5511,24 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         return compare(io, pageAddr, idx, row);
     }
 
+    /**
+     * Compares the row with the item of an inner page which is read without the page lock. The page content may be
+     * garbage until the read is validated, so the implementation must use the page content only and must not follow
+     * any links stored in the page, e.g. to data rows.
+     *
+     * @param io IO.
+     * @param pageAddr Page address.
+     * @param idx Index of row in the given buffer.
+     * @param row Lookup row.
+     * @return Comparison result as in {@link Comparator#compare(Object, Object)} or {@link #CMP_UNKNOWN} if the row
+     *      can't be compared by the page content only. The default implementation always returns {@link #CMP_UNKNOWN},
+     *      so the tree is searched with the page locks.
+     * @throws IgniteCheckedException If failed.
+     */
+    protected int compareInPage(BPlusIO<L> io, long pageAddr, int idx, L row) throws IgniteCheckedException {
+        return CMP_UNKNOWN;
+    }
+
     /**
      * Get a full detached data row.
      *
@@ -62,6 +62,12 @@ public class BPlusMetaIO extends PageIO {
     /** */
     private static final long FLAG_DECIMAL_SUPPORTED = 8L;
 
+    /** Shift of the inline size of inner pages in flags. */
+    private static final int INNER_INLINE_SIZE_SHIFT = 16;
+
+    /** Inline size of inner pages, zero means that it is the same as inline size of leaf pages. */
+    private static final long INNER_INLINE_SIZE_MASK = 0xFFFFL << INNER_INLINE_SIZE_SHIFT;
+
     /** */
     public static final long DEFAULT_FLAGS = FLAG_UNWRAPPED_PK | FLAG_INLINE_OBJECT_SUPPORTED | FLAG_INLINE_OBJECT_HASH | FLAG_DECIMAL_SUPPORTED;
 
@@ -217,6 +223,35 @@ public class BPlusMetaIO extends PageIO {
         return getVersion() > 1 ? PageUtils.getShort(pageAddr, INLINE_SIZE_OFFSET) : 0;
     }
 
+    /**
+     * @param pageAddr Page address.
+     * @param size Inline size of inner pages.
+     */
+    public void setInnerInlineSize(long pageAddr, int size) {
+        assert supportFlags();
+        assert size >= 0 && size <= 0xFFFF : size;
+
+        long flags = flags(pageAddr) & ~INNER_INLINE_SIZE_MASK | (long)size << INNER_INLINE_SIZE_SHIFT;
+
+        PageUtils.putLong(pageAddr, FLAGS_OFFSET, flags);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Inline size of inner pages, the same as {@link #getInlineSize(long)} unless separator keys
+     *      of the tree are truncated.
+     */
+    public int getInnerInlineSize(long pageAddr) {
+        if (supportFlags()) {
+            int size = (int)((flags(pageAddr) & INNER_INLINE_SIZE_MASK) >>> INNER_INLINE_SIZE_SHIFT);
+
+            if (size != 0)
+                return size;
+        }
+
+        return getInlineSize(pageAddr);
+    }
+
     /**
      * @param pageAddr Page address.
      * @return {@code true} In case use unwrapped PK.
@@ -333,6 +368,7 @@ public class BPlusMetaIO extends PageIO {
         sb.a("BPlusMeta [\n\tlevelsCnt=").a(getLevelsCount(addr))
             .a(",\n\trootLvl=").a(getRootLevel(addr))
             .a(",\n\tinlineSize=").a(getInlineSize(addr))
+            .a(",\n\tinnerInlineSize=").a(getInnerInlineSize(addr))
             .a("\n]");
             //TODO print firstPageIds by level
     }
@@ -43,6 +43,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
@@ -127,6 +131,7 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.thread.IgniteThread;
+import org.apache.ignite.thread.IgniteThreadPoolExecutor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -136,6 +141,7 @@ import static java.nio.file.StandardOpenOption.WRITE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAL_ARCHIVE_SIZE_PERCENTAGE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_ARCHIVER_THREAD_CNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
@@ -234,6 +240,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     private final int WAL_COMPRESSOR_WORKER_THREAD_CNT =
             IgniteSystemProperties.getInteger(IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT, 4);
 
+    /**
+     * Maximum number of WAL segments copied to the archive concurrently.
+     */
+    private final int WAL_ARCHIVER_THREAD_CNT =
+        Math.max(1, IgniteSystemProperties.getInteger(IGNITE_WAL_ARCHIVER_THREAD_CNT, 4));
+
     /**
      * Threshold time to print warning to log if awaiting for next wal segment took too long (exceeded this threshold).
      */
@@ -498,7 +510,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         serializerVer);
                 }
 
-                cctx.kernalContext().compress().checkPageCompressionSupported();
+                cctx.kernalContext().compress().checkWalPageCompressionSupported(pageCompression);
 
                 pageCompressionLevel = dsCfg.getWalPageCompressionLevel() != null ?
                     CompressionProcessor.checkCompressionLevelBounds(dsCfg.getWalPageCompressionLevel(), pageCompression) :
@@ -1098,6 +1110,16 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         return segmentAware.lastArchivedAbsoluteIndex();
     }
 
+    /** {@inheritDoc} */
+    @Override public long walArchiverLag() {
+        if (!isArchiverEnabled())
+            return 0;
+
+        long lag = segmentAware.curAbsWalIdx() - 1 - segmentAware.lastArchivedAbsoluteIndex();
+
+        return lag >= 0 ? lag : 0;
+    }
+
     /** {@inheritDoc} */
     @Override public long lastCompactedSegment() {
         return segmentAware.lastCompressedIdx();
@@ -1697,6 +1719,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         /** Formatted index. */
         private int formatted;
 
+        /** Pool to copy segments concurrently when archiver falls behind, {@code null} if disabled. */
+        @Nullable private ExecutorService copyPool;
+
         /**
          *
          */
@@ -1831,6 +1856,17 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
             Throwable err = null;
 
+            if (WAL_ARCHIVER_THREAD_CNT > 1) {
+                copyPool = new IgniteThreadPoolExecutor(
+                    "wal-segment-archiver",
+                    cctx.igniteInstanceName(),
+                    WAL_ARCHIVER_THREAD_CNT - 1,
+                    WAL_ARCHIVER_THREAD_CNT - 1,
+                    30_000,
+                    new LinkedBlockingQueue<Runnable>()
+                );
+            }
+
             try {
                 blockingSectionBegin();
 
@@ -1856,32 +1892,39 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     if (isCancelled())
                         break;
 
-                    SegmentArchiveResult res;
+                    // All segments before the current one are complete, so the backlog may be copied concurrently.
+                    long lastToArchive = Math.min(segmentAware.curAbsWalIdx() - 1,
+                        toArchive + WAL_ARCHIVER_THREAD_CNT - 1);
+
+                    List<SegmentArchiveResult> results;
 
                     blockingSectionBegin();
 
                     try {
-                        res = archiveSegment(toArchive);
+                        results = archiveSegments(toArchive, lastToArchive);
                     }
                     finally {
                         blockingSectionEnd();
                     }
 
-                    blockingSectionBegin();
+                    // Segments are marked as archived strictly in order.
+                    for (SegmentArchiveResult res : results) {
+                        blockingSectionBegin();
 
-                    try {
-                        segmentAware.markAsMovedToArchive(toArchive);
-                    }
-                    finally {
-                        blockingSectionEnd();
-                    }
+                        try {
+                            segmentAware.markAsMovedToArchive(res.getAbsIdx());
+                        }
+                        finally {
+                            blockingSectionEnd();
+                        }
 
-                    if (evt.isRecordable(EVT_WAL_SEGMENT_ARCHIVED) && !cctx.kernalContext().recoveryMode()) {
-                        evt.record(new WalSegmentArchivedEvent(
-                            cctx.discovery().localNode(),
-                            res.getAbsIdx(),
-                            res.getDstArchiveFile())
-                        );
+                        if (evt.isRecordable(EVT_WAL_SEGMENT_ARCHIVED) && !cctx.kernalContext().recoveryMode()) {
+                            evt.record(new WalSegmentArchivedEvent(
+                                cctx.discovery().localNode(),
+                                res.getAbsIdx(),
+                                res.getDstArchiveFile())
+                            );
+                        }
                     }
 
                     onIdle();
@@ -1898,6 +1941,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 err = t;
             }
             finally {
+                if (copyPool != null) {
+                    copyPool.shutdownNow();
+
+                    copyPool = null;
+                }
+
                 if (err == null && !isCancelled())
                     err = new IllegalStateException("Worker " + name() + " is terminated unexpectedly");
 
@@ -1960,6 +2009,76 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             segmentAware.releaseWorkSegment(absIdx);
         }
 
+        /**
+         * Copies a range of complete WAL segments to the archive. The first segment is copied in the calling thread,
+         * the rest are copied concurrently in the copy pool.
+         *
+         * @param fromIdx First absolute index to archive.
+         * @param toIdx Last absolute index to archive, inclusive.
+         * @return Archive results in the order of segment indexes.
+         * @throws StorageException If failed to archive any of the segments.
+         * @throws IgniteInterruptedCheckedException If interrupted.
+         */
+        private List<SegmentArchiveResult> archiveSegments(
+            long fromIdx,
+            long toIdx
+        ) throws StorageException, IgniteInterruptedCheckedException {
+            ExecutorService pool = copyPool;
+
+            if (pool == null || toIdx <= fromIdx)
+                return Collections.singletonList(archiveSegment(fromIdx));
+
+            List<Future<SegmentArchiveResult>> futs = new ArrayList<>((int)(toIdx - fromIdx));
+
+            for (long idx = fromIdx + 1; idx <= toIdx; idx++) {
+                long absIdx = idx;
+
+                futs.add(pool.submit(() -> archiveSegment(absIdx)));
+            }
+
+            List<SegmentArchiveResult> res = new ArrayList<>(futs.size() + 1);
+
+            StorageException err = null;
+
+            try {
+                res.add(archiveSegment(fromIdx));
+            }
+            catch (StorageException e) {
+                err = e;
+            }
+
+            // Wait for all copies, even if some of them failed, so that no copy outlives the archiver.
+            for (Future<SegmentArchiveResult> fut : futs) {
+                try {
+                    res.add(fut.get());
+                }
+                catch (InterruptedException e) {
+                    throw new IgniteInterruptedCheckedException(e);
+                }
+                catch (ExecutionException e) {
+                    StorageException e0;
+
+                    if (e.getCause() instanceof StorageException)
+                        e0 = (StorageException)e.getCause();
+                    else {
+                        e0 = new StorageException("Failed to archive WAL segment");
+
+                        e0.initCause(e.getCause());
+                    }
+
+                    if (err == null)
+                        err = e0;
+                    else
+                        err.addSuppressed(e0);
+                }
+            }
+
+            if (err != null)
+                throw err;
+
+            return res;
+        }
+
         /**
          * Moves WAL segment from work folder to archive folder. Temp file is used to do movement
          *
@@ -2000,7 +2119,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 }
 
                 if (!copied)
-                    Files.copy(origFile.toPath(), dstTmpFile.toPath());
+                    GridFileUtils.copy(origFile, dstTmpFile, Long.MAX_VALUE);
 
                 Files.move(dstTmpFile.toPath(), dstFile.toPath());
 
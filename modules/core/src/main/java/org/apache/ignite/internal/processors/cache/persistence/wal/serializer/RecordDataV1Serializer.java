@@ -49,6 +49,7 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageMvccMarkUpdatedRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageMvccUpdateNewTxStateHintRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageMvccUpdateTxStateHintRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.DataPagePatchRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageRemoveRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageSetFreeListPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageUpdateRecord;
@@ -411,6 +412,12 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
                 return 4 + 8 + 2 + 4 +
                         uRec.payload().length;
 
+            case DATA_PAGE_PATCH_RECORD:
+                DataPagePatchRecord patchRec = (DataPagePatchRecord)record;
+
+                return 4 + 8 + 4 + 2 + patchRec.offsets().length * DataPagePatchRecord.CHUNK_HEADER_SIZE +
+                    patchRec.data().length;
+
             case DATA_PAGE_INSERT_FRAGMENT_RECORD:
                 final DataPageInsertFragmentRecord difRec = (DataPageInsertFragmentRecord)record;
 
@@ -727,6 +734,38 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
                 break;
             }
 
+            case DATA_PAGE_PATCH_RECORD: {
+                cacheId = in.readInt();
+                pageId = in.readLong();
+
+                int itemId = in.readInt();
+                int chunksCnt = in.readUnsignedShort();
+
+                in.ensure(chunksCnt * DataPagePatchRecord.CHUNK_HEADER_SIZE);
+
+                int[] offs = new int[chunksCnt];
+                int[] lens = new int[chunksCnt];
+
+                int dataLen = 0;
+
+                for (int i = 0; i < chunksCnt; i++) {
+                    offs[i] = in.readUnsignedShort();
+                    lens[i] = in.readUnsignedShort();
+
+                    dataLen += lens[i];
+                }
+
+                in.ensure(dataLen);
+
+                byte[] data = new byte[dataLen];
+
+                in.readFully(data);
+
+                res = new DataPagePatchRecord(cacheId, pageId, itemId, offs, lens, data);
+
+                break;
+            }
+
             case DATA_PAGE_INSERT_FRAGMENT_RECORD: {
                 cacheId = in.readInt();
                 pageId = in.readLong();
@@ -1328,6 +1367,24 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case DATA_PAGE_PATCH_RECORD:
+                DataPagePatchRecord patchRec = (DataPagePatchRecord)rec;
+
+                buf.putInt(patchRec.groupId());
+                buf.putLong(patchRec.pageId());
+                buf.putInt(patchRec.itemId());
+
+                buf.putShort((short)patchRec.offsets().length);
+
+                for (int i = 0; i < patchRec.offsets().length; i++) {
+                    buf.putShort((short)patchRec.offsets()[i]);
+                    buf.putShort((short)patchRec.lengths()[i]);
+                }
+
+                buf.put(patchRec.data());
+
+                break;
+
             case DATA_PAGE_INSERT_FRAGMENT_RECORD:
                 final DataPageInsertFragmentRecord difRec = (DataPageInsertFragmentRecord)rec;
 
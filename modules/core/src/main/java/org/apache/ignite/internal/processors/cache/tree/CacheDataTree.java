@@ -346,6 +346,26 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
         return rowStore;
     }
 
+    /** {@inheritDoc} */
+    @Override protected int compareInPage(BPlusIO<CacheSearchRow> iox, long pageAddr, int idx, CacheSearchRow row)
+        throws IgniteCheckedException {
+        RowLinkIO io = (RowLinkIO)iox;
+
+        int cmp;
+
+        if (grp.sharedGroup()) {
+            cmp = Integer.compare(io.getCacheId(pageAddr, idx), row.cacheId());
+
+            if (cmp != 0 || row.key() == null)
+                return cmp;
+        }
+
+        cmp = Integer.compare(io.getHash(pageAddr, idx), row.hash());
+
+        // Keys with equal hashes are compared by the data row the link points to.
+        return cmp != 0 ? cmp : CMP_UNKNOWN;
+    }
+
     /** {@inheritDoc} */
     @Override protected int compare(BPlusIO<CacheSearchRow> iox, long pageAddr, int idx, CacheSearchRow row)
         throws IgniteCheckedException {
@@ -17,13 +17,20 @@
 package org.apache.ignite.internal.processors.compress;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Path;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.IgniteComponentType;
+import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.processors.GridProcessorAdapter;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.CompactablePageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+import static org.apache.ignite.configuration.DataStorageConfiguration.MAX_PAGE_SIZE;
+import static org.apache.ignite.configuration.DiskPageCompression.SKIP_GARBAGE;
 
 /**
  * Compression processor.
@@ -64,6 +71,10 @@ public class CompressionProcessor extends GridProcessorAdapter {
     /** */
     protected static final byte SNAPPY_COMPRESSED_PAGE = 4;
 
+    /** Output buffer for page compaction, max page size. */
+    private final ThreadLocal<ByteBuffer> compactBuf =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(MAX_PAGE_SIZE).order(ByteOrder.nativeOrder()));
+
     /**
      * @param ctx Kernal context.
      */
@@ -151,6 +162,21 @@ public class CompressionProcessor extends GridProcessorAdapter {
     }
 
     /**
+     * Checks whether the given compression is supported for WAL page snapshots. Unlike disk page compression,
+     * {@link DiskPageCompression#SKIP_GARBAGE} does not require punching holes in files, so it is supported
+     * without ignite-compress module.
+     *
+     * @param compression Compression algorithm.
+     * @throws IgniteCheckedException If compression is not supported.
+     */
+    public void checkWalPageCompressionSupported(DiskPageCompression compression) throws IgniteCheckedException {
+        if (compression != SKIP_GARBAGE)
+            checkPageCompressionSupported();
+    }
+
+    /**
+     * Only {@link DiskPageCompression#SKIP_GARBAGE} is supported without ignite-compress module.
+     *
      * @param page Page buffer.
      * @param pageSize Page size.
      * @param storeBlockSize Store block size.
@@ -166,16 +192,129 @@ public class CompressionProcessor extends GridProcessorAdapter {
         DiskPageCompression compression,
         int compressLevel
     ) throws IgniteCheckedException {
-        return fail();
+        if (compression != SKIP_GARBAGE)
+            return fail();
+
+        assert page.position() == 0 && page.limit() >= pageSize;
+
+        int oldPageLimit = page.limit();
+
+        try {
+            page.limit(pageSize);
+
+            ByteBuffer compactPage = doCompactPage(page, pageSize);
+
+            return setCompactionInfo(compactPage, compactPage.limit());
+        }
+        finally {
+            page.limit(oldPageLimit);
+        }
     }
 
     /**
+     * Drops the garbage from the page. The limit of the page must be set to the page size.
+     *
+     * @param page Page buffer.
+     * @param pageSize Page size.
+     * @return Compacted page direct buffer, its limit is the compacted page size.
+     */
+    protected final ByteBuffer doCompactPage(ByteBuffer page, int pageSize) throws IgniteCheckedException {
+        PageIO io = PageIO.getPageIO(page);
+
+        ByteBuffer compactPage = compactBuf.get();
+
+        compactPage.clear();
+
+        if (io instanceof CompactablePageIO) {
+            // Drop the garbage from the page.
+            ((CompactablePageIO)io).compactPage(page, compactPage, pageSize);
+        }
+        else {
+            // Direct buffer is required as output of this method.
+            if (page.isDirect())
+                return page;
+
+            PageUtils.putBytes(GridUnsafe.bufferAddress(compactPage), 0, page.array());
+
+            compactPage.limit(pageSize);
+        }
+
+        assert compactPage.limit() <= pageSize : compactPage.limit();
+
+        return compactPage;
+    }
+
+    /**
+     * @param page Page.
+     * @param compactSize Compacted page size.
+     * @return The given page.
+     */
+    protected static ByteBuffer setCompactionInfo(ByteBuffer page, int compactSize) {
+        return setCompressionInfo(page, COMPACTED_PAGE, compactSize, compactSize);
+    }
+
+    /**
+     * @param page Page.
+     * @param compressType Compression type.
+     * @param compressedSize Compressed size.
+     * @param compactedSize Compact size.
+     * @return The given page.
+     */
+    protected static ByteBuffer setCompressionInfo(ByteBuffer page, byte compressType, int compressedSize,
+        int compactedSize) {
+        assert compressedSize >= 0 && compressedSize <= Short.MAX_VALUE : compressedSize;
+        assert compactedSize >= 0 && compactedSize <= Short.MAX_VALUE : compactedSize;
+
+        PageIO.setCompressionType(page, compressType);
+        PageIO.setCompressedSize(page, (short)compressedSize);
+        PageIO.setCompactedSize(page, (short)compactedSize);
+
+        return page;
+    }
+
+    /**
+     * Only pages compacted with {@link DiskPageCompression#SKIP_GARBAGE} can be restored without ignite-compress
+     * module.
+     *
      * @param page Possibly compressed page buffer.
      * @param pageSize Page size.
      * @throws IgniteCheckedException If failed.
      */
     public void decompressPage(ByteBuffer page, int pageSize) throws IgniteCheckedException {
-        if (PageIO.getCompressionType(page) != UNCOMPRESSED_PAGE)
+        byte compressType = PageIO.getCompressionType(page);
+
+        if (compressType == UNCOMPRESSED_PAGE)
+            return;
+
+        if (compressType != COMPACTED_PAGE)
             fail();
+
+        short compactSize = PageIO.getCompactedSize(page);
+
+        assert compactSize <= pageSize : "compactSize=" + compactSize + ", pageSize=" + pageSize;
+
+        page.position(0).limit(compactSize);
+
+        restorePage(page, pageSize, compactSize);
+    }
+
+    /**
+     * Restores the garbage dropped from the page on compaction and resets the compression info of the page.
+     *
+     * @param page Compacted page buffer, its limit must be set to the compacted page size.
+     * @param pageSize Page size.
+     * @param compactSize Compacted page size.
+     */
+    protected static void restorePage(ByteBuffer page, int pageSize, int compactSize) {
+        PageIO io = PageIO.getPageIO(page);
+
+        if (io instanceof CompactablePageIO)
+            ((CompactablePageIO)io).restorePage(page, pageSize);
+        else {
+            assert compactSize == pageSize
+                : "Wrong compacted page size [compactSize=" + compactSize + ", pageSize=" + pageSize + ']';
+        }
+
+        setCompressionInfo(page, UNCOMPRESSED_PAGE, 0, 0);
     }
 }
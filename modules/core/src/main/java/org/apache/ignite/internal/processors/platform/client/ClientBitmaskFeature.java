@@ -33,7 +33,16 @@ public enum ClientBitmaskFeature implements ThinProtocolFeature {
     // CLUSTER_STATES(2),
 
     /** Client discovery. */
-    CLUSTER_GROUP_GET_NODES_ENDPOINTS(3);
+    CLUSTER_GROUP_GET_NODES_ENDPOINTS(3),
+
+    /** Cluster groups, used by .NET thin client. */
+    // CLUSTER_GROUPS(4),
+
+    /** Continuous queries. */
+    CONTINUOUS_QUERY(5),
+
+    /** Data streamer. */
+    DATA_STREAMER(6);
 
     /** */
     private static final EnumSet<ClientBitmaskFeature> ALL_FEATURES_AS_ENUM_SET =
@@ -34,8 +34,10 @@ import org.apache.ignite.internal.processors.odbc.ClientListenerAbstractConnecti
 import org.apache.ignite.internal.processors.odbc.ClientListenerMessageParser;
 import org.apache.ignite.internal.processors.odbc.ClientListenerProtocolVersion;
 import org.apache.ignite.internal.processors.odbc.ClientListenerRequestHandler;
+import org.apache.ignite.internal.processors.platform.client.streamer.ClientDataStreamerHandle;
 import org.apache.ignite.internal.processors.platform.client.tx.ClientTxContext;
 import org.apache.ignite.internal.util.nio.GridNioSession;
+import org.apache.ignite.internal.util.typedef.T3;
 
 import static org.apache.ignite.internal.processors.platform.client.ClientProtocolVersionFeature.AUTHORIZATION;
 import static org.apache.ignite.internal.processors.platform.client.ClientProtocolVersionFeature.BITMAP_FEATURES;
@@ -140,6 +142,9 @@ public class ClientConnectionContext extends ClientListenerAbstractConnectionCon
     /** Active compute tasks count. */
     private final AtomicInteger activeTasksCnt = new AtomicInteger();
 
+    /** Data streamers by cache ID, flags and stream receiver. */
+    private final Map<T3<Integer, Byte, Object>, ClientDataStreamerHandle> streamers = new ConcurrentHashMap<>();
+
     /**
      * Ctor.
      *
@@ -167,6 +172,16 @@ public class ClientConnectionContext extends ClientListenerAbstractConnectionCon
         return resReg;
     }
 
+    /**
+     * Gets data streamers of the connection. Data streamers are also registered in {@link #resources()},
+     * so they are closed when the connection is closed.
+     *
+     * @return Data streamers by cache ID, flags and stream receiver.
+     */
+    public Map<T3<Integer, Byte, Object>, ClientDataStreamerHandle> dataStreamers() {
+        return streamers;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean isVersionSupported(ClientListenerProtocolVersion ver) {
         return SUPPORTED_VERS.contains(ver);
@@ -244,6 +259,8 @@ public class ClientConnectionContext extends ClientListenerAbstractConnectionCon
     @Override public void onDisconnected() {
         resReg.clean();
 
+        streamers.clear();
+
         cleanupTxs();
 
         super.onDisconnected();
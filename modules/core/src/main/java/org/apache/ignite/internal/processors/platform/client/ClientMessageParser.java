@@ -56,6 +56,7 @@ import org.apache.ignite.internal.processors.platform.client.cache.ClientCachePa
 import org.apache.ignite.internal.processors.platform.client.cache.ClientCachePutAllRequest;
 import org.apache.ignite.internal.processors.platform.client.cache.ClientCachePutIfAbsentRequest;
 import org.apache.ignite.internal.processors.platform.client.cache.ClientCachePutRequest;
+import org.apache.ignite.internal.processors.platform.client.cache.ClientCacheQueryContinuousRequest;
 import org.apache.ignite.internal.processors.platform.client.cache.ClientCacheQueryNextPageRequest;
 import org.apache.ignite.internal.processors.platform.client.cache.ClientCacheRemoveAllRequest;
 import org.apache.ignite.internal.processors.platform.client.cache.ClientCacheRemoveIfEqualsRequest;
@@ -74,6 +75,7 @@ import org.apache.ignite.internal.processors.platform.client.cluster.ClientClust
 import org.apache.ignite.internal.processors.platform.client.cluster.ClientClusterWalChangeStateRequest;
 import org.apache.ignite.internal.processors.platform.client.cluster.ClientClusterWalGetStateRequest;
 import org.apache.ignite.internal.processors.platform.client.compute.ClientExecuteTaskRequest;
+import org.apache.ignite.internal.processors.platform.client.streamer.ClientDataStreamerLoadRequest;
 import org.apache.ignite.internal.processors.platform.client.tx.ClientTxEndRequest;
 import org.apache.ignite.internal.processors.platform.client.tx.ClientTxStartRequest;
 
@@ -201,6 +203,12 @@ public class ClientMessageParser implements ClientListenerMessageParser {
     /** */
     private static final short OP_QUERY_SQL_FIELDS_CURSOR_GET_PAGE = 2005;
 
+    /** */
+    private static final short OP_QUERY_CONTINUOUS = 2006;
+
+    /** */
+    public static final short OP_QUERY_CONTINUOUS_EVENT_NOTIFICATION = 2007;
+
     /* Binary metadata operations. */
     /** */
     private static final short OP_BINARY_TYPE_NAME_GET = 3000;
@@ -249,6 +257,10 @@ public class ClientMessageParser implements ClientListenerMessageParser {
     /** */
     public static final short OP_COMPUTE_TASK_FINISHED = 6001;
 
+    /* Data streamer operations. */
+    /** */
+    private static final short OP_DATA_STREAMER_LOAD = 8000;
+
     /* Custom queries working through processors registry. */
     /** */
     private static final short OP_CUSTOM_QUERY = 32_000;
@@ -425,6 +437,9 @@ public class ClientMessageParser implements ClientListenerMessageParser {
                 //noinspection DuplicateBranchesInSwitch
                 return new ClientCacheQueryNextPageRequest(reader);
 
+            case OP_QUERY_CONTINUOUS:
+                return new ClientCacheQueryContinuousRequest(reader);
+
             case OP_TX_START:
                 return new ClientTxStartRequest(reader);
 
@@ -455,6 +470,9 @@ public class ClientMessageParser implements ClientListenerMessageParser {
             case OP_COMPUTE_TASK_EXECUTE:
                 return new ClientExecuteTaskRequest(reader);
 
+            case OP_DATA_STREAMER_LOAD:
+                return new ClientDataStreamerLoadRequest(reader);
+
             case OP_CUSTOM_QUERY:
                 return new ClientCustomQueryRequest(reader);
         }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.platform.client.cache;
+
+import java.util.List;
+import javax.cache.event.CacheEntryEvent;
+import org.apache.ignite.internal.binary.BinaryRawWriterEx;
+import org.apache.ignite.internal.processors.platform.client.ClientConnectionContext;
+import org.apache.ignite.internal.processors.platform.client.ClientNotification;
+
+/**
+ * Notification with a batch of continuous query events.
+ */
+class ClientCacheEntryEventNotification extends ClientNotification {
+    /** Events or transformed events. */
+    private final List<?> evts;
+
+    /** Transformed events flag. */
+    private final boolean transformed;
+
+    /**
+     * Constructor.
+     *
+     * @param opCode Operation code.
+     * @param rsrcId Resource id.
+     * @param evts Events or transformed events.
+     * @param transformed Transformed events flag.
+     */
+    ClientCacheEntryEventNotification(short opCode, long rsrcId, List<?> evts, boolean transformed) {
+        super(opCode, rsrcId);
+
+        this.evts = evts;
+        this.transformed = transformed;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void encode(ClientConnectionContext ctx, BinaryRawWriterEx writer) {
+        super.encode(ctx, writer);
+
+        writer.writeInt(evts.size());
+
+        writer.writeBoolean(transformed);
+
+        for (Object evt : evts) {
+            if (transformed)
+                writer.writeObject(evt);
+            else {
+                CacheEntryEvent<?, ?> evt0 = (CacheEntryEvent<?, ?>)evt;
+
+                writer.writeObject(evt0.getKey());
+                writer.writeObject(evt0.getOldValue());
+                writer.writeObject(evt0.getValue());
+                writer.writeByte((byte)evt0.getEventType().ordinal());
+            }
+        }
+    }
+}
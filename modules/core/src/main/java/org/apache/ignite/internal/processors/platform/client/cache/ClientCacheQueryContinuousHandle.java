@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.platform.client.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.internal.processors.platform.client.ClientCloseableResource;
+import org.apache.ignite.internal.processors.platform.client.ClientConnectionContext;
+import org.apache.ignite.internal.processors.platform.client.ClientNotification;
+
+import static org.apache.ignite.internal.processors.platform.client.ClientMessageParser.OP_QUERY_CONTINUOUS_EVENT_NOTIFICATION;
+
+/**
+ * Continuous query handle. Sends each batch of events delivered to the local listener as a single notification.
+ */
+class ClientCacheQueryContinuousHandle implements ClientCloseableResource {
+    /** Context. */
+    private final ClientConnectionContext ctx;
+
+    /** Closed flag. */
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /** Handle ID. */
+    private volatile long id;
+
+    /** Query cursor. */
+    private volatile QueryCursor<?> cur;
+
+    /**
+     * Notifications of events received before the response was sent, {@code null} after the response is sent.
+     * Guarded by {@code this}.
+     */
+    private List<ClientNotification> pending = new ArrayList<>();
+
+    /**
+     * Ctor.
+     *
+     * @param ctx Connection context.
+     */
+    ClientCacheQueryContinuousHandle(ClientConnectionContext ctx) {
+        assert ctx != null;
+
+        this.ctx = ctx;
+    }
+
+    /**
+     * @param evts Events or transformed events.
+     * @param transformed Transformed events flag.
+     */
+    void onUpdated(Iterable<?> evts, boolean transformed) {
+        if (closed.get())
+            return;
+
+        List<Object> evts0 = new ArrayList<>();
+
+        for (Object evt : evts)
+            evts0.add(evt);
+
+        if (evts0.isEmpty())
+            return;
+
+        ClientNotification notification =
+            new ClientCacheEntryEventNotification(OP_QUERY_CONTINUOUS_EVENT_NOTIFICATION, id, evts0, transformed);
+
+        // Send under the lock to keep the order of batches.
+        synchronized (this) {
+            if (pending != null)
+                pending.add(notification);
+            else
+                ctx.notifyClient(notification);
+        }
+    }
+
+    /**
+     * Callback for response sent event.
+     */
+    void onResponseSent() {
+        // Client should not receive events before the response with the handle ID.
+        synchronized (this) {
+            for (ClientNotification notification : pending)
+                ctx.notifyClient(notification);
+
+            pending = null;
+        }
+    }
+
+    /**
+     * @param id Handle ID.
+     */
+    void id(long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return Handle ID.
+     */
+    long id() {
+        return id;
+    }
+
+    /**
+     * @param cur Query cursor.
+     */
+    void cursor(QueryCursor<?> cur) {
+        this.cur = cur;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        if (closed.compareAndSet(false, true)) {
+            if (cur != null)
+                cur.close();
+
+            ctx.decrementCursors();
+        }
+    }
+}
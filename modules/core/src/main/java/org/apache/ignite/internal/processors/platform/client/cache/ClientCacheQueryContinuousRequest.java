@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.platform.client.cache;
+
+import javax.cache.configuration.Factory;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.query.AbstractContinuousQuery;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.ContinuousQueryWithTransformer;
+import org.apache.ignite.internal.binary.BinaryRawReaderEx;
+import org.apache.ignite.internal.processors.platform.client.ClientConnectionContext;
+import org.apache.ignite.internal.processors.platform.client.ClientResponse;
+import org.apache.ignite.internal.processors.platform.client.ClientStatus;
+import org.apache.ignite.internal.processors.platform.client.IgniteClientException;
+
+/**
+ * Continuous query request.
+ */
+@SuppressWarnings("unchecked")
+public class ClientCacheQueryContinuousRequest extends ClientCacheRequest {
+    /** Java filter. */
+    private static final byte FILTER_PLATFORM_JAVA = 1;
+
+    /** Page size. */
+    private final int pageSize;
+
+    /** Time interval. */
+    private final long timeInterval;
+
+    /** Include expired flag. */
+    private final boolean includeExpired;
+
+    /** Remote filter factory. */
+    private final Object filterFactoryObj;
+
+    /** Filter platform. */
+    private final byte filterPlatform;
+
+    /** Remote transformer factory. */
+    private final Object transformerFactoryObj;
+
+    /**
+     * Ctor.
+     *
+     * @param reader Reader.
+     */
+    public ClientCacheQueryContinuousRequest(BinaryRawReaderEx reader) {
+        super(reader);
+
+        pageSize = reader.readInt();
+
+        timeInterval = reader.readLong();
+
+        includeExpired = reader.readBoolean();
+
+        filterFactoryObj = reader.readObjectDetached();
+
+        filterPlatform = filterFactoryObj == null ? 0 : reader.readByte();
+
+        transformerFactoryObj = reader.readObjectDetached();
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClientResponse process(ClientConnectionContext ctx) {
+        boolean javaCallbacks = filterFactoryObj != null || transformerFactoryObj != null;
+
+        IgniteCache cache = javaCallbacks && !isKeepBinary() ? rawCache(ctx) : cache(ctx);
+
+        ctx.incrementCursors();
+
+        ClientCacheQueryContinuousHandle handle = new ClientCacheQueryContinuousHandle(ctx);
+
+        // Handle should be registered before the query is started, since events are sent with the handle ID.
+        long handleId = ctx.resources().put(handle);
+
+        handle.id(handleId);
+
+        try {
+            AbstractContinuousQuery qry;
+
+            if (transformerFactoryObj == null) {
+                qry = new ContinuousQuery<>()
+                    .setLocalListener(evts -> handle.onUpdated(evts, false));
+            }
+            else {
+                qry = new ContinuousQueryWithTransformer<>()
+                    .setRemoteTransformerFactory(deserialize(transformerFactoryObj))
+                    .setLocalListener(evts -> handle.onUpdated(evts, true));
+            }
+
+            qry.setPageSize(pageSize);
+            qry.setTimeInterval(timeInterval);
+            qry.setIncludeExpired(includeExpired);
+
+            if (filterFactoryObj != null) {
+                if (filterPlatform != FILTER_PLATFORM_JAVA) {
+                    throw new IgniteClientException(ClientStatus.FAILED, "Invalid client ContinuousQuery filter " +
+                        "platform code: " + filterPlatform);
+                }
+
+                qry.setRemoteFilterFactory(deserialize(filterFactoryObj));
+            }
+
+            handle.cursor(cache.query(qry));
+        }
+        catch (Exception e) {
+            ctx.resources().release(handleId);
+
+            throw e;
+        }
+
+        return new ClientCacheQueryContinuousResponse(requestId(), handle);
+    }
+
+    /**
+     * Deserializes factory as part of process() call - not in constructor - for proper error handling.
+     *
+     * @param obj Factory object.
+     * @return Factory.
+     */
+    private static Factory deserialize(Object obj) {
+        return (Factory)(obj instanceof BinaryObject ? ((BinaryObject)obj).deserialize() : obj);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.platform.client.streamer;
+
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.internal.processors.platform.client.ClientCloseableResource;
+
+/**
+ * Data streamer of a client connection. It is registered as a connection resource and is reused by all load
+ * requests of the connection with the same cache, flags and stream receiver.
+ */
+public class ClientDataStreamerHandle implements ClientCloseableResource {
+    /** Data streamer. */
+    private final IgniteDataStreamer<Object, Object> streamer;
+
+    /** Resource ID. */
+    private volatile long resId;
+
+    /**
+     * @param streamer Data streamer.
+     */
+    ClientDataStreamerHandle(IgniteDataStreamer<Object, Object> streamer) {
+        this.streamer = streamer;
+    }
+
+    /**
+     * @return Data streamer.
+     */
+    IgniteDataStreamer<Object, Object> streamer() {
+        return streamer;
+    }
+
+    /**
+     * @return Resource ID.
+     */
+    long resourceId() {
+        return resId;
+    }
+
+    /**
+     * @param resId Resource ID.
+     */
+    void resourceId(long resId) {
+        this.resId = resId;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        // Every load request flushes its entries, so nothing is left to load when the resource is closed.
+        streamer.close(true);
+    }
+}
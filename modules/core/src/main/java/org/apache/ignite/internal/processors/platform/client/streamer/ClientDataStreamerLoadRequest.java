@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.platform.client.streamer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.internal.binary.BinaryRawReaderEx;
+import org.apache.ignite.internal.processors.cache.DynamicCacheDescriptor;
+import org.apache.ignite.internal.processors.platform.client.ClientConnectionContext;
+import org.apache.ignite.internal.processors.platform.client.ClientRequest;
+import org.apache.ignite.internal.processors.platform.client.ClientResponse;
+import org.apache.ignite.internal.processors.platform.client.ClientStatus;
+import org.apache.ignite.internal.processors.platform.client.IgniteClientException;
+import org.apache.ignite.internal.util.lang.GridMapEntry;
+import org.apache.ignite.internal.util.typedef.T3;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.stream.StreamReceiver;
+
+/**
+ * Request to load a batch of entries with a data streamer. Entries with {@code null} values are removed.
+ * <p>
+ * Data streamer is created by the first request of the connection with given cache, flags and stream receiver
+ * and is reused by the following ones. Every request flushes the data streamer before the response is sent.
+ */
+public class ClientDataStreamerLoadRequest extends ClientRequest {
+    /** "Allow overwrite" flag mask. */
+    private static final byte ALLOW_OVERWRITE_FLAG_MASK = 0x01;
+
+    /** "Skip store" flag mask. */
+    private static final byte SKIP_STORE_FLAG_MASK = 0x02;
+
+    /** Cache ID. */
+    private final int cacheId;
+
+    /** Flags. */
+    private final byte flags;
+
+    /** Stream receiver. */
+    private final Object rcvr;
+
+    /** Entries. */
+    private final List<Map.Entry<Object, Object>> entries;
+
+    /**
+     * Constructor.
+     *
+     * @param reader Reader.
+     */
+    public ClientDataStreamerLoadRequest(BinaryRawReaderEx reader) {
+        super(reader);
+
+        cacheId = reader.readInt();
+
+        flags = reader.readByte();
+
+        rcvr = reader.readObjectDetached();
+
+        int cnt = reader.readInt();
+
+        entries = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++)
+            entries.add(new GridMapEntry<>(reader.readObjectDetached(), reader.readObjectDetached()));
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClientResponse process(ClientConnectionContext ctx) {
+        DynamicCacheDescriptor desc = ctx.kernalContext().cache().cacheDescriptor(cacheId);
+
+        if (desc == null)
+            throw new IgniteClientException(ClientStatus.CACHE_DOES_NOT_EXIST, "Cache does not exist [cacheId= " +
+                cacheId + "]", null);
+
+        T3<Integer, Byte, Object> key = new T3<>(cacheId, flags, rcvr);
+
+        ClientDataStreamerHandle hnd = ctx.dataStreamers().computeIfAbsent(key, k -> {
+            ClientDataStreamerHandle hnd0 = new ClientDataStreamerHandle(createStreamer(ctx, desc.cacheName()));
+
+            hnd0.resourceId(ctx.resources().put(hnd0));
+
+            return hnd0;
+        });
+
+        try {
+            IgniteFuture<?> fut = hnd.streamer().addData(entries);
+
+            // Response means that the entries are loaded, other requests of the connection may flush them as well.
+            hnd.streamer().flush();
+
+            fut.get();
+        }
+        catch (RuntimeException e) {
+            // Data streamer may be unusable after a failure, the next request creates a new one.
+            if (ctx.dataStreamers().remove(key, hnd))
+                ctx.resources().release(hnd.resourceId());
+
+            throw e;
+        }
+
+        return new ClientResponse(requestId());
+    }
+
+    /**
+     * @param ctx Connection context.
+     * @param cacheName Cache name.
+     * @return Data streamer configured with the request flags and stream receiver.
+     */
+    @SuppressWarnings("unchecked")
+    private IgniteDataStreamer<Object, Object> createStreamer(ClientConnectionContext ctx, String cacheName) {
+        // Deserialize as part of process() call - not in constructor - for proper error handling.
+        StreamReceiver<Object, Object> rcvr0 = rcvr == null ? null : (StreamReceiver<Object, Object>)
+            (rcvr instanceof BinaryObject ? ((BinaryObject)rcvr).deserialize() : rcvr);
+
+        IgniteDataStreamer<Object, Object> streamer = ctx.kernalContext().grid().dataStreamer(cacheName);
+
+        streamer.allowOverwrite((flags & ALLOW_OVERWRITE_FLAG_MASK) != 0);
+        streamer.skipStore((flags & SKIP_STORE_FLAG_MASK) != 0);
+        streamer.keepBinary(true);
+
+        if (rcvr0 != null)
+            streamer.receiver(rcvr0);
+
+        return streamer;
+    }
+}
@@ -17,11 +17,14 @@
 package org.apache.ignite.internal.util;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_OPTIMISTIC_READS;
+
 /**
  * Lock state structure is as follows:
  * <pre>
@@ -31,6 +34,9 @@ import org.apache.ignite.internal.util.typedef.internal.U;
  *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
  *     +----------------+---------------+---------+----------+
  * </pre>
+ * There is no room for a version in the lock state, so if optimistic reads are enabled, every write unlock
+ * increments a version of the stripe the lock belongs to. An optimistic read is valid if the lock is not write
+ * locked and the stripe version did not change since the read was started.
  */
 public class OffheapReadWriteLock {
     /**
@@ -50,6 +56,12 @@ public class OffheapReadWriteLock {
     /** Maximum number of waiting threads, read or write. */
     public static final int MAX_WAITERS = 0xFFFF;
 
+    /** Number of version stripes, must be a power of two. */
+    private static final int VERSION_STRIPES = 1024;
+
+    /** Distance between versions of adjacent stripes in longs, to place every version to its own cache line. */
+    private static final int VERSION_STRIDE = 8;
+
     /** */
     private final ReentrantLock[] locks;
 
@@ -65,10 +77,21 @@ public class OffheapReadWriteLock {
     /** */
     private int monitorsMask;
 
+    /** Versions of stripes, {@code null} if optimistic reads are disabled. */
+    private final AtomicLongArray versions;
+
     /**
      * @param concLvl Concurrency level, must be a power of two.
      */
     public OffheapReadWriteLock(int concLvl) {
+        this(concLvl, IgniteSystemProperties.getBoolean(IGNITE_PAGE_OPTIMISTIC_READS));
+    }
+
+    /**
+     * @param concLvl Concurrency level, must be a power of two.
+     * @param optimisticReads Whether to support optimistic reads.
+     */
+    public OffheapReadWriteLock(int concLvl, boolean optimisticReads) {
         if ((concLvl & concLvl - 1) != 0)
             throw new IllegalArgumentException("Concurrency level must be a power of 2: " + concLvl);
 
@@ -87,6 +110,16 @@ public class OffheapReadWriteLock {
             writeConditions[i] = lock.newCondition();
             balancers[i] = new AtomicInteger(0);
         }
+
+        if (optimisticReads) {
+            versions = new AtomicLongArray(VERSION_STRIPES * VERSION_STRIDE);
+
+            // Zero stamp means that optimistic read is not possible.
+            for (int i = 0; i < VERSION_STRIPES; i++)
+                versions.set(i * VERSION_STRIDE, 1);
+        }
+        else
+            versions = null;
     }
 
     /**
@@ -248,6 +281,42 @@ public class OffheapReadWriteLock {
         return lockCount(GridUnsafe.getLongVolatile(null, lock)) > 0;
     }
 
+    /**
+     * Starts an optimistic read. The protected resource can be read without locking, but the read must be validated
+     * with {@link #validate(long, long)} before any result of it is used.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @return Stamp to validate the read with or {@code 0} if the lock is write locked, tag validation failed or
+     *      optimistic reads are disabled.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        if (versions == null)
+            return 0L;
+
+        long ver = versions.get(versionIndex(lock));
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return checkTag(state, tag) && canReadLock(state) ? ver : 0L;
+    }
+
+    /**
+     * @param lock Lock address.
+     * @param stamp Stamp returned by {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if the lock was not write locked since the stamp was obtained.
+     */
+    public boolean validate(long lock, long stamp) {
+        assert stamp != 0L && versions != null;
+
+        // Do not let the optimistic reads pass the check.
+        GridUnsafe.loadFence();
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return canReadLock(state) && versions.get(versionIndex(lock)) == stamp;
+    }
+
     /**
      * @param lock Lock address.
      */
@@ -256,6 +325,10 @@ public class OffheapReadWriteLock {
 
         assert tag != 0;
 
+        // Invalidate optimistic reads before the lock is released.
+        if (versions != null)
+            versions.incrementAndGet(versionIndex(lock));
+
         while (true) {
             long state = GridUnsafe.getLongVolatile(null, lock);
 
@@ -507,6 +580,14 @@ public class OffheapReadWriteLock {
         return U.safeAbs(U.hash(lock)) & monitorsMask;
     }
 
+    /**
+     * @param lock Lock address.
+     * @return Index of the version of the stripe for this lock address.
+     */
+    private int versionIndex(long lock) {
+        return (U.safeAbs(U.hash(lock)) & (VERSION_STRIPES - 1)) * VERSION_STRIDE;
+    }
+
     /**
      * @param state Lock state.
      * @return {@code True} if write lock is not acquired.
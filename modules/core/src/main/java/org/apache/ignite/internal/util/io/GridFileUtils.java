@@ -30,7 +30,8 @@ import static java.nio.file.StandardOpenOption.WRITE;
  */
 public class GridFileUtils {
     /**
-     * Copy file
+     * Copy file using {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which
+     * avoids copying data through user space where supported by the OS.
      *
      * @param src Source file.
      * @param dst Destination file.
@@ -47,14 +48,9 @@ public class GridFileUtils {
             try (FileChannel srcChannel = FileChannel.open(src.toPath(), READ)) {
                 long limit = Math.min(srcChannel.size(), maxBytes);
                 long position = 0;
-                long writtenBytes;
 
-                while (position < limit) {
-                    writtenBytes = srcChannel.transferTo(position, limit, dstChannel);
-
-                    position += writtenBytes;
-                    limit -= writtenBytes;
-                }
+                while (position < limit)
+                    position += srcChannel.transferTo(position, limit - position, dstChannel);
 
                 err = false;
             }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Pool of direct byte buffers shared by sessions of a NIO server.
+ * <p>
+ * Buffers are grouped into power of two size classes starting from {@link #MIN_BUF_SIZE}. A buffer is always
+ * acquired with the capacity of its size class, so a released buffer may be reused for any request of this class.
+ * Requests larger than the biggest size class are served by plain allocations and are freed on release.
+ * The pool retains at most {@code maxPooledBytes} of released buffers, the excess is freed immediately.
+ */
+public class GridNioBufferPool {
+    /** Smallest pooled buffer size. */
+    static final int MIN_BUF_SIZE = 4 << 10;
+
+    /** Number of size classes, the biggest pooled buffer size is {@code MIN_BUF_SIZE << (SIZE_CLASSES - 1)}. */
+    static final int SIZE_CLASSES = 11;
+
+    /** Released buffers by size class. */
+    @GridToStringExclude
+    private final ConcurrentLinkedDeque<ByteBuffer>[] classes;
+
+    /** Byte order of the acquired buffers. */
+    private final ByteOrder order;
+
+    /** Maximum total capacity of retained buffers. */
+    private final long maxPooledBytes;
+
+    /** Total capacity of retained buffers. */
+    @GridToStringExclude
+    private final AtomicLong pooledBytes = new AtomicLong();
+
+    /** Stopped flag. */
+    private volatile boolean stopped;
+
+    /**
+     * @param order Byte order of the acquired buffers.
+     * @param maxPooledBytes Maximum total capacity of retained buffers.
+     */
+    @SuppressWarnings("unchecked")
+    public GridNioBufferPool(ByteOrder order, long maxPooledBytes) {
+        assert order != null;
+        assert maxPooledBytes >= 0;
+
+        this.order = order;
+        this.maxPooledBytes = maxPooledBytes;
+
+        classes = new ConcurrentLinkedDeque[SIZE_CLASSES];
+
+        for (int i = 0; i < SIZE_CLASSES; i++)
+            classes[i] = new ConcurrentLinkedDeque<>();
+    }
+
+    /**
+     * Acquires a cleared buffer.
+     *
+     * @param size Minimum buffer capacity.
+     * @return Direct buffer, its capacity may be greater than requested.
+     */
+    public ByteBuffer acquire(int size) {
+        assert size > 0 : size;
+
+        int cls = sizeClass(size);
+
+        if (cls < 0)
+            return ByteBuffer.allocateDirect(size).order(order);
+
+        // Most recently released buffers are taken first, they are likely to be hot in cache.
+        ByteBuffer buf = classes[cls].pollFirst();
+
+        if (buf == null)
+            return ByteBuffer.allocateDirect(MIN_BUF_SIZE << cls).order(order);
+
+        pooledBytes.addAndGet(-buf.capacity());
+
+        buf.clear();
+        buf.order(order);
+
+        return buf;
+    }
+
+    /**
+     * Returns a buffer acquired from this pool. The buffer must not be used after this call.
+     *
+     * @param buf Buffer.
+     */
+    public void release(ByteBuffer buf) {
+        assert buf.isDirect();
+
+        int cap = buf.capacity();
+        int cls = sizeClass(cap);
+
+        if (stopped || cls < 0 || (MIN_BUF_SIZE << cls) != cap) {
+            GridUnsafe.cleanDirectBuffer(buf);
+
+            return;
+        }
+
+        if (pooledBytes.addAndGet(cap) > maxPooledBytes) {
+            pooledBytes.addAndGet(-cap);
+
+            GridUnsafe.cleanDirectBuffer(buf);
+
+            return;
+        }
+
+        classes[cls].offerFirst(buf);
+    }
+
+    /**
+     * @return Total capacity of buffers retained by the pool.
+     */
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    /**
+     * Frees all retained buffers. Buffers released after this call are freed immediately.
+     */
+    public void stop() {
+        stopped = true;
+
+        for (ConcurrentLinkedDeque<ByteBuffer> cls : classes) {
+            ByteBuffer buf;
+
+            while ((buf = cls.pollFirst()) != null) {
+                pooledBytes.addAndGet(-buf.capacity());
+
+                GridUnsafe.cleanDirectBuffer(buf);
+            }
+        }
+    }
+
+    /**
+     * @param size Buffer size.
+     * @return Size class which fits the given size or {@code -1} if the size is too big to be pooled.
+     */
+    static int sizeClass(int size) {
+        if (size <= MIN_BUF_SIZE)
+            return 0;
+
+        int cls = 32 - Integer.numberOfLeadingZeros(size - 1) - Integer.numberOfTrailingZeros(MIN_BUF_SIZE);
+
+        return cls < SIZE_CLASSES ? cls : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNioBufferPool.class, this, "pooledBytes", pooledBytes.get());
+    }
+}
@@ -46,6 +46,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCheckedException;
@@ -57,6 +58,7 @@ import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.managers.communication.GridIoMessage;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.tracing.MTC;
 import org.apache.ignite.internal.processors.tracing.MTC.TraceSurroundings;
@@ -67,7 +69,6 @@ import org.apache.ignite.internal.processors.tracing.SpanTags;
 import org.apache.ignite.internal.processors.tracing.SpanType;
 import org.apache.ignite.internal.processors.tracing.Tracing;
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
-import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.nio.ssl.GridNioSslFilter;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
@@ -142,6 +143,9 @@ public class GridNioServer<T> {
     private static final boolean DISABLE_KEYSET_OPTIMIZATION =
         IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_NO_SELECTOR_OPTS);
 
+    /** Default value of {@link IgniteSystemProperties#IGNITE_NIO_BUFFER_POOL_SIZE}. */
+    private static final long DFLT_BUF_POOL_SIZE = 32L << 20;
+
     /** */
     public static final String OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_NAME = "outboundMessagesQueueSize";
 
@@ -160,6 +164,15 @@ public class GridNioServer<T> {
     /** */
     public static final String SENT_BYTES_METRIC_DESC = "Total number of bytes sent by current node";
 
+    /** */
+    public static final String WRITE_BATCH_SIZE_METRIC_NAME = "writeBatchSize";
+
+    /** */
+    public static final String WRITE_BATCH_SIZE_METRIC_DESC = "Number of messages sent by a single socket write";
+
+    /** Bounds of {@link #WRITE_BATCH_SIZE_METRIC_NAME} histogram. */
+    private static final long[] WRITE_BATCH_SIZE_BOUNDS = new long[] {1, 2, 4, 8, 16, 32, 64, 128, 256};
+
     /** Defines how many times selector should do {@code selectNow()} before doing {@code select(long)}. */
     private long selectorSpins;
 
@@ -189,6 +202,9 @@ public class GridNioServer<T> {
     /** Flag indicating if this server should use direct buffers. */
     private final boolean directBuf;
 
+    /** Pool of session buffers, {@code null} if sessions allocate own buffers. */
+    @Nullable private final GridNioBufferPool bufPool;
+
     /** Index to select which thread will serve next incoming socket channel. Using round-robin balancing. */
     @GridToStringExclude
     private int readBalanceIdx;
@@ -212,6 +228,9 @@ public class GridNioServer<T> {
     /** Idle timeout. */
     private volatile long idleTimeout = ConnectorConfiguration.DFLT_IDLE_TIMEOUT;
 
+    /** Time in nanoseconds a write batch may be held to coalesce more messages, {@code 0} to write at once. */
+    private volatile long writeBatchLatency;
+
     /** For test purposes only. */
     private boolean skipWrite;
 
@@ -242,6 +261,9 @@ public class GridNioServer<T> {
     /** Outbound messages queue size. */
     @Nullable private final LongAdderMetric outboundMessagesQueueSizeMetric;
 
+    /** Number of messages sent by a single socket write. */
+    @Nullable private final HistogramMetric writeBatchSizeMetric;
+
     /** Sessions. */
     private final GridConcurrentHashSet<GridSelectorNioSessionImpl> sessions = new GridConcurrentHashSet<>();
 
@@ -415,6 +437,10 @@ public class GridNioServer<T> {
         this.directMode = directMode;
         this.writerFactory = writerFactory;
 
+        bufPool = directMode && directBuf ? new GridNioBufferPool(order,
+            IgniteSystemProperties.getLong(IgniteSystemProperties.IGNITE_NIO_BUFFER_POOL_SIZE, DFLT_BUF_POOL_SIZE)) :
+            null;
+
         this.skipRecoveryPred = skipRecoveryPred != null ? skipRecoveryPred : F.<Message>alwaysFalse();
 
         long balancePeriod = IgniteSystemProperties.getLong(IgniteSystemProperties.IGNITE_IO_BALANCE_PERIOD, 5000);
@@ -447,6 +473,12 @@ public class GridNioServer<T> {
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_NAME,
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC
         );
+
+        writeBatchSizeMetric = mreg == null ? null : mreg.histogram(
+            WRITE_BATCH_SIZE_METRIC_NAME,
+            WRITE_BATCH_SIZE_BOUNDS,
+            WRITE_BATCH_SIZE_METRIC_DESC
+        );
     }
 
     /**
@@ -510,6 +542,9 @@ public class GridNioServer<T> {
 
             for (GridSelectorNioSessionImpl ses : sessions)
                 ses.onServerStopped();
+
+            if (bufPool != null)
+                bufPool.stop();
         }
     }
 
@@ -969,6 +1004,29 @@ public class GridNioServer<T> {
         this.writeTimeout = writeTimeout;
     }
 
+    /**
+     * Gets time a write batch may be held to coalesce more messages into a single socket write.
+     *
+     * @return Write batch latency in microseconds, {@code 0} if messages are written at once.
+     */
+    public long writeBatchLatency() {
+        return TimeUnit.NANOSECONDS.toMicros(writeBatchLatency);
+    }
+
+    /**
+     * Sets time a write batch may be held to coalesce more messages into a single socket write. A batch is only
+     * held if the session has recently sent several messages per write, sparse traffic is always written at once.
+     * Selector thread waits for held batches with a millisecond timeout, so a batch which does not fill up may be
+     * held for up to a millisecond longer.
+     *
+     * @param writeBatchLatency Write batch latency in microseconds, {@code 0} to write messages at once.
+     */
+    public void writeBatchLatency(long writeBatchLatency) {
+        A.ensure(writeBatchLatency >= 0, "writeBatchLatency");
+
+        this.writeBatchLatency = TimeUnit.MICROSECONDS.toNanos(writeBatchLatency);
+    }
+
     /**
      * Gets configurable idle timeout for this session. If not set, default value is
      * {@link ConnectorConfiguration#DFLT_IDLE_TIMEOUT}.
@@ -1356,11 +1414,18 @@ public class GridNioServer<T> {
             try {
                 filterChain.onMessageReceived(ses, readBuf);
 
+                // Buffers of a closed session are already released.
+                if (ses.closed())
+                    return;
+
                 if (readBuf.hasRemaining())
                     readBuf.compact();
-                else
+                else {
                     readBuf.clear();
 
+                    ses.releaseReadBuffer();
+                }
+
                 if (ses.hasSystemMessage() && !ses.procWrite.get()) {
                     ses.procWrite.set(true);
 
@@ -1672,6 +1737,8 @@ public class GridNioServer<T> {
                     req = ses.pollFuture();
 
                     if (req == null && buf.position() == 0) {
+                        ses.releaseWriteBuffer();
+
                         stopPollingForWrite(key, ses);
 
                         return;
@@ -1688,6 +1755,8 @@ public class GridNioServer<T> {
             while (finished) {
                 req.onMessageWritten();
 
+                ses.onWriteBatchMessage();
+
                 req = systemMessage(ses);
 
                 if (req == null)
@@ -1699,6 +1768,13 @@ public class GridNioServer<T> {
                 finished = writeToBuffer(ses, buf, req, writer);
             }
 
+            // Write queue is drained, wait a bit for more messages if the session sends them at high rate.
+            if ((finished || (req == null && ses.writeBatchStart() != 0)) && holdWriteBatch(ses, buf)) {
+                stopPollingForWrite(key, ses);
+
+                return;
+            }
+
             buf.flip();
 
             assert buf.hasRemaining();
@@ -1725,13 +1801,21 @@ public class GridNioServer<T> {
                 }
             }
 
+            int batchSize = ses.onWriteBatchFlushed();
+
+            if (writeBatchSizeMetric != null && batchSize > 0)
+                writeBatchSizeMetric.value(batchSize);
+
             if (buf.hasRemaining() || !finished) {
                 buf.compact();
 
                 ses.addMeta(NIO_OPERATION.ordinal(), req);
             }
-            else
+            else {
                 buf.clear();
+
+                ses.releaseWriteBuffer();
+            }
         }
 
         /**
@@ -1840,6 +1924,10 @@ public class GridNioServer<T> {
         /** {@code True} if worker has called or is about to call {@code Selector.select()}. */
         private volatile boolean select;
 
+        /** Sessions holding a write batch to coalesce more messages. */
+        @GridToStringExclude
+        private final List<GridSelectorNioSessionImpl> heldBatches = new ArrayList<>();
+
         /**
          * @param idx Index of this worker in server's array.
          * @param igniteInstanceName Ignite instance name.
@@ -2110,6 +2198,13 @@ public class GridNioServer<T> {
                                     if (workerSessions.remove(ses)) {
                                         ses.startMoveSession(this);
 
+                                        // Held write batch is written by the new worker as soon as it registers the session.
+                                        if (ses.writeBatchStart() != 0) {
+                                            heldBatches.remove(ses);
+
+                                            ses.writeBatchStart(0);
+                                        }
+
                                         SelectionKey key = ses.key();
 
                                         assert key.channel() != null : key;
@@ -2235,6 +2330,46 @@ public class GridNioServer<T> {
                             return;
                     }
 
+                    long holdTime = releaseWriteBatches();
+
+                    if (!heldBatches.isEmpty()) {
+                        // Wait for network events until the earliest held write batch is to be released.
+                        select = true;
+
+                        try {
+                            if (!changeReqs.isEmpty())
+                                continue;
+
+                            updateHeartbeat();
+
+                            // Selector timeout has millisecond granularity.
+                            long timeout = Math.max(1, (holdTime + 999_999) / 1_000_000);
+
+                            if (selector.select(timeout) > 0) {
+                                if (selectedKeys == null)
+                                    processSelectedKeys(selector.selectedKeys());
+                                else
+                                    processSelectedKeysOptimized(selectedKeys.flip());
+                            }
+
+                            if (!closed && !isCancelled && Thread.interrupted())
+                                throw new InterruptedException();
+                        }
+                        finally {
+                            select = false;
+                        }
+
+                        long now = U.currentTimeMillis();
+
+                        if (now - lastIdleCheck > 2000) {
+                            lastIdleCheck = now;
+
+                            checkIdle(selector.keys());
+                        }
+
+                        continue;
+                    }
+
                     // Falling to blocking select.
                     select = true;
 
@@ -2302,6 +2437,75 @@ public class GridNioServer<T> {
             }
         }
 
+        /**
+         * Decides whether the session should hold its write batch to coalesce more messages.
+         * Called when the session write queue is drained.
+         * <p>
+         * While the queue is not empty there is nothing to decide: all queued messages are serialized into the
+         * single write buffer before it is written, and a full buffer is written at once. So an empty queue is
+         * the only point where waiting may coalesce more messages, and the batch is held there only while the
+         * session sends several messages per write. Otherwise the buffer is flushed immediately.
+         *
+         * @param ses Session.
+         * @param buf Write buffer of the session, not flipped yet.
+         * @return {@code True} if the write buffer should not be written now.
+         */
+        final boolean holdWriteBatch(GridSelectorNioSessionImpl ses, ByteBuffer buf) {
+            long latency = writeBatchLatency;
+
+            // Sparse traffic or the buffer is already worth a write.
+            if (latency == 0 || ses.lastWriteBatchSize() < 2 || buf.position() >= buf.capacity() / 2)
+                return false;
+
+            long start = ses.writeBatchStart();
+
+            if (start == 0) {
+                ses.writeBatchStart(System.nanoTime());
+
+                heldBatches.add(ses);
+
+                return true;
+            }
+
+            return System.nanoTime() - start < latency;
+        }
+
+        /**
+         * Resumes writes of the sessions which held a write batch for the configured latency.
+         *
+         * @return Time in nanoseconds until the earliest of the still held write batches is to be released.
+         */
+        private long releaseWriteBatches() {
+            long now = System.nanoTime();
+            long latency = writeBatchLatency;
+            long holdTime = Long.MAX_VALUE;
+
+            for (Iterator<GridSelectorNioSessionImpl> it = heldBatches.iterator(); it.hasNext(); ) {
+                GridSelectorNioSessionImpl ses = it.next();
+
+                long start = ses.writeBatchStart();
+
+                if (start == 0)
+                    // Already written.
+                    it.remove();
+                else if (now - start >= latency) {
+                    it.remove();
+
+                    SelectionKey key = ses.key();
+
+                    if (ses.worker() == this && key != null && key.isValid()) {
+                        ses.procWrite.set(true);
+
+                        registerWrite(ses);
+                    }
+                }
+                else
+                    holdTime = Math.min(holdTime, latency - (now - start));
+            }
+
+            return holdTime;
+        }
+
         /**
          * @param ses Session.
          */
@@ -2644,11 +2848,10 @@ public class GridNioServer<T> {
                 ByteBuffer writeBuf = null;
                 ByteBuffer readBuf = null;
 
-                if (directMode) {
-                    writeBuf = directBuf ? ByteBuffer.allocateDirect(sock.getSendBufferSize()) :
-                        ByteBuffer.allocate(sock.getSendBufferSize());
-                    readBuf = directBuf ? ByteBuffer.allocateDirect(sock.getReceiveBufferSize()) :
-                        ByteBuffer.allocate(sock.getReceiveBufferSize());
+                // Pooled direct buffers are acquired by the session on demand.
+                if (directMode && bufPool == null) {
+                    writeBuf = ByteBuffer.allocate(sock.getSendBufferSize());
+                    readBuf = ByteBuffer.allocate(sock.getReceiveBufferSize());
 
                     writeBuf.order(order);
                     readBuf.order(order);
@@ -2664,7 +2867,10 @@ public class GridNioServer<T> {
                     sndQueueLimit,
                     mreg,
                     writeBuf,
-                    readBuf);
+                    readBuf,
+                    bufPool,
+                    sock.getSendBufferSize(),
+                    sock.getReceiveBufferSize());
 
                 Map<Integer, ?> meta = fut.meta();
 
@@ -2787,13 +2993,7 @@ public class GridNioServer<T> {
             if (ses.setClosed()) {
                 ses.onClosed();
 
-                if (directBuf) {
-                    if (ses.writeBuffer() != null)
-                        GridUnsafe.cleanDirectBuffer(ses.writeBuffer());
-
-                    if (ses.readBuffer() != null)
-                        GridUnsafe.cleanDirectBuffer(ses.readBuffer());
-                }
+                ses.releaseBuffers();
 
                 closeKey(ses.key());
 
@@ -3772,6 +3972,9 @@ public class GridNioServer<T> {
         /** Write timeout. */
         private long writeTimeout = -1;
 
+        /** Write batch latency. */
+        private long writeBatchLatency = -1;
+
         /** Daemon flag. */
         private boolean daemon;
 
@@ -3842,6 +4045,9 @@ public class GridNioServer<T> {
             if (writeTimeout >= 0)
                 ret.writeTimeout(writeTimeout);
 
+            if (writeBatchLatency >= 0)
+                ret.writeBatchLatency(writeBatchLatency);
+
             return ret;
         }
 
@@ -4048,6 +4254,16 @@ public class GridNioServer<T> {
             return this;
         }
 
+        /**
+         * @param writeBatchLatency Write batch latency in microseconds.
+         * @return This for chaining.
+         */
+        public Builder<T> writeBatchLatency(long writeBatchLatency) {
+            this.writeBatchLatency = writeBatchLatency;
+
+            return this;
+        }
+
         /**
          * @param daemon Daemon flag to create threads.
          * @return This for chaining.
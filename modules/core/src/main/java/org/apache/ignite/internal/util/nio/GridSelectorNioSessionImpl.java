@@ -66,6 +66,16 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
     /** Read buffer. */
     private ByteBuffer readBuf;
 
+    /** Pool the read and write buffers are acquired from, {@code null} if buffers are allocated with the session. */
+    @GridToStringExclude
+    @Nullable private final GridNioBufferPool bufPool;
+
+    /** Size of the write buffer acquired from the pool. */
+    private final int writeBufSize;
+
+    /** Size of the read buffer acquired from the pool. */
+    private final int readBufSize;
+
     /** Incoming recovery data. */
     private GridNioRecoveryDescriptor inRecovery;
 
@@ -87,6 +97,15 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
     /** Outbound messages queue size metric. */
     @Nullable private final LongAdderMetric outboundMessagesQueueSizeMetric;
 
+    /** Time in nanoseconds the write batch has been held since, {@code 0} if it is not held. */
+    private long writeBatchStart;
+
+    /** Number of messages put into the write buffer since the last socket write. */
+    private int writeBatchSize;
+
+    /** Number of messages sent by the last socket write. */
+    private int lastWriteBatchSize;
+
     /**
      * Creates session instance.
      *
@@ -99,6 +118,9 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
      * @param sndQueueLimit Send queue limit.
      * @param writeBuf Write buffer.
      * @param readBuf Read buffer.
+     * @param bufPool Pool to acquire read and write buffers from on demand, if buffers are not given.
+     * @param writeBufSize Size of the write buffer acquired from the pool.
+     * @param readBufSize Size of the read buffer acquired from the pool.
      */
     GridSelectorNioSessionImpl(
         IgniteLogger log,
@@ -110,7 +132,10 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
         int sndQueueLimit,
         @Nullable MetricRegistry mreg,
         @Nullable ByteBuffer writeBuf,
-        @Nullable ByteBuffer readBuf
+        @Nullable ByteBuffer readBuf,
+        @Nullable GridNioBufferPool bufPool,
+        int writeBufSize,
+        int readBufSize
     ) {
         super(filterChain, locAddr, rmtAddr, accepted);
 
@@ -140,6 +165,10 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
             this.readBuf = readBuf;
         }
 
+        this.bufPool = bufPool;
+        this.writeBufSize = writeBufSize;
+        this.readBufSize = readBufSize;
+
         outboundMessagesQueueSizeMetric = mreg == null ? null : mreg.longAdderMetric(
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_NAME,
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC
@@ -178,16 +207,110 @@ class GridSelectorNioSessionImpl extends GridNioSessionImpl implements GridNioKe
      * @return Write buffer.
      */
     public ByteBuffer writeBuffer() {
+        if (writeBuf == null && bufPool != null)
+            writeBuf = bufPool.acquire(writeBufSize);
+
         return writeBuf;
     }
 
+    /**
+     * Returns empty write buffer to the pool, the next {@link #writeBuffer()} call acquires a new one.
+     */
+    void releaseWriteBuffer() {
+        if (bufPool != null && writeBuf != null) {
+            assert writeBuf.position() == 0 : writeBuf;
+
+            bufPool.release(writeBuf);
+
+            writeBuf = null;
+        }
+    }
+
+    /**
+     * @return Time in nanoseconds the write batch has been held since, {@code 0} if it is not held.
+     */
+    long writeBatchStart() {
+        return writeBatchStart;
+    }
+
+    /**
+     * @param writeBatchStart Time in nanoseconds the write batch has been held since.
+     */
+    void writeBatchStart(long writeBatchStart) {
+        this.writeBatchStart = writeBatchStart;
+    }
+
+    /**
+     * Called when a message is completely put into the write buffer.
+     */
+    void onWriteBatchMessage() {
+        writeBatchSize++;
+    }
+
+    /**
+     * @return Number of messages sent by the last socket write.
+     */
+    int lastWriteBatchSize() {
+        return lastWriteBatchSize;
+    }
+
+    /**
+     * Called when the write buffer is written to the socket.
+     *
+     * @return Number of messages sent by the write.
+     */
+    int onWriteBatchFlushed() {
+        int size = writeBatchSize;
+
+        lastWriteBatchSize = size;
+        writeBatchSize = 0;
+        writeBatchStart = 0;
+
+        return size;
+    }
+
     /**
      * @return Read buffer.
      */
     public ByteBuffer readBuffer() {
+        if (readBuf == null && bufPool != null)
+            readBuf = bufPool.acquire(readBufSize);
+
         return readBuf;
     }
 
+    /**
+     * Returns empty read buffer to the pool, the next {@link #readBuffer()} call acquires a new one.
+     */
+    void releaseReadBuffer() {
+        if (bufPool != null && readBuf != null) {
+            assert readBuf.position() == 0 : readBuf;
+
+            bufPool.release(readBuf);
+
+            readBuf = null;
+        }
+    }
+
+    /**
+     * Returns read and write buffers to the pool regardless of their content, called when the session is closed.
+     */
+    void releaseBuffers() {
+        if (bufPool != null) {
+            if (writeBuf != null) {
+                bufPool.release(writeBuf);
+
+                writeBuf = null;
+            }
+
+            if (readBuf != null) {
+                bufPool.release(readBuf);
+
+                readBuf = null;
+            }
+        }
+    }
+
     /**
      * @return Registered selection key for this session.
      */
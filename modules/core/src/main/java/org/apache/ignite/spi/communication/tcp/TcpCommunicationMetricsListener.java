@@ -28,7 +28,9 @@ import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.managers.communication.GridIoMessage;
 import org.apache.ignite.internal.processors.metric.GridMetricManager;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.nio.GridNioServer;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.spi.metric.Metric;
@@ -40,6 +42,7 @@ import static org.apache.ignite.internal.util.nio.GridNioServer.RECEIVED_BYTES_M
 import static org.apache.ignite.internal.util.nio.GridNioServer.RECEIVED_BYTES_METRIC_NAME;
 import static org.apache.ignite.internal.util.nio.GridNioServer.SENT_BYTES_METRIC_DESC;
 import static org.apache.ignite.internal.util.nio.GridNioServer.SENT_BYTES_METRIC_NAME;
+import static org.apache.ignite.internal.util.nio.GridNioServer.WRITE_BATCH_SIZE_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_DESC;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_NAME;
@@ -217,6 +220,17 @@ public class TcpCommunicationMetricsListener {
         return sentBytesMetric.value();
     }
 
+    /**
+     * Gets histogram of number of messages sent by a single socket write.
+     *
+     * @return Histogram buckets, see {@link GridNioServer#WRITE_BATCH_SIZE_METRIC_NAME}.
+     */
+    public long[] writeBatchSizeHistogram() {
+        HistogramMetric metric = mreg.findMetric(WRITE_BATCH_SIZE_METRIC_NAME);
+
+        return metric == null ? new long[0] : metric.value();
+    }
+
     /**
      * Gets received messages count.
      *
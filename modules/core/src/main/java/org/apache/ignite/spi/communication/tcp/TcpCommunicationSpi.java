@@ -157,6 +157,7 @@ import static org.apache.ignite.spi.communication.tcp.internal.TcpConnectionInde
  * <li>Direct or heap buffer allocation for sending (see {@link #setDirectSendBuffer(boolean)})</li>
  * <li>Count of selectors and selector threads for NIO server (see {@link #setSelectorsCount(int)})</li>
  * <li>Selector thread busy-loop iterations (see {@link #setSelectorSpins(long)}</li>
+ * <li>Write batch latency (see {@link #setWriteBatchLatency(long)})</li>
  * <li>{@code TCP_NODELAY} socket option for sockets (see {@link #setTcpNoDelay(boolean)})</li>
  * <li>Filter reachable addresses (see {@link #setFilterReachableAddresses(boolean)} </li>
  * <li>Message queue limit (see {@link #setMessageQueueLimit(int)})</li>
@@ -266,6 +267,9 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
      */
     public static final int DFLT_SELECTORS_CNT = Math.max(4, Runtime.getRuntime().availableProcessors() / 2);
 
+    /** Default write batch latency (value is <tt>0</tt>, messages are written at once). */
+    public static final long DFLT_WRITE_BATCH_LATENCY = 0;
+
     /** Connection index meta for session. */
     public static final int CONN_IDX_META = GridNioSessionMetaKey.nextUniqueKey();
 
@@ -778,6 +782,7 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             log.debug(configInfo("sockRcvBuf", cfg.socketReceiveBuffer()));
             log.debug(configInfo("shmemPort", cfg.shmemPort()));
             log.debug(configInfo("msgQueueLimit", cfg.messageQueueLimit()));
+            log.debug(configInfo("writeBatchLatency", cfg.writeBatchLatency()));
             log.debug(configInfo("connectionsPerNode", cfg.connectionsPerNode()));
 
             if (failureDetectionTimeoutEnabled()) {
@@ -223,6 +223,14 @@ public interface TcpCommunicationSpiMBean extends IgniteSpiManagementMBean {
     @MXBeanDescription("Selector thread busy-loop iterations.")
     public long getSelectorSpins();
 
+    /**
+     * Gets time in microseconds a selector thread may hold messages to coalesce them into a single socket write.
+     *
+     * @return Write batch latency in microseconds.
+     */
+    @MXBeanDescription("Time in microseconds a selector thread may hold messages to coalesce them.")
+    public long getWriteBatchLatency();
+
     /**
      * Gets value for {@code TCP_NODELAY} socket option.
      *
@@ -885,6 +885,7 @@ public class GridNioServerWrapper {
                     .directMode(true)
                     .writeTimeout(cfg.socketWriteTimeout())
                     .selectorSpins(cfg.selectorSpins())
+                    .writeBatchLatency(cfg.writeBatchLatency())
                     .filters(filters)
                     .writerFactory(writerFactory)
                     .skipRecoveryPredicate(skipRecoveryPred)
@@ -908,6 +909,7 @@ public class GridNioServerWrapper {
                         ", locHost=" + cfg.localHost() +
                         ", selectorsCnt=" + cfg.selectorsCount() +
                         ", selectorSpins=" + srvr.selectorSpins() +
+                        ", writeBatchLatency=" + srvr.writeBatchLatency() +
                         ", pairedConn=" + cfg.usePairedConnections() + ']');
                 }
 
@@ -55,6 +55,7 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_S
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_SOCK_BUF_SIZE;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_SOCK_WRITE_TIMEOUT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_TCP_NODELAY;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_WRITE_BATCH_LATENCY;
 
 /**
  * Class of configuration for {@link TcpCommunicationSpi} segregation.
@@ -156,6 +157,9 @@ public class TcpCommunicationConfiguration implements Serializable {
      */
     private long selectorSpins = IgniteSystemProperties.getLong("IGNITE_SELECTOR_SPINS", 0L);
 
+    /** Time in microseconds a write batch may be held by NIO server to coalesce more messages. */
+    private long writeBatchLatency = DFLT_WRITE_BATCH_LATENCY;
+
     /** */
     private boolean forceClientToSrvConnections;
 
@@ -523,6 +527,21 @@ public class TcpCommunicationConfiguration implements Serializable {
         this.selectorSpins = selectorSpins;
     }
 
+    /**
+     * @return Time in microseconds a write batch may be held by NIO server to coalesce more messages.
+     */
+    public long writeBatchLatency() {
+        return writeBatchLatency;
+    }
+
+    /**
+     * @param writeBatchLatency New time in microseconds a write batch may be held by NIO server to coalesce more
+     * messages.
+     */
+    public void writeBatchLatency(long writeBatchLatency) {
+        this.writeBatchLatency = writeBatchLatency;
+    }
+
     /**
      * @return Slow client queue limit.
      */
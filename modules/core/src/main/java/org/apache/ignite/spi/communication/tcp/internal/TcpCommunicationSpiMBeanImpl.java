@@ -134,6 +134,11 @@ public class TcpCommunicationSpiMBeanImpl extends IgniteSpiMBeanAdapter implemen
         return cfg.selectorSpins();
     }
 
+    /** {@inheritDoc} */
+    @Override public long getWriteBatchLatency() {
+        return cfg.writeBatchLatency();
+    }
+
     /** {@inheritDoc} */
     @Override public boolean isTcpNoDelay() {
         return cfg.tcpNoDelay();
@@ -16,8 +16,18 @@
 
 package org.apache.ignite.client;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import javax.cache.Cache;
@@ -124,6 +134,81 @@ public class AsyncChannelTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * Test that asynchronous cache operations are pipelined over the channel.
+     */
+    @Test
+    public void testAsyncCacheOperations() throws Exception {
+        try (IgniteClient client = Ignition.startClient(new ClientConfiguration().setAddresses(CLIENT_CONN_ADDR))) {
+            ClientCache<Integer, Person> clientCache = client.cache(CACHE_NAME);
+
+            clientCache.clear();
+
+            List<Future<Void>> putFuts = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++)
+                putFuts.add(clientCache.putAsync(i, new Person(i, "Person " + i)));
+
+            for (Future<Void> fut : putFuts)
+                assertNull(fut.get());
+
+            Map<Integer, Person> batch = new HashMap<>();
+
+            for (int i = 100; i < 200; i++)
+                batch.put(i, new Person(i, "Person " + i));
+
+            clientCache.putAllAsync(batch).get();
+
+            List<Future<Person>> getFuts = new ArrayList<>();
+
+            for (int i = 0; i < 200; i++)
+                getFuts.add(clientCache.getAsync(i));
+
+            for (int i = 0; i < 200; i++)
+                assertEquals(new Person(i, "Person " + i), getFuts.get(i).get());
+
+            Map<Integer, Person> all = clientCache.getAllAsync(new HashSet<>(Arrays.asList(1, 150, 1000))).get();
+
+            assertEquals(2, all.size());
+            assertEquals(new Person(150, "Person 150"), all.get(150));
+
+            assertTrue(clientCache.containsKeyAsync(1).get());
+            assertTrue(clientCache.removeAsync(1).get());
+            assertFalse(clientCache.removeAsync(1).get());
+            assertFalse(clientCache.containsKeyAsync(1).get());
+            assertNull(clientCache.getAsync(1).get());
+
+            assertEquals(199, clientCache.size(CachePeekMode.PRIMARY));
+        }
+    }
+
+    /**
+     * Test that async operations are completed by the configured executor.
+     */
+    @Test
+    public void testAsyncContinuationExecutor() throws Exception {
+        ThreadPoolExecutor exec = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+
+        ClientConfiguration cfg = new ClientConfiguration()
+            .setAddresses(CLIENT_CONN_ADDR)
+            .setAsyncContinuationExecutor(exec);
+
+        try (IgniteClient client = Ignition.startClient(cfg)) {
+            ClientCache<Integer, Person> clientCache = client.cache(CACHE_NAME);
+
+            clientCache.put(0, new Person(0, "Person 0"));
+
+            assertEquals(0, exec.getTaskCount());
+
+            assertEquals(new Person(0, "Person 0"), clientCache.getAsync(0).get());
+
+            assertEquals(1, exec.getTaskCount());
+        }
+        finally {
+            exec.shutdownNow();
+        }
+    }
+
     /**
      * Test multiple concurrent async requests.
      */
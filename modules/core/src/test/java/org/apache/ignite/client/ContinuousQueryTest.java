@@ -0,0 +1,308 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.cache.Cache;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.EventType;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.ContinuousQueryWithTransformer;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.ClientConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.lang.IgniteClosure;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Thin client continuous query tests.
+ */
+public class ContinuousQueryTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 100;
+
+    /** Timeout to wait for events. */
+    private static final long TIMEOUT = 10_000L;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).cache(DEFAULT_CACHE_NAME).clear();
+
+        super.afterTest();
+    }
+
+    /**
+     * Tests events of all types and initial query.
+     */
+    @Test
+    public void testEvents() throws Exception {
+        try (IgniteClient client = startClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            cache.put(-1, -1);
+
+            BlockingQueue<CacheEntryEvent<? extends Integer, ? extends Integer>> evts = new LinkedBlockingQueue<>();
+
+            ContinuousQuery<Integer, Integer> qry = new ContinuousQuery<Integer, Integer>()
+                .setInitialQuery(new ScanQuery<>())
+                .setLocalListener(e -> e.forEach(evts::add));
+
+            try (QueryCursor<Cache.Entry<Integer, Integer>> cur = cache.query(qry)) {
+                List<Cache.Entry<Integer, Integer>> initial = cur.getAll();
+
+                assertEquals(1, initial.size());
+                assertEquals(-1, (int)initial.get(0).getKey());
+
+                for (int i = 0; i < KEYS; i++)
+                    cache.put(i, i);
+
+                for (int i = 0; i < KEYS; i++)
+                    cache.put(i, i + 1);
+
+                for (int i = 0; i < KEYS; i++)
+                    cache.remove(i);
+
+                List<CacheEntryEvent<? extends Integer, ? extends Integer>> received = poll(evts, KEYS * 3);
+
+                assertEquals(KEYS, count(received, EventType.CREATED));
+                assertEquals(KEYS, count(received, EventType.UPDATED));
+                assertEquals(KEYS, count(received, EventType.REMOVED));
+
+                for (CacheEntryEvent<? extends Integer, ? extends Integer> evt : received) {
+                    if (evt.getEventType() == EventType.UPDATED) {
+                        assertEquals(evt.getKey(), evt.getOldValue());
+                        assertEquals(evt.getKey() + 1, (int)evt.getValue());
+                    }
+                }
+            }
+
+            // No events after the cursor is closed.
+            cache.put(KEYS, KEYS);
+
+            assertNull(evts.poll(500, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Tests remote filter.
+     */
+    @Test
+    public void testRemoteFilter() throws Exception {
+        try (IgniteClient client = startClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            BlockingQueue<CacheEntryEvent<? extends Integer, ? extends Integer>> evts = new LinkedBlockingQueue<>();
+
+            ContinuousQuery<Integer, Integer> qry = new ContinuousQuery<Integer, Integer>()
+                .setRemoteFilterFactory(FactoryBuilder.factoryOf(new EvenKeysFilter()))
+                .setLocalListener(e -> e.forEach(evts::add));
+
+            try (QueryCursor<Cache.Entry<Integer, Integer>> ignored = cache.query(qry)) {
+                for (int i = 0; i < KEYS; i++)
+                    cache.put(i, i);
+
+                for (CacheEntryEvent<? extends Integer, ? extends Integer> evt : poll(evts, KEYS / 2))
+                    assertEquals(0, evt.getKey() % 2);
+
+                assertNull(evts.poll(500, TimeUnit.MILLISECONDS));
+            }
+        }
+    }
+
+    /**
+     * Tests remote transformer and batching of events.
+     */
+    @Test
+    public void testRemoteTransformer() throws Exception {
+        try (IgniteClient client = startClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            BlockingQueue<String> evts = new LinkedBlockingQueue<>();
+
+            ContinuousQueryWithTransformer<Integer, Integer, String> qry =
+                new ContinuousQueryWithTransformer<Integer, Integer, String>()
+                    .setRemoteTransformerFactory(FactoryBuilder.factoryOf(new KeyTransformer()))
+                    .setLocalListener(e -> e.forEach(evts::add))
+                    .setPageSize(10)
+                    .setTimeInterval(100);
+
+            try (QueryCursor<Cache.Entry<Integer, Integer>> ignored = cache.query(qry)) {
+                for (int i = 0; i < KEYS; i++)
+                    cache.put(i, i);
+
+                List<String> received = poll(evts, KEYS);
+
+                for (int i = 0; i < KEYS; i++)
+                    assertTrue(received.contains("key-" + i));
+            }
+        }
+    }
+
+    /**
+     * Tests that events are delivered after the local listener failed to process a batch.
+     */
+    @Test
+    public void testListenerFailure() throws Exception {
+        try (IgniteClient client = startClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            BlockingQueue<CacheEntryEvent<? extends Integer, ? extends Integer>> evts = new LinkedBlockingQueue<>();
+
+            ContinuousQuery<Integer, Integer> qry = new ContinuousQuery<Integer, Integer>()
+                .setLocalListener(e -> e.forEach(evt -> {
+                    if (evt.getKey() == 0)
+                        throw new IllegalStateException("Test listener failure");
+
+                    evts.add(evt);
+                }));
+
+            try (QueryCursor<Cache.Entry<Integer, Integer>> ignored = cache.query(qry)) {
+                cache.put(0, 0);
+
+                for (int i = 1; i < KEYS; i++)
+                    cache.put(i, i);
+
+                for (CacheEntryEvent<? extends Integer, ? extends Integer> evt : poll(evts, KEYS - 1))
+                    assertTrue(evt.getKey() > 0);
+            }
+        }
+    }
+
+    /**
+     * Tests that listeners are notified in the threads of the client or of the configured executor.
+     */
+    @Test
+    public void testListenerExecutor() throws Exception {
+        try (IgniteClient client = startClient()) {
+            for (String threadName : listenerThreads(client, KEYS))
+                assertTrue(threadName, threadName.startsWith("thin-client-async-continuation-"));
+        }
+
+        ExecutorService exec = Executors.newSingleThreadExecutor(r -> new Thread(r, "test-cq-listener"));
+
+        try (IgniteClient client = Ignition.startClient(
+            new ClientConfiguration().setAddresses(Config.SERVER).setAsyncContinuationExecutor(exec))) {
+            for (String threadName : listenerThreads(client, KEYS))
+                assertEquals("test-cq-listener", threadName);
+        }
+        finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * @param client Client.
+     * @param cnt Count of events.
+     * @return Names of the threads which notified the local listener about each event.
+     */
+    private static List<String> listenerThreads(IgniteClient client, int cnt) throws InterruptedException {
+        ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        BlockingQueue<String> threads = new LinkedBlockingQueue<>();
+
+        ContinuousQuery<Integer, Integer> qry = new ContinuousQuery<Integer, Integer>()
+            .setLocalListener(e -> e.forEach(evt -> threads.add(Thread.currentThread().getName())));
+
+        try (QueryCursor<Cache.Entry<Integer, Integer>> ignored = cache.query(qry)) {
+            for (int i = 0; i < cnt; i++)
+                cache.put(i, i);
+
+            return poll(threads, cnt);
+        }
+    }
+
+    /**
+     * @param queue Queue.
+     * @param cnt Expected count.
+     * @return Polled elements.
+     */
+    private static <T> List<T> poll(BlockingQueue<T> queue, int cnt) throws InterruptedException {
+        List<T> res = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            T e = queue.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+
+            assertNotNull("Received " + res.size() + " of " + cnt + " events", e);
+
+            res.add(e);
+        }
+
+        return res;
+    }
+
+    /**
+     * @param evts Events.
+     * @param type Event type.
+     * @return Count of events of the given type.
+     */
+    private static int count(List<CacheEntryEvent<? extends Integer, ? extends Integer>> evts, EventType type) {
+        return (int)evts.stream().filter(e -> e.getEventType() == type).count();
+    }
+
+    /**
+     * @return Thin client.
+     */
+    private static IgniteClient startClient() {
+        return Ignition.startClient(new ClientConfiguration().setAddresses(Config.SERVER));
+    }
+
+    /**
+     * Passes events of even keys.
+     */
+    private static class EvenKeysFilter implements CacheEntryEventSerializableFilter<Integer, Integer> {
+        /** {@inheritDoc} */
+        @Override public boolean evaluate(CacheEntryEvent<? extends Integer, ? extends Integer> evt) {
+            return evt.getKey() % 2 == 0;
+        }
+    }
+
+    /**
+     * Transforms event to a string with the key.
+     */
+    private static class KeyTransformer
+        implements IgniteClosure<CacheEntryEvent<? extends Integer, ? extends Integer>, String> {
+        /** {@inheritDoc} */
+        @Override public String apply(CacheEntryEvent<? extends Integer, ? extends Integer> evt) {
+            return "key-" + evt.getKey();
+        }
+    }
+}
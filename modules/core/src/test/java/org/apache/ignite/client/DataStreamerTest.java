@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.ClientConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.stream.StreamReceiver;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Thin client data streamer tests.
+ */
+public class DataStreamerTest extends GridCommonAbstractTest {
+    /** */
+    private static final int NODES = 2;
+
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(NODES);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).cache(DEFAULT_CACHE_NAME).clear();
+
+        super.afterTest();
+    }
+
+    /**
+     * Tests streaming with partition awareness.
+     */
+    @Test
+    public void testStreamingAffinityAware() throws Exception {
+        checkStreaming(true);
+    }
+
+    /**
+     * Tests streaming without partition awareness.
+     */
+    @Test
+    public void testStreaming() throws Exception {
+        checkStreaming(false);
+    }
+
+    /**
+     * Tests that entries with {@code null} values are removed.
+     */
+    @Test
+    public void testRemove() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 100; i++)
+            cache.put(i, i);
+
+        try (IgniteClient client = startClient(true)) {
+            try (ClientDataStreamer<Integer, Integer> streamer = client.dataStreamer(DEFAULT_CACHE_NAME)) {
+                streamer.allowOverwrite(true);
+
+                for (int i = 0; i < 100; i += 2)
+                    streamer.removeData(i);
+            }
+        }
+
+        assertEquals(50, cache.size());
+
+        for (int i = 0; i < 100; i++)
+            assertEquals(i % 2 == 0 ? null : (Integer)i, cache.get(i));
+    }
+
+    /**
+     * Tests that entries are applied by the stream receiver on the server nodes.
+     */
+    @Test
+    public void testReceiver() throws Exception {
+        try (IgniteClient client = startClient(true)) {
+            try (ClientDataStreamer<Integer, Integer> streamer = client.dataStreamer(DEFAULT_CACHE_NAME)) {
+                streamer.receiver(new MultiplyingReceiver()).perPartitionBufferSize(16);
+
+                for (int i = 0; i < KEYS; i++)
+                    streamer.addData(i, i);
+            }
+        }
+
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(KEYS, cache.size());
+
+        for (int i = 0; i < KEYS; i += 100)
+            assertEquals((Integer)(i * 10), cache.get(i));
+    }
+
+    /**
+     * @param affinityAware Partition awareness flag.
+     */
+    private void checkStreaming(boolean affinityAware) throws Exception {
+        try (IgniteClient client = startClient(affinityAware)) {
+            try (ClientDataStreamer<Integer, String> streamer = client.dataStreamer(DEFAULT_CACHE_NAME)) {
+                streamer.perPartitionBufferSize(16).perNodeParallelOperations(4);
+
+                Map<Integer, String> entries = new HashMap<>();
+
+                for (int i = 0; i < KEYS / 2; i++)
+                    entries.put(i, String.valueOf(i));
+
+                streamer.addData(entries);
+
+                for (int i = KEYS / 2; i < KEYS; i++)
+                    streamer.addData(i, String.valueOf(i));
+
+                streamer.flush();
+
+                assertEquals(KEYS, client.cache(DEFAULT_CACHE_NAME).size());
+            }
+
+            ClientCache<Integer, String> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < KEYS; i += 100)
+                assertEquals(String.valueOf(i), cache.get(i));
+        }
+    }
+
+    /**
+     * @param affinityAware Partition awareness flag.
+     */
+    private IgniteClient startClient(boolean affinityAware) {
+        return Ignition.startClient(new ClientConfiguration()
+            .setAddresses("127.0.0.1:10800..10801")
+            .setAffinityAwarenessEnabled(affinityAware));
+    }
+
+    /**
+     * Puts values multiplied by 10.
+     */
+    private static class MultiplyingReceiver implements StreamReceiver<Integer, Integer> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** {@inheritDoc} */
+        @Override public void receive(IgniteCache<Integer, Integer> cache,
+            Collection<Map.Entry<Integer, Integer>> entries) throws IgniteException {
+            for (Map.Entry<Integer, Integer> e : entries)
+                cache.put(e.getKey(), e.getValue() * 10);
+        }
+    }
+}
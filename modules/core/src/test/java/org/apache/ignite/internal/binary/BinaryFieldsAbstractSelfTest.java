@@ -18,10 +18,13 @@ package org.apache.ignite.internal.binary;
 
 import org.apache.ignite.binary.BinaryField;
 import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectException;
 import org.apache.ignite.binary.BinaryTypeConfiguration;
 import org.apache.ignite.configuration.BinaryConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.binary.builder.BinaryObjectBuilderImpl;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.logger.NullLogger;
 import org.apache.ignite.marshaller.MarshallerContextTestImpl;
@@ -60,7 +63,8 @@ public abstract class BinaryFieldsAbstractSelfTest extends GridCommonAbstractTes
         bCfg.setTypeConfigurations(Arrays.asList(
             new BinaryTypeConfiguration(TestObject.class.getName()),
             new BinaryTypeConfiguration(TestOuterObject.class.getName()),
-            new BinaryTypeConfiguration(TestInnerObject.class.getName())
+            new BinaryTypeConfiguration(TestInnerObject.class.getName()),
+            new BinaryTypeConfiguration(TestNumberObject.class.getName())
         ));
 
         IgniteConfiguration iCfg = new IgniteConfiguration();
@@ -403,6 +407,65 @@ public abstract class BinaryFieldsAbstractSelfTest extends GridCommonAbstractTes
         checkNested(dfltMarsh, fieldName, false);
     }
 
+    /**
+     * Test field access on objects of the same type with different schemas.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDifferentSchemas() throws Exception {
+        BinaryContext ctx = binaryContext(dfltMarsh);
+
+        String typeName = "SchemasTestType";
+
+        BinaryObject obj1 = new BinaryObjectBuilderImpl(ctx, typeName).setField("a", 1).setField("b", 2).build();
+        BinaryObject obj2 = new BinaryObjectBuilderImpl(ctx, typeName).setField("b", 3).build();
+        BinaryObject obj3 = new BinaryObjectBuilderImpl(ctx, typeName).setField("c", 4).setField("b", 5)
+            .setField("a", 6).build();
+
+        BinaryField fieldA = obj1.type().field("a");
+        BinaryField fieldB = obj1.type().field("b");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, (int)fieldA.value(obj1));
+            assertEquals(2, (int)fieldB.value(obj1));
+
+            assertFalse(fieldA.exists(obj2));
+            assertNull(fieldA.value(obj2));
+            assertEquals(3, (int)fieldB.value(obj2));
+
+            assertEquals(6, (int)fieldA.value(obj3));
+            assertEquals(5, (int)fieldB.value(obj3));
+        }
+    }
+
+    /**
+     * Test that a value is not set to a field of another type when the object is deserialized.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFieldTypeMismatch() throws Exception {
+        BinaryContext ctx = binaryContext(dfltMarsh);
+
+        String typeName = TestNumberObject.class.getName();
+
+        BinaryObject obj = new BinaryObjectBuilderImpl(ctx, typeName).setField("fNum", 1L).build();
+
+        assertEquals(1L, ((TestNumberObject)obj.deserialize()).fNum);
+
+        BinaryObject invalid = new BinaryObjectBuilderImpl(ctx, typeName).setField("fNum", "1").build();
+
+        try {
+            invalid.deserialize();
+
+            fail("Value of a wrong type has been set to the field.");
+        }
+        catch (BinaryObjectException e) {
+            assertTrue(X.hasCause(e, "value type does not match field type", BinaryObjectException.class));
+        }
+    }
+
     /**
      * Check field resolution in both normal and nested modes.
      *
@@ -591,6 +654,14 @@ public abstract class BinaryFieldsAbstractSelfTest extends GridCommonAbstractTes
         }
     }
 
+    /**
+     * Test object with a field of a non-final type.
+     */
+    public static class TestNumberObject {
+        /** */
+        public Number fNum;
+    }
+
     /**
      * Test object class, c
      */
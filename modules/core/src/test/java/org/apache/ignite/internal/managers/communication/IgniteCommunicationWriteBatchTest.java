@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteMessaging;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetric;
+import org.apache.ignite.internal.util.nio.GridNioServer;
+import org.apache.ignite.internal.util.nio.GridNioSession;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.spi.communication.tcp.internal.GridNioServerWrapper;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_BALANCE_PERIOD;
+import static org.apache.ignite.internal.util.nio.GridNioServer.WRITE_BATCH_SIZE_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+
+/**
+ * Tests write batching of {@link TcpCommunicationSpi} when sessions are moved between NIO workers.
+ */
+@WithSystemProperty(key = IGNITE_IO_BALANCE_PERIOD, value = "0")
+public class IgniteCommunicationWriteBatchTest extends GridCommonAbstractTest {
+    /** */
+    private static final String TOPIC = "writeBatch";
+
+    /** Number of messages sent at once. */
+    private static final int BURST = 200;
+
+    /** */
+    private static final int ROUNDS = 50;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        TcpCommunicationSpi commSpi = (TcpCommunicationSpi)cfg.getCommunicationSpi();
+
+        commSpi.setSharedMemoryPort(-1);
+        commSpi.setSelectorsCount(4);
+        commSpi.setWriteBatchLatency(1000);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that messages are coalesced into socket writes and that held write batches are delivered
+     * when their session is moved to another NIO worker.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSessionMove() throws Exception {
+        IgniteEx snd = startGrid(0);
+        IgniteEx rcv = startGrid(1);
+
+        AtomicInteger rcvd = new AtomicInteger();
+
+        rcv.message().localListen(TOPIC, (nodeId, msg) -> {
+            rcvd.incrementAndGet();
+
+            return true;
+        });
+
+        IgniteMessaging msgs = snd.message(snd.cluster().forNodeId(rcv.localNode().id()));
+
+        GridNioServer<?> srv = ((GridNioServerWrapper)GridTestUtils.getFieldValue(
+            snd.configuration().getCommunicationSpi(), "nioSrvWrapper")).nio();
+
+        int sent = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < BURST; i++)
+                msgs.send(TOPIC, sent++);
+
+            // Last messages of the burst are likely held by the worker the session is moved from.
+            for (GridNioSession ses : srv.sessions())
+                moveSession(srv, ses);
+        }
+
+        int sent0 = sent;
+
+        assertTrue("Messages were not delivered [sent=" + sent + ", rcvd=" + rcvd.get() + ']',
+            GridTestUtils.waitForCondition(() -> rcvd.get() == sent0, 10_000));
+
+        HistogramMetric batchSize = snd.context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME)
+            .findMetric(WRITE_BATCH_SIZE_METRIC_NAME);
+
+        long[] buckets = batchSize.value();
+
+        long coalesced = 0;
+
+        // First bucket counts writes of a single message.
+        for (int i = 1; i < buckets.length; i++)
+            coalesced += buckets[i];
+
+        assertTrue("Messages were not coalesced: " + batchSize.getAsString(), coalesced > 0);
+    }
+
+    /**
+     * Moves the session to the next NIO worker.
+     *
+     * @param srv NIO server.
+     * @param ses Session.
+     * @throws Exception If failed.
+     */
+    private static void moveSession(GridNioServer<?> srv, GridNioSession ses) throws Exception {
+        List<?> workers = srv.workers();
+
+        int from = workers.indexOf(GridTestUtils.getFieldValue(ses, "worker"));
+
+        // Session is being moved already.
+        if (from < 0)
+            return;
+
+        GridTestUtils.invoke(srv, "moveSession", ses, from, (from + 1) % workers.size());
+    }
+}
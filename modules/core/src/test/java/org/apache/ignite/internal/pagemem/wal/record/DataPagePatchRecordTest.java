@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.pagemem.wal.record.delta.DataPagePatchRecord;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests creation of {@link DataPagePatchRecord}.
+ */
+public class DataPagePatchRecordTest {
+    /** */
+    private static final int LEN = 2048;
+
+    /** */
+    @Test
+    public void testPatch() {
+        byte[] oldPayload = new byte[LEN];
+
+        ThreadLocalRandom.current().nextBytes(oldPayload);
+
+        byte[] newPayload = oldPayload.clone();
+
+        newPayload[0]++;
+        newPayload[100]++;
+        newPayload[102]++;
+        newPayload[LEN - 1]++;
+
+        DataPagePatchRecord rec = create(oldPayload, newPayload);
+
+        assertNotNull(rec);
+
+        assertEquals(3, rec.offsets().length);
+        assertTrue(rec.data().length < 10);
+
+        byte[] patched = oldPayload.clone();
+
+        for (int i = 0, pos = 0; i < rec.offsets().length; i++) {
+            System.arraycopy(rec.data(), pos, patched, rec.offsets()[i], rec.lengths()[i]);
+
+            pos += rec.lengths()[i];
+        }
+
+        assertArrayEquals(newPayload, patched);
+    }
+
+    /** */
+    @Test
+    public void testSamePayload() {
+        byte[] payload = new byte[LEN];
+
+        DataPagePatchRecord rec = create(payload, payload.clone());
+
+        assertNotNull(rec);
+        assertEquals(0, rec.offsets().length);
+        assertEquals(0, rec.data().length);
+    }
+
+    /** */
+    @Test
+    public void testFullyChangedPayload() {
+        byte[] oldPayload = new byte[LEN];
+        byte[] newPayload = new byte[LEN];
+
+        Arrays.fill(newPayload, (byte)1);
+
+        assertNull(create(oldPayload, newPayload));
+    }
+
+    /**
+     * @param oldPayload Old payload.
+     * @param newPayload New payload.
+     * @return Patch record.
+     */
+    private DataPagePatchRecord create(byte[] oldPayload, byte[] newPayload) {
+        long addr = GridUnsafe.allocateMemory(newPayload.length);
+
+        try {
+            PageUtils.putBytes(addr, 0, newPayload);
+
+            return DataPagePatchRecord.create(1, 1, 1, oldPayload, addr);
+        }
+        finally {
+            GridUnsafe.freeMemory(addr);
+        }
+    }
+}
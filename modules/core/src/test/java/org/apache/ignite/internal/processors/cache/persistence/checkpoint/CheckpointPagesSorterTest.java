@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.util.GridConcurrentMultiPairQueue;
+import org.apache.ignite.internal.util.GridMultiCollectionWrapper;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CheckpointPagesSorter}.
+ */
+public class CheckpointPagesSorterTest extends GridCommonAbstractTest {
+    /** Number of regions. */
+    private static final int REGIONS = 4;
+
+    /** Pages per collection of a region. */
+    private static final int PAGES = 10_000;
+
+    /** */
+    @Test
+    public void testCollectSortedInCallingThread() throws Exception {
+        checkCollect(null, true);
+    }
+
+    /** */
+    @Test
+    public void testCollectSortedWithExecutor() throws Exception {
+        ExecutorService exec = Executors.newFixedThreadPool(REGIONS);
+
+        try {
+            checkCollect(exec, true);
+        }
+        finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /** */
+    @Test
+    public void testCollectUnsortedWithExecutor() throws Exception {
+        ExecutorService exec = Executors.newFixedThreadPool(REGIONS);
+
+        try {
+            checkCollect(exec, false);
+        }
+        finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * @param exec Executor.
+     * @param sort Sort flag.
+     */
+    private void checkCollect(ExecutorService exec, boolean sort) throws Exception {
+        // Threshold is less than region size, so that parallel sort is used as well.
+        CheckpointPagesSorter sorter = new CheckpointPagesSorter(PAGES, 2);
+
+        try {
+            Collection<Map.Entry<PageMemoryEx, GridMultiCollectionWrapper<FullPageId>>> cpPages = new ArrayList<>();
+
+            int total = 0;
+
+            for (int reg = 0; reg < REGIONS; reg++) {
+                // Every region gets its own group, so that pages of different regions could be told apart.
+                List<FullPageId> first = randomPages(reg);
+                List<FullPageId> second = randomPages(reg);
+
+                total += first.size() + second.size();
+
+                cpPages.add(new T2<>(null, new GridMultiCollectionWrapper<>(first, second)));
+            }
+
+            GridConcurrentMultiPairQueue<PageMemoryEx, FullPageId> queue = sorter.collect(cpPages, total, sort, exec);
+
+            assertEquals(total, queue.initialSize());
+
+            Map<Integer, FullPageId> lastPerGrp = new HashMap<>();
+
+            GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
+                new GridConcurrentMultiPairQueue.Result<>();
+
+            int cnt = 0;
+
+            while (queue.next(res)) {
+                FullPageId page = res.getValue();
+
+                FullPageId prev = lastPerGrp.put(page.groupId(), page);
+
+                if (sort && prev != null)
+                    assertTrue(prev.effectivePageId() <= page.effectivePageId());
+
+                cnt++;
+            }
+
+            assertEquals(total, cnt);
+            assertEquals(REGIONS, lastPerGrp.size());
+        }
+        finally {
+            sorter.stop();
+        }
+    }
+
+    /**
+     * @param grpId Group ID.
+     * @return Random pages of the group.
+     */
+    private static List<FullPageId> randomPages(int grpId) {
+        List<FullPageId> pages = new ArrayList<>(PAGES);
+
+        for (int i = 0; i < PAGES; i++)
+            pages.add(new FullPageId(ThreadLocalRandom.current().nextInt(1_000_000), grpId));
+
+        return pages;
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
@@ -32,6 +33,7 @@ import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.TimeStampRecord;
 import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.DataPagePatchRecord;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV2Serializer;
@@ -46,6 +48,7 @@ import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
+import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.IGNITE_PDS_SKIP_CHECKPOINT_ON_NODE_STOP;
 import static org.apache.ignite.transactions.TransactionState.PREPARED;
 
 /**
@@ -116,6 +119,76 @@ public class IgniteWalSerializerVersionTest extends GridCommonAbstractTest {
         stopGrid();
     }
 
+    /**
+     * Checks that in-place updates of data rows are logged as patches and recovered with serializer version 1.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInPlaceUpdatesWithSerializerV1() throws Exception {
+        System.setProperty(IGNITE_WAL_SERIALIZER_VERSION, "1");
+        System.setProperty(IGNITE_PDS_SKIP_CHECKPOINT_ON_NODE_STOP, "true");
+
+        try {
+            int keys = 100;
+
+            IgniteEx ig = startGrid();
+
+            ig.cluster().active(true);
+
+            IgniteCache<Integer, byte[]> cache = ig.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < keys; i++)
+                cache.put(i, new byte[1000]);
+
+            forceCheckpoint();
+
+            for (int i = 0; i < keys; i++) {
+                byte[] val = new byte[1000];
+
+                val[i] = 1;
+
+                // Value of the same size is updated in place.
+                cache.put(i, val);
+            }
+
+            IgniteWriteAheadLogManager wal = ig.context().cache().context().wal();
+
+            wal.flush(null, false);
+
+            int patches = 0;
+
+            try (GridCloseableIterator<IgniteBiTuple<WALPointer, WALRecord>> it = wal.replay(null)) {
+                while (it.hasNext()) {
+                    if (it.next().get2() instanceof DataPagePatchRecord)
+                        patches++;
+                }
+            }
+
+            assertTrue(patches > 0);
+
+            // Patches are applied by binary recovery, since no checkpoint is made on stop.
+            stopGrid();
+
+            ig = startGrid();
+
+            ig.cluster().active(true);
+
+            cache = ig.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < keys; i++) {
+                byte[] exp = new byte[1000];
+
+                exp[i] = 1;
+
+                assertTrue(Arrays.equals(exp, cache.get(i)));
+            }
+        }
+        finally {
+            System.clearProperty(IGNITE_PDS_SKIP_CHECKPOINT_ON_NODE_STOP);
+        }
+    }
+
     /**
      * @throws Exception If failed.
      */
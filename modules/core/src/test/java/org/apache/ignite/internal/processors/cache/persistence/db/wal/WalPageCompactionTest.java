@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.Arrays;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWALPointer;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Checks that WAL page snapshots are compacted with {@link DiskPageCompression#SKIP_GARBAGE} without
+ * ignite-compress module.
+ */
+public class WalPageCompactionTest extends GridCommonAbstractTest {
+    /** Number of entries. */
+    private static final int ENTRIES_CNT = 20_000;
+
+    /** WAL page compression. */
+    private DiskPageCompression compression = DiskPageCompression.SKIP_GARBAGE;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        DataStorageConfiguration dsCfg = new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true))
+            .setWalPageCompression(compression);
+
+        return super.getConfiguration(igniteInstanceName)
+            .setConsistentId(igniteInstanceName)
+            .setDataStorageConfiguration(dsCfg)
+            // Set new IP finder for each node to start independent clusters.
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(new TcpDiscoveryVmIpFinder(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPageSnapshotsCompacted() throws Exception {
+        // Ignite instance with compacted WAL page records.
+        IgniteEx ignite0 = startGrid(0);
+
+        compression = DiskPageCompression.DISABLED;
+
+        // Reference ignite instance with full WAL page records.
+        IgniteEx ignite1 = startGrid(1);
+
+        ignite0.cluster().active(true);
+        ignite1.cluster().active(true);
+
+        IgniteCache<Integer, byte[]> cache0 = ignite0.getOrCreateCache(cacheConfiguration());
+        IgniteCache<Integer, byte[]> cache1 = ignite1.getOrCreateCache(cacheConfiguration());
+
+        for (int i = 0; i < ENTRIES_CNT; i++) {
+            cache0.put(i, value(i));
+            cache1.put(i, value(i));
+        }
+
+        // Write any WAL record to get current WAL pointers.
+        FileWALPointer ptr0 = (FileWALPointer)ignite0.context().cache().context().wal().log(new CheckpointRecord(null));
+        FileWALPointer ptr1 = (FileWALPointer)ignite1.context().cache().context().wal().log(new CheckpointRecord(null));
+
+        log.info("Compacted WAL pointer: " + ptr0);
+        log.info("Full WAL pointer: " + ptr1);
+
+        assertTrue("Compacted WAL must be smaller than full [ptr0=" + ptr0 + ", ptr1=" + ptr1 + ']',
+            ptr0.compareTo(ptr1) < 0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecoveryFromCompactedPageSnapshots() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().active(true);
+
+        IgniteCache<Integer, byte[]> cache = ignite.getOrCreateCache(cacheConfiguration());
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            cache.put(i, value(i));
+
+        for (int i = 0; i < ENTRIES_CNT; i += 2)
+            cache.remove(i);
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().active(true);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES_CNT; i++) {
+            if (i % 2 == 0)
+                assertNull(cache.get(i));
+            else
+                assertTrue(Arrays.equals(value(i), cache.get(i)));
+        }
+    }
+
+    /**
+     * @return Cache configuration.
+     */
+    private CacheConfiguration<Integer, byte[]> cacheConfiguration() {
+        return new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME)
+            .setBackups(0)
+            .setAffinity(new RendezvousAffinityFunction(false, 32));
+    }
+
+    /**
+     * @param i Entry index.
+     * @return Entry value.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[16 + i % 100];
+
+        val[0] = (byte)i;
+
+        return val;
+    }
+}
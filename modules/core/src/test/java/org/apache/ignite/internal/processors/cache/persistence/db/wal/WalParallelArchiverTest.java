@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.OpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecorator;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.wal.aware.SegmentAware;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_ARCHIVER_THREAD_CNT;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Checks that WAL archiver copies the backlog of segments concurrently and keeps archive consistent.
+ */
+@WithSystemProperty(key = IGNITE_WAL_ARCHIVER_THREAD_CNT, value = "4")
+public class WalParallelArchiverTest extends GridCommonAbstractTest {
+    /** Wal segment size. */
+    private static final int WAL_SEGMENT_SIZE = 1024 * 1024;
+
+    /** Number of WAL work segments. */
+    private static final int WAL_SEGMENTS = 10;
+
+    /** Value size. */
+    private static final int VAL_SIZE = 40_000;
+
+    /**
+     * Entries count. Values are logged both in data records and in page fragment records, so it takes about
+     * four WAL segments, which is less than the number of work segments.
+     */
+    private static final int ENTRIES = 2 * WAL_SEGMENT_SIZE / VAL_SIZE;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String name) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(name);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setPersistenceEnabled(true)
+                .setMaxSize(200L * 1024 * 1024))
+            .setWalSegmentSize(WAL_SEGMENT_SIZE)
+            .setWalSegments(WAL_SEGMENTS));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 16)));
+
+        cfg.setConsistentId(name);
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testArchiverCatchesUpWithBacklog() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        IgniteWriteAheadLogManager wal = ig.context().cache().context().wal();
+
+        File walArchiveDir = U.field(wal, "walArchiveDir");
+
+        ArchiveCopyTrackingFileIOFactory ioFactory =
+            new ArchiveCopyTrackingFileIOFactory(U.field(wal, "ioFactory"), walArchiveDir);
+
+        ((FileWriteAheadLogManager)wal).setFileIOFactory(ioFactory);
+
+        SegmentAware segmentAware = U.field(wal, "segmentAware");
+
+        // Lock the next segment to archive, so that archiver can't mark it as archived and falls behind.
+        long lockedIdx = segmentAware.lastArchivedAbsoluteIndex() + 1;
+
+        assertFalse(segmentAware.checkCanReadArchiveOrReserveWorkSegment(lockedIdx));
+
+        IgniteCache<Integer, byte[]> cache = ig.cache(DEFAULT_CACHE_NAME);
+
+        try {
+            for (int i = 0; i < ENTRIES; i++)
+                cache.put(i, value(i));
+
+            assertTrue("Unexpected archiver lag: " + wal.walArchiverLag(), wal.walArchiverLag() >= 2);
+        }
+        finally {
+            segmentAware.releaseWorkSegment(lockedIdx);
+        }
+
+        assertTrue(waitForCondition(() -> wal.walArchiverLag() == 0, 10_000));
+
+        long lastArchived = wal.lastArchivedSegment();
+
+        assertTrue(lastArchived >= lockedIdx + 2);
+
+        assertTrue("Segments were not archived concurrently: " + ioFactory.maxInFlight.get(),
+            ioFactory.maxInFlight.get() >= 2);
+
+        for (long idx = lockedIdx; idx <= lastArchived; idx++) {
+            File segment = new File(walArchiveDir, FileDescriptor.fileName(idx));
+
+            assertTrue("Segment is not archived: " + segment, segment.exists());
+        }
+
+        stopGrid(0, true);
+
+        ig = startGrid(0);
+
+        ig.cluster().active(true);
+
+        cache = ig.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            assertTrue(Arrays.equals(value(i), cache.get(i)));
+    }
+
+    /**
+     * @param i Entry index.
+     * @return Entry value.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[VAL_SIZE];
+
+        val[i] = 1;
+
+        return val;
+    }
+
+    /**
+     * Tracks the maximum number of archive segment copies in flight. The copy of a segment ends with
+     * {@link FileIO#force()} of the archived file, which waits a bit for other copies to overlap with it.
+     */
+    private static class ArchiveCopyTrackingFileIOFactory implements FileIOFactory {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Delegate. */
+        private final FileIOFactory delegate;
+
+        /** WAL archive directory. */
+        private final File walArchiveDir;
+
+        /** Number of copies in flight. */
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /** Maximum number of copies in flight. */
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        /**
+         * @param delegate Delegate.
+         * @param walArchiveDir WAL archive directory.
+         */
+        ArchiveCopyTrackingFileIOFactory(FileIOFactory delegate, File walArchiveDir) {
+            this.delegate = delegate;
+            this.walArchiveDir = walArchiveDir;
+        }
+
+        /** {@inheritDoc} */
+        @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+            FileIO fileIO = delegate.create(file, modes);
+
+            if (!walArchiveDir.equals(file.getParentFile()))
+                return fileIO;
+
+            return new FileIODecorator(fileIO) {
+                @Override public void force() throws IOException {
+                    int cnt = inFlight.incrementAndGet();
+
+                    maxInFlight.accumulateAndGet(cnt, Math::max);
+
+                    try {
+                        waitForCondition(() -> inFlight.get() > 1, 1_000);
+                    }
+                    catch (Exception e) {
+                        throw new IOException(e);
+                    }
+                    finally {
+                        inFlight.decrementAndGet();
+                    }
+
+                    super.force();
+                }
+            };
+        }
+    }
+}
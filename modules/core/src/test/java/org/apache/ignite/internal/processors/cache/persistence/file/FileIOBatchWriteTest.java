@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Tests batch write of {@link FileIO}.
+ */
+public class FileIOBatchWriteTest extends GridCommonAbstractTest {
+    /** Page size. */
+    private static final int PAGE_SIZE = 4096;
+
+    /** Number of pages in the batch. */
+    private static final int PAGES = 256;
+
+    /** */
+    @Test
+    public void testRandomAccessFileIO() throws Exception {
+        checkBatchWrite(new RandomAccessFileIOFactory());
+    }
+
+    /** */
+    @Test
+    public void testAsyncFileIO() throws Exception {
+        checkBatchWrite(new AsyncFileIOFactory());
+    }
+
+    /**
+     * Checks that a decorator writes the batch through its own single writes, so the decorators which intercept
+     * single writes intercept the writes of the batches too.
+     */
+    @Test
+    public void testDecoratedFileIO() throws Exception {
+        AtomicInteger writes = new AtomicInteger();
+
+        FileIOFactory factory = (file, modes) -> new FileIODecorator(new FileIODecorator(
+            new RandomAccessFileIOFactory().create(file, modes)) {
+            @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+                writes.incrementAndGet();
+
+                return super.write(srcBuf, position);
+            }
+        });
+
+        checkBatchWrite(factory);
+
+        assertTrue("Unexpected number of writes: " + writes.get(), writes.get() >= PAGES);
+    }
+
+    /**
+     * @param factory File I/O factory.
+     */
+    private void checkBatchWrite(FileIOFactory factory) throws Exception {
+        File file = File.createTempFile("batch-write", ".bin");
+
+        try (FileIO io = factory.create(file, CREATE, READ, WRITE)) {
+            ByteBuffer[] bufs = new ByteBuffer[PAGES];
+            long[] positions = new long[PAGES];
+
+            // Write pages in reverse order to check that each buffer goes to its own position.
+            for (int i = 0; i < PAGES; i++) {
+                bufs[i] = ByteBuffer.allocateDirect(PAGE_SIZE);
+
+                for (int j = 0; j < PAGE_SIZE / 4; j++)
+                    bufs[i].putInt(PAGES - i);
+
+                bufs[i].flip();
+
+                positions[i] = (long)(PAGES - i - 1) * PAGE_SIZE;
+            }
+
+            assertEquals((long)PAGES * PAGE_SIZE, io.writeFully(bufs, positions));
+
+            assertEquals((long)PAGES * PAGE_SIZE, io.size());
+
+            ByteBuffer readBuf = ByteBuffer.allocateDirect(PAGE_SIZE);
+
+            for (int page = 0; page < PAGES; page++) {
+                readBuf.clear();
+
+                assertEquals(PAGE_SIZE, io.readFully(readBuf, (long)page * PAGE_SIZE));
+
+                readBuf.flip();
+
+                int pos = ThreadLocalRandom.current().nextInt(PAGE_SIZE / 4) * 4;
+
+                assertEquals(page + 1, readBuf.getInt(pos));
+            }
+        }
+        finally {
+            file.delete();
+        }
+    }
+}
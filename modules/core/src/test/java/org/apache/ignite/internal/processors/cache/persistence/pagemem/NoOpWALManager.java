@@ -173,6 +173,11 @@ public class NoOpWALManager implements IgniteWriteAheadLogManager {
         return -1L;
     }
 
+    /** {@inheritDoc} */
+    @Override public long walArchiverLag() {
+        return 0;
+    }
+
     /** {@inheritDoc} */
     @Override public long lastCompactedSegment() {
         return -1L;
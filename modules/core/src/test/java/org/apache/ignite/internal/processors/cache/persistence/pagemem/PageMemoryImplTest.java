@@ -28,16 +28,20 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.failure.NoOpFailureHandler;
 import org.apache.ignite.internal.IgniteFutureTimeoutCheckedException;
+import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
 import org.apache.ignite.internal.managers.eventstorage.GridEventStorageManager;
 import org.apache.ignite.internal.mem.DirectMemoryProvider;
 import org.apache.ignite.internal.mem.IgniteOutOfMemoryException;
 import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
@@ -54,6 +58,7 @@ import org.apache.ignite.internal.processors.metric.GridMetricManager;
 import org.apache.ignite.internal.processors.plugin.IgnitePluginProcessor;
 import org.apache.ignite.internal.processors.subscription.GridInternalSubscriptionProcessor;
 import org.apache.ignite.internal.util.GridMultiCollectionWrapper;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.lang.GridInClosure3X;
 import org.apache.ignite.lang.IgniteInClosure;
@@ -64,12 +69,15 @@ import org.apache.ignite.spi.eventstorage.NoopEventStorageSpi;
 import org.apache.ignite.spi.metric.noop.NoopMetricExporterSpi;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.GridTestKernalContext;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.apache.ignite.testframework.junits.logger.GridTestLog4jLogger;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_DIRTY_PAGES_TRIGGER_RATIO;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_REPLACEMENT_COLD_PAGE_PROMOTION_DELAY;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_IDX;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.CHECKPOINT_POOL_OVERFLOW_ERROR_MSG;
@@ -159,6 +167,158 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
         }).get(getTestTimeout());
     }
 
+    /**
+     * Tests that checkpoint is requested once dirty pages ratio of a segment reaches
+     * {@link IgniteSystemProperties#IGNITE_CHECKPOINT_DIRTY_PAGES_TRIGGER_RATIO}, before updates are blocked.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_CHECKPOINT_DIRTY_PAGES_TRIGGER_RATIO, value = "0.1")
+    public void testCheckpointTriggeredByDirtyPagesRatio() throws Exception {
+        AtomicInteger cpRequests = new AtomicInteger();
+
+        IgniteCacheDatabaseSharedManager dbMgr = new IgniteCacheDatabaseSharedManager() {
+            @Override public IgniteInternalFuture wakeupForCheckpoint(String reason) {
+                cpRequests.incrementAndGet();
+
+                return null;
+            }
+        };
+
+        PageMemoryImpl memory = createPageMemory(
+            MAX_SIZE,
+            PageMemoryImpl.ThrottlingPolicy.DISABLED,
+            new NoOpPageStoreManager(),
+            (fullPageId, byteBuf, tag) -> {
+                assert false : "No page replacement (rotation with disk) should happen during the test";
+            },
+            null,
+            dbMgr,
+            null);
+
+        while (cpRequests.get() == 0) {
+            long pageId = memory.allocatePage(1, INDEX_PARTITION, FLAG_IDX);
+
+            acquireAndReleaseWriteLock(memory, new FullPageId(pageId, 1));
+
+            assertTrue(memory.safeToUpdate());
+        }
+    }
+
+    /**
+     * Tests that in {@link PageReplacementMode#SEGMENTED_LRU} mode a scan over pages, which do not fit the memory,
+     * does not replace pages which were accessed again after the promotion delay.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_PAGE_REPLACEMENT_COLD_PAGE_PROMOTION_DELAY, value = "1000")
+    public void testSegmentedLruScanDoesNotReplaceHotPages() throws Exception {
+        TestPageStoreManager pageStoreMgr = new TestPageStoreManager();
+
+        // Create a 1 mb page memory.
+        PageMemoryImpl memory = createPageMemory(
+            1,
+            PageMemoryImpl.ThrottlingPolicy.DISABLED,
+            pageStoreMgr,
+            pageStoreMgr,
+            null,
+            new IgniteCacheDatabaseSharedManager(),
+            PageReplacementMode.SEGMENTED_LRU);
+
+        int hotPageCnt = 50;
+        int scanPageCnt = 3 * (int)(MB / PAGE_SIZE);
+
+        List<FullPageId> hotPages = new ArrayList<>(hotPageCnt);
+        List<FullPageId> scanPages = new ArrayList<>(scanPageCnt);
+
+        for (int i = 0; i < hotPageCnt + scanPageCnt; i++) {
+            FullPageId fullId = new FullPageId(PageIdUtils.pageId(INDEX_PARTITION, FLAG_IDX, i + 1), 1);
+
+            storePage(pageStoreMgr, fullId);
+
+            (i < hotPageCnt ? hotPages : scanPages).add(fullId);
+        }
+
+        // Access right after the load does not promote a page.
+        for (FullPageId fullId : hotPages) {
+            readPage(memory, fullId);
+            readPage(memory, fullId);
+
+            assertTrue(isColdPage(memory, fullId));
+        }
+
+        doSleep(1_500);
+
+        for (FullPageId fullId : hotPages) {
+            readPage(memory, fullId);
+
+            assertFalse(isColdPage(memory, fullId));
+        }
+
+        // Every page of the scan is accessed twice, as scans of a page with several rows do.
+        for (FullPageId fullId : scanPages) {
+            readPage(memory, fullId);
+            readPage(memory, fullId);
+        }
+
+        for (FullPageId fullId : hotPages)
+            assertTrue("Hot page was replaced: " + fullId, memory.hasLoadedPage(fullId));
+    }
+
+    /**
+     * @param mem Page memory.
+     * @param fullId Full page ID.
+     * @return {@code True} if the page is in cold segment.
+     * @throws Exception If failed.
+     */
+    private boolean isColdPage(PageMemoryImpl mem, FullPageId fullId) throws Exception {
+        long page = mem.acquirePage(fullId.groupId(), fullId.pageId());
+
+        try {
+            return PageHeader.isCold(page);
+        }
+        finally {
+            mem.releasePage(fullId.groupId(), fullId.pageId(), page);
+        }
+    }
+
+    /**
+     * @param pageStoreMgr Page store manager.
+     * @param fullId Full page ID.
+     * @throws Exception If failed.
+     */
+    private void storePage(TestPageStoreManager pageStoreMgr, FullPageId fullId) throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+        DummyPageIO.VERSIONS.latest().initNewPage(GridUnsafe.bufferAddress(buf), fullId.pageId(), PAGE_SIZE);
+
+        pageStoreMgr.write(fullId.groupId(), fullId.pageId(), buf, 0);
+    }
+
+    /**
+     * @param mem Page memory.
+     * @param fullId Full page ID to read.
+     * @throws Exception If failed.
+     */
+    private void readPage(PageMemoryImpl mem, FullPageId fullId) throws Exception {
+        int grpId = fullId.groupId();
+        long pageId = fullId.pageId();
+        long page = mem.acquirePage(grpId, pageId);
+
+        try {
+            long ptr = mem.readLock(grpId, pageId, page);
+
+            assertTrue("Failed to lock page: " + fullId, ptr != 0);
+
+            mem.readUnlock(grpId, pageId, page);
+        }
+        finally {
+            mem.releasePage(grpId, pageId, page);
+        }
+    }
+
     /**
      * Tests that checkpoint buffer won't be overflowed with enabled CHECKPOINT_BUFFER_ONLY throttling.
      * @throws Exception If failed.
@@ -560,6 +720,31 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
         IgnitePageStoreManager mgr,
         PageStoreWriter replaceWriter,
         @Nullable IgniteInClosure<FullPageId> cpBufChecker
+    ) throws Exception {
+        return createPageMemory(
+            maxSize,
+            throttlingPlc,
+            mgr,
+            replaceWriter,
+            cpBufChecker,
+            new IgniteCacheDatabaseSharedManager(),
+            null);
+    }
+
+    /**
+     * @param throttlingPlc Throttling Policy.
+     * @param dbMgr Database manager.
+     * @param replacementMode Page replacement mode.
+     * @throws Exception If creating mock failed.
+     */
+    private PageMemoryImpl createPageMemory(
+        int maxSize,
+        PageMemoryImpl.ThrottlingPolicy throttlingPlc,
+        IgnitePageStoreManager mgr,
+        PageStoreWriter replaceWriter,
+        @Nullable IgniteInClosure<FullPageId> cpBufChecker,
+        IgniteCacheDatabaseSharedManager dbMgr,
+        @Nullable PageReplacementMode replacementMode
     ) throws Exception {
         long[] sizes = new long[5];
 
@@ -599,7 +784,7 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             mgr,
             new NoOpWALManager(),
             null,
-            new IgniteCacheDatabaseSharedManager(),
+            dbMgr,
             null,
             null,
             null,
@@ -642,7 +827,8 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
                 kernalCtx.metric(),
                 NO_OP_METRICS),
             throttlingPlc,
-            noThrottle
+            noThrottle,
+            replacementMode
         ) : new PageMemoryImpl(
             provider,
             sizes,
@@ -661,7 +847,8 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
                 kernalCtx.metric(),
                 NO_OP_METRICS),
             throttlingPlc,
-            noThrottle
+            noThrottle,
+            replacementMode
         ) {
             @Override public FullPageId pullPageFromCpBuffer() {
                 FullPageId pageId = super.pullPageFromCpBuffer();
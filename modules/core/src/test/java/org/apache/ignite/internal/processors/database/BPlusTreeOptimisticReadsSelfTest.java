@@ -0,0 +1,29 @@
+/*
+ * Copyright 2020 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.database;
+
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_OPTIMISTIC_READS;
+
+/**
+ * Test with optimistic reads of inner pages.
+ */
+@WithSystemProperty(key = IGNITE_PAGE_OPTIMISTIC_READS, value = "true")
+public class BPlusTreeOptimisticReadsSelfTest extends BPlusTreeReuseSelfTest {
+    // No-op.
+}
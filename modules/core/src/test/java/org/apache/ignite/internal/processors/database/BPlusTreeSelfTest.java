@@ -2797,6 +2797,13 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
             return Long.compare(n1, n2);
         }
 
+        /** {@inheritDoc} */
+        @Override protected int compareInPage(BPlusIO<Long> io, long pageAddr, int idx, Long n2)
+            throws IgniteCheckedException {
+            // Rows are stored in pages.
+            return compare(io, pageAddr, idx, n2);
+        }
+
         /** {@inheritDoc} */
         @Override public Long getRow(BPlusIO<Long> io, long pageAddr, int idx, Object ignore)
             throws IgniteCheckedException {
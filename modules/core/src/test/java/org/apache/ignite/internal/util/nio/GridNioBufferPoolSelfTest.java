@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.util.nio.GridNioBufferPool.MIN_BUF_SIZE;
+import static org.apache.ignite.internal.util.nio.GridNioBufferPool.SIZE_CLASSES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link GridNioBufferPool}.
+ */
+public class GridNioBufferPoolSelfTest {
+    /**
+     * Tests size classes.
+     */
+    @Test
+    public void testSizeClass() {
+        assertEquals(0, GridNioBufferPool.sizeClass(1));
+        assertEquals(0, GridNioBufferPool.sizeClass(MIN_BUF_SIZE));
+        assertEquals(1, GridNioBufferPool.sizeClass(MIN_BUF_SIZE + 1));
+        assertEquals(1, GridNioBufferPool.sizeClass(MIN_BUF_SIZE * 2));
+        assertEquals(SIZE_CLASSES - 1, GridNioBufferPool.sizeClass(MIN_BUF_SIZE << (SIZE_CLASSES - 1)));
+        assertEquals(-1, GridNioBufferPool.sizeClass((MIN_BUF_SIZE << (SIZE_CLASSES - 1)) + 1));
+    }
+
+    /**
+     * Tests that released buffers are reused.
+     */
+    @Test
+    public void testReuse() {
+        GridNioBufferPool pool = new GridNioBufferPool(ByteOrder.LITTLE_ENDIAN, 1 << 20);
+
+        ByteBuffer buf = pool.acquire(10_000);
+
+        assertTrue(buf.isDirect());
+        assertEquals(16 << 10, buf.capacity());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buf.order());
+
+        buf.putLong(1L);
+
+        pool.release(buf);
+
+        assertEquals(16 << 10, pool.pooledBytes());
+
+        ByteBuffer buf0 = pool.acquire(9_000);
+
+        assertSame(buf, buf0);
+        assertEquals(0, buf0.position());
+        assertEquals(buf0.capacity(), buf0.limit());
+        assertEquals(0, pool.pooledBytes());
+
+        assertNotSame(buf0, pool.acquire(9_000));
+        assertEquals(8 << 10, pool.acquire(5_000).capacity());
+
+        pool.stop();
+    }
+
+    /**
+     * Tests that the pool does not retain more than the configured size.
+     */
+    @Test
+    public void testMaxPooledBytes() {
+        GridNioBufferPool pool = new GridNioBufferPool(ByteOrder.BIG_ENDIAN, 2 * MIN_BUF_SIZE);
+
+        ByteBuffer buf1 = pool.acquire(MIN_BUF_SIZE);
+        ByteBuffer buf2 = pool.acquire(MIN_BUF_SIZE);
+        ByteBuffer buf3 = pool.acquire(MIN_BUF_SIZE);
+
+        pool.release(buf1);
+        pool.release(buf2);
+        pool.release(buf3);
+
+        assertEquals(2 * MIN_BUF_SIZE, pool.pooledBytes());
+
+        ByteBuffer big = pool.acquire((MIN_BUF_SIZE << (SIZE_CLASSES - 1)) + 1);
+
+        assertEquals((MIN_BUF_SIZE << (SIZE_CLASSES - 1)) + 1, big.capacity());
+
+        pool.release(big);
+
+        assertEquals(2 * MIN_BUF_SIZE, pool.pooledBytes());
+
+        pool.stop();
+
+        assertEquals(0, pool.pooledBytes());
+
+        pool.release(pool.acquire(MIN_BUF_SIZE));
+
+        assertEquals(0, pool.pooledBytes());
+    }
+}
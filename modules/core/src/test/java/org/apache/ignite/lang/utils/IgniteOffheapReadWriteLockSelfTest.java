@@ -469,6 +469,153 @@ public class IgniteOffheapReadWriteLockSelfTest extends GridCommonAbstractTest {
         validate(data);
     }
 
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testOptimisticRead() throws Exception {
+        OffheapReadWriteLock lock = new OffheapReadWriteLock(16, true);
+
+        long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        try {
+            lock.init(ptr, TAG_0);
+
+            // Optimistic reads are disabled by default.
+            assertEquals(0L, new OffheapReadWriteLock(16).tryOptimisticRead(ptr, TAG_0));
+
+            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(stamp != 0L);
+            assertEquals(0L, lock.tryOptimisticRead(ptr, TAG_0 + 1));
+
+            // Read locks do not invalidate optimistic reads.
+            assertTrue(lock.readLock(ptr, TAG_0));
+            assertEquals(stamp, lock.tryOptimisticRead(ptr, TAG_0));
+
+            lock.readUnlock(ptr);
+
+            assertTrue(lock.validate(ptr, stamp));
+
+            assertTrue(lock.writeLock(ptr, TAG_0));
+            assertEquals(0L, lock.tryOptimisticRead(ptr, TAG_0));
+            assertFalse(lock.validate(ptr, stamp));
+
+            lock.writeUnlock(ptr, TAG_0);
+
+            assertFalse(lock.validate(ptr, stamp));
+
+            stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(stamp != 0L);
+            assertTrue(lock.validate(ptr, stamp));
+
+            // Tag change also invalidates optimistic reads.
+            assertTrue(lock.writeLock(ptr, TAG_0));
+
+            lock.writeUnlock(ptr, TAG_0 + 1);
+
+            assertFalse(lock.validate(ptr, stamp));
+            assertEquals(0L, lock.tryOptimisticRead(ptr, TAG_0));
+            assertTrue(lock.tryOptimisticRead(ptr, TAG_0 + 1) != 0L);
+        }
+        finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testConcurrentOptimisticReads() throws Exception {
+        final int numPairs = 100;
+        final Pair[] data = new Pair[numPairs];
+
+        for (int i = 0; i < numPairs; i++)
+            data[i] = new Pair();
+
+        final OffheapReadWriteLock lock = new OffheapReadWriteLock(16, true);
+
+        final long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        lock.init(ptr, TAG_0);
+
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicInteger failedReads = new AtomicInteger();
+        final AtomicInteger writes = new AtomicInteger();
+        final AtomicBoolean done = new AtomicBoolean(false);
+
+        try {
+            IgniteInternalFuture<Long> fut = GridTestUtils.runMultiThreadedAsync(new Callable<Object>() {
+                /** {@inheritDoc} */
+                @Override public Object call() {
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+                    while (!done.get()) {
+                        if (rnd.nextInt(10) < 2) {
+                            assertTrue(lock.writeLock(ptr, TAG_0));
+
+                            try {
+                                int idx = rnd.nextInt(numPairs);
+                                int delta = rnd.nextInt(100_000);
+
+                                data[idx].a += delta;
+                                data[idx].b -= delta;
+                            }
+                            finally {
+                                lock.writeUnlock(ptr, TAG_0);
+                            }
+
+                            writes.incrementAndGet();
+                        }
+                        else {
+                            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+                            if (stamp == 0L) {
+                                failedReads.incrementAndGet();
+
+                                continue;
+                            }
+
+                            int idx = rnd.nextInt(numPairs);
+
+                            int a = data[idx].a;
+                            int b = data[idx].b;
+
+                            if (lock.validate(ptr, stamp)) {
+                                assertEquals("Failed check for index: " + idx, a, -b);
+
+                                reads.incrementAndGet();
+                            }
+                            else
+                                failedReads.incrementAndGet();
+                        }
+                    }
+
+                    return null;
+                }
+            }, 16, "tester");
+
+            for (int i = 0; i < ROUNDS_PER_TEST; i++) {
+                Thread.sleep(1_000);
+
+                info("Reads: " + reads.get() + ", failed reads: " + failedReads.get() + ", writes=" + writes.get());
+            }
+
+            done.set(true);
+
+            fut.get();
+
+            assertTrue(reads.get() > 0);
+
+            validate(data);
+        }
+        finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
     /**
      * Validates data integrity.
      *
@@ -67,6 +67,7 @@ abstract class GridTcpCommunicationSpiAbstractTest extends GridAbstractCommunica
         spi.setLocalPort(GridTestUtils.getNextCommPort(getClass()));
         spi.setIdleConnectionTimeout(IDLE_CONN_TIMEOUT);
         spi.setTcpNoDelay(tcpNoDelay());
+        spi.setWriteBatchLatency(writeBatchLatency());
 
         return spi;
     }
@@ -76,6 +77,13 @@ abstract class GridTcpCommunicationSpiAbstractTest extends GridAbstractCommunica
      */
     protected abstract boolean tcpNoDelay();
 
+    /**
+     * @return Value of property '{@link TcpCommunicationSpi#getWriteBatchLatency()}'.
+     */
+    protected long writeBatchLatency() {
+        return TcpCommunicationSpi.DFLT_WRITE_BATCH_LATENCY;
+    }
+
     /** {@inheritDoc} */
     @Override protected int getSpiCount() {
         return SPI_COUNT;
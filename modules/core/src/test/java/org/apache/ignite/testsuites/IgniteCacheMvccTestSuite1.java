@@ -34,6 +34,7 @@ import org.apache.ignite.internal.managers.communication.IgniteCommunicationBala
 import org.apache.ignite.internal.managers.communication.IgniteCommunicationBalancePairedConnectionsTest;
 import org.apache.ignite.internal.managers.communication.IgniteCommunicationBalanceTest;
 import org.apache.ignite.internal.managers.communication.IgniteCommunicationSslBalanceTest;
+import org.apache.ignite.internal.managers.communication.IgniteCommunicationWriteBatchTest;
 import org.apache.ignite.internal.managers.communication.IgniteIoTestMessagesTest;
 import org.apache.ignite.internal.managers.communication.IgniteVariousConnectionNumberTest;
 import org.apache.ignite.internal.processors.cache.CacheAffinityCallSelfTest;
@@ -221,6 +222,7 @@ public class IgniteCacheMvccTestSuite1 {
         ignoredTests.add(IgniteCommunicationBalancePairedConnectionsTest.class);
         ignoredTests.add(IgniteCommunicationBalanceMultipleConnectionsTest.class);
         ignoredTests.add(IgniteCommunicationSslBalanceTest.class);
+        ignoredTests.add(IgniteCommunicationWriteBatchTest.class);
         ignoredTests.add(IgniteIoTestMessagesTest.class);
 
         ignoredTests.add(GridCacheTcpClientDiscoveryMultiThreadedTest.class);
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.processors.cache.persistence.IgnitePdsDiscoDat
 import org.apache.ignite.internal.processors.cache.persistence.IgnitePdsDynamicCacheTest;
 import org.apache.ignite.internal.processors.cache.persistence.IgnitePdsSingleNodePutGetPersistenceTest;
 import org.apache.ignite.internal.processors.cache.persistence.IgnitePdsSporadicDataRecordsOnBackupTest;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesSorterTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.IgnitePdsCacheRestoreTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.IgnitePdsDataRegionMetricsTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.IgnitePdsWithTtlTest;
@@ -127,6 +128,8 @@ public class IgnitePdsTestSuite {
 
         GridTestUtils.addTestIfNeeded(suite, SegmentAwareTest.class, ignoredTests);
 
+        GridTestUtils.addTestIfNeeded(suite, CheckpointPagesSorterTest.class, ignoredTests);
+
         return suite;
     }
 
@@ -28,6 +28,12 @@ public interface H2MemoryTracker extends AutoCloseable {
      */
     public boolean reserve(long size);
 
+    /**
+     * Fails the query after {@link #reserve(long)} returned {@code false} for an operation which can't offload its
+     * data to disk.
+     */
+    public void failOnQuotaExceeded();
+
     /**
      * Tracks memory releasing.
      *
@@ -69,6 +69,18 @@ public class HashJoinIndex extends BaseIndex {
     /** Filter index condition. */
     private ArrayList<IndexCondition> filterIdxCond;
 
+    /** All index conditions: equi-join and filter ones. */
+    private ArrayList<IndexCondition> idxConds;
+
+    /**
+     * Index to look up rows with when the hash table doesn't fit into the query memory quota. Not used if it is
+     * the scan index, i.e. the table has no index on the join columns: the query fails with the quota error then.
+     */
+    private Index fallbackIdx;
+
+    /** Whether the hash table build was abandoned because of the query memory quota. */
+    private boolean overflowed;
+
     /** Memory tracker. */
     private H2MemoryTracker tracker;
 
@@ -168,31 +180,36 @@ public class HashJoinIndex extends BaseIndex {
         AllColumnsForPlan allColumnsSet) {
 
         // Doesn't applicable for batched (distributed) join
-        if (ses.isJoinBatchEnabled())
+        if (ses.isJoinBatchEnabled() || masks == null)
             return Long.MAX_VALUE;
 
-        double cost = 0;
+        long rowCnt = Math.max(table.getRowCountApproximation(ses), 1);
+
+        // The most selective equality condition defines the number of rows matching a probe.
+        long distinct = 0;
 
         for (Column column : columns) {
-            int index = column.getColumnId();
+            int mask = masks[column.getColumnId()];
 
-            int mask = masks[index];
+            if ((mask & IndexCondition.EQUALITY) == IndexCondition.EQUALITY)
+                distinct = Math.max(distinct, Math.max(rowCnt * column.getSelectivity() / 100, 1));
+        }
 
-            if (mask != 0 && ((mask & IndexCondition.EQUALITY) == IndexCondition.EQUALITY)) {
-                if (cost > 0) {
-                    // Decrease cost for each equality condition to choose the mask with max EQ condition:
-                    // e.g. SELECT A, B where A.id0=b.id0 AND A.id1=B.id1
-                    // the mask with both condition must be win!
-                    cost -= 2;
-                }
-                else {
-                    // base cost of temporary hash index.
-                    cost = 2 * columns.length + table.getRowCountApproximation(ses) / 1000;
-                }
-            }
+        if (distinct == 0)
+            return Long.MAX_VALUE;
+
+        double matches = Math.max((double)rowCnt / distinct, 1);
+
+        // The hash table is built once and then probed by each row of the outer tables,
+        // so the build cost is shared among the probes.
+        double probes = 1;
+
+        if (filters != null) {
+            for (int i = 0; i < filter; i++)
+                probes *= Math.max(filters[i].getTable().getRowCountApproximation(ses), 1);
         }
 
-        return cost > 0 ? cost : Long.MAX_VALUE;
+        return 2 + matches + rowCnt / probes;
     }
 
     /** {@inheritDoc} */
@@ -222,9 +239,12 @@ public class HashJoinIndex extends BaseIndex {
 
     /** {@inheritDoc} */
     @Override public Cursor find(Session ses, SearchRow first, SearchRow last) {
-        if (hashTbl == null)
+        if (hashTbl == null && !overflowed)
             build(ses);
 
+        if (overflowed)
+            return openCursor(ses, fallbackIdx, idxConds);
+
         Value key = hashKey(first);
 
         // Because index is used only for EQUI-JOIN
@@ -304,6 +324,7 @@ public class HashJoinIndex extends BaseIndex {
         List<HashColumn> hashCols = new ArrayList<>();
 
         filterIdxCond = new ArrayList<>();
+        idxConds = indexConditions;
 
         for (IndexCondition idxCond : indexConditions) {
             if (isEquiJoinCondition(idxCond)) {
@@ -327,6 +348,8 @@ public class HashJoinIndex extends BaseIndex {
 
         prepareFillFromIndex(ses);
 
+        prepareFallbackIndex(ses);
+
         // Prepare filter condition.
         for (IndexCondition idxCond : filterIdxCond) {
             ConditionChecker checker = ConditionChecker.create(ses, idxCond);
@@ -356,21 +379,34 @@ public class HashJoinIndex extends BaseIndex {
 
     /**
      * @param ses Session.
-     * @return Cursor to fill hash table.
      */
-    private Cursor openCursorToFillHashTable(Session ses) {
-        if (fillFromIndex.isFindUsingFullTableScan())
-            return fillFromIndex.find(ses, null, null);
+    private void prepareFallbackIndex(Session ses) {
+        int masks[] = IndexCondition.createMasksForTable(table, idxConds);
+
+        PlanItem plan = table.getBestPlanItem(ses, masks, null, 0, null, null, false);
+
+        fallbackIdx = plan.getIndex();
+    }
+
+    /**
+     * @param ses Session.
+     * @param idx Index to look up rows.
+     * @param conds Index conditions to define the lookup bounds.
+     * @return Cursor over the rows matching the conditions.
+     */
+    private Cursor openCursor(Session ses, Index idx, List<IndexCondition> conds) {
+        if (idx.isFindUsingFullTableScan())
+            return idx.find(ses, null, null);
 
         SearchRow first = null;
         SearchRow last = null;
 
         boolean colIndexed[] = new boolean[table.getColumns().length];
 
-        for (Column c : fillFromIndex.getColumns())
+        for (Column c : idx.getColumns())
             colIndexed[c.getColumnId()] = true;
 
-        for (IndexCondition condition : filterIdxCond) {
+        for (IndexCondition condition : conds) {
             // If index can perform only full table scan do not try to use it for regular
             // lookups, each such lookup will perform an own table scan.
             Column column = condition.getColumn();
@@ -387,7 +423,8 @@ public class HashJoinIndex extends BaseIndex {
                 int columnId = column.getColumnId();
 
                 if (columnId != SearchRow.ROWID_INDEX) {
-                    IndexColumn idxCol = indexColumns[columnId];
+                    int idxColPos = idx.getColumnIndex(column);
+                    IndexColumn idxCol = idxColPos < 0 ? null : idx.getIndexColumns()[idxColPos];
                     if (idxCol != null && (idxCol.sortType & SortOrder.DESCENDING) != 0) {
                         // if the index column is sorted the other way, we swap
                         // end and start NULLS_FIRST / NULLS_LAST is not a
@@ -406,7 +443,7 @@ public class HashJoinIndex extends BaseIndex {
             }
         }
 
-        return fillFromIndex.find(ses, first, last);
+        return idx.find(ses, first, last);
     }
 
     /**
@@ -420,7 +457,7 @@ public class HashJoinIndex extends BaseIndex {
                 c.calculateValue(ses);
         }
 
-        Cursor cur = openCursorToFillHashTable(ses);
+        Cursor cur = openCursor(ses, fillFromIndex, filterIdxCond);
 
         hashTbl = new HashMap<>();
 
@@ -445,7 +482,11 @@ public class HashJoinIndex extends BaseIndex {
 
                     size += Constants.MEMORY_POINTER + r.getMemory();
 
-                    tracker.reserve(size);
+                    if (!tracker.reserve(size)) {
+                        onMemoryQuotaExceeded(ses);
+
+                        return;
+                    }
                 }
 
                 if (keyRows == null) {
@@ -466,6 +507,33 @@ public class HashJoinIndex extends BaseIndex {
         }
     }
 
+    /**
+     * Abandons the hash table when it doesn't fit into the query memory quota and offloading is enabled.
+     * The rows are looked up with the index on the join columns afterwards, so the join is completed within
+     * the quota. Without such an index each probe would scan the whole table, so the query fails with
+     * the quota error instead.
+     *
+     * @param ses Session.
+     */
+    private void onMemoryQuotaExceeded(Session ses) {
+        try {
+            if (fallbackIdx.isFindUsingFullTableScan())
+                tracker.failOnQuotaExceeded();
+        }
+        finally {
+            clearHashTable(ses);
+        }
+
+        overflowed = true;
+
+        Trace t = ses.getTrace();
+
+        if (t.isDebugEnabled()) {
+            t.debug("Hash table for {0} exceeds the memory quota, use index {1} instead",
+                table.getName(), fallbackIdx.getName());
+        }
+    }
+
     /**
      * @param r Row.
      * @return Hash key.
@@ -506,6 +574,7 @@ public class HashJoinIndex extends BaseIndex {
      */
     public void clearHashTable(Session session) {
         hashTbl = null;
+        overflowed = false;
 
         if (tracker != null)
             tracker.close();
@@ -121,6 +121,7 @@ import org.apache.ignite.internal.processors.query.TableInformation;
 import org.apache.ignite.internal.processors.query.UpdateSourceIterator;
 import org.apache.ignite.internal.processors.query.h2.affinity.H2PartitionResolver;
 import org.apache.ignite.internal.processors.query.h2.affinity.PartitionExtractor;
+import org.apache.ignite.internal.processors.query.h2.database.H2Tree;
 import org.apache.ignite.internal.processors.query.h2.database.H2TreeClientIndex;
 import org.apache.ignite.internal.processors.query.h2.database.H2TreeIndex;
 import org.apache.ignite.internal.processors.query.h2.database.H2TreeIndexBase;
@@ -2531,7 +2532,7 @@ public class IgniteH2Indexing implements GridQueryIndexing {
 
         long metaPageId = page.pageId().pageId();
 
-        int inlineSize = getInlineSize(page, grpId, pageMemory);
+        H2Tree.MetaPageInfo metaInfo = getMetaInfo(page, grpId, pageMemory);
 
         String grpName = ctx.cache().cacheGroup(grpId).cacheOrGroupName();
 
@@ -2547,8 +2548,8 @@ public class IgniteH2Indexing implements GridQueryIndexing {
             removeId,
             metaPageId,
             reuseList,
-            H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled),
-            H2ExtrasLeafIO.getVersions(inlineSize, mvccEnabled),
+            H2ExtrasInnerIO.getVersions(metaInfo.innerInlineSize(), mvccEnabled),
+            H2ExtrasLeafIO.getVersions(metaInfo.inlineSize(), mvccEnabled),
             ctx.failure(),
             lockLsnr
         ) {
@@ -2568,10 +2569,11 @@ public class IgniteH2Indexing implements GridQueryIndexing {
      * @param page Root page.
      * @param grpId Cache group id.
      * @param pageMemory Page memory.
-     * @return Inline size.
+     * @return Meta page info.
      * @throws IgniteCheckedException If something went wrong.
      */
-    private int getInlineSize(RootPage page, int grpId, PageMemory pageMemory) throws IgniteCheckedException {
+    private H2Tree.MetaPageInfo getMetaInfo(RootPage page, int grpId, PageMemory pageMemory)
+        throws IgniteCheckedException {
         long metaPageId = page.pageId().pageId();
 
         final long metaPage = pageMemory.acquirePage(grpId, metaPageId);
@@ -2585,7 +2587,7 @@ public class IgniteH2Indexing implements GridQueryIndexing {
             try {
                 BPlusMetaIO io = BPlusMetaIO.VERSIONS.forPage(pageAddr);
 
-                return io.getInlineSize(pageAddr);
+                return new H2Tree.MetaPageInfo(io, pageAddr);
             }
             finally {
                 pageMemory.readUnlock(grpId, metaPageId, metaPage);
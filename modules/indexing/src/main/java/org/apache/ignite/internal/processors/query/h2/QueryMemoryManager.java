@@ -336,6 +336,11 @@ public class QueryMemoryManager implements H2MemoryTracker, ManagedGroupByDataFa
         // NO-OP
     }
 
+    /** {@inheritDoc} */
+    @Override public void failOnQuotaExceeded() {
+        throw new SqlMemoryQuotaExceededException("SQL query ran out of memory: Global quota was exceeded.");
+    }
+
     /** {@inheritDoc} */
     @Override public H2MemoryTracker createChildTracker() {
         throw new UnsupportedOperationException();
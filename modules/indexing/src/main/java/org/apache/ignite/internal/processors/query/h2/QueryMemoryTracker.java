@@ -170,6 +170,11 @@ public class QueryMemoryTracker implements H2MemoryTracker, GridQueryMemoryMetri
             throw new SqlMemoryQuotaExceededException("SQL query ran out of memory: Query quota was exceeded.");
     }
 
+    /** {@inheritDoc} */
+    @Override public void failOnQuotaExceeded() {
+        throw new SqlMemoryQuotaExceededException("SQL query ran out of memory: Query quota was exceeded.");
+    }
+
     /** {@inheritDoc} */
     @Override public synchronized void release(long size) {
         assert size >= 0;
@@ -367,6 +372,11 @@ public class QueryMemoryTracker implements H2MemoryTracker, GridQueryMemoryMetri
             return res;
         }
 
+        /** {@inheritDoc} */
+        @Override public void failOnQuotaExceeded() {
+            parent.failOnQuotaExceeded();
+        }
+
         /** {@inheritDoc} */
         @Override public void release(long size) {
             checkClosed();
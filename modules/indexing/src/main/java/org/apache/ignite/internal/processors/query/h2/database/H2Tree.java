@@ -64,6 +64,7 @@ import org.h2.value.Value;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.query.h2.database.H2TreeIndexBase.computeInlineSize;
+import static org.apache.ignite.internal.processors.query.h2.database.H2TreeIndexBase.computeInnerInlineSize;
 import static org.apache.ignite.internal.processors.query.h2.database.H2TreeIndexBase.getAvailableInlineColumns;
 import static org.apache.ignite.internal.processors.query.h2.database.inlinecolumn.AbstractInlineIndexColumn.CANT_BE_COMPARE;
 
@@ -83,6 +84,9 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
     /** */
     private final int inlineSize;
 
+    /** Inline size of inner pages, it is less than {@link #inlineSize} if separator keys are truncated. */
+    private final int innerInlineSize;
+
     /** List of helpers to work with inline values on the page. */
     private final List<InlineIndexColumn> inlineIdxs;
 
@@ -239,6 +243,7 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
             cols = (unwrappedPk ? unwrappedCols : wrappedCols).toArray(H2Utils.EMPTY_COLUMNS);
 
             inlineSize = metaInfo.inlineSize();
+            innerInlineSize = metaInfo.innerInlineSize();
 
             List<InlineIndexColumn> inlineIdxs0 = getAvailableInlineColumns(affinityKey, cacheName, idxName, log, pk,
                 table, cols, factory, metaInfo.inlineObjectHash());
@@ -246,7 +251,7 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
             // IOs must be set before calling inlineObjectSupported(),
             // because IOs will be used to traverse the tree.
             setIos(
-                H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled),
+                H2ExtrasInnerIO.getVersions(innerInlineSize, mvccEnabled),
                 H2ExtrasLeafIO.getVersions(inlineSize, mvccEnabled)
             );
 
@@ -294,13 +299,17 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
                 table, cols, factory, true);
 
             inlineSize = computeInlineSize(inlineIdxs, configuredInlineSize, cctx.config().getSqlIndexMaxInlineSize());
+            innerInlineSize = computeInnerInlineSize(inlineIdxs, inlineSize);
 
             setIos(
-                H2ExtrasInnerIO.getVersions(inlineSize, mvccEnabled),
+                H2ExtrasInnerIO.getVersions(innerInlineSize, mvccEnabled),
                 H2ExtrasLeafIO.getVersions(inlineSize, mvccEnabled)
             );
 
             initTree(true, inlineSize);
+
+            if (innerInlineSize != inlineSize)
+                initInnerInlineSize();
         }
 
         created = initNew;
@@ -449,6 +458,13 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         return inlineSize;
     }
 
+    /**
+     * @return Inline size of inner pages.
+     */
+    public int innerInlineSize() {
+        return innerInlineSize;
+    }
+
     /**
      * @return Inline size.
      * @throws IgniteCheckedException If failed.
@@ -476,6 +492,36 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         }
     }
 
+    /**
+     * Stores inline size of inner pages to the meta page of the new tree.
+     *
+     * @throws IgniteCheckedException On error.
+     */
+    private void initInnerInlineSize() throws IgniteCheckedException {
+        final long metaPage = acquirePage(metaPageId);
+
+        try {
+            long pageAddr = writeLock(metaPageId, metaPage); // Meta can't be removed.
+
+            assert pageAddr != 0 : "Failed to write lock meta page [metaPageId=" +
+                U.hexLong(metaPageId) + ']';
+
+            try {
+                BPlusMetaIO.VERSIONS.forPage(pageAddr).setInnerInlineSize(pageAddr, innerInlineSize);
+
+                if (wal != null)
+                    wal.log(new PageSnapshot(new FullPageId(metaPageId, grpId),
+                        pageAddr, pageMem.pageSize(), pageMem.realPageSize(grpId)));
+            }
+            finally {
+                writeUnlock(metaPageId, metaPage, pageAddr, true);
+            }
+        }
+        finally {
+            releasePage(metaPageId, metaPage);
+        }
+    }
+
     /**
      * Update root meta page if need (previous version not supported features flags
      * and created product version on root meta page).
@@ -519,6 +565,9 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
             else {
                 int off = io.offset(idx);
 
+                // Separator keys in inner pages may be truncated.
+                int inlineSize = io.isLeaf() ? inlineSize() : innerInlineSize;
+
                 int fieldOff = 0;
 
                 int lastIdxUsed = 0;
@@ -530,7 +579,7 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
                     if (v2 == null)
                         return 0;
 
-                    int c = inlineIdx.compare(pageAddr, off + fieldOff, inlineSize() - fieldOff, v2, comp);
+                    int c = inlineIdx.compare(pageAddr, off + fieldOff, inlineSize - fieldOff, v2, comp);
 
                     if (c == CANT_BE_COMPARE)
                         break;
@@ -542,14 +591,15 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
 
                     fieldOff += inlineIdx.fullSize(pageAddr, off + fieldOff);
 
-                    if (fieldOff > inlineSize())
+                    if (fieldOff > inlineSize)
                         break;
                 }
 
                 if (lastIdxUsed == cols.length)
                     return mvccCompare((H2RowLinkIO)io, pageAddr, idx, row);
 
-                inlineSizeRecomendation(row);
+                if (io.isLeaf())
+                    inlineSizeRecomendation(row);
 
                 SearchRow rowData = getRow(io, pageAddr, idx);
 
@@ -580,6 +630,49 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override protected int compareInPage(BPlusIO<H2Row> io, long pageAddr, int idx, H2Row row)
+        throws IgniteCheckedException {
+        if (inlineSize() == 0)
+            return CMP_UNKNOWN;
+
+        try {
+            int off = io.offset(idx);
+
+            // Separator keys in inner pages may be truncated.
+            int inlineSize = io.isLeaf() ? inlineSize() : innerInlineSize;
+
+            int fieldOff = 0;
+
+            for (int i = 0; i < inlineIdxs.size(); i++) {
+                InlineIndexColumn inlineIdx = inlineIdxs.get(i);
+                Value v2 = row.getValue(inlineIdx.columnIndex());
+
+                if (v2 == null)
+                    return 0;
+
+                int c = inlineIdx.compare(pageAddr, off + fieldOff, inlineSize - fieldOff, v2, comp);
+
+                // The rest of the columns are compared by the data row the link points to.
+                if (c == CANT_BE_COMPARE)
+                    return CMP_UNKNOWN;
+
+                if (c != 0)
+                    return fixSort(c, inlineCols[i].sortType);
+
+                fieldOff += inlineIdx.fullSize(pageAddr, off + fieldOff);
+
+                if (fieldOff > inlineSize)
+                    return CMP_UNKNOWN;
+            }
+
+            return inlineIdxs.size() == cols.length ? mvccCompare((H2RowLinkIO)io, pageAddr, idx, row) : CMP_UNKNOWN;
+        }
+        catch (DbException ex) {
+            throw new IgniteCheckedException("Rows cannot be compared", ex);
+        }
+    }
+
     /**
      * Perform sort order correction.
      *
@@ -771,6 +864,9 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
         /** */
         int inlineSize;
 
+        /** */
+        int innerInlineSize;
+
         /** */
         boolean useUnwrappedPk;
 
@@ -795,6 +891,7 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
          */
         public MetaPageInfo(BPlusMetaIO io, long pageAddr) {
             inlineSize = io.getInlineSize(pageAddr);
+            innerInlineSize = io.getInnerInlineSize(pageAddr);
             useUnwrappedPk = io.unwrappedPk(pageAddr);
             flagsSupported = io.supportFlags();
 
@@ -814,6 +911,13 @@ public class H2Tree extends BPlusTree<H2Row, H2Row> {
             return inlineSize;
         }
 
+        /**
+         * @return Inline size of inner pages.
+         */
+        public int innerInlineSize() {
+            return innerInlineSize;
+        }
+
         /**
          * @return {@code true} In case use unwrapped PK for indexes.
          */
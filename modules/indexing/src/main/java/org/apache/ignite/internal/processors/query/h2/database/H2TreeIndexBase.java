@@ -140,6 +140,38 @@ public abstract class H2TreeIndexBase extends GridH2IndexBase {
         return Math.min(PageIO.MAX_PAYLOAD_SIZE, size);
     }
 
+    /**
+     * @param inlineIdxs Inline index helpers.
+     * @param inlineSize Inline size of leaf pages.
+     * @return Inline size of inner pages.
+     */
+    static int computeInnerInlineSize(List<InlineIndexColumn> inlineIdxs, int inlineSize) {
+        int propSize = IgniteSystemProperties.getInteger(IgniteSystemProperties.IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE, -1);
+
+        if (propSize < 0 || propSize >= inlineSize)
+            return inlineSize;
+
+        int size = 0;
+
+        for (InlineIndexColumn idxHelper : inlineIdxs) {
+            if (idxHelper.size() < 0) {
+                // Variable length value is truncated on put, but its header must fit.
+                if (propSize - size >= 4)
+                    size = propSize;
+
+                break;
+            }
+
+            if (size + idxHelper.size() + 1 > propSize)
+                break;
+
+            size += idxHelper.size() + 1;
+        }
+
+        // Do not truncate if even the first value does not fit.
+        return size == 0 ? inlineSize : size;
+    }
+
     /**
      * Creates inline helper list for provided column list.
      *
@@ -143,15 +143,23 @@ public abstract class AbstractH2ExtrasInnerIO extends BPlusInnerIO<H2Row> implem
     /** {@inheritDoc} */
     @Override public final void store(long dstPageAddr, int dstIdx, BPlusIO<H2Row> srcIo, long srcPageAddr, int srcIdx) {
         int srcOff = srcIo.offset(srcIdx);
+        int dstOff = offset(dstIdx);
 
-        byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, payloadSize);
-        long link = PageUtils.getLong(srcPageAddr, srcOff + payloadSize);
+        int srcPayloadSize = srcIo.isLeaf() ? ((AbstractH2ExtrasLeafIO)srcIo).payloadSize : payloadSize;
 
-        assert link != 0;
+        if (srcPayloadSize > payloadSize) {
+            // Separator keys are truncated, take only the inline values which fit.
+            H2IOUtils.storeTruncatedPayload(dstPageAddr, dstOff, payloadSize, srcPageAddr, srcOff);
+        }
+        else {
+            assert srcPayloadSize == payloadSize : "srcPayloadSize=" + srcPayloadSize + ", payloadSize=" + payloadSize;
 
-        int dstOff = offset(dstIdx);
+            byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, payloadSize);
+
+            PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        }
 
-        PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        assert PageUtils.getLong(srcPageAddr, srcOff + srcPayloadSize) != 0;
 
         H2IOUtils.store(dstPageAddr, dstOff + payloadSize, srcIo, srcPageAddr, srcIdx, storeMvccInfo());
     }
@@ -16,11 +16,15 @@
 
 package org.apache.ignite.internal.processors.query.h2.database.io;
 
+import java.util.List;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccUtils;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.query.h2.database.InlineIndexColumn;
+import org.apache.ignite.internal.processors.query.h2.database.inlinecolumn.InlineIndexColumnFactory;
 import org.apache.ignite.internal.processors.query.h2.opt.H2CacheRow;
 import org.apache.ignite.internal.processors.query.h2.opt.H2Row;
+import org.h2.value.Value;
 
 /**
  *
@@ -88,4 +92,37 @@ class H2IOUtils {
             PageUtils.putInt(dstPageAddr, dstOff + 24, mvccOpCntr);
         }
     }
+
+    /**
+     * Copies inline values of a row to a shorter payload. Values are copied while they fit entirely,
+     * the rest of the payload is marked as unknown, so comparison falls back to the row.
+     *
+     * @param dstPageAddr Destination page address.
+     * @param dstOff Destination page offset.
+     * @param dstPayloadSize Destination payload size.
+     * @param srcPageAddr Source page address.
+     * @param srcOff Source page offset.
+     */
+    @SuppressWarnings("ForLoopReplaceableByForEach")
+    static void storeTruncatedPayload(long dstPageAddr, int dstOff, int dstPayloadSize, long srcPageAddr, int srcOff) {
+        List<InlineIndexColumn> inlineIdxs = InlineIndexColumnFactory.getCurrentInlineIndexes();
+
+        assert inlineIdxs != null : "no inline index helpers";
+
+        int fieldOff = 0;
+
+        for (int i = 0; i < inlineIdxs.size(); i++) {
+            int size = inlineIdxs.get(i).fullSize(srcPageAddr, srcOff + fieldOff);
+
+            if (fieldOff + size > dstPayloadSize)
+                break;
+
+            fieldOff += size;
+        }
+
+        PageUtils.putBytes(dstPageAddr, dstOff, PageUtils.getBytes(srcPageAddr, srcOff, fieldOff));
+
+        if (fieldOff < dstPayloadSize)
+            PageUtils.putByte(dstPageAddr, dstOff + fieldOff, (byte)Value.UNKNOWN);
+    }
 }
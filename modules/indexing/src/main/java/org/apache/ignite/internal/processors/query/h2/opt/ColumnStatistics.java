@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.opt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.h2.value.Value;
+import org.h2.value.ValueNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Column statistics collected from a sample of table rows. Used by query optimizer to estimate selectivity
+ * of the conditions on the column.
+ */
+public class ColumnStatistics {
+    /** Maximum number of histogram buckets. */
+    private static final int HISTOGRAM_BUCKETS = 32;
+
+    /** Fraction of rows with {@code NULL} value. */
+    private final double nullFraction;
+
+    /** Estimated number of distinct non-null values in the table. */
+    private final long distinct;
+
+    /** Equi-depth histogram bounds: the first is the minimum value, the last is the maximum one. */
+    @Nullable private final Value[] bounds;
+
+    /**
+     * @param nullFraction Fraction of rows with {@code NULL} value.
+     * @param distinct Estimated number of distinct non-null values in the table.
+     * @param bounds Equi-depth histogram bounds or {@code null} if all the values are {@code NULL}.
+     */
+    public ColumnStatistics(double nullFraction, long distinct, @Nullable Value[] bounds) {
+        assert nullFraction >= 0 && nullFraction <= 1 : nullFraction;
+        assert bounds == null || bounds.length >= 2;
+
+        this.nullFraction = nullFraction;
+        this.distinct = distinct;
+        this.bounds = bounds;
+    }
+
+    /**
+     * @return Fraction of rows with {@code NULL} value.
+     */
+    public double nullFraction() {
+        return nullFraction;
+    }
+
+    /**
+     * @return Estimated number of distinct non-null values in the table.
+     */
+    public long distinct() {
+        return distinct;
+    }
+
+    /**
+     * @return Minimum value or {@code null} if all the values are {@code NULL}.
+     */
+    @Nullable public Value min() {
+        return bounds == null ? null : bounds[0];
+    }
+
+    /**
+     * @return Maximum value or {@code null} if all the values are {@code NULL}.
+     */
+    @Nullable public Value max() {
+        return bounds == null ? null : bounds[bounds.length - 1];
+    }
+
+    /**
+     * @return Fraction of rows matching an equality condition.
+     */
+    public double equalityFraction() {
+        return (1 - nullFraction) / Math.max(distinct, 1);
+    }
+
+    /**
+     * @param lower Lower bound or {@code null} if unbounded.
+     * @param upper Upper bound or {@code null} if unbounded.
+     * @param cmp Values comparator.
+     * @return Estimated fraction of rows in the range.
+     */
+    public double rangeFraction(@Nullable Value lower, @Nullable Value upper, Comparator<Value> cmp) {
+        if (bounds == null)
+            return 0;
+
+        double fraction = (upper == null ? 1 : position(upper, cmp)) - (lower == null ? 0 : position(lower, cmp));
+
+        return Math.max(fraction * (1 - nullFraction), equalityFraction());
+    }
+
+    /**
+     * @param val Value.
+     * @param cmp Values comparator.
+     * @return Estimated fraction of non-null values which are less than the given one.
+     */
+    private double position(Value val, Comparator<Value> cmp) {
+        assert bounds != null;
+
+        int last = bounds.length - 1;
+
+        if (cmp.compare(val, bounds[0]) < 0)
+            return 0;
+
+        if (cmp.compare(val, bounds[last]) >= 0)
+            return 1;
+
+        // Find the bucket containing the value, assume it is in the middle of the bucket.
+        int lo = 0;
+        int hi = last;
+
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+
+            if (cmp.compare(val, bounds[mid]) < 0)
+                hi = mid;
+            else
+                lo = mid;
+        }
+
+        return (lo + 0.5) / last;
+    }
+
+    /**
+     * Creates statistics from the sampled column values.
+     *
+     * @param vals Sampled values.
+     * @param tblRowCnt Table row count.
+     * @param cmp Values comparator.
+     * @return Column statistics.
+     */
+    public static ColumnStatistics create(List<Value> vals, long tblRowCnt, Comparator<Value> cmp) {
+        int rowCnt = vals.size();
+
+        List<Value> nonNulls = new ArrayList<>(rowCnt);
+
+        for (Value val : vals) {
+            if (val != null && val != ValueNull.INSTANCE)
+                nonNulls.add(val);
+        }
+
+        double nullFraction = rowCnt == 0 ? 0 : (double)(rowCnt - nonNulls.size()) / rowCnt;
+
+        int nonNullCnt = nonNulls.size();
+
+        if (nonNullCnt == 0)
+            return new ColumnStatistics(nullFraction, 0, null);
+
+        nonNulls.sort(cmp);
+
+        long sampleDistinct = 1;
+
+        for (int i = 1; i < nonNullCnt; i++) {
+            if (cmp.compare(nonNulls.get(i - 1), nonNulls.get(i)) != 0)
+                sampleDistinct++;
+        }
+
+        long distinct = sampleDistinct;
+
+        // Values repeated in the sample are assumed to be all seen, the unique ones scale with the table size.
+        if (tblRowCnt > rowCnt && sampleDistinct * 10 > nonNullCnt)
+            distinct = Math.min(sampleDistinct * tblRowCnt / rowCnt, tblRowCnt);
+
+        int buckets = Math.max(Math.min(HISTOGRAM_BUCKETS, nonNullCnt - 1), 1);
+
+        Value[] bounds = new Value[buckets + 1];
+
+        for (int i = 0; i <= buckets; i++)
+            bounds[i] = nonNulls.get((int)((long)i * (nonNullCnt - 1) / buckets));
+
+        return new ColumnStatistics(nullFraction, distinct, bounds);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ColumnStatistics.class, this, "min", min(), "max", max());
+    }
+}
@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -34,15 +36,18 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteInterruptedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.CachePeekMode;
 import org.apache.ignite.cache.query.QueryRetryException;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.managers.communication.GridIoPolicy;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
 import org.apache.ignite.internal.processors.cache.query.QueryTable;
+import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
 import org.apache.ignite.internal.processors.query.IgniteSQLException;
 import org.apache.ignite.internal.processors.query.QueryField;
 import org.apache.ignite.internal.processors.query.QueryUtils;
@@ -54,6 +59,8 @@ import org.apache.ignite.internal.processors.query.h2.database.H2IndexType;
 import org.apache.ignite.internal.processors.query.h2.database.H2TreeIndex;
 import org.apache.ignite.internal.processors.query.h2.database.H2TreeIndexBase;
 import org.apache.ignite.internal.processors.query.h2.database.IndexInformation;
+import org.apache.ignite.internal.util.lang.GridCloseableIterator;
+import org.apache.ignite.internal.util.lang.GridIterator;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
@@ -76,8 +83,10 @@ import org.h2.table.IndexColumn;
 import org.h2.table.Table;
 import org.h2.table.TableBase;
 import org.h2.table.TableType;
+import org.h2.value.Value;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_COLUMN_STATISTICS_SAMPLE_SIZE;
 import static org.apache.ignite.cache.CacheMode.PARTITIONED;
 import static org.apache.ignite.internal.processors.query.h2.H2TableDescriptor.PK_HASH_IDX_NAME;
 import static org.apache.ignite.internal.processors.query.h2.opt.H2TableScanIndex.SCAN_INDEX_NAME_SUFFIX;
@@ -166,6 +175,16 @@ public class GridH2Table extends TableBase {
     /** Table statistics. */
     private volatile TableStatistics tblStats;
 
+    /** Number of rows sampled to collect column statistics, {@code 0} if the collection is disabled. */
+    private final int colStatsSampleSize =
+        IgniteSystemProperties.getInteger(IGNITE_SQL_COLUMN_STATISTICS_SAMPLE_SIZE, 0);
+
+    /** Total table row count at the moment of the last column statistics collection, {@code -1} if none. */
+    private volatile long colStatsRowCnt = -1;
+
+    /** Whether column statistics are being collected. */
+    private final AtomicBoolean colStatsCollecting = new AtomicBoolean();
+
     /** Logger. */
     @GridToStringExclude
     private IgniteLogger log;
@@ -1272,8 +1291,138 @@ public class GridH2Table extends TableBase {
             size.reset();
             size.add(totalRowCnt);
 
-            tblStats = new TableStatistics(totalRowCnt, primaryRowCnt);
+            tblStats = new TableStatistics(totalRowCnt, primaryRowCnt, stats.columnStatistics());
+        }
+    }
+
+    /**
+     * Gets column statistics. Starts their collection in background if they are outdated.
+     *
+     * @param col Column.
+     * @return Column statistics or {@code null} if not collected yet.
+     */
+    @Nullable public ColumnStatistics columnStatistics(Column col) {
+        if (colStatsSampleSize <= 0)
+            return null;
+
+        refreshColumnStatisticsIfNeeded();
+
+        ColumnStatistics[] colStats = tblStats.columnStatistics();
+
+        int colId = col.getColumnId();
+
+        return colStats != null && colId < colStats.length ? colStats[colId] : null;
+    }
+
+    /**
+     * Starts column statistics collection in background if the table size changed significantly since the last one.
+     */
+    private void refreshColumnStatisticsIfNeeded() {
+        long statsRowCnt = colStatsRowCnt;
+
+        if (!cacheInfo.affinityNode() || (statsRowCnt >= 0 && !needRefreshStats(statsRowCnt, size.sum())))
+            return;
+
+        if (!colStatsCollecting.compareAndSet(false, true))
+            return;
+
+        GridKernalContext ctx = cacheInfo.cacheContext().kernalContext();
+
+        ctx.closure().runLocalSafe(() -> {
+            try {
+                collectColumnStatistics();
+            }
+            catch (Exception e) {
+                U.warn(log, "Failed to collect column statistics [tbl=" + identifierStr + ']', e);
+            }
+            finally {
+                colStatsCollecting.set(false);
+            }
+        }, GridIoPolicy.QUERY_POOL);
+    }
+
+    /**
+     * Collects column statistics from a sample of local primary rows. The sample is drawn uniformly
+     * from all the local primary partitions.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void collectColumnStatistics() throws IgniteCheckedException {
+        GridCacheContext<?, ?> cctx = cacheInfo.cacheContext();
+
+        Column[] cols = getColumns();
+
+        List<List<Value>> vals = new ArrayList<>(cols.length);
+
+        for (Column col : cols)
+            vals.add(col.getType().getValueType() == Value.JAVA_OBJECT ? null : new ArrayList<>());
+
+        long totalRowCnt = size.sum();
+
+        GridQueryTypeDescriptor type = desc.type();
+
+        GridIterator<CacheDataRow> it = cctx.offheap().cacheIterator(cctx.cacheId(), true, false,
+            cctx.affinity().affinityTopologyVersion(), null, null);
+
+        CacheDataRow[] sample = new CacheDataRow[colStatsSampleSize];
+
+        long matched = 0;
+
+        try {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            // Rows are iterated partition by partition and are ordered by the key hash within a partition,
+            // so the first rows are not a random sample. Reservoir sampling picks every row with equal probability.
+            while (it.hasNext()) {
+                CacheDataRow dataRow = it.next();
+
+                if (!type.matchType(dataRow.value()))
+                    continue;
+
+                if (matched < sample.length)
+                    sample[(int)matched] = dataRow;
+                else {
+                    long idx = rnd.nextLong(matched + 1);
+
+                    if (idx < sample.length)
+                        sample[(int)idx] = dataRow;
+                }
+
+                matched++;
+            }
+        }
+        finally {
+            if (it instanceof GridCloseableIterator)
+                ((GridCloseableIterator<CacheDataRow>)it).close();
+        }
+
+        int sampled = (int)Math.min(matched, sample.length);
+
+        for (int r = 0; r < sampled; r++) {
+            H2CacheRow row = desc.createRow(sample[r]);
+
+            for (int i = 0; i < cols.length; i++) {
+                List<Value> colVals = vals.get(i);
+
+                if (colVals != null)
+                    colVals.add(row.getValue(i));
+            }
         }
+
+        long primaryRowCnt = cacheSize(CachePeekMode.PRIMARY);
+
+        ColumnStatistics[] colStats = new ColumnStatistics[cols.length];
+
+        for (int i = 0; i < cols.length; i++) {
+            if (vals.get(i) != null)
+                colStats[i] = ColumnStatistics.create(vals.get(i), primaryRowCnt, this::compareValues);
+        }
+
+        colStatsRowCnt = totalRowCnt;
+
+        TableStatistics stats = tblStats;
+
+        tblStats = new TableStatistics(stats.totalRowCount(), stats.primaryRowCount(), colStats);
     }
 
     /**
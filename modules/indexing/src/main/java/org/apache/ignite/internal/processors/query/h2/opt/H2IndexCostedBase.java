@@ -24,13 +24,18 @@ import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.LT;
 import org.h2.command.dml.AllColumnsForPlan;
 import org.h2.engine.Constants;
+import org.h2.expression.Expression;
+import org.h2.expression.condition.Comparison;
 import org.h2.index.BaseIndex;
 import org.h2.index.IndexCondition;
 import org.h2.index.IndexType;
+import org.h2.message.DbException;
 import org.h2.result.SortOrder;
 import org.h2.table.Column;
 import org.h2.table.IndexColumn;
 import org.h2.table.TableFilter;
+import org.h2.value.Value;
+import org.h2.value.ValueNull;
 
 /**
  * Index base.
@@ -126,6 +131,16 @@ public abstract class H2IndexCostedBase extends BaseIndex {
                         break;
                     }
 
+                    ColumnStatistics colStats = ((GridH2Table)table).columnStatistics(column);
+
+                    if (colStats != null) {
+                        long matchedRows = (long)(rowsCost * colStats.equalityFraction());
+
+                        rowsCost = Math.min(5 + Math.max(matchedRows, 1), rowsCost - (i > 0 ? 1 : 0));
+
+                        continue;
+                    }
+
                     totalSelectivity = 100 - ((100 - totalSelectivity) *
                         (100 - column.getSelectivity()) / 100);
 
@@ -137,17 +152,29 @@ public abstract class H2IndexCostedBase extends BaseIndex {
                     rowsCost = Math.min(5 + Math.max(rowsCost / distinctRows, 1), rowsCost - (i > 0 ? 1 : 0));
                 }
                 else if ((mask & IndexCondition.RANGE) == IndexCondition.RANGE) {
-                    rowsCost = Math.min(5 + rowsCost / 4, rowsCost - (i > 0 ? 1 : 0));
+                    double fraction = rangeFraction(column, filters, filter);
+
+                    long matchedRows = fraction >= 0 ? (long)(rowsCost * fraction) : rowsCost / 4;
+
+                    rowsCost = Math.min(5 + matchedRows, rowsCost - (i > 0 ? 1 : 0));
 
                     break;
                 }
                 else if ((mask & IndexCondition.START) == IndexCondition.START) {
-                    rowsCost = Math.min(5 + rowsCost / 3, rowsCost - (i > 0 ? 1 : 0));
+                    double fraction = rangeFraction(column, filters, filter);
+
+                    long matchedRows = fraction >= 0 ? (long)(rowsCost * fraction) : rowsCost / 3;
+
+                    rowsCost = Math.min(5 + matchedRows, rowsCost - (i > 0 ? 1 : 0));
 
                     break;
                 }
                 else if ((mask & IndexCondition.END) == IndexCondition.END) {
-                    rowsCost = Math.min(rowsCost / 3, rowsCost - (i > 0 ? 1 : 0));
+                    double fraction = rangeFraction(column, filters, filter);
+
+                    long matchedRows = fraction >= 0 ? (long)(rowsCost * fraction) : rowsCost / 3;
+
+                    rowsCost = Math.min(matchedRows, rowsCost - (i > 0 ? 1 : 0));
 
                     break;
                 }
@@ -289,6 +316,71 @@ public abstract class H2IndexCostedBase extends BaseIndex {
         return rc;
     }
 
+    /**
+     * Estimates fraction of rows matching the range conditions on the column using column statistics.
+     *
+     * @param col Column.
+     * @param filters All joined table filters.
+     * @param filter Current table filter index.
+     * @return Fraction of rows or {@code -1} if it can't be estimated.
+     */
+    private double rangeFraction(Column col, TableFilter[] filters, int filter) {
+        TableFilter tblFilter = filters == null ? null : filters[filter];
+
+        if (tblFilter == null)
+            return -1;
+
+        ColumnStatistics colStats = ((GridH2Table)table).columnStatistics(col);
+
+        if (colStats == null)
+            return -1;
+
+        Value lower = null;
+        Value upper = null;
+
+        for (IndexCondition cond : tblFilter.getIndexConditions()) {
+            Expression expr = cond.getExpression();
+
+            // Parameters and join conditions are not known at the planning time.
+            if (cond.getColumn() != col || expr == null || !expr.isConstant())
+                continue;
+
+            Value val;
+
+            try {
+                val = expr.getValue(tblFilter.getSession()).convertTo(col.getType().getValueType());
+            }
+            catch (DbException ignored) {
+                continue;
+            }
+
+            if (val == ValueNull.INSTANCE)
+                continue;
+
+            switch (cond.getCompareType()) {
+                case Comparison.BIGGER:
+                case Comparison.BIGGER_EQUAL:
+                    lower = val;
+
+                    break;
+
+                case Comparison.SMALLER:
+                case Comparison.SMALLER_EQUAL:
+                    upper = val;
+
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        if (lower == null && upper == null)
+            return -1;
+
+        return colStats.rangeFraction(lower, upper, table::compareValues);
+    }
+
     /** Re-implement {@link BaseIndex#getCostRangeIndex} to support compatibility with versions
      * between 8.7.8 and 8.7.12.
      */
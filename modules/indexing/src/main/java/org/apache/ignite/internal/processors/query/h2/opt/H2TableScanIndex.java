@@ -25,12 +25,15 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Scan index for {@link GridH2Table}. Delegates to {@link CacheDataTree} when either index rebuild is in progress,
- * or when direct scan over data pages is enabled.
+ * or when direct scan over data pages is enabled, or when partition scan is enabled for the current thread.
  */
 public class H2TableScanIndex extends H2ScanIndex<GridH2IndexBase> {
     /** */
     public static final String SCAN_INDEX_NAME_SUFFIX = "__SCAN_";
 
+    /** Partition scan flag of the current thread. */
+    private static final ThreadLocal<Boolean> PARTITION_SCAN = new ThreadLocal<>();
+
     /** Parent table. */
     private final GridH2Table tbl;
 
@@ -56,7 +59,7 @@ public class H2TableScanIndex extends H2ScanIndex<GridH2IndexBase> {
         boolean rebuildFromHashInProgress = tbl.rebuildFromHashInProgress();
 
         if (hashIdx != null) {
-            return rebuildFromHashInProgress || CacheDataTree.isDataPageScanEnabled() ?
+            return rebuildFromHashInProgress || CacheDataTree.isDataPageScanEnabled() || isPartitionScan() ?
                 hashIdx : super.delegate();
         }
         else {
@@ -66,6 +69,26 @@ public class H2TableScanIndex extends H2ScanIndex<GridH2IndexBase> {
         }
     }
 
+    /**
+     * Enables scans over the partition data stores for the current thread. Only the partitions accepted
+     * by the query filter are read, instead of filtering every row of the whole tree.
+     *
+     * @param enabled Partition scan flag.
+     */
+    public static void partitionScan(boolean enabled) {
+        if (enabled)
+            PARTITION_SCAN.set(Boolean.TRUE);
+        else
+            PARTITION_SCAN.remove();
+    }
+
+    /**
+     * @return {@code True} if partition scan is enabled for the current thread.
+     */
+    private static boolean isPartitionScan() {
+        return PARTITION_SCAN.get() != null;
+    }
+
     /** {@inheritDoc} */
     @Override public double getCost(Session ses, int[] masks, TableFilter[] filters, int filter,
         SortOrder sortOrder, AllColumnsForPlan allColumnsSet) {
@@ -16,6 +16,8 @@
 
 package org.apache.ignite.internal.processors.query.h2.opt;
 
+import org.jetbrains.annotations.Nullable;
+
 /**
  * Table statistics class. Used by query optimizer to estimate execution plan cost.
  */
@@ -26,15 +28,28 @@ public class TableStatistics {
     /** Primary parts row count. */
     private final long primaryRowCnt;
 
+    /** Column statistics indexed by column ID, {@code null} if not collected. */
+    @Nullable private final ColumnStatistics[] colStats;
+
     /**
      * @param totalRowCnt Total table row count (including primary and backup partitions).
      * @param primaryRowCnt Primary parts row count.
      */
     public TableStatistics(long totalRowCnt, long primaryRowCnt) {
+        this(totalRowCnt, primaryRowCnt, null);
+    }
+
+    /**
+     * @param totalRowCnt Total table row count (including primary and backup partitions).
+     * @param primaryRowCnt Primary parts row count.
+     * @param colStats Column statistics indexed by column ID, {@code null} if not collected.
+     */
+    public TableStatistics(long totalRowCnt, long primaryRowCnt, @Nullable ColumnStatistics[] colStats) {
         assert totalRowCnt >= 0 && primaryRowCnt >= 0 : "totalRowCnt=" + totalRowCnt + ", primaryRowCnt=" + primaryRowCnt;
 
         this.totalRowCnt = totalRowCnt;
         this.primaryRowCnt = primaryRowCnt;
+        this.colStats = colStats;
     }
 
     /**
@@ -50,4 +65,11 @@ public class TableStatistics {
     public long primaryRowCount() {
         return primaryRowCnt;
     }
+
+    /**
+     * @return Column statistics indexed by column ID, {@code null} if not collected.
+     */
+    @Nullable public ColumnStatistics[] columnStatistics() {
+        return colStats;
+    }
 }
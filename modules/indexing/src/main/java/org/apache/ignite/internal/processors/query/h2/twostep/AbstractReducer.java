@@ -43,6 +43,7 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.Objects.requireNonNull;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_MERGE_TABLE_MAX_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_MERGE_TABLE_PREFETCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_REDUCE_PAGE_CREDITS;
 import static org.apache.ignite.IgniteSystemProperties.getInteger;
 
 /**
@@ -55,7 +56,15 @@ public abstract class AbstractReducer implements Reducer {
     /** */
     static int prefetchSize = getInteger(IGNITE_SQL_MERGE_TABLE_PREFETCH_SIZE, 1024);
 
+    /** Maximum number of received but not yet consumed pages per remote source. */
+    static int pageCredits = getInteger(IGNITE_SQL_REDUCE_PAGE_CREDITS, 1);
+
     static {
+        if (pageCredits < 1) {
+            throw new IllegalArgumentException(IGNITE_SQL_REDUCE_PAGE_CREDITS + " (" + pageCredits +
+                ") must be positive.");
+        }
+
         if (!U.isPow2(prefetchSize)) {
             throw new IllegalArgumentException(IGNITE_SQL_MERGE_TABLE_PREFETCH_SIZE + " (" + prefetchSize +
                 ") must be positive and a power of 2.");
@@ -79,6 +88,9 @@ public abstract class AbstractReducer implements Reducer {
     @SuppressWarnings("unused")
     private volatile ConcurrentMap<ReduceSourceKey, Integer> lastPages;
 
+    /** Flow control state of the sources. */
+    private final ConcurrentMap<ReduceSourceKey, PageCredits> credits = new ConcurrentHashMap<>();
+
     /** Row source nodes. */
     protected Set<UUID> srcNodes;
 
@@ -208,7 +220,28 @@ public abstract class AbstractReducer implements Reducer {
     /** {@inheritDoc} */
     @Override public void addPage(ReduceResultPage page) {
         markLastPage(page);
+
+        // Pages of the local node are produced in the calling thread, do not request them ahead.
+        boolean fetch = credits(page).onReceived(page, !ctx.localNodeId().equals(page.source()));
+
         addPage0(page);
+
+        if (fetch) {
+            try {
+                page.fetchNextPage();
+            }
+            catch (CacheException e) {
+                onFailure(page.source(), e);
+            }
+        }
+    }
+
+    /**
+     * @param page Page.
+     * @return Flow control state of the page source.
+     */
+    private PageCredits credits(ReduceResultPage page) {
+        return credits.computeIfAbsent(new ReduceSourceKey(page.source(), page.segmentId()), k -> new PageCredits());
     }
 
     /**
@@ -316,8 +349,14 @@ public abstract class AbstractReducer implements Reducer {
         if (!iter.hasNext()) {
             ReduceResultPage page = takeNextPage(queue);
 
-            if (!page.isLast())
+            if (page.isFail())
                 page.fetchNextPage(); // Failed will throw an exception here.
+            else if (!page.isDummyLast()) {
+                ReduceResultPage fetchPage = credits(page).onConsumed();
+
+                if (fetchPage != null)
+                    fetchPage.fetchNextPage();
+            }
 
             iter = page.rows();
 
@@ -352,6 +391,58 @@ public abstract class AbstractReducer implements Reducer {
         return page;
     }
 
+    /**
+     * Credit based flow control state of a single source (remote node + segment): the next page is requested
+     * while the number of received but not yet consumed pages is less than {@link #pageCredits}.
+     * At most one page request is in flight, so the pages of the source always arrive in order.
+     */
+    private static final class PageCredits {
+        /** Number of received but not yet consumed pages. */
+        private int buffered;
+
+        /** Whether the next page is requested but not received yet. */
+        private boolean requested;
+
+        /** Last received page. */
+        private ReduceResultPage lastPage;
+
+        /**
+         * @param page Received page.
+         * @param ahead Whether the next page may be requested before this one is consumed.
+         * @return {@code True} if the next page must be requested.
+         */
+        synchronized boolean onReceived(ReduceResultPage page, boolean ahead) {
+            buffered++;
+            requested = false;
+            lastPage = page;
+
+            return ahead && acquire();
+        }
+
+        /**
+         * @return Page to request the next one with or {@code null} if no request is needed.
+         */
+        synchronized ReduceResultPage onConsumed() {
+            assert buffered > 0 : buffered;
+
+            buffered--;
+
+            return acquire() ? lastPage : null;
+        }
+
+        /**
+         * @return {@code True} if the credit for the next page request was acquired.
+         */
+        private boolean acquire() {
+            if (requested || lastPage.isLast() || buffered >= pageCredits)
+                return false;
+
+            requested = true;
+
+            return true;
+        }
+    }
+
     /**
      * Pollable.
      */
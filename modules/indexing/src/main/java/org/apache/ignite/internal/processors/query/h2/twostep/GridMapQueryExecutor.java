@@ -28,11 +28,14 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import javax.cache.CacheException;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.query.QueryCancelledException;
 import org.apache.ignite.cache.query.QueryRetryException;
 import org.apache.ignite.cache.query.SqlFieldsQuery;
@@ -71,12 +74,17 @@ import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.spi.indexing.IndexingQueryFilter;
+import org.apache.ignite.thread.IgniteThreadPoolExecutor;
 import org.h2.api.ErrorCode;
+import org.h2.engine.Session;
 import org.h2.jdbc.JdbcResultSet;
+import org.h2.result.ResultInterface;
 import org.h2.value.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_MAP_PARALLELISM;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_MAP_VECTORIZED_EXECUTION;
 import static org.apache.ignite.events.EventType.EVT_CACHE_QUERY_EXECUTED;
 import static org.apache.ignite.internal.managers.communication.GridIoPolicy.QUERY_POOL;
 import static org.apache.ignite.internal.processors.query.h2.twostep.msg.GridH2QueryRequest.isDataPageScanEnabled;
@@ -102,6 +110,15 @@ public class GridMapQueryExecutor {
     /** */
     private ConcurrentMap<UUID, MapNodeResults> qryRess = new ConcurrentHashMap<>();
 
+    /** Batched execution of simple map queries flag. */
+    private final boolean vectorized = IgniteSystemProperties.getBoolean(IGNITE_SQL_MAP_VECTORIZED_EXECUTION);
+
+    /** Number of threads executing a single map query over the local partitions. */
+    private final int parallelism = IgniteSystemProperties.getInteger(IGNITE_SQL_MAP_PARALLELISM, 0);
+
+    /** Pool of the threads executing map queries over the local partitions, {@code null} if disabled. */
+    private ExecutorService parallelPool;
+
     /**
      * @param ctx Context.
      * @param h2 H2 Indexing.
@@ -114,6 +131,16 @@ public class GridMapQueryExecutor {
         qryCtxRegistry = h2.queryContextRegistry();
 
         log = ctx.log(GridMapQueryExecutor.class);
+
+        if (parallelism > 1) {
+            parallelPool = new IgniteThreadPoolExecutor(
+                "map-query-parallel",
+                ctx.igniteInstanceName(),
+                parallelism,
+                parallelism,
+                0,
+                new LinkedBlockingQueue<>());
+        }
     }
 
     /**
@@ -139,6 +166,12 @@ public class GridMapQueryExecutor {
     public void stop() {
         for (MapNodeResults res : qryRess.values())
             res.cancelAll();
+
+        if (parallelPool != null) {
+            U.shutdownNow(getClass(), parallelPool, log);
+
+            parallelPool = null;
+        }
     }
 
     /**
@@ -418,16 +451,53 @@ public class GridMapQueryExecutor {
 
                         MapH2QueryInfo qryInfo = new MapH2QueryInfo(stmt, qry.query(), node, reqId, segmentId, runningQryId);
 
-                        ResultSet rs = h2.executeSqlQueryWithTimer(
-                            stmt,
-                            conn,
-                            sql,
-                            timeout,
-                            qryResults.queryCancel(qryIdx),
-                            dataPageScanEnabled,
-                            qryInfo,
-                            maxMem
-                        );
+                        MapVectorizedQuery vectorizedQry = vectorized && mvccSnapshot == null &&
+                            distributedJoinCtx == null ? MapVectorizedQuery.create(stmt, log) : null;
+
+                        MapParallelQuery parallelQry = vectorizedQry == null && parallelPool != null && !lazy &&
+                            topVer != null && mvccSnapshot == null && distributedJoinCtx == null ?
+                            MapParallelQuery.create(stmt, schemaName, sql, params0, log) : null;
+
+                        ResultSet rs = null;
+                        ResultInterface locRes = null;
+
+                        if (vectorizedQry != null) {
+                            locRes = executeVectorizedQuery(
+                                vectorizedQry,
+                                conn,
+                                timeout,
+                                qryResults.queryCancel(qryIdx),
+                                qryInfo,
+                                maxMem
+                            );
+                        }
+                        else if (parallelQry != null) {
+                            locRes = executeParallelQuery(
+                                parallelQry,
+                                conn,
+                                segmentId,
+                                topVer,
+                                parts,
+                                timeout,
+                                qryResults.queryCancel(qryIdx),
+                                qryInfo,
+                                maxMem
+                            );
+                        }
+
+                        // Batched execution gives up on the groups which must be offloaded to disk.
+                        if (locRes == null) {
+                            rs = h2.executeSqlQueryWithTimer(
+                                stmt,
+                                conn,
+                                sql,
+                                timeout,
+                                qryResults.queryCancel(qryIdx),
+                                dataPageScanEnabled,
+                                qryInfo,
+                                maxMem
+                            );
+                        }
 
                         if (evt) {
                             ctx.event().record(new CacheQueryExecutedEvent<>(
@@ -445,15 +515,26 @@ public class GridMapQueryExecutor {
                                 null));
                         }
 
-                        assert rs instanceof JdbcResultSet : rs.getClass();
+                        if (locRes != null) {
+                            if (qryResults.cancelled()) {
+                                locRes.close();
 
-                        if (qryResults.cancelled()) {
-                            rs.close();
+                                throw new QueryCancelledException();
+                            }
 
-                            throw new QueryCancelledException();
+                            res.openResult(locRes, qryInfo);
                         }
+                        else {
+                            assert rs instanceof JdbcResultSet : rs.getClass();
 
-                        res.openResult(rs, qryInfo);
+                            if (qryResults.cancelled()) {
+                                rs.close();
+
+                                throw new QueryCancelledException();
+                            }
+
+                            res.openResult(rs, qryInfo);
+                        }
 
                         final GridQueryNextPageResponse msg = prepareNextPage(
                             nodeRess,
@@ -564,6 +645,98 @@ public class GridMapQueryExecutor {
         }
     }
 
+    /**
+     * Executes map query over column batches.
+     *
+     * @param qry Batched query.
+     * @param conn Connection.
+     * @param timeout Query timeout.
+     * @param cancel Query cancel.
+     * @param qryInfo Query info.
+     * @param maxMem Query memory limit.
+     * @return Result or {@code null} if the query must be executed by H2.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private ResultInterface executeVectorizedQuery(
+        MapVectorizedQuery qry,
+        H2PooledConnection conn,
+        int timeout,
+        GridQueryCancel cancel,
+        MapH2QueryInfo qryInfo,
+        long maxMem
+    ) throws IgniteCheckedException {
+        h2.longRunningQueries().registerQuery(qryInfo);
+
+        h2.initSession(conn, qryInfo, maxMem);
+
+        try {
+            if (log.isDebugEnabled())
+                log.debug("Start execute batched query: " + qryInfo);
+
+            Session ses = H2Utils.session(conn);
+
+            ResultInterface res = qry.execute(ses, timeout, cancel);
+
+            if (res == null && ses.memoryTracker() != null) {
+                // Session is initialized again for H2 execution.
+                ses.memoryTracker().close();
+
+                ses.memoryTracker(null);
+            }
+
+            return res;
+        }
+        finally {
+            h2.longRunningQueries().unregisterQuery(qryInfo);
+
+            H2Utils.session(conn).queryDescription(null);
+        }
+    }
+
+    /**
+     * Executes the query over the local partitions in parallel.
+     *
+     * @param qry Parallel query.
+     * @param conn Connection of the query thread.
+     * @param segmentId Index segment ID.
+     * @param topVer Topology version.
+     * @param parts Explicit partitions for current node.
+     * @param timeout Query timeout.
+     * @param cancel Query cancel.
+     * @param qryInfo Query info.
+     * @param maxMem Query memory limit.
+     * @return Merged result.
+     * @throws IgniteCheckedException If failed.
+     */
+    private ResultInterface executeParallelQuery(
+        MapParallelQuery qry,
+        H2PooledConnection conn,
+        int segmentId,
+        AffinityTopologyVersion topVer,
+        int[] parts,
+        int timeout,
+        GridQueryCancel cancel,
+        MapH2QueryInfo qryInfo,
+        long maxMem
+    ) throws IgniteCheckedException {
+        h2.longRunningQueries().registerQuery(qryInfo);
+
+        h2.initSession(conn, qryInfo, maxMem);
+
+        try {
+            if (log.isDebugEnabled())
+                log.debug("Start execute parallel query: " + qryInfo);
+
+            return qry.execute(H2Utils.session(conn), parallelPool, parallelism, segmentId, topVer, parts, timeout,
+                cancel, qryInfo);
+        }
+        finally {
+            h2.longRunningQueries().unregisterQuery(qryInfo);
+
+            H2Utils.session(conn).queryDescription(null);
+        }
+    }
+
     /**
      * @param node Node.
      * @param req DML request.
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.twostep;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.query.GridQueryCancel;
+import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.internal.processors.query.h2.H2MemoryTracker;
+import org.apache.ignite.internal.processors.query.h2.H2PooledConnection;
+import org.apache.ignite.internal.processors.query.h2.H2StatementCache;
+import org.apache.ignite.internal.processors.query.h2.H2Utils;
+import org.apache.ignite.internal.processors.query.h2.IgniteH2Indexing;
+import org.apache.ignite.internal.processors.query.h2.MapH2QueryInfo;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
+import org.apache.ignite.internal.processors.query.h2.opt.H2TableScanIndex;
+import org.apache.ignite.internal.processors.query.h2.opt.QueryContext;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlQueryParser;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlSelect;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlStatement;
+import org.apache.ignite.internal.processors.query.h2.sql.SplitterUtils;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.h2.command.Prepared;
+import org.h2.command.dml.Select;
+import org.h2.engine.Session;
+import org.h2.expression.Expression;
+import org.h2.result.LocalResult;
+import org.h2.result.ResultInterface;
+import org.h2.table.TableFilter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parallel execution of simple map queries: projections and filters over a single partitioned table which is
+ * read by a full scan.
+ * <p>
+ * Partitions of the node are split into morsels of a few partitions each. Every morsel is executed by H2 as
+ * a separate query restricted to its partitions, so only the data stores of these partitions are read. Morsels
+ * are picked up by the worker threads from the shared queue as soon as the threads become free, so a thread
+ * which got small partitions takes more of them. The partial results are merged into a single result by the
+ * query thread as they are ready, the reducer receives the pages of the merged result as usual.
+ */
+class MapParallelQuery {
+    /** Number of morsels per worker thread, more morsels balance the load better when partitions are skewed. */
+    static final int MORSELS_PER_THREAD = 4;
+
+    /** Indexing. */
+    private final IgniteH2Indexing h2;
+
+    /** Table. */
+    private final GridH2Table tbl;
+
+    /** Schema name. */
+    private final String schemaName;
+
+    /** Query. */
+    private final String sql;
+
+    /** Query parameters. */
+    private final Collection<Object> params;
+
+    /** Select expressions. */
+    private final Expression[] exprs;
+
+    /** Visible columns count. */
+    private final int visibleColCnt;
+
+    /**
+     * @param tbl Table.
+     * @param schemaName Schema name.
+     * @param sql Query.
+     * @param params Query parameters.
+     * @param exprs Select expressions.
+     * @param visibleColCnt Visible columns count.
+     */
+    private MapParallelQuery(GridH2Table tbl, String schemaName, String sql, Collection<Object> params,
+        Expression[] exprs, int visibleColCnt) {
+        this.tbl = tbl;
+        this.schemaName = schemaName;
+        this.sql = sql;
+        this.params = params;
+        this.exprs = exprs;
+        this.visibleColCnt = visibleColCnt;
+
+        h2 = tbl.rowDescriptor().indexing();
+    }
+
+    /**
+     * Creates parallel execution plan for the query if it is supported.
+     *
+     * @param stmt Prepared statement with the bound parameters.
+     * @param schemaName Schema name.
+     * @param sql Query.
+     * @param params Query parameters.
+     * @param log Logger.
+     * @return Parallel query or {@code null} if the query must be executed by a single thread.
+     */
+    @Nullable static MapParallelQuery create(PreparedStatement stmt, String schemaName, String sql,
+        Collection<Object> params, IgniteLogger log) {
+        Prepared prepared = GridSqlQueryParser.prepared(stmt);
+
+        if (!(prepared instanceof Select))
+            return null;
+
+        Select h2Select = (Select)prepared;
+
+        // Rows of different morsels are concatenated, so the result must not depend on the order and the number
+        // of the rows seen by the query.
+        if (h2Select.isGroupQuery() || h2Select.isWindowQuery() || h2Select.isAnyDistinct() ||
+            h2Select.hasOrder() || h2Select.getLimit() != null || h2Select.getOffset() != null ||
+            h2Select.getTopFilters().size() != 1)
+            return null;
+
+        TableFilter tblFilter = h2Select.getTopTableFilter();
+
+        if (tblFilter.getJoin() != null || !(tblFilter.getTable() instanceof GridH2Table) ||
+            !(tblFilter.getIndex() instanceof H2TableScanIndex))
+            return null;
+
+        GridH2Table tbl = (GridH2Table)tblFilter.getTable();
+
+        // Segments of the index are already executed in parallel.
+        if (!tbl.isPartitioned() || tbl.cacheContext() == null ||
+            tbl.cacheInfo().config().getQueryParallelism() != 1)
+            return null;
+
+        GridSqlStatement parsed;
+
+        try {
+            parsed = new GridSqlQueryParser(false, log).parse(prepared);
+        }
+        catch (IgniteSQLException e) {
+            return null;
+        }
+
+        if (!(parsed instanceof GridSqlSelect))
+            return null;
+
+        GridSqlSelect select = (GridSqlSelect)parsed;
+
+        if (select.isForUpdate() || SplitterUtils.hasSubQueries(select))
+            return null;
+
+        List<Expression> exprs = h2Select.getExpressions();
+
+        return new MapParallelQuery(tbl, schemaName, sql, params, exprs.toArray(new Expression[exprs.size()]),
+            h2Select.getColumnCount());
+    }
+
+    /**
+     * Executes the query.
+     *
+     * @param ses H2 session of the query thread, the merged result belongs to it.
+     * @param pool Worker threads pool.
+     * @param parallelism Maximum number of worker threads to use.
+     * @param segmentId Index segment ID.
+     * @param topVer Topology version.
+     * @param parts Explicit partitions or {@code null} to use the primary partitions of the node.
+     * @param timeout Query timeout in milliseconds, {@code 0} if not set.
+     * @param cancel Query cancel.
+     * @param qryInfo Query info.
+     * @return Merged result.
+     * @throws IgniteCheckedException If failed.
+     */
+    LocalResult execute(
+        Session ses,
+        ExecutorService pool,
+        int parallelism,
+        int segmentId,
+        AffinityTopologyVersion topVer,
+        @Nullable int[] parts,
+        int timeout,
+        GridQueryCancel cancel,
+        MapH2QueryInfo qryInfo
+    ) throws IgniteCheckedException {
+        Queue<int[]> morsels = morsels(parts, topVer, parallelism);
+
+        int morselsCnt = morsels.size();
+
+        long deadline = timeout > 0 ? U.currentTimeMillis() + timeout : 0;
+
+        // Morsels share the memory quota of the query.
+        H2MemoryTracker tracker = ses.memoryTracker();
+
+        // Cancels the running morsels on the query cancel or when the query fails.
+        GridQueryCancel morselsCancel = new GridQueryCancel();
+
+        cancel.add(morselsCancel::cancel);
+
+        // Partial results or errors of the executed morsels.
+        BlockingQueue<Object> done = new LinkedBlockingQueue<>();
+
+        List<Future<?>> workers = new ArrayList<>(parallelism);
+
+        LocalResult res = null;
+
+        boolean success = false;
+
+        try {
+            for (int i = 0; i < Math.min(parallelism, morselsCnt); i++) {
+                workers.add(pool.submit(() -> {
+                    int[] morsel;
+
+                    while ((morsel = morsels.poll()) != null) {
+                        try {
+                            done.add(
+                                executeMorsel(morsel, segmentId, topVer, deadline, morselsCancel, qryInfo, tracker));
+                        }
+                        catch (Throwable e) {
+                            done.add(e);
+
+                            return;
+                        }
+                    }
+                }));
+            }
+
+            res = ses.getDatabase().getResultFactory().create(ses, exprs, visibleColCnt, false);
+
+            for (int i = 0; i < morselsCnt; i++) {
+                Object r = done.take();
+
+                if (r instanceof Throwable)
+                    throw (Throwable)r;
+
+                try (PartialResult part = (PartialResult)r) {
+                    while (part.res.next())
+                        res.addRow(part.res.currentRow());
+                }
+
+                cancel.checkCancelled();
+            }
+
+            res.done();
+
+            success = true;
+
+            return res;
+        }
+        catch (IgniteCheckedException | RuntimeException | Error e) {
+            throw e;
+        }
+        catch (InterruptedException e) {
+            throw new IgniteInterruptedCheckedException(e);
+        }
+        catch (Throwable e) {
+            throw new IgniteCheckedException(e);
+        }
+        finally {
+            if (!success) {
+                morsels.clear();
+
+                morselsCancel.cancel();
+
+                if (res != null)
+                    res.close();
+
+                // Release the connections of the morsels finished concurrently with the failure.
+                for (Future<?> worker : workers) {
+                    try {
+                        U.get(worker);
+                    }
+                    catch (IgniteCheckedException ignored) {
+                        // Workers report their errors to the query thread.
+                    }
+                }
+
+                for (Object r : done) {
+                    if (r instanceof PartialResult)
+                        ((PartialResult)r).close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the query over the given partitions in a separate connection.
+     *
+     * @param morsel Partitions.
+     * @param segmentId Index segment ID.
+     * @param topVer Topology version.
+     * @param deadline Query deadline, {@code 0} if not set.
+     * @param cancel Morsels cancel.
+     * @param qryInfo Query info.
+     * @param tracker Memory tracker of the query thread or {@code null} if memory is not tracked.
+     * @return Partial result.
+     * @throws IgniteCheckedException If failed.
+     */
+    private PartialResult executeMorsel(
+        int[] morsel,
+        int segmentId,
+        AffinityTopologyVersion topVer,
+        long deadline,
+        GridQueryCancel cancel,
+        MapH2QueryInfo qryInfo,
+        @Nullable H2MemoryTracker tracker
+    ) throws IgniteCheckedException {
+        H2PooledConnection conn = h2.connections().connection(schemaName);
+
+        try {
+            // Partitions are reserved by the query context of the query thread.
+            QueryContext qctx = new QueryContext(
+                segmentId,
+                h2.backupFilter(topVer, morsel),
+                null,
+                null,
+                null,
+                true);
+
+            H2Utils.setupConnection(conn, qctx, false, false, false);
+
+            PreparedStatement stmt = conn.prepareStatement(sql, H2StatementCache.queryFlags(false, false));
+
+            H2Utils.bindParameters(stmt, params);
+
+            Session ses = H2Utils.session(conn);
+
+            // The child tracker is closed when the connection is returned to the pool.
+            ses.memoryTracker(tracker != null ? tracker.createChildTracker() : null);
+            ses.queryDescription(qryInfo::description);
+
+            int timeout = deadline > 0 ? (int)Math.max(deadline - U.currentTimeMillis(), 1) : 0;
+
+            H2TableScanIndex.partitionScan(true);
+
+            ResultSet rs;
+
+            try {
+                rs = h2.executeSqlQueryWithTimer(stmt, conn, sql, timeout, cancel, null, null, 0);
+            }
+            finally {
+                H2TableScanIndex.partitionScan(false);
+
+                ses.queryDescription(null);
+            }
+
+            return new PartialResult(conn, MapQueryResult.result(rs));
+        }
+        catch (Throwable e) {
+            conn.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * @param parts Explicit partitions or {@code null} to use the primary partitions of the node.
+     * @param topVer Topology version.
+     * @param parallelism Number of worker threads.
+     * @return Morsels.
+     */
+    private Queue<int[]> morsels(@Nullable int[] parts, AffinityTopologyVersion topVer, int parallelism) {
+        if (parts == null) {
+            GridCacheContext<?, ?> cctx = tbl.cacheContext();
+
+            parts = U.toIntArray(cctx.affinity().primaryPartitions(cctx.localNodeId(), topVer));
+        }
+
+        int size = Math.max(1, (parts.length + parallelism * MORSELS_PER_THREAD - 1) /
+            (parallelism * MORSELS_PER_THREAD));
+
+        Queue<int[]> morsels = new ConcurrentLinkedQueue<>();
+
+        for (int from = 0; from < parts.length; from += size)
+            morsels.add(Arrays.copyOfRange(parts, from, Math.min(from + size, parts.length)));
+
+        return morsels;
+    }
+
+    /**
+     * Result of a morsel along with its connection.
+     */
+    private static class PartialResult implements AutoCloseable {
+        /** Connection. */
+        private final H2PooledConnection conn;
+
+        /** Result. */
+        private final ResultInterface res;
+
+        /**
+         * @param conn Connection.
+         * @param res Result.
+         */
+        PartialResult(H2PooledConnection conn, ResultInterface res) {
+            this.conn = conn;
+            this.res = res;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            try {
+                res.close();
+            }
+            finally {
+                conn.close();
+            }
+        }
+    }
+}
@@ -132,11 +132,29 @@ class MapQueryResult {
         ses = H2Utils.session(conn.connection());
     }
 
+    /**
+     * @param rs H2 result set.
+     * @return Underlying H2 result.
+     */
+    static ResultInterface result(ResultSet rs) {
+        try {
+            return (ResultInterface)RESULT_FIELD.get(rs);
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalStateException(e); // Must not happen.
+        }
+    }
+
     /** */
     void openResult(@NotNull ResultSet rs, MapH2QueryInfo qryInfo) {
         res = new Result(rs, qryInfo);
     }
 
+    /** */
+    void openResult(@NotNull ResultInterface res, MapH2QueryInfo qryInfo) {
+        this.res = new Result(res, qryInfo);
+    }
+
     /**
      * @return Page number.
      */
@@ -329,7 +347,7 @@ class MapQueryResult {
         /** */
         private final ResultInterface res;
 
-        /** */
+        /** H2 result set or {@code null} if the result is not produced by H2 statement. */
         private final ResultSet rs;
 
         /** */
@@ -349,12 +367,7 @@ class MapQueryResult {
         Result(@NotNull ResultSet rs, MapH2QueryInfo qryInfo) {
             this.rs = rs;
 
-            try {
-                res = (ResultInterface)RESULT_FIELD.get(rs);
-            }
-            catch (IllegalAccessException e) {
-                throw new IllegalStateException(e); // Must not happen.
-            }
+            res = result(rs);
 
             rowCnt = (res instanceof LazyResult) ? -1 : res.getRowCount();
             cols = res.getVisibleColumnCount();
@@ -362,11 +375,29 @@ class MapQueryResult {
             fetchSizeInterceptor = new H2QueryFetchSizeInterceptor(h2, qryInfo, log);
         }
 
+        /**
+         * Constructor.
+         *
+         * @param res Result.
+         */
+        Result(@NotNull ResultInterface res, MapH2QueryInfo qryInfo) {
+            this.res = res;
+
+            rs = null;
+            rowCnt = res.getRowCount();
+            cols = res.getVisibleColumnCount();
+
+            fetchSizeInterceptor = new H2QueryFetchSizeInterceptor(h2, qryInfo, log);
+        }
+
         /** */
         void close() {
             fetchSizeInterceptor.checkOnClose();
 
-            U.close(rs, log);
+            if (rs != null)
+                U.close(rs, log);
+            else
+                res.close();
         }
     }
 }
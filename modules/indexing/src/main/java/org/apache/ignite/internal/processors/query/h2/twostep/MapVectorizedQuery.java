@@ -0,0 +1,1384 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.twostep;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cache.query.QueryCancelledException;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.CacheObjectValueContext;
+import org.apache.ignite.internal.processors.query.GridQueryCancel;
+import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.internal.processors.query.QueryUtils;
+import org.apache.ignite.internal.processors.query.h2.H2MemoryTracker;
+import org.apache.ignite.internal.processors.query.h2.H2Utils;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2RowDescriptor;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
+import org.apache.ignite.internal.processors.query.h2.opt.H2CacheRow;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlAggregateFunction;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlAlias;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlAst;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlColumn;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlConst;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlFunction;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlFunctionType;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlOperation;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlOperationType;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlParameter;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlQueryParser;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlSelect;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlStatement;
+import org.apache.ignite.internal.processors.query.h2.sql.GridSqlTable;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.h2.command.Prepared;
+import org.h2.command.dml.Select;
+import org.h2.engine.Constants;
+import org.h2.engine.Session;
+import org.h2.expression.Expression;
+import org.h2.expression.Parameter;
+import org.h2.index.Cursor;
+import org.h2.result.LocalResult;
+import org.h2.table.Column;
+import org.h2.table.TableFilter;
+import org.h2.value.Value;
+import org.h2.value.ValueDecimal;
+import org.h2.value.ValueDouble;
+import org.h2.value.ValueLong;
+import org.h2.value.ValueNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batched execution of simple map queries: aggregations ({@code COUNT}, {@code SUM}, {@code MIN}, {@code MAX},
+ * {@code AVG} with optional {@code GROUP BY}) over a single table filtered by a conjunction of comparisons of
+ * columns with constants.
+ * <p>
+ * Rows are read into column batches of primitive values directly from the cache rows, then the filters and the
+ * aggregates are evaluated batch by batch over a selection vector. No H2 values are created per row, only the
+ * partial aggregates are returned to the reducer. Queries of any other shape are executed by H2 as usual.
+ */
+class MapVectorizedQuery {
+    /** Number of rows in a batch. */
+    static final int BATCH_SIZE = 1024;
+
+    /** Lane of integral numeric values. */
+    private static final int LANE_LONG = 0;
+
+    /** Lane of floating point numeric values. */
+    private static final int LANE_DOUBLE = 1;
+
+    /** Lane of other values, they can only be grouped or counted. */
+    private static final int LANE_OBJECT = 2;
+
+    /** Table. */
+    private final GridH2Table tbl;
+
+    /** Columns to read. */
+    private final ColumnBatch[] cols;
+
+    /** Filters. */
+    private final Filter[] filters;
+
+    /** Group by columns. */
+    private final ColumnBatch[] grpCols;
+
+    /** Aggregates per select expression, {@code null} for the group by columns. */
+    private final Aggregate[] aggs;
+
+    /** Index in the group key per select expression, {@code -1} for the aggregates. */
+    private final int[] grpKeyIdxs;
+
+    /** Select expressions. */
+    private final Expression[] exprs;
+
+    /** Visible columns count. */
+    private final int visibleColCnt;
+
+    /**
+     * @param tbl Table.
+     * @param cols Columns to read.
+     * @param filters Filters.
+     * @param grpCols Group by columns.
+     * @param aggs Aggregates per select expression.
+     * @param grpKeyIdxs Index in the group key per select expression.
+     * @param exprs Select expressions.
+     * @param visibleColCnt Visible columns count.
+     */
+    private MapVectorizedQuery(GridH2Table tbl, ColumnBatch[] cols, Filter[] filters, ColumnBatch[] grpCols,
+        Aggregate[] aggs, int[] grpKeyIdxs, Expression[] exprs, int visibleColCnt) {
+        this.tbl = tbl;
+        this.cols = cols;
+        this.filters = filters;
+        this.grpCols = grpCols;
+        this.aggs = aggs;
+        this.grpKeyIdxs = grpKeyIdxs;
+        this.exprs = exprs;
+        this.visibleColCnt = visibleColCnt;
+    }
+
+    /**
+     * Creates batched execution plan for the query if it is supported.
+     *
+     * @param stmt Prepared statement with the bound parameters.
+     * @param log Logger.
+     * @return Batched query or {@code null} if the query must be executed by H2.
+     */
+    @Nullable static MapVectorizedQuery create(PreparedStatement stmt, IgniteLogger log) {
+        Prepared prepared = GridSqlQueryParser.prepared(stmt);
+
+        if (!(prepared instanceof Select))
+            return null;
+
+        Select h2Select = (Select)prepared;
+
+        // Cheap checks to avoid parsing of the queries which are not supported anyway.
+        if (!h2Select.isGroupQuery() || h2Select.isAnyDistinct() || h2Select.getTopFilters().size() != 1)
+            return null;
+
+        TableFilter tblFilter = h2Select.getTopTableFilter();
+
+        if (tblFilter.getJoin() != null || !(tblFilter.getTable() instanceof GridH2Table))
+            return null;
+
+        GridSqlStatement parsed;
+
+        try {
+            parsed = new GridSqlQueryParser(false, log).parse(prepared);
+        }
+        catch (IgniteSQLException e) {
+            return null;
+        }
+
+        if (!(parsed instanceof GridSqlSelect))
+            return null;
+
+        return new Builder(prepared, h2Select).build((GridSqlSelect)parsed);
+    }
+
+    /**
+     * Executes the query.
+     *
+     * @param ses H2 session with the query context set up.
+     * @param timeout Query timeout in milliseconds, {@code 0} if not set.
+     * @param cancel Query cancel.
+     * @return Result or {@code null} if the groups don't fit into the query memory quota, such queries are executed
+     *      by H2 which offloads the groups to disk.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable LocalResult execute(Session ses, int timeout, @Nullable GridQueryCancel cancel)
+        throws IgniteCheckedException {
+        Map<Object, Integer> grps = grpCols.length > 0 ? new HashMap<>() : null;
+
+        // Groups are kept on heap until the result is built, so they are reserved in the query memory quota.
+        H2MemoryTracker tracker = grps != null && ses.memoryTracker() != null ?
+            ses.memoryTracker().createChildTracker() : null;
+
+        try {
+            return execute0(ses, timeout, cancel, grps, tracker);
+        }
+        finally {
+            if (tracker != null)
+                tracker.close();
+        }
+    }
+
+    /**
+     * @param ses H2 session with the query context set up.
+     * @param timeout Query timeout in milliseconds, {@code 0} if not set.
+     * @param cancel Query cancel.
+     * @param grps Group indexes by group key or {@code null} if there is no group by.
+     * @param tracker Memory tracker of the groups or {@code null} if memory is not tracked.
+     * @return Result or {@code null} if the groups don't fit into the query memory quota.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private LocalResult execute0(Session ses, int timeout, @Nullable GridQueryCancel cancel,
+        @Nullable Map<Object, Integer> grps, @Nullable H2MemoryTracker tracker) throws IgniteCheckedException {
+        long deadline = timeout > 0 ? U.currentTimeMillis() + timeout : 0;
+
+        GridH2RowDescriptor desc = tbl.rowDescriptor();
+
+        CacheObjectValueContext coCtx = desc.indexing().objectContext();
+
+        List<Object> grpKeys = new ArrayList<>();
+
+        int[] sel = new int[BATCH_SIZE];
+        int[] selGrps = grps != null ? new int[BATCH_SIZE] : null;
+
+        long aggsMem = 0;
+
+        for (Aggregate agg : aggs) {
+            if (agg != null)
+                aggsMem += agg.groupMemory();
+        }
+
+        tbl.lock(ses, false, false);
+
+        try {
+            Cursor cur = tbl.getScanIndex(ses).find(ses, null, null);
+
+            boolean hasNext = true;
+
+            while (hasNext) {
+                int cnt = 0;
+
+                while (cnt < BATCH_SIZE && (hasNext = cur.next())) {
+                    H2CacheRow row = (H2CacheRow)cur.get();
+
+                    if (row.value() == null)
+                        continue;
+
+                    for (ColumnBatch col : cols)
+                        col.read(cnt, row, desc, coCtx);
+
+                    cnt++;
+                }
+
+                checkCancelled(cancel, deadline);
+
+                for (int i = 0; i < cnt; i++)
+                    sel[i] = i;
+
+                int selCnt = cnt;
+
+                for (Filter filter : filters)
+                    selCnt = filter.apply(sel, selCnt);
+
+                if (selCnt == 0)
+                    continue;
+
+                if (grps != null) {
+                    for (int k = 0; k < selCnt; k++) {
+                        Object key = groupKey(sel[k]);
+
+                        Integer grp = grps.get(key);
+
+                        if (grp == null) {
+                            if (tracker != null && !tracker.reserve(groupKeyMemory(key, coCtx) + aggsMem))
+                                return null;
+
+                            grp = grpKeys.size();
+
+                            grps.put(key, grp);
+                            grpKeys.add(key);
+                        }
+
+                        selGrps[k] = grp;
+                    }
+
+                    for (Aggregate agg : aggs) {
+                        if (agg != null)
+                            agg.ensureCapacity(grpKeys.size());
+                    }
+                }
+
+                for (Aggregate agg : aggs) {
+                    if (agg != null)
+                        agg.accumulate(sel, selCnt, selGrps);
+                }
+            }
+        }
+        finally {
+            // Releases the table lock as H2 does at the end of a statement in auto-commit mode.
+            ses.commit(false);
+        }
+
+        LocalResult res = ses.getDatabase().getResultFactory().create(ses, exprs, visibleColCnt, false);
+
+        if (grps == null)
+            res.addRow(row(0, null, coCtx));
+        else {
+            for (int g = 0; g < grpKeys.size(); g++)
+                res.addRow(row(g, grpKeys.get(g), coCtx));
+        }
+
+        res.done();
+
+        return res;
+    }
+
+    /**
+     * @param i Row index in the batch.
+     * @return Group key.
+     */
+    private Object groupKey(int i) {
+        if (grpCols.length == 1)
+            return grpCols[0].object(i);
+
+        Object[] key = new Object[grpCols.length];
+
+        for (int j = 0; j < grpCols.length; j++)
+            key[j] = grpCols[j].object(i);
+
+        return Arrays.asList(key);
+    }
+
+    /**
+     * @param key Group key.
+     * @param coCtx Cache object value context.
+     * @return Estimated memory used by the group key, its map entry and its list element.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long groupKeyMemory(Object key, CacheObjectValueContext coCtx) throws IgniteCheckedException {
+        long size = Constants.MEMORY_OBJECT + 2 * Constants.MEMORY_POINTER;
+
+        if (grpCols.length == 1)
+            return size + grpCols[0].value(key, coCtx).getMemory();
+
+        List<?> keyVals = (List<?>)key;
+
+        size += 2 * Constants.MEMORY_OBJECT + Constants.MEMORY_ARRAY + keyVals.size() * Constants.MEMORY_POINTER;
+
+        for (int j = 0; j < grpCols.length; j++)
+            size += grpCols[j].value(keyVals.get(j), coCtx).getMemory();
+
+        return size;
+    }
+
+    /**
+     * @param grp Group.
+     * @param key Group key.
+     * @param coCtx Cache object value context.
+     * @return Result row.
+     * @throws IgniteCheckedException If failed.
+     */
+    private Value[] row(int grp, @Nullable Object key, CacheObjectValueContext coCtx) throws IgniteCheckedException {
+        Value[] row = new Value[exprs.length];
+
+        for (int j = 0; j < row.length; j++) {
+            Value val;
+
+            if (grpKeyIdxs[j] >= 0) {
+                int keyIdx = grpKeyIdxs[j];
+
+                Object keyVal = grpCols.length == 1 ? key : ((List<?>)key).get(keyIdx);
+
+                val = grpCols[keyIdx].value(keyVal, coCtx);
+            }
+            else
+                val = aggs[j].value(grp);
+
+            row[j] = val == ValueNull.INSTANCE ? val : val.convertTo(exprs[j].getType().getValueType());
+        }
+
+        return row;
+    }
+
+    /**
+     * @param cancel Query cancel.
+     * @param deadline Query deadline, {@code 0} if not set.
+     */
+    private static void checkCancelled(@Nullable GridQueryCancel cancel, long deadline) {
+        if (cancel != null)
+            cancel.checkCancelled();
+
+        if (deadline > 0 && U.currentTimeMillis() > deadline)
+            throw new QueryCancelledException();
+    }
+
+    /**
+     * @param type H2 value type.
+     * @return Batch lane.
+     */
+    private static int lane(int type) {
+        switch (type) {
+            case Value.BYTE:
+            case Value.SHORT:
+            case Value.INT:
+            case Value.LONG:
+                return LANE_LONG;
+
+            case Value.FLOAT:
+            case Value.DOUBLE:
+                return LANE_DOUBLE;
+
+            default:
+                return LANE_OBJECT;
+        }
+    }
+
+    /**
+     * @param type H2 value type.
+     * @return {@code True} if equal values of the type are equal Java objects as well.
+     */
+    private static boolean groupable(int type) {
+        switch (type) {
+            case Value.BOOLEAN:
+            case Value.STRING:
+            case Value.UUID:
+            case Value.DATE:
+                return true;
+
+            default:
+                return lane(type) != LANE_OBJECT;
+        }
+    }
+
+    /**
+     * Builds the batched execution plan from the parsed query.
+     */
+    private static class Builder {
+        /** Prepared statement. */
+        private final Prepared prepared;
+
+        /** H2 select. */
+        private final Select h2Select;
+
+        /** Table. */
+        private GridH2Table tbl;
+
+        /** Columns to read by column ID. */
+        private final Map<Integer, ColumnBatch> cols = new HashMap<>();
+
+        /** Filters. */
+        private final List<Filter> filters = new ArrayList<>();
+
+        /**
+         * @param prepared Prepared statement.
+         * @param h2Select H2 select.
+         */
+        Builder(Prepared prepared, Select h2Select) {
+            this.prepared = prepared;
+            this.h2Select = h2Select;
+        }
+
+        /**
+         * @param select Parsed select.
+         * @return Batched query or {@code null} if the query is not supported.
+         */
+        @Nullable MapVectorizedQuery build(GridSqlSelect select) {
+            if (select.distinct() || select.havingColumn() >= 0 || !F.isEmpty(select.sort()) ||
+                select.limit() != null || select.offset() != null || select.isForUpdate())
+                return null;
+
+            GridSqlAst from = GridSqlAlias.unwrap(select.from());
+
+            if (!(from instanceof GridSqlTable) || ((GridSqlTable)from).dataTable() == null)
+                return null;
+
+            tbl = ((GridSqlTable)from).dataTable();
+
+            if (select.where() != null && !addFilters(select.where()))
+                return null;
+
+            List<Expression> h2Exprs = h2Select.getExpressions();
+
+            int colCnt = select.allColumns();
+
+            if (h2Exprs.size() != colCnt)
+                return null;
+
+            int[] grpColIdxs = select.groupColumns() == null ? new int[0] : select.groupColumns();
+
+            ColumnBatch[] grpCols = new ColumnBatch[grpColIdxs.length];
+
+            int[] grpKeyIdxs = new int[colCnt];
+
+            Arrays.fill(grpKeyIdxs, -1);
+
+            for (int i = 0; i < grpColIdxs.length; i++) {
+                GridSqlAst el = GridSqlAlias.unwrap(select.columns(false).get(grpColIdxs[i]));
+
+                ColumnBatch col = column(el);
+
+                if (col == null || !groupable(col.type))
+                    return null;
+
+                grpCols[i] = col;
+                grpKeyIdxs[grpColIdxs[i]] = i;
+            }
+
+            Aggregate[] aggs = new Aggregate[colCnt];
+
+            for (int j = 0; j < colCnt; j++) {
+                if (grpKeyIdxs[j] >= 0)
+                    continue;
+
+                GridSqlAst el = GridSqlAlias.unwrap(select.columns(false).get(j));
+
+                if (!(el instanceof GridSqlAggregateFunction))
+                    return null;
+
+                aggs[j] = aggregate((GridSqlAggregateFunction)el);
+
+                if (aggs[j] == null)
+                    return null;
+
+                // Aggregates without group by return the single row even for empty tables.
+                if (grpCols.length == 0)
+                    aggs[j].ensureCapacity(1);
+            }
+
+            return new MapVectorizedQuery(
+                tbl,
+                cols.values().toArray(new ColumnBatch[0]),
+                filters.toArray(new Filter[0]),
+                grpCols,
+                aggs,
+                grpKeyIdxs,
+                h2Exprs.toArray(new Expression[0]),
+                h2Select.getColumnCount()
+            );
+        }
+
+        /**
+         * @param agg Aggregate function.
+         * @return Aggregate or {@code null} if not supported.
+         */
+        @Nullable private Aggregate aggregate(GridSqlAggregateFunction agg) {
+            if (agg.distinct())
+                return null;
+
+            if (agg.type() == GridSqlFunctionType.COUNT_ALL)
+                return agg.size() == 0 ? new CountAggregate(null) : null;
+
+            if (agg.size() != 1)
+                return null;
+
+            GridSqlAst arg = agg.child();
+
+            boolean castToDouble = false;
+
+            if (arg instanceof GridSqlFunction && ((GridSqlFunction)arg).type() == GridSqlFunctionType.CAST) {
+                if (arg.resultType() == null || arg.resultType().type() != Value.DOUBLE || arg.size() != 1)
+                    return null;
+
+                castToDouble = true;
+                arg = arg.child();
+            }
+
+            ColumnBatch col = column(arg);
+
+            if (col == null)
+                return null;
+
+            if (agg.type() == GridSqlFunctionType.COUNT)
+                return castToDouble && col.lane == LANE_OBJECT ? null : new CountAggregate(col);
+
+            if (col.lane == LANE_OBJECT)
+                return null;
+
+            boolean dbl = castToDouble || col.lane == LANE_DOUBLE;
+
+            switch (agg.type()) {
+                case SUM:
+                case AVG:
+                    boolean avg = agg.type() == GridSqlFunctionType.AVG;
+
+                    return dbl ? new DoubleSumAggregate(col, avg) : new LongSumAggregate(col, avg);
+
+                case MIN:
+                case MAX:
+                    boolean max = agg.type() == GridSqlFunctionType.MAX;
+
+                    return dbl ? new DoubleMinMaxAggregate(col, max) : new LongMinMaxAggregate(col, max);
+
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * @param cond Condition.
+         * @return {@code False} if the condition is not supported.
+         */
+        private boolean addFilters(GridSqlAst cond) {
+            if (!(cond instanceof GridSqlOperation))
+                return false;
+
+            GridSqlOperation op = (GridSqlOperation)cond;
+
+            GridSqlOperationType opType = op.operationType();
+
+            switch (opType) {
+                case AND:
+                    return addFilters(op.child(0)) && addFilters(op.child(1));
+
+                case IS_NULL:
+                case IS_NOT_NULL: {
+                    ColumnBatch col = column(op.child());
+
+                    if (col == null)
+                        return false;
+
+                    filters.add(new Filter(col, opType, 0, 0));
+
+                    return true;
+                }
+
+                case EQUAL:
+                case NOT_EQUAL:
+                case SMALLER:
+                case SMALLER_EQUAL:
+                case BIGGER:
+                case BIGGER_EQUAL: {
+                    GridSqlAst left = op.child(0);
+                    GridSqlAst right = op.child(1);
+
+                    if (!(left instanceof GridSqlColumn)) {
+                        GridSqlAst tmp = left;
+
+                        left = right;
+                        right = tmp;
+
+                        opType = mirror(opType);
+                    }
+
+                    ColumnBatch col = column(left);
+
+                    if (col == null || col.lane == LANE_OBJECT)
+                        return false;
+
+                    Value val = constant(right);
+
+                    if (val == null)
+                        return false;
+
+                    int valType = val.getValueType();
+
+                    if (col.lane == LANE_LONG) {
+                        // Comparison with a fractional value is done by H2 in a wider type.
+                        if (lane(valType) != LANE_LONG)
+                            return false;
+
+                        filters.add(new Filter(col, opType, val.getLong(), 0));
+                    }
+                    else {
+                        if (lane(valType) == LANE_OBJECT && valType != Value.DECIMAL)
+                            return false;
+
+                        filters.add(new Filter(col, opType, 0, val.getDouble()));
+                    }
+
+                    return true;
+                }
+
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * @param el Element.
+         * @return Constant value or {@code null} if the element is not a constant or is {@code NULL}.
+         */
+        @Nullable private Value constant(GridSqlAst el) {
+            Value val = null;
+
+            if (el instanceof GridSqlConst)
+                val = ((GridSqlConst)el).value();
+            else if (el instanceof GridSqlParameter) {
+                int idx = ((GridSqlParameter)el).index();
+
+                for (Parameter param : prepared.getParameters()) {
+                    if (param.getIndex() == idx) {
+                        val = param.getParamValue();
+
+                        break;
+                    }
+                }
+            }
+
+            return val == null || val == ValueNull.INSTANCE ? null : val;
+        }
+
+        /**
+         * @param el Element.
+         * @return Column batch or {@code null} if the element is not a supported column of the table.
+         */
+        @Nullable private ColumnBatch column(GridSqlAst el) {
+            if (!(el instanceof GridSqlColumn))
+                return null;
+
+            Column col = ((GridSqlColumn)el).column();
+
+            if (col == null || col.getTable() != tbl)
+                return null;
+
+            int colId = col.getColumnId();
+
+            ColumnBatch batch = cols.get(colId);
+
+            if (batch != null)
+                return batch;
+
+            GridH2RowDescriptor desc = tbl.rowDescriptor();
+
+            int field;
+
+            if (desc.isKeyAliasColumn(colId))
+                field = ColumnBatch.KEY;
+            else if (desc.isValueAliasColumn(colId))
+                field = ColumnBatch.VAL;
+            else if (colId >= QueryUtils.DEFAULT_COLUMNS_COUNT)
+                field = colId - QueryUtils.DEFAULT_COLUMNS_COUNT;
+            else
+                return null;
+
+            batch = new ColumnBatch(field, col.getType().getValueType());
+
+            cols.put(colId, batch);
+
+            return batch;
+        }
+
+        /**
+         * @param opType Comparison.
+         * @return Comparison with swapped arguments.
+         */
+        private static GridSqlOperationType mirror(GridSqlOperationType opType) {
+            switch (opType) {
+                case SMALLER:
+                    return GridSqlOperationType.BIGGER;
+
+                case SMALLER_EQUAL:
+                    return GridSqlOperationType.BIGGER_EQUAL;
+
+                case BIGGER:
+                    return GridSqlOperationType.SMALLER;
+
+                case BIGGER_EQUAL:
+                    return GridSqlOperationType.SMALLER_EQUAL;
+
+                default:
+                    return opType;
+            }
+        }
+    }
+
+    /**
+     * Batch of column values.
+     */
+    private static final class ColumnBatch {
+        /** Field index of the key alias column. */
+        static final int KEY = -1;
+
+        /** Field index of the value alias column. */
+        static final int VAL = -2;
+
+        /** Field index in the row descriptor, {@link #KEY} or {@link #VAL}. */
+        final int field;
+
+        /** H2 value type. */
+        final int type;
+
+        /** Lane. */
+        final int lane;
+
+        /** Integral values. */
+        final long[] longs;
+
+        /** Floating point values. */
+        final double[] doubles;
+
+        /** Other values. */
+        final Object[] objs;
+
+        /** Null flags. */
+        final boolean[] nulls = new boolean[BATCH_SIZE];
+
+        /**
+         * @param field Field index.
+         * @param type H2 value type.
+         */
+        ColumnBatch(int field, int type) {
+            this.field = field;
+            this.type = type;
+
+            lane = lane(type);
+
+            longs = lane == LANE_LONG ? new long[BATCH_SIZE] : null;
+            doubles = lane == LANE_DOUBLE ? new double[BATCH_SIZE] : null;
+            objs = lane == LANE_OBJECT ? new Object[BATCH_SIZE] : null;
+        }
+
+        /**
+         * @param i Index in the batch.
+         * @param row Row.
+         * @param desc Row descriptor.
+         * @param coCtx Cache object value context.
+         */
+        void read(int i, H2CacheRow row, GridH2RowDescriptor desc, CacheObjectValueContext coCtx) {
+            Object val;
+
+            if (field == KEY)
+                val = unwrap(row.key(), coCtx);
+            else if (field == VAL)
+                val = unwrap(row.value(), coCtx);
+            else
+                val = desc.columnValue(row.key(), row.value(), field);
+
+            nulls[i] = val == null;
+
+            switch (lane) {
+                case LANE_LONG:
+                    longs[i] = val == null ? 0 : ((Number)val).longValue();
+
+                    break;
+
+                case LANE_DOUBLE:
+                    doubles[i] = val == null ? 0 : ((Number)val).doubleValue();
+
+                    break;
+
+                default:
+                    objs[i] = val;
+            }
+        }
+
+        /**
+         * @param i Index in the batch.
+         * @return Value as a floating point number.
+         */
+        double doubleValue(int i) {
+            return lane == LANE_DOUBLE ? doubles[i] : longs[i];
+        }
+
+        /**
+         * @param i Index in the batch.
+         * @return Boxed value.
+         */
+        @Nullable Object object(int i) {
+            if (nulls[i])
+                return null;
+
+            switch (lane) {
+                case LANE_LONG:
+                    return longs[i];
+
+                case LANE_DOUBLE:
+                    return doubles[i];
+
+                default:
+                    return objs[i];
+            }
+        }
+
+        /**
+         * @param obj Boxed value.
+         * @param coCtx Cache object value context.
+         * @return H2 value.
+         * @throws IgniteCheckedException If failed.
+         */
+        Value value(@Nullable Object obj, CacheObjectValueContext coCtx) throws IgniteCheckedException {
+            if (obj == null)
+                return ValueNull.INSTANCE;
+
+            switch (lane) {
+                case LANE_LONG:
+                    return ValueLong.get((Long)obj);
+
+                case LANE_DOUBLE:
+                    return ValueDouble.get((Double)obj);
+
+                default:
+                    return H2Utils.wrap(coCtx, obj, type);
+            }
+        }
+
+        /**
+         * @param obj Cache object.
+         * @param coCtx Cache object value context.
+         * @return Unwrapped value.
+         */
+        @Nullable private static Object unwrap(@Nullable CacheObject obj, CacheObjectValueContext coCtx) {
+            return obj == null ? null : obj.value(coCtx, false);
+        }
+    }
+
+    /**
+     * Comparison of a column with a constant.
+     */
+    private static final class Filter {
+        /** Column. */
+        private final ColumnBatch col;
+
+        /** Comparison. */
+        private final GridSqlOperationType op;
+
+        /** Integral constant. */
+        private final long longVal;
+
+        /** Floating point constant. */
+        private final double dblVal;
+
+        /**
+         * @param col Column.
+         * @param op Comparison.
+         * @param longVal Integral constant.
+         * @param dblVal Floating point constant.
+         */
+        Filter(ColumnBatch col, GridSqlOperationType op, long longVal, double dblVal) {
+            this.col = col;
+            this.op = op;
+            this.longVal = longVal;
+            this.dblVal = dblVal;
+        }
+
+        /**
+         * Leaves only the matching rows in the selection.
+         *
+         * @param sel Selection vector.
+         * @param cnt Selected rows count.
+         * @return Matching rows count.
+         */
+        int apply(int[] sel, int cnt) {
+            boolean[] nulls = col.nulls;
+
+            int res = 0;
+
+            if (op == GridSqlOperationType.IS_NULL || op == GridSqlOperationType.IS_NOT_NULL) {
+                boolean expNull = op == GridSqlOperationType.IS_NULL;
+
+                for (int k = 0; k < cnt; k++) {
+                    int i = sel[k];
+
+                    if (nulls[i] == expNull)
+                        sel[res++] = i;
+                }
+            }
+            else if (col.lane == LANE_LONG) {
+                long[] vals = col.longs;
+
+                for (int k = 0; k < cnt; k++) {
+                    int i = sel[k];
+
+                    if (!nulls[i] && test(Long.compare(vals[i], longVal)))
+                        sel[res++] = i;
+                }
+            }
+            else {
+                double[] vals = col.doubles;
+
+                for (int k = 0; k < cnt; k++) {
+                    int i = sel[k];
+
+                    // Same ordering as H2 uses for DOUBLE and REAL values.
+                    if (!nulls[i] && test(Double.compare(vals[i], dblVal)))
+                        sel[res++] = i;
+                }
+            }
+
+            return res;
+        }
+
+        /**
+         * @param cmp Comparison result.
+         * @return {@code True} if the comparison result matches the condition.
+         */
+        private boolean test(int cmp) {
+            switch (op) {
+                case EQUAL:
+                    return cmp == 0;
+
+                case NOT_EQUAL:
+                    return cmp != 0;
+
+                case SMALLER:
+                    return cmp < 0;
+
+                case SMALLER_EQUAL:
+                    return cmp <= 0;
+
+                case BIGGER:
+                    return cmp > 0;
+
+                case BIGGER_EQUAL:
+                    return cmp >= 0;
+
+                default:
+                    throw new IllegalStateException("Unexpected comparison: " + op);
+            }
+        }
+    }
+
+    /**
+     * Aggregate with the state stored in arrays indexed by group.
+     */
+    private abstract static class Aggregate {
+        /** Non-null values count per group. */
+        long[] cnts = new long[0];
+
+        /**
+         * @param grpCnt Groups count.
+         */
+        final void ensureCapacity(int grpCnt) {
+            if (grpCnt > cnts.length)
+                grow(Math.max(grpCnt, cnts.length * 2));
+        }
+
+        /**
+         * @param cap New capacity.
+         */
+        void grow(int cap) {
+            cnts = Arrays.copyOf(cnts, cap);
+        }
+
+        /**
+         * @return Memory used by the state of a single group.
+         */
+        int groupMemory() {
+            return Long.BYTES;
+        }
+
+        /**
+         * @param sel Selection vector.
+         * @param cnt Selected rows count.
+         * @param grps Groups of the selected rows or {@code null} if there is no group by.
+         */
+        abstract void accumulate(int[] sel, int cnt, @Nullable int[] grps);
+
+        /**
+         * @param grp Group.
+         * @return Aggregated value.
+         */
+        abstract Value value(int grp);
+    }
+
+    /**
+     * {@code COUNT(*)} or {@code COUNT(col)}.
+     */
+    private static final class CountAggregate extends Aggregate {
+        /** Column or {@code null} for {@code COUNT(*)}. */
+        private final ColumnBatch col;
+
+        /**
+         * @param col Column or {@code null} for {@code COUNT(*)}.
+         */
+        CountAggregate(@Nullable ColumnBatch col) {
+            this.col = col;
+        }
+
+        /** {@inheritDoc} */
+        @Override void accumulate(int[] sel, int cnt, @Nullable int[] grps) {
+            if (col == null) {
+                if (grps == null)
+                    cnts[0] += cnt;
+                else {
+                    for (int k = 0; k < cnt; k++)
+                        cnts[grps[k]]++;
+                }
+
+                return;
+            }
+
+            boolean[] nulls = col.nulls;
+
+            for (int k = 0; k < cnt; k++) {
+                if (!nulls[sel[k]])
+                    cnts[grps == null ? 0 : grps[k]]++;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override Value value(int grp) {
+            return ValueLong.get(cnts[grp]);
+        }
+    }
+
+    /**
+     * {@code SUM} or {@code AVG} of integral values.
+     */
+    private static final class LongSumAggregate extends Aggregate {
+        /** Column. */
+        private final ColumnBatch col;
+
+        /** Average flag. */
+        private final boolean avg;
+
+        /** Sums. */
+        private long[] sums = new long[0];
+
+        /** Overflowed parts of the sums, {@code null} until the first overflow. */
+        private BigInteger[] overflows;
+
+        /**
+         * @param col Column.
+         * @param avg Average flag.
+         */
+        LongSumAggregate(ColumnBatch col, boolean avg) {
+            this.col = col;
+            this.avg = avg;
+        }
+
+        /** {@inheritDoc} */
+        @Override void grow(int cap) {
+            super.grow(cap);
+
+            sums = Arrays.copyOf(sums, cap);
+
+            if (overflows != null)
+                overflows = Arrays.copyOf(overflows, cap);
+        }
+
+        /** {@inheritDoc} */
+        @Override int groupMemory() {
+            return 2 * Long.BYTES;
+        }
+
+        /** {@inheritDoc} */
+        @Override void accumulate(int[] sel, int cnt, @Nullable int[] grps) {
+            long[] vals = col.longs;
+            boolean[] nulls = col.nulls;
+
+            for (int k = 0; k < cnt; k++) {
+                int i = sel[k];
+
+                if (nulls[i])
+                    continue;
+
+                int g = grps == null ? 0 : grps[k];
+
+                long sum = sums[g];
+                long val = vals[i];
+                long res = sum + val;
+
+                // Move the sum aside on overflow, H2 sums BIGINT values as DECIMAL.
+                if (((sum ^ res) & (val ^ res)) < 0) {
+                    if (overflows == null)
+                        overflows = new BigInteger[sums.length];
+
+                    BigInteger overflow = overflows[g];
+
+                    overflows[g] = (overflow == null ? BigInteger.ZERO : overflow).add(BigInteger.valueOf(sum));
+
+                    res = val;
+                }
+
+                sums[g] = res;
+                cnts[g]++;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override Value value(int grp) {
+            if (cnts[grp] == 0)
+                return ValueNull.INSTANCE;
+
+            Value sum;
+
+            if (overflows != null && overflows[grp] != null)
+                sum = ValueDecimal.get(new BigDecimal(overflows[grp].add(BigInteger.valueOf(sums[grp]))));
+            else if (avg && col.type == Value.LONG)
+                sum = ValueDecimal.get(BigDecimal.valueOf(sums[grp]));
+            else
+                sum = ValueLong.get(sums[grp]);
+
+            if (!avg)
+                return sum;
+
+            // Same as H2 does: BIGINT values are averaged as DECIMAL, the narrower ones with integer division.
+            int type = Value.getHigherOrder(sum.getValueType(), Value.LONG);
+
+            return sum.convertTo(type).divide(ValueLong.get(cnts[grp]).convertTo(type));
+        }
+    }
+
+    /**
+     * {@code SUM} or {@code AVG} of floating point values or of integral values cast to {@code DOUBLE}.
+     */
+    private static final class DoubleSumAggregate extends Aggregate {
+        /** Column. */
+        private final ColumnBatch col;
+
+        /** Average flag. */
+        private final boolean avg;
+
+        /** Sums. */
+        private double[] sums = new double[0];
+
+        /**
+         * @param col Column.
+         * @param avg Average flag.
+         */
+        DoubleSumAggregate(ColumnBatch col, boolean avg) {
+            this.col = col;
+            this.avg = avg;
+        }
+
+        /** {@inheritDoc} */
+        @Override void grow(int cap) {
+            super.grow(cap);
+
+            sums = Arrays.copyOf(sums, cap);
+        }
+
+        /** {@inheritDoc} */
+        @Override int groupMemory() {
+            return Long.BYTES + Double.BYTES;
+        }
+
+        /** {@inheritDoc} */
+        @Override void accumulate(int[] sel, int cnt, @Nullable int[] grps) {
+            boolean[] nulls = col.nulls;
+
+            for (int k = 0; k < cnt; k++) {
+                int i = sel[k];
+
+                if (nulls[i])
+                    continue;
+
+                int g = grps == null ? 0 : grps[k];
+
+                sums[g] += col.doubleValue(i);
+                cnts[g]++;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override Value value(int grp) {
+            if (cnts[grp] == 0)
+                return ValueNull.INSTANCE;
+
+            return ValueDouble.get(avg ? sums[grp] / cnts[grp] : sums[grp]);
+        }
+    }
+
+    /**
+     * {@code MIN} or {@code MAX} of integral values.
+     */
+    private static final class LongMinMaxAggregate extends Aggregate {
+        /** Column. */
+        private final ColumnBatch col;
+
+        /** Maximum flag. */
+        private final boolean max;
+
+        /** Current values. */
+        private long[] res = new long[0];
+
+        /**
+         * @param col Column.
+         * @param max Maximum flag.
+         */
+        LongMinMaxAggregate(ColumnBatch col, boolean max) {
+            this.col = col;
+            this.max = max;
+        }
+
+        /** {@inheritDoc} */
+        @Override void grow(int cap) {
+            super.grow(cap);
+
+            res = Arrays.copyOf(res, cap);
+        }
+
+        /** {@inheritDoc} */
+        @Override int groupMemory() {
+            return 2 * Long.BYTES;
+        }
+
+        /** {@inheritDoc} */
+        @Override void accumulate(int[] sel, int cnt, @Nullable int[] grps) {
+            long[] vals = col.longs;
+            boolean[] nulls = col.nulls;
+
+            for (int k = 0; k < cnt; k++) {
+                int i = sel[k];
+
+                if (nulls[i])
+                    continue;
+
+                int g = grps == null ? 0 : grps[k];
+
+                long val = vals[i];
+
+                if (cnts[g]++ == 0 || (max ? val > res[g] : val < res[g]))
+                    res[g] = val;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override Value value(int grp) {
+            return cnts[grp] == 0 ? ValueNull.INSTANCE : ValueLong.get(res[grp]);
+        }
+    }
+
+    /**
+     * {@code MIN} or {@code MAX} of floating point values.
+     */
+    private static final class DoubleMinMaxAggregate extends Aggregate {
+        /** Column. */
+        private final ColumnBatch col;
+
+        /** Maximum flag. */
+        private final boolean max;
+
+        /** Current values. */
+        private double[] res = new double[0];
+
+        /**
+         * @param col Column.
+         * @param max Maximum flag.
+         */
+        DoubleMinMaxAggregate(ColumnBatch col, boolean max) {
+            this.col = col;
+            this.max = max;
+        }
+
+        /** {@inheritDoc} */
+        @Override void grow(int cap) {
+            super.grow(cap);
+
+            res = Arrays.copyOf(res, cap);
+        }
+
+        /** {@inheritDoc} */
+        @Override int groupMemory() {
+            return 2 * Long.BYTES;
+        }
+
+        /** {@inheritDoc} */
+        @Override void accumulate(int[] sel, int cnt, @Nullable int[] grps) {
+            boolean[] nulls = col.nulls;
+
+            for (int k = 0; k < cnt; k++) {
+                int i = sel[k];
+
+                if (nulls[i])
+                    continue;
+
+                int g = grps == null ? 0 : grps[k];
+
+                double val = col.doubleValue(i);
+
+                if (cnts[g]++ == 0) {
+                    res[g] = val;
+
+                    continue;
+                }
+
+                int cmp = Double.compare(val, res[g]);
+
+                if (max ? cmp > 0 : cmp < 0)
+                    res[g] = val;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override Value value(int grp) {
+            return cnts[grp] == 0 ? ValueNull.INSTANCE : ValueDouble.get(res[grp]);
+        }
+    }
+}
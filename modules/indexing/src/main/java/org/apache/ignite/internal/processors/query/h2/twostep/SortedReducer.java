@@ -16,6 +16,7 @@
 
 package org.apache.ignite.internal.processors.query.h2.twostep;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -320,8 +321,8 @@ public class SortedReducer extends AbstractReducer {
         /** */
         private Row cur;
 
-        /** */
-        private ReduceResultPage nextPage;
+        /** Received pages, there may be more than one if the pages are requested ahead. */
+        private final ArrayDeque<ReduceResultPage> pages = new ArrayDeque<>();
 
         /**
          * @param page Page.
@@ -335,10 +336,9 @@ public class SortedReducer extends AbstractReducer {
             lock.lock();
 
             try {
-                // We can fetch the next page only when we have polled the previous one.
-                assert nextPage == null;
+                assert pages.size() < pageCredits : pages.size();
 
-                nextPage = page;
+                pages.add(page);
 
                 notEmpty.signalAll();
             }
@@ -358,12 +358,12 @@ public class SortedReducer extends AbstractReducer {
                     if (failPage != null)
                         return failPage;
 
-                    ReduceResultPage page = nextPage;
+                    ReduceResultPage page = pages.poll();
 
                     if (page != null) {
                         // isLast && !isDummyLast
-                        nextPage = page.isLast() && page.response() != null
-                            ? createDummyLastPage(page) : null; // Terminate with empty iterator.
+                        if (page.isLast() && page.response() != null)
+                            pages.add(createDummyLastPage(page)); // Terminate with empty iterator.
 
                         return page;
                     }
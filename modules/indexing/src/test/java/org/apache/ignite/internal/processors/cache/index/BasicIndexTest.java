@@ -52,7 +52,12 @@ import org.apache.ignite.internal.processors.cache.AbstractDataTypesCoverageTest
 import org.apache.ignite.internal.processors.cache.IgniteInternalCache;
 import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
 import org.apache.ignite.internal.processors.query.GridQueryProcessor;
+import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
 import org.apache.ignite.internal.processors.query.QueryUtils;
+import org.apache.ignite.internal.processors.query.h2.IgniteH2Indexing;
+import org.apache.ignite.internal.processors.query.h2.database.H2Tree;
+import org.apache.ignite.internal.processors.query.h2.database.H2TreeIndex;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
 import org.apache.ignite.internal.util.typedef.G;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -60,11 +65,13 @@ import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.ListeningTestLogger;
 import org.apache.ignite.testframework.LogListener;
 import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.h2.index.Index;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE;
 import static org.apache.ignite.internal.processors.cache.AbstractDataTypesCoverageTest.ByteArrayed;
 import static org.apache.ignite.internal.processors.cache.AbstractDataTypesCoverageTest.Dated;
 import static org.apache.ignite.internal.processors.cache.AbstractDataTypesCoverageTest.SqlStrConvertedValHolder;
@@ -1168,6 +1175,83 @@ public class BasicIndexTest extends AbstractIndexingCommonTest {
         }
     }
 
+    /** */
+    @Test
+    @WithSystemProperty(key = IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE, value = "8")
+    public void testAllIndexesWithPersistenceTruncatedSeparators() throws Exception {
+        indexes = Arrays.asList(
+            new QueryIndex("keyStr"),
+            new QueryIndex("keyLong"),
+            new QueryIndex("keyPojo"),
+            new QueryIndex("valStr"),
+            new QueryIndex("valLong"),
+            new QueryIndex("valPojo")
+        );
+
+        isPersistenceEnabled = true;
+
+        for (int i : new int[] {20, 100}) {
+            log().info("Checking inlineSize=" + i);
+
+            inlineSize = i;
+
+            startGridsMultiThreaded(gridCount());
+
+            populateCache();
+
+            checkAll();
+
+            int truncated = checkTruncatedSeparators();
+
+            assertTrue("Separator keys are not truncated", truncated > 0);
+
+            stopAllGrids();
+
+            startGridsMultiThreaded(gridCount());
+
+            checkAll();
+
+            // Inner inline size is restored from the meta page.
+            assertEquals(truncated, checkTruncatedSeparators());
+
+            stopAllGrids();
+
+            cleanPersistenceDir();
+        }
+    }
+
+    /**
+     * Checks inner inline size of secondary index trees on the first node.
+     *
+     * @return Number of trees with truncated separator keys.
+     */
+    private int checkTruncatedSeparators() {
+        IgniteH2Indexing indexing = (IgniteH2Indexing)grid(0).context().query().getIndexing();
+
+        int truncated = 0;
+
+        for (GridQueryTypeDescriptor type : grid(0).context().query().types(DEFAULT_CACHE_NAME)) {
+            GridH2Table tbl = indexing.schemaManager().dataTable(DEFAULT_CACHE_NAME, type.tableName());
+
+            for (Index idx : tbl.getIndexes()) {
+                if (!(idx instanceof H2TreeIndex))
+                    continue;
+
+                for (H2Tree tree : U.<H2Tree[]>field(idx, "segments")) {
+                    assertTrue(tree.innerInlineSize() <= tree.inlineSize());
+
+                    if (tree.innerInlineSize() < tree.inlineSize()) {
+                        assertEquals(8, tree.innerInlineSize());
+
+                        truncated++;
+                    }
+                }
+            }
+        }
+
+        return truncated;
+    }
+
     /** */
     @Test
     @WithSystemProperty(key = IGNITE_THROTTLE_INLINE_SIZE_CALCULATION, value = "1")
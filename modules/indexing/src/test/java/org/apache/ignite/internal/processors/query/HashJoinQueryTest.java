@@ -27,9 +27,13 @@ import org.apache.ignite.cache.CacheMode;
 import org.apache.ignite.cache.QueryEntity;
 import org.apache.ignite.cache.query.FieldsQueryCursor;
 import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cache.query.exceptions.SqlMemoryQuotaExceededException;
 import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.processors.cache.index.AbstractIndexingCommonTest;
+import org.apache.ignite.internal.processors.cache.query.SqlFieldsQueryEx;
 import org.apache.ignite.internal.processors.query.h2.H2Utils;
+import org.apache.ignite.internal.processors.query.h2.IgniteH2Indexing;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.junit.Ignore;
@@ -48,6 +52,18 @@ public class HashJoinQueryTest extends AbstractIndexingCommonTest {
     /** Keys counts at the LEFT table. */
     private static final int LEFT_CNT = RIGHT_CNT * MULT;
 
+    /** Query memory quota the hash table of the LEFT table doesn't fit into. */
+    private static final long SMALL_MEM_LIMIT = 64 * 1024;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.getSqlConfiguration().setSqlOffloadingEnabled(true);
+
+        return cfg;
+    }
+
     /** {@inheritDoc} */
     @SuppressWarnings("unchecked")
     @Override protected void beforeTest() throws Exception {
@@ -224,6 +240,64 @@ public class HashJoinQueryTest extends AbstractIndexingCommonTest {
                 "WHERE A.JID = B.A_JID AND B.VAL0 = 'val009'").getAll().size());
     }
 
+    /**
+     * Test: hash table exceeds the query memory quota, the rows are looked up with the index on the join column
+     * instead.
+     */
+    @Test
+    public void testHashJoinMemoryQuotaExceeded() {
+        sql(false, "CREATE INDEX IDX_A_JID ON A(JID)");
+
+        String sql = "SELECT * FROM B, A USE INDEX(HASH_JOIN_IDX) WHERE A.JID = B.A_JID AND B.ID < 10";
+
+        assertEquals(10 * MULT, smallQuotaQuery(sql).size());
+
+        QueryHistoryMetrics metrics = ((IgniteH2Indexing)grid(0).context().query().getIndexing())
+            .runningQueryManager().queryHistoryMetrics().values().stream()
+            .filter(m -> sql.equals(m.query()))
+            .findFirst()
+            .orElse(null);
+
+        assertNotNull(metrics);
+
+        // The whole hash table of the LEFT table takes megabytes, so the build must have been abandoned
+        // right after the reservation exceeded the quota.
+        assertTrue("Unexpected memory usage: " + metrics.maxMemory(),
+            metrics.maxMemory() > 0 && metrics.maxMemory() < 2 * SMALL_MEM_LIMIT);
+    }
+
+    /**
+     * Test: hash table exceeds the query memory quota and there is no index on the join column, so the query
+     * fails instead of scanning the whole table for each probe.
+     */
+    @Test
+    public void testHashJoinMemoryQuotaExceededWithoutIndex() {
+        String sql = "SELECT * FROM B, A USE INDEX(HASH_JOIN_IDX) WHERE A.JID = B.A_JID AND B.ID < 10";
+
+        GridTestUtils.assertThrowsAnyCause(log, () -> smallQuotaQuery(sql), SqlMemoryQuotaExceededException.class,
+            "SQL query ran out of memory: Query quota was exceeded.");
+    }
+
+    /**
+     * Test: optimizer chooses hash join by cost without the hint. The hash table is built once per query,
+     * so the hash join is cheap when the hashed table is probed by many rows and expensive otherwise.
+     */
+    @Test
+    public void testHashJoinCost() {
+        GridTestUtils.setFieldValue(H2Utils.class, "enableHashJoin", true);
+
+        try {
+            // Small table is probed by each row of the big one and has no index on the join column.
+            assertTrue(localPlan("SELECT * FROM A, B WHERE A.JID = B.A_JID").contains("HASH_JOIN_IDX"));
+
+            // Big table is probed by few rows and is looked up by the primary key.
+            assertFalse(localPlan("SELECT * FROM B, A WHERE A.ID = B.A_JID").contains("HASH_JOIN_IDX"));
+        }
+        finally {
+            GridTestUtils.setFieldValue(H2Utils.class, "enableHashJoin", false);
+        }
+    }
+
     /**
      * Test local query execution.
      */
@@ -347,6 +421,30 @@ public class HashJoinQueryTest extends AbstractIndexingCommonTest {
         return sql(enforceJoinOrder, "EXPLAIN " + sql, args).getAll().toString();
     }
 
+    /**
+     * @param sql SQL query.
+     * @return Result of the query with the enforced join order and the small memory quota.
+     */
+    private List<List<?>> smallQuotaQuery(String sql) {
+        return grid(0).context().query().querySqlFields(new SqlFieldsQueryEx(sql, null)
+            .setMaxMemory(SMALL_MEM_LIMIT)
+            .setSchema("TEST")
+            .setLazy(true)
+            .setEnforceJoinOrder(true), false).getAll();
+    }
+
+    /**
+     * @param sql SQL query.
+     * @return Plan of the local query with the enforced join order. Actual table sizes are used for
+     *      the local query costs.
+     */
+    private String localPlan(String sql) {
+        return grid(0).context().query().querySqlFields(new SqlFieldsQuery("EXPLAIN " + sql)
+            .setSchema("TEST")
+            .setLocal(true)
+            .setEnforceJoinOrder(true), false).getAll().toString();
+    }
+
     /**
      * @param expected Expected string at the plan.
      * @param enforceJoinOrder Force join order flag.
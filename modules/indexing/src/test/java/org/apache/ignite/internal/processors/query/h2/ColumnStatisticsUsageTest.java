@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2;
+
+import java.util.List;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.internal.processors.query.h2.opt.ColumnStatistics;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.h2.value.ValueInt;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_COLUMN_STATISTICS_SAMPLE_SIZE;
+
+/**
+ * Tests that column statistics are collected and used to choose the most selective index.
+ */
+@WithSystemProperty(key = IGNITE_SQL_COLUMN_STATISTICS_SAMPLE_SIZE, value = "500")
+public class ColumnStatisticsUsageTest extends TableStatisticsAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrid(0).getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        runSql("CREATE TABLE big (a INT PRIMARY KEY, b INT, c INT)");
+
+        runSql("CREATE INDEX big_b ON big(b)");
+        runSql("CREATE INDEX big_c ON big(c)");
+
+        for (int i = 0; i < BIG_SIZE; i++)
+            runSql("INSERT INTO big(a, b, c) VALUES(" + i + "," + i + "," + i % 2 + ")");
+
+        table().collectColumnStatistics();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /**
+     * Checks statistics collected from a sample of half of the table rows. Keys and values of column {@code B}
+     * are equal, so a sample taken from the first partitions would contain the lowest values only.
+     */
+    @Test
+    public void testStatistics() {
+        GridH2Table tbl = table();
+
+        ColumnStatistics b = tbl.columnStatistics(tbl.getColumn("B"));
+
+        assertNotNull(b);
+        assertEquals(BIG_SIZE, b.distinct());
+        assertEquals(0, b.nullFraction(), 0);
+
+        int min = b.min().getInt();
+        int max = b.max().getInt();
+
+        assertTrue("Unexpected min: " + min, min < 100);
+        assertTrue("Unexpected max: " + max, max >= BIG_SIZE - 100);
+
+        double fraction = b.rangeFraction(ValueInt.get(BIG_SIZE - 100), null, tbl::compareValues);
+
+        assertTrue("Unexpected fraction: " + fraction, fraction > 0.05 && fraction < 0.15);
+
+        ColumnStatistics c = tbl.columnStatistics(tbl.getColumn("C"));
+
+        assertNotNull(c);
+        assertEquals(2, c.distinct());
+        assertEquals(0.5, c.equalityFraction(), 0);
+    }
+
+    /**
+     * Checks that the index on the range condition is chosen when it is more selective
+     * than the index on the equality condition over a low cardinality column.
+     */
+    @Test
+    public void testSelectiveRangeIndexChosen() {
+        String plan = explain("SELECT * FROM big WHERE c = 0 AND b > " + (BIG_SIZE - 10));
+
+        assertTrue(plan, plan.contains("BIG_B"));
+    }
+
+    /**
+     * @param sql Query.
+     * @return Query plan.
+     */
+    private String explain(String sql) {
+        List<List<?>> res = grid(0).cache(DEFAULT_CACHE_NAME)
+            .query(new SqlFieldsQuery("EXPLAIN " + sql).setLocal(true))
+            .getAll();
+
+        return (String)res.get(0).get(0);
+    }
+
+    /**
+     * @return Table.
+     */
+    private GridH2Table table() {
+        return ((IgniteH2Indexing)grid(0).context().query().getIndexing()).schemaManager()
+            .dataTable("PUBLIC", "BIG");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.twostep;
+
+import java.util.List;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.internal.processors.query.h2.H2PooledConnection;
+import org.apache.ignite.internal.processors.query.h2.IgniteH2Indexing;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+
+/**
+ * Base class for tests of the map query execution strategies. Two nodes are started once for all tests and
+ * the tables are filled by {@link #populate()}.
+ */
+public abstract class AbstractMapQueryTest extends GridCommonAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(2).getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        populate();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /**
+     * Creates and fills the tables.
+     */
+    protected abstract void populate();
+
+    /**
+     * @param idx Node index.
+     * @return Indexing of the node.
+     */
+    protected IgniteH2Indexing indexing(int idx) {
+        return (IgniteH2Indexing)grid(idx).context().query().getIndexing();
+    }
+
+    /**
+     * @return Connection to the {@code PUBLIC} schema of the first node.
+     */
+    protected H2PooledConnection connection() {
+        return indexing(0).connections().connection("PUBLIC");
+    }
+
+    /**
+     * @param sql Query.
+     * @param args Arguments.
+     * @return Result.
+     */
+    protected List<List<?>> sql(String sql, Object... args) {
+        return grid(0).cache(DEFAULT_CACHE_NAME).query(new SqlFieldsQuery(sql).setArgs(args)).getAll();
+    }
+}
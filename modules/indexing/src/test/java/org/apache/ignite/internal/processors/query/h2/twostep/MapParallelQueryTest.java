@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.twostep;
+
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.internal.processors.query.h2.H2PooledConnection;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_MAP_PARALLELISM;
+
+/**
+ * Tests parallel execution of simple map queries over the local partitions.
+ */
+@WithSystemProperty(key = IGNITE_SQL_MAP_PARALLELISM, value = "4")
+public class MapParallelQueryTest extends AbstractMapQueryTest {
+    /** */
+    private static final int ROWS = 5_000;
+
+    /** {@inheritDoc} */
+    @Override protected void populate() {
+        sql("CREATE TABLE t (id INT PRIMARY KEY, val INT)");
+        sql("CREATE TABLE r (id INT PRIMARY KEY, val INT) WITH \"template=replicated\"");
+
+        for (int id = 0; id < ROWS; id++) {
+            sql("INSERT INTO t (id, val) VALUES (?, ?)", id, id % 10);
+            sql("INSERT INTO r (id, val) VALUES (?, ?)", id, id % 10);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPlan() throws Exception {
+        assertTrue(supported("SELECT id, val FROM t"));
+        assertTrue(supported("SELECT id, val * 2 FROM t WHERE val > 5"));
+
+        assertFalse(supported("SELECT id FROM t WHERE id = 5"));
+        assertFalse(supported("SELECT id FROM t ORDER BY val"));
+        assertFalse(supported("SELECT id FROM t LIMIT 10"));
+        assertFalse(supported("SELECT COUNT(*) FROM t"));
+        assertFalse(supported("SELECT DISTINCT val FROM t"));
+        assertFalse(supported("SELECT id FROM r"));
+        assertFalse(supported("SELECT t1.id FROM t t1, t t2 WHERE t1.id = t2.val"));
+        assertFalse(supported("SELECT id FROM t WHERE val IN (SELECT val FROM t WHERE id = 1)"));
+    }
+
+    /**
+     * Checks that every row is returned exactly once.
+     */
+    @Test
+    public void testScan() {
+        long tasks = parallelTasks();
+
+        checkIds(sql("SELECT id, val FROM t"), ROWS, 1);
+        checkIds(sql("SELECT id, val FROM t WHERE val = ?", 3), ROWS / 10, 10);
+
+        // Each node runs the morsels of both queries by several workers.
+        assertTrue(parallelTasks() >= tasks + 2 * 2 * 2);
+    }
+
+    /**
+     * Checks query restricted to explicit partitions.
+     */
+    @Test
+    public void testExplicitPartitions() {
+        int part = grid(0).affinity("SQL_PUBLIC_T").partition(7);
+
+        List<List<?>> res = grid(0).cache(DEFAULT_CACHE_NAME).query(new SqlFieldsQuery("SELECT id FROM t")
+            .setPartitions(part)).getAll();
+
+        assertFalse(res.isEmpty());
+
+        for (List<?> row : res)
+            assertEquals(part, grid(0).affinity("SQL_PUBLIC_T").partition(row.get(0)));
+    }
+
+    /**
+     * @param res Result.
+     * @param expSize Expected result size.
+     * @param step Step between the expected IDs.
+     */
+    private static void checkIds(List<List<?>> res, int expSize, int step) {
+        assertEquals(expSize, res.size());
+
+        boolean[] seen = new boolean[ROWS];
+
+        for (List<?> row : res) {
+            int id = (Integer)row.get(0);
+
+            assertFalse("Duplicate row: " + id, seen[id]);
+
+            seen[id] = true;
+        }
+
+        int first = (Integer)res.get(0).get(0) % step;
+
+        for (int id = first; id < ROWS; id += step)
+            assertTrue("Missing row: " + id, seen[id]);
+    }
+
+    /**
+     * @return Number of the morsel workers submitted to the parallel pools of all nodes.
+     */
+    private long parallelTasks() {
+        long cnt = 0;
+
+        for (int i = 0; i < 2; i++) {
+            ThreadPoolExecutor pool = GridTestUtils.getFieldValue(indexing(i).mapQueryExecutor(), "parallelPool");
+
+            cnt += pool.getTaskCount();
+        }
+
+        return cnt;
+    }
+
+    /**
+     * @param sql Map query.
+     * @return {@code True} if the query is executed in parallel.
+     * @throws Exception If failed.
+     */
+    private boolean supported(String sql) throws Exception {
+        try (H2PooledConnection conn = connection()) {
+            PreparedStatement stmt = conn.prepareStatementNoCache(sql);
+
+            return MapParallelQuery.create(stmt, "PUBLIC", sql, Collections.emptyList(), log) != null;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.twostep;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.cache.query.exceptions.SqlMemoryQuotaExceededException;
+import org.apache.ignite.internal.processors.query.h2.H2PooledConnection;
+import org.apache.ignite.internal.processors.query.h2.H2Utils;
+import org.apache.ignite.internal.processors.query.h2.QueryMemoryTracker;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.h2.engine.Session;
+import org.h2.result.LocalResult;
+import org.h2.value.Value;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_MAP_VECTORIZED_EXECUTION;
+
+/**
+ * Tests batched execution of simple map queries.
+ */
+@WithSystemProperty(key = IGNITE_SQL_MAP_VECTORIZED_EXECUTION, value = "true")
+public class MapVectorizedQueryTest extends AbstractMapQueryTest {
+    /** */
+    private static final int ROWS = 3 * MapVectorizedQuery.BATCH_SIZE + 17;
+
+    /** */
+    private static final int GROUPS = 7;
+
+    /** {@inheritDoc} */
+    @Override protected void populate() {
+        sql("CREATE TABLE t (id INT PRIMARY KEY, grp VARCHAR, i INT, l BIGINT, d DOUBLE)");
+
+        for (int id = 0; id < ROWS; id++) {
+            sql("INSERT INTO t (id, grp, i, l, d) VALUES (?, ?, ?, ?, ?)",
+                id, group(id), intVal(id), longVal(id), doubleVal(id));
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPlan() throws Exception {
+        assertTrue(supported("SELECT COUNT(*), SUM(i), MIN(d) FROM t WHERE i > 10 AND 5.5 >= d"));
+        assertTrue(supported("SELECT grp, COUNT(i), MAX(l) FROM t WHERE d IS NOT NULL GROUP BY grp"));
+        assertTrue(supported("SELECT AVG(CAST(i AS DOUBLE)), COUNT(i) FROM t"));
+        assertTrue(supported("SELECT grp, AVG(i), AVG(l) FROM t GROUP BY grp"));
+
+        assertFalse(supported("SELECT id, i FROM t WHERE i > 10"));
+        assertFalse(supported("SELECT COUNT(DISTINCT i) FROM t"));
+        assertFalse(supported("SELECT SUM(i + 1) FROM t"));
+        assertFalse(supported("SELECT COUNT(*) FROM t WHERE i > 10 OR d < 5"));
+        assertFalse(supported("SELECT SUM(i) FROM t WHERE i > 2.5"));
+        assertFalse(supported("SELECT grp, SUM(i) FROM t GROUP BY grp HAVING SUM(i) > 0"));
+        assertFalse(supported("SELECT COUNT(*) FROM t t1, t t2 WHERE t1.id = t2.i"));
+    }
+
+    /**
+     * Checks aggregates without group by.
+     */
+    @Test
+    public void testAggregates() {
+        List<?> row = sql("SELECT COUNT(*), COUNT(i), SUM(i), MIN(d), MAX(d), SUM(l) FROM t " +
+            "WHERE i >= 10 AND d < 200").get(0);
+
+        long cnt = 0;
+        long cntI = 0;
+        long sumI = 0;
+        Double minD = null;
+        Double maxD = null;
+        BigInteger sumL = BigInteger.ZERO;
+
+        for (int id = 0; id < ROWS; id++) {
+            Integer i = intVal(id);
+            Double d = doubleVal(id);
+
+            if (i == null || i < 10 || d == null || d >= 200)
+                continue;
+
+            cnt++;
+            cntI++;
+            sumI += i;
+            minD = minD == null ? d : Math.min(minD, d);
+            maxD = maxD == null ? d : Math.max(maxD, d);
+            sumL = sumL.add(BigInteger.valueOf(longVal(id)));
+        }
+
+        assertTrue(cnt > 0);
+
+        assertEquals(cnt, row.get(0));
+        assertEquals(cntI, row.get(1));
+        assertEquals(sumI, row.get(2));
+        assertEquals(minD, row.get(3));
+        assertEquals(maxD, row.get(4));
+        assertEquals(0, new BigDecimal(sumL).compareTo((BigDecimal)row.get(5)));
+    }
+
+    /**
+     * Checks aggregates over an empty selection.
+     */
+    @Test
+    public void testEmpty() {
+        List<?> row = sql("SELECT COUNT(*), SUM(i), MIN(l) FROM t WHERE i > ?", ROWS).get(0);
+
+        assertEquals(0L, row.get(0));
+        assertNull(row.get(1));
+        assertNull(row.get(2));
+
+        assertTrue(sql("SELECT grp, COUNT(*) FROM t WHERE i > ? GROUP BY grp", ROWS).isEmpty());
+    }
+
+    /**
+     * Checks aggregates with group by.
+     */
+    @Test
+    public void testGroupBy() {
+        Map<String, long[]> exp = new HashMap<>();
+
+        for (int id = 0; id < ROWS; id++) {
+            if (doubleVal(id) == null)
+                continue;
+
+            long[] aggs = exp.computeIfAbsent(group(id), k -> new long[] {0, 0, Long.MIN_VALUE});
+
+            Integer i = intVal(id);
+
+            aggs[0]++;
+            aggs[1] += i == null ? 0 : i;
+            aggs[2] = Math.max(aggs[2], longVal(id));
+        }
+
+        List<List<?>> res = sql("SELECT grp, COUNT(*), SUM(i), MAX(l) FROM t WHERE d IS NOT NULL GROUP BY grp");
+
+        assertEquals(GROUPS, res.size());
+
+        for (List<?> row : res) {
+            long[] aggs = exp.get(row.get(0));
+
+            assertNotNull(row.toString(), aggs);
+
+            assertEquals(aggs[0], row.get(1));
+            assertEquals(aggs[1], row.get(2));
+            assertEquals(aggs[2], row.get(3));
+        }
+    }
+
+    /**
+     * Checks average which is split into map {@code AVG(CAST(x AS DOUBLE))} and {@code COUNT(x)}.
+     */
+    @Test
+    public void testAverage() {
+        double sum = 0;
+        long cnt = 0;
+
+        for (int id = 0; id < ROWS; id++) {
+            Integer i = intVal(id);
+            Double d = doubleVal(id);
+
+            if (i == null || i >= 50 || d == null)
+                continue;
+
+            sum += d;
+            cnt++;
+        }
+
+        List<?> row = sql("SELECT AVG(d) FROM t WHERE 50 > i").get(0);
+
+        assertEquals(sum / cnt, (Double)row.get(0), 1e-9);
+    }
+
+    /**
+     * Checks that average of integral columns is the same as the one of H2: integer division for {@code INT}
+     * and {@code DECIMAL} division for {@code BIGINT}.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIntegralAverage() throws Exception {
+        String sql = "SELECT grp, AVG(i), AVG(l) FROM t WHERE i < 90 GROUP BY grp";
+
+        try (H2PooledConnection conn = connection()) {
+            List<String> exp = new ArrayList<>();
+
+            try (ResultSet rs = conn.prepareStatementNoCache(sql).executeQuery()) {
+                while (rs.next())
+                    exp.add(rs.getString(1) + ',' + rs.getString(2) + ',' + rs.getString(3));
+            }
+
+            MapVectorizedQuery qry = MapVectorizedQuery.create(conn.prepareStatementNoCache(sql), log);
+
+            assertNotNull(qry);
+
+            List<String> res = new ArrayList<>();
+
+            LocalResult locRes = qry.execute(H2Utils.session(conn), 0, null);
+
+            while (locRes.next()) {
+                Value[] row = locRes.currentRow();
+
+                res.add(row[0].getString() + ',' + row[1].getString() + ',' + row[2].getString());
+            }
+
+            Collections.sort(exp);
+            Collections.sort(res);
+
+            assertEquals(GROUPS, exp.size());
+            assertEquals(exp, res);
+        }
+    }
+
+    /**
+     * Checks that groups are reserved in the query memory quota.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testGroupMemory() throws Exception {
+        try (H2PooledConnection conn = connection()) {
+            MapVectorizedQuery qry = MapVectorizedQuery.create(
+                conn.prepareStatementNoCache("SELECT id, COUNT(*) FROM t GROUP BY id"), log);
+
+            assertNotNull(qry);
+
+            Session ses = H2Utils.session(conn);
+
+            List<QueryMemoryTracker> trackers = Arrays.asList(
+                new QueryMemoryTracker(null, 0, 1024, false),
+                new QueryMemoryTracker(null, 1024, 1024, true),
+                new QueryMemoryTracker(null, 1024, 1024, false));
+
+            try {
+                ses.memoryTracker(trackers.get(0));
+
+                assertNotNull(qry.execute(ses, 0, null));
+
+                assertTrue(trackers.get(0).maxReserved() > ROWS * (long)Long.BYTES);
+                assertEquals(0, trackers.get(0).reserved());
+
+                // Groups must be offloaded to disk, the query is executed by H2 then.
+                ses.memoryTracker(trackers.get(1));
+
+                assertNull(qry.execute(ses, 0, null));
+
+                ses.memoryTracker(trackers.get(2));
+
+                GridTestUtils.assertThrows(log, () -> qry.execute(ses, 0, null),
+                    SqlMemoryQuotaExceededException.class, null);
+            }
+            finally {
+                ses.memoryTracker(null);
+
+                for (QueryMemoryTracker tracker : trackers)
+                    tracker.close();
+            }
+        }
+    }
+
+    /**
+     * @param sql Map query.
+     * @return {@code True} if the query is executed over column batches.
+     * @throws Exception If failed.
+     */
+    private boolean supported(String sql) throws Exception {
+        try (H2PooledConnection conn = connection()) {
+            PreparedStatement stmt = conn.prepareStatementNoCache(sql);
+
+            return MapVectorizedQuery.create(stmt, log) != null;
+        }
+    }
+
+    /**
+     * @param id Row ID.
+     * @return Group.
+     */
+    private static String group(int id) {
+        return "g" + id % GROUPS;
+    }
+
+    /**
+     * @param id Row ID.
+     * @return Integer column value.
+     */
+    private static Integer intVal(int id) {
+        return id % 13 == 0 ? null : id % 100;
+    }
+
+    /**
+     * @param id Row ID.
+     * @return Long column value, large enough to overflow the sum.
+     */
+    private static long longVal(int id) {
+        return id % 2 == 0 ? Long.MAX_VALUE / 4 : id;
+    }
+
+    /**
+     * @param id Row ID.
+     * @return Double column value.
+     */
+    private static Double doubleVal(int id) {
+        return id % 17 == 0 ? null : id / 4.0;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 GridGain Systems, Inc. and Contributors.
+ *
+ * Licensed under the GridGain Community Edition License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.gridgain.com/products/software/community-edition/gridgain-community-edition-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.twostep;
+
+import java.util.Iterator;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.FieldsQueryCursor;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.query.h2.twostep.messages.GridQueryNextPageRequest;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests credit based flow control of the reducer: pages are requested from map nodes ahead of consumption.
+ */
+public class ReducePageCreditsTest extends GridCommonAbstractTest {
+    /** */
+    private static final int NODES = 3;
+
+    /** */
+    private static final int ROWS = 10_000;
+
+    /** */
+    private static final int PAGE_SIZE = 10;
+
+    /** */
+    private static final int CREDITS = 4;
+
+    /** Number of next page requests recorded so far. */
+    private int requests;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        GridTestUtils.setFieldValue(AbstractReducer.class, "pageCredits", CREDITS);
+
+        startGridsMultiThreaded(NODES);
+
+        IgniteEx cli = startClientGrid(NODES);
+
+        sql(cli, "CREATE TABLE t (id INT PRIMARY KEY, val INT)");
+
+        for (int id = 0; id < ROWS; id++)
+            sql(cli, "INSERT INTO t (id, val) VALUES (?, ?)", id, ROWS - id);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        GridTestUtils.setFieldValue(AbstractReducer.class, "pageCredits", 1);
+
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /**
+     * Checks that pages are requested ahead of consumption up to the number of credits.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPagesRequestedAhead() throws Exception {
+        IgniteEx cli = grid(NODES);
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(cli);
+
+        spi.record(GridQueryNextPageRequest.class);
+
+        requests = 0;
+
+        // Simple query is reduced without merge table, so the rows are consumed only as the cursor is iterated.
+        try (FieldsQueryCursor<List<?>> cur = cache(cli).query(
+            new SqlFieldsQuery("SELECT id, val FROM t").setPageSize(PAGE_SIZE))) {
+            Iterator<List<?>> it = cur.iterator();
+
+            assertTrue(it.hasNext());
+            assertNotNull(it.next());
+
+            // Without read ahead only a single page is requested until the first one is consumed.
+            assertTrue(GridTestUtils.waitForCondition(() -> recorded(spi) >= NODES * (CREDITS - 1), 10_000));
+
+            U.sleep(500);
+
+            // Map nodes are not asked for more pages than the credits allow while the rows are not consumed.
+            int recorded = recorded(spi);
+
+            assertTrue("Unexpected number of requests: " + recorded, recorded <= NODES * CREDITS);
+        }
+        finally {
+            spi.recordedMessages(true);
+        }
+    }
+
+    /**
+     * Checks results of sorted and unsorted reductions.
+     */
+    @Test
+    public void testResults() {
+        IgniteEx cli = grid(NODES);
+
+        List<List<?>> sorted = sql(cli, "SELECT id, val FROM t ORDER BY val");
+
+        assertEquals(ROWS, sorted.size());
+
+        for (int i = 0; i < ROWS; i++)
+            assertEquals(i + 1, sorted.get(i).get(1));
+
+        List<List<?>> limited = sql(cli, "SELECT id FROM t ORDER BY val DESC LIMIT 5");
+
+        assertEquals(5, limited.size());
+
+        for (int i = 0; i < 5; i++)
+            assertEquals(i, limited.get(i).get(0));
+
+        List<List<?>> unsorted = sql(cli, "SELECT id FROM t");
+
+        assertEquals(ROWS, unsorted.size());
+
+        boolean[] seen = new boolean[ROWS];
+
+        for (List<?> row : unsorted) {
+            int id = (Integer)row.get(0);
+
+            assertFalse(seen[id]);
+
+            seen[id] = true;
+        }
+    }
+
+    /**
+     * @param spi Communication SPI.
+     * @return Number of next page requests sent so far.
+     */
+    private int recorded(TestRecordingCommunicationSpi spi) {
+        requests += spi.recordedMessages(false).size();
+
+        return requests;
+    }
+
+    /**
+     * @param node Node.
+     * @return Cache to run queries.
+     */
+    private static IgniteCache<?, ?> cache(IgniteEx node) {
+        return node.getOrCreateCache(DEFAULT_CACHE_NAME);
+    }
+
+    /**
+     * @param node Node.
+     * @param sql Query.
+     * @param args Arguments.
+     * @return Result.
+     */
+    private static List<List<?>> sql(IgniteEx node, String sql, Object... args) {
+        return cache(node).query(new SqlFieldsQuery(sql).setArgs(args).setPageSize(PAGE_SIZE)).getAll();
+    }
+}
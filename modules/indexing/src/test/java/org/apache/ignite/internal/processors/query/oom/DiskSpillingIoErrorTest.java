@@ -163,6 +163,10 @@ public class DiskSpillingIoErrorTest extends DiskSpillingAbstractTest {
             return false;
         }
 
+        /** {@inheritDoc} */
+        @Override public void failOnQuotaExceeded() {
+        }
+
         /** {@inheritDoc} */
         @Override public void release(long size) {
         }
@@ -139,6 +139,10 @@ public class GridQueryMemoryMetricProviderSelfTest extends GridCommonAbstractTes
                 return true;
             }
 
+            @Override public void failOnQuotaExceeded() {
+                // NO-OP
+            }
+
             @Override public void release(long size) {
                 reserved -= size;
             }
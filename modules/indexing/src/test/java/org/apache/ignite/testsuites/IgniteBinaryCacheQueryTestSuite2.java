@@ -82,8 +82,11 @@ import org.apache.ignite.internal.processors.query.h2.twostep.CacheQueryMemoryLe
 import org.apache.ignite.internal.processors.query.h2.twostep.CreateTableWithDateKeySelfTest;
 import org.apache.ignite.internal.processors.query.h2.twostep.DisappearedCacheCauseRetryMessageSelfTest;
 import org.apache.ignite.internal.processors.query.h2.twostep.DisappearedCacheWasNotFoundMessageSelfTest;
+import org.apache.ignite.internal.processors.query.h2.twostep.MapParallelQueryTest;
+import org.apache.ignite.internal.processors.query.h2.twostep.MapVectorizedQueryTest;
 import org.apache.ignite.internal.processors.query.h2.twostep.NonCollocatedRetryMessageSelfTest;
 import org.apache.ignite.internal.processors.query.h2.twostep.NoneOrSinglePartitionsQueryOptimizationsTest;
+import org.apache.ignite.internal.processors.query.h2.twostep.ReducePageCreditsTest;
 import org.apache.ignite.internal.processors.query.h2.twostep.RetryCauseMessageSelfTest;
 import org.apache.ignite.internal.processors.query.h2.twostep.TableViewSubquerySelfTest;
 import org.apache.ignite.internal.processors.query.oom.ClientQueryQuotaTest;
@@ -201,6 +204,9 @@ import org.junit.runners.Suite;
     SqlLocalQueryConnectionAndStatementTest.class,
 
     NoneOrSinglePartitionsQueryOptimizationsTest.class,
+    MapVectorizedQueryTest.class,
+    ReducePageCreditsTest.class,
+    MapParallelQueryTest.class,
 
     IgniteSqlCreateTableTemplateTest.class,
 